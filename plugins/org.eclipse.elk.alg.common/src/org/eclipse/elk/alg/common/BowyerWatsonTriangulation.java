@@ -9,28 +9,98 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common;
 
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
+import org.eclipse.elk.alg.common.spore.InternalProperties;
 import org.eclipse.elk.alg.common.utils.SVGImage;
 import org.eclipse.elk.core.math.KVector;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.math.DoubleMath;
 
 /**
  * This class creates a Delaunay triangulation for the given points that is represented by a list of edges.
  * The approach was devised independently by Bowyer, Adrian (1981) "Computing Dirichlet tessellations" and 
  * Watson, David F. (1981) "Computing the n-dimensional Delaunay tessellation with application to Voronoi polytopes".
+ *
+ * <p>The triangles are kept in primitive arrays along with their neighbors across each of their edges. The points are
+ * inserted in the order of a Hilbert curve through their bounding box, which lets us find the triangle containing
+ * the next point by walking through the triangulation from the triangles created for the previous one. The triangles
+ * whose circumcircle contains the new point are then collected by a search through the neighbors of that triangle.
+ * This way, inserting a point takes expected constant time instead of time linear in the number of triangles, and the
+ * whole triangulation is dominated by sorting the points along the Hilbert curve.</p>
+ *
  * <p> precondition: All vertices have to be distinct.</p>
  * <p> postcondition: The returned edges form a connected graph that includes all input points without duplicate 
  * edges.</p>
  */
 public final class BowyerWatsonTriangulation {
     
-    /** Hidden constructor. */
-    private BowyerWatsonTriangulation() { };
+    /** Marks a missing neighbor, that is, an edge of the super-triangle. */
+    private static final int NONE = -1;
+    /** The number of vertices of the super-triangle, which precede the input points. */
+    private static final int SUPER_VERTICES = 3;
+    /** The Hilbert curve runs through a grid of 2^HILBERT_ORDER times 2^HILBERT_ORDER cells. */
+    private static final int HILBERT_ORDER = 16;
+    /** Initial capacity for the triangles replaced by a single insertion. */
+    private static final int INITIAL_CAVITY_SIZE = 16;
+
+    /** x coordinates of the vertices, starting with the super-triangle. */
+    private final double[] vx;
+    /** y coordinates of the vertices, starting with the super-triangle. */
+    private final double[] vy;
+
+    /** The number of triangles created so far, including the ones that are not part of the triangulation anymore. */
+    private int triangleCount;
+    /** The three vertices of each triangle, all triangles having the orientation of the super-triangle. */
+    private int[] triangleVertices;
+    /** The neighbor across the edge opposite to each of the vertices of each triangle. */
+    private int[] triangleNeighbors;
+    /** x coordinates of the circumcenters. */
+    private double[] centerX;
+    /** y coordinates of the circumcenters. */
+    private double[] centerY;
+    /** The radii of the circumcircles. */
+    private double[] radius;
+    /** Whether the triangles are still part of the triangulation. */
+    private boolean[] alive;
+    /** The insertion in which each triangle was found to be invalid. */
+    private int[] invalidMark;
+
+    /** The invalid triangles still to be searched for further invalid neighbors. */
+    private int[] stack;
+    /** The boundary of the invalid triangles: edge start, edge end, invalid triangle, and the triangle outside. */
+    private int[] boundary;
+    /** The new triangle whose second vertex is the given vertex. */
+    private final int[] newTriangleStartingAt;
+    /** The new triangle whose third vertex is the given vertex. */
+    private final int[] newTriangleEndingAt;
+
+    /**
+     * Creates the arrays for triangulating the given points.
+     */
+    private BowyerWatsonTriangulation(final int vertexCount) {
+        vx = new double[vertexCount];
+        vy = new double[vertexCount];
+
+        // a triangulation of n points has fewer than 2n triangles, and Hilbert order keeps the number of
+        // triangles created and discarded again small
+        int capacity = 4 * vertexCount;
+        triangleVertices = new int[3 * capacity];
+        triangleNeighbors = new int[3 * capacity];
+        centerX = new double[capacity];
+        centerY = new double[capacity];
+        radius = new double[capacity];
+        alive = new boolean[capacity];
+        invalidMark = new int[capacity];
+
+        stack = new int[INITIAL_CAVITY_SIZE];
+        boundary = new int[4 * INITIAL_CAVITY_SIZE];
+        newTriangleStartingAt = new int[vertexCount];
+        newTriangleEndingAt = new int[vertexCount];
+    }
     
     /**
      * Triangulates a list of points.
@@ -40,8 +110,7 @@ public final class BowyerWatsonTriangulation {
      * @return the edges of the triangulation
      */
     public static Set<TEdge> triangulate(final List<KVector> vertices, final String debugOutputFile) {
-        /*d*/SVGImage svg = new SVGImage(debugOutputFile);
-        /*d*/svg.addGroups("invalid", "tri", "bndry", "done", "new");
+        SVGImage svg = new SVGImage(debugOutputFile);
         
         /* preliminaries */
         
@@ -53,12 +122,8 @@ public final class BowyerWatsonTriangulation {
             topleft.y = Math.min(topleft.y, v.y);
             bottomright.x = Math.max(bottomright.x, v.x);
             bottomright.y = Math.max(bottomright.y, v.y);
-            // CHECKSTYLEOFF MagicNumber
-            /*d*/svg.g("bb").addCircle(v.x, v.y, 18, "stroke=\"black\" stroke-width=\"1\" fill=\"lightgray\"");
         }
         KVector size = new KVector(bottomright.x - topleft.x, bottomright.y - topleft.y);
-        /*d*/svg.g("bb").addRect(topleft.x, topleft.y, size.x, size.y, 
-                "stroke=\"blue\" stroke-width=\"4\" fill=\"none\"");
         
         // find a super-triangle spanning over all vertices
         final double wiggleroom = 50;
@@ -68,101 +133,50 @@ public final class BowyerWatsonTriangulation {
         KVector sa = new KVector(topleft.x - wiggleroom, topleft.y - size.x - wiggleroom);
         KVector sb = new KVector(topleft.x - wiggleroom, bottomright.y + size.x + wiggleroom);
         KVector sc = new KVector(bottomright.x + size.y / 2 + wiggleroom, topleft.y + size.y / 2);
-        /*d*/svg.g("bb").addPoly("stroke=\"gray\" stroke-width=\"4\" fill=\"none\" stroke-dasharray=\"20,20\"", 
-                sa, sb, sc, sa);
-        TTriangle superTriangle = new TTriangle(sa, sb, sc);
-        /*d*/svg.setViewBox(sa.x, sa.y, sc.x - sa.x, sb.y - sa.y); // circumcircles will make it gigantic
-        /*d*/svg.isave();
-        /*d*/svg.removeGroup("bb");
         
-        /* Bowyer Watson algorithm*/
+        // CHECKSTYLEOFF MagicNumber
+        if (svg.debug) {
+            svg.addGroups("tri", "invalid", "new");
+            for (KVector v : vertices) {
+                svg.g("bb").addCircle(v.x, v.y, 18, "stroke=\"black\" stroke-width=\"1\" fill=\"lightgray\"");
+            }
+            svg.g("bb").addRect(topleft.x, topleft.y, size.x, size.y,
+                    "stroke=\"blue\" stroke-width=\"4\" fill=\"none\"");
+            svg.g("bb").addPoly("stroke=\"gray\" stroke-width=\"4\" fill=\"none\" stroke-dasharray=\"20,20\"",
+                    sa, sb, sc, sa);
+            svg.setViewBox(sa.x, sa.y, sc.x - sa.x, sb.y - sa.y); // circumcircles will make it gigantic
+            svg.isave();
+            svg.removeGroup("bb");
+        }
         
-        Set<TTriangle> triangulation = Sets.newHashSet();
-        List<TTriangle> invalidTriangles = Lists.newArrayList();
-        List<TEdge> boundary = Lists.newArrayList();
-        triangulation.add(superTriangle);
+        /* Bowyer Watson algorithm */
+
+        BowyerWatsonTriangulation triangulation = new BowyerWatsonTriangulation(vertices.size() + SUPER_VERTICES);
+        triangulation.setVertex(0, sa);
+        triangulation.setVertex(1, sb);
+        triangulation.setVertex(2, sc);
+        for (int i = 0; i < vertices.size(); i++) {
+            triangulation.setVertex(i + SUPER_VERTICES, vertices.get(i));
+        }
+        triangulation.addTriangle(0, 1, 2);
         
         // incrementally adding vertices
-        for (KVector vertex : vertices) {
-            /*d*/svg.g("done").addCircle(vertex.x, vertex.y, 18, 
-                    "stroke=\"black\" stroke-width=\"1\" fill=\"lightgray\"");
-            /*d*/svg.g("new").addCircle(vertex.x, vertex.y, 18, "stroke=\"black\" stroke-width=\"1\" fill=\"black\"");
-            
-            // gather invalid triangles where the new vertex lies inside the circumcircle
-            invalidTriangles.clear();
-            for (TTriangle triangle : triangulation) {
-                /*d*/svg.g("tri").addPoly("stroke=\"black\" fill=\"none\" stroke-width=\"4\"", triangle.a, 
-                        triangle.b, triangle.c, triangle.a);
-                /*d*/KVector c = triangle.getCircumcenter();
-                /*d*/svg.g("invalid").addCircle(c.x, c.y, c.distance(triangle.a), 
-                        "stroke=\"orange\" stroke-width=\"4\" fill=\"none\"");
-                if (triangle.inCircumcircle(vertex)) {
-                    invalidTriangles.add(triangle);
-                    /*d*/svg.g("invalid").addPoly("stroke=\"none\" fill=\"red\" opacity=\"0.18\"", triangle.a, 
-                            triangle.b, triangle.c, triangle.a);
-                }
-            }
-            /*d*/svg.isave();
-            /*d*/svg.clearGroup("invalid");
-            
-            // calculate boundary of invalid triangles
-            boundary.clear();
-            for (TTriangle triangle : invalidTriangles) {
-                for (TEdge tEdge : triangle.tEdges) {
-                    boolean onBoundary = true;
-                    // edges that are not shared with other invalid triangles are on the boundary
-                    for (TTriangle other : invalidTriangles) {
-                        if (other != triangle && other.contains(tEdge)) {
-                            onBoundary = false;
-                        }
-                    }
-                    if (onBoundary) {
-                        boundary.add(tEdge);
-                        /*d*/svg.g("bndry").addLine(tEdge.u.x, tEdge.u.y, tEdge.v.x, tEdge.v.y, 
-                                "stroke=\"purple\" stroke-width=\"18\" stroke-dasharray=\"20,20\"");
-                    }
-                }
-            }
-            /*d*/svg.isave();
-            
-            // remove invalid triangles
-            triangulation.removeAll(invalidTriangles);
-            /*d*/svg.clearGroup("tri");
-            /*d*/triangulation.forEach(triangle -> 
-                        svg.g("tri").addPoly("stroke=\"black\" fill=\"none\" stroke-width=\"4\"", triangle.a, 
-                                triangle.b, triangle.c, triangle.a));
-            /*d*/svg.isave();
-            
-            // triangulate boundary
-            for (TEdge tEdge : boundary) {
-                triangulation.add(new TTriangle(vertex, tEdge.u, tEdge.v));
-                /*d*/svg.g("tri").addPoly("stroke=\"black\" fill=\"none\" stroke-width=\"4\"", vertex, 
-                        tEdge.u, tEdge.v, vertex);
-            }
-            /*d*/svg.isave();
-            /*d*/svg.clearGroup("new");
-            /*d*/svg.clearGroup("bndry");
-            /*d*/svg.clearGroup("tri");
+        int[] order = hilbertOrder(vertices, topleft, size);
+        int start = 0;
+        for (int i = 0; i < order.length; i++) {
+            start = triangulation.insert(order[i] + SUPER_VERTICES, start, i + 1, svg);
         }
         
-        // convert triangulation to set of edges
-        // Because it's a set, edges that were redundant in the triangulation exist only once in the set.
+        // convert triangulation to set of edges, leaving out the edges connected to the super-triangle
         Set<TEdge> tEdges = Sets.newHashSet();
-        triangulation.forEach(triangle -> tEdges.addAll(triangle.tEdges));
+        triangulation.collectEdges(vertices, tEdges);
         
-        // remove edges connected to super triangle
-        Iterator<TEdge> i = tEdges.iterator();
-        while (i.hasNext()) {
-            TEdge tEdge = i.next();
-            if (superTriangle.contains(tEdge.u) || superTriangle.contains(tEdge.v)) {
-                i.remove();
-            }
+        if (svg.debug) {
+            tEdges.forEach(tEdge ->
+                    svg.addLine(tEdge.u.x, tEdge.u.y, tEdge.v.x, tEdge.v.y, "stroke=\"black\" stroke-width=\"4\""));
+            svg.isave();
         }
         
-        /*d*/tEdges.forEach(tEdge -> 
-                svg.addLine(tEdge.u.x, tEdge.u.y, tEdge.v.x, tEdge.v.y, "stroke=\"black\" stroke-width=\"4\""));
-        /*d*/svg.isave();
-        
         return tEdges;
     }
     
@@ -175,4 +189,307 @@ public final class BowyerWatsonTriangulation {
     public static Set<TEdge> triangulate(final List<KVector> vertices) {
         return triangulate(vertices, null);
     }
+
+    /**
+     * Sorts the indices of the given points along a Hilbert curve through their bounding box. Consecutive points are
+     * thus close to each other. Points in the same cell of the curve's grid keep their relative order.
+     */
+    private static int[] hilbertOrder(final List<KVector> vertices, final KVector topleft, final KVector size) {
+        int cells = 1 << HILBERT_ORDER;
+        double scaleX = size.x > 0 ? (cells - 1) / size.x : 0;
+        double scaleY = size.y > 0 ? (cells - 1) / size.y : 0;
+
+        // the curve's index of a point takes 2 * HILBERT_ORDER bits, leaving enough room for the point's index
+        long[] keys = new long[vertices.size()];
+        for (int i = 0; i < keys.length; i++) {
+            KVector v = vertices.get(i);
+            int x = (int) ((v.x - topleft.x) * scaleX);
+            int y = (int) ((v.y - topleft.y) * scaleY);
+            keys[i] = (hilbertIndex(cells, x, y) << (Integer.SIZE - 1)) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) (keys[i] & Integer.MAX_VALUE);
+        }
+        return order;
+    }
+
+    /**
+     * Computes the index of a cell along the Hilbert curve through a grid with the given number of cells per side.
+     */
+    private static long hilbertIndex(final int cells, final int cellX, final int cellY) {
+        int x = cellX;
+        int y = cellY;
+        long index = 0;
+        for (int s = cells / 2; s > 0; s /= 2) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            index += (long) s * s * ((3 * rx) ^ ry);
+
+            // rotate the quadrant such that the curve through it starts at its lower left corner
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = cells - 1 - x;
+                    y = cells - 1 - y;
+                }
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+        }
+        return index;
+    }
+
+    private void setVertex(final int vertex, final KVector v) {
+        vx[vertex] = v.x;
+        vy[vertex] = v.y;
+    }
+
+    /**
+     * Inserts a vertex into the triangulation by replacing the triangles whose circumcircle contains the vertex with
+     * triangles connecting the vertex to the boundary of these triangles.
+     *
+     * @param vertex the vertex to insert
+     * @param start the triangle to start looking for the vertex from
+     * @param insertion the number of this insertion
+     * @param svg the debug output
+     * @return one of the new triangles, or {@code start} if the vertex could not be inserted
+     */
+    private int insert(final int vertex, final int start, final int insertion, final SVGImage svg) {
+        // gather invalid triangles where the new vertex lies inside the circumcircle, starting with the triangle that
+        // contains the vertex, which are all connected to that triangle
+        int first = locate(vertex, start);
+        if (first == NONE) {
+            first = findContainingTriangle(vertex);
+        }
+        if (first == NONE || !inCircumcircle(first, vertex)) {
+            // Only happens for vertices that (almost) coincide with vertices already in the triangulation
+            return start;
+        }
+
+        int stackSize = 0;
+        int boundarySize = 0;
+        invalidMark[first] = insertion;
+        alive[first] = false;
+        stack[stackSize++] = first;
+        while (stackSize > 0) {
+            int triangle = stack[--stackSize];
+            for (int i = 0; i < 3; i++) {
+                int neighbor = triangleNeighbors[3 * triangle + i];
+                if (neighbor != NONE && invalidMark[neighbor] == insertion) {
+                    continue;
+                }
+                if (neighbor != NONE && inCircumcircle(neighbor, vertex)) {
+                    invalidMark[neighbor] = insertion;
+                    alive[neighbor] = false;
+                    if (stackSize == stack.length) {
+                        stack = Arrays.copyOf(stack, 2 * stack.length);
+                    }
+                    stack[stackSize++] = neighbor;
+                } else {
+                    // edges that are not shared with other invalid triangles are on the boundary
+                    if (4 * boundarySize == boundary.length) {
+                        boundary = Arrays.copyOf(boundary, 2 * boundary.length);
+                    }
+                    boundary[4 * boundarySize] = triangleVertices[3 * triangle + (i + 1) % 3];
+                    boundary[4 * boundarySize + 1] = triangleVertices[3 * triangle + (i + 2) % 3];
+                    boundary[4 * boundarySize + 2] = triangle;
+                    boundary[4 * boundarySize + 3] = neighbor;
+                    boundarySize++;
+                }
+            }
+        }
+
+        if (svg.debug) {
+            debugTriangles(svg, insertion, vertex);
+        }
+
+        // triangulate boundary, replacing the invalid triangles
+        int newTriangle = NONE;
+        for (int b = 0; b < boundarySize; b++) {
+            int u = boundary[4 * b];
+            int v = boundary[4 * b + 1];
+            int invalid = boundary[4 * b + 2];
+            int outside = boundary[4 * b + 3];
+
+            newTriangle = addTriangle(vertex, u, v);
+            triangleNeighbors[3 * newTriangle] = outside;
+            if (outside != NONE) {
+                for (int i = 0; i < 3; i++) {
+                    if (triangleNeighbors[3 * outside + i] == invalid) {
+                        triangleNeighbors[3 * outside + i] = newTriangle;
+                    }
+                }
+            }
+            newTriangleStartingAt[u] = newTriangle;
+            newTriangleEndingAt[v] = newTriangle;
+        }
+
+        // the new triangles are connected to each other along the edges incident to the new vertex
+        for (int triangle = newTriangle - boundarySize + 1; triangle <= newTriangle; triangle++) {
+            triangleNeighbors[3 * triangle + 1] = newTriangleStartingAt[triangleVertices[3 * triangle + 2]];
+            triangleNeighbors[3 * triangle + 2] = newTriangleEndingAt[triangleVertices[3 * triangle + 1]];
+        }
+
+        return newTriangle;
+    }
+
+    /**
+     * Walks from the start triangle towards the vertex, crossing edges the vertex lies beyond, until reaching the
+     * triangle containing the vertex.
+     *
+     * @return the triangle containing the vertex, or {@link #NONE} if the walk did not arrive there
+     */
+    private int locate(final int vertex, final int start) {
+        int triangle = start;
+        // a walk in a Delaunay triangulation never visits a triangle twice, but we don't trust rounding errors
+        for (int step = 0; step < triangleCount; step++) {
+            int next = NONE;
+            for (int k = 0; k < 3 && next == NONE; k++) {
+                // vary the edge checked first, which keeps the walk from circling in degenerate cases
+                int i = (k + step) % 3;
+                int u = triangleVertices[3 * triangle + (i + 1) % 3];
+                int v = triangleVertices[3 * triangle + (i + 2) % 3];
+                if (orientation(u, v, vertex) > 0) {
+                    next = triangleNeighbors[3 * triangle + i];
+                    if (next == NONE) {
+                        // the vertex lies outside of the super-triangle
+                        return NONE;
+                    }
+                }
+            }
+            if (next == NONE) {
+                return triangle;
+            }
+            triangle = next;
+        }
+        return NONE;
+    }
+
+    /**
+     * Looks for the triangle containing the vertex by checking all triangles of the triangulation.
+     *
+     * @return the triangle containing the vertex, or {@link #NONE} if there is none
+     */
+    private int findContainingTriangle(final int vertex) {
+        for (int triangle = 0; triangle < triangleCount; triangle++) {
+            if (alive[triangle]
+                    && orientation(triangleVertices[3 * triangle + 1], triangleVertices[3 * triangle + 2], vertex) <= 0
+                    && orientation(triangleVertices[3 * triangle + 2], triangleVertices[3 * triangle], vertex) <= 0
+                    && orientation(triangleVertices[3 * triangle], triangleVertices[3 * triangle + 1], vertex) <= 0) {
+                return triangle;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Creates the triangle (a,b,c) and computes its circumcircle. Its neighbors are left for the caller to set.
+     */
+    private int addTriangle(final int a, final int b, final int c) {
+        if (triangleCount == alive.length) {
+            int capacity = 2 * alive.length;
+            triangleVertices = Arrays.copyOf(triangleVertices, 3 * capacity);
+            triangleNeighbors = Arrays.copyOf(triangleNeighbors, 3 * capacity);
+            centerX = Arrays.copyOf(centerX, capacity);
+            centerY = Arrays.copyOf(centerY, capacity);
+            radius = Arrays.copyOf(radius, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            invalidMark = Arrays.copyOf(invalidMark, capacity);
+        }
+        int triangle = triangleCount++;
+        triangleVertices[3 * triangle] = a;
+        triangleVertices[3 * triangle + 1] = b;
+        triangleVertices[3 * triangle + 2] = c;
+        Arrays.fill(triangleNeighbors, 3 * triangle, 3 * triangle + 3, NONE);
+        alive[triangle] = true;
+
+        // same computation as TTriangle's
+        double abx = vx[b] - vx[a];
+        double aby = vy[b] - vy[a];
+        double acx = vx[c] - vx[a];
+        double acy = vy[c] - vy[a];
+        double bcx = vx[c] - vx[b];
+        double bcy = vy[c] - vy[b];
+        double e = abx * (vx[a] + vx[b]) + aby * (vy[a] + vy[b]);
+        double f = acx * (vx[a] + vx[c]) + acy * (vy[a] + vy[c]);
+        double g = 2 * (abx * bcy - aby * bcx);
+        centerX[triangle] = (acy * e - aby * f) / g;
+        centerY[triangle] = (abx * f - acx * e) / g;
+        radius[triangle] = distanceToCenter(triangle, a);
+
+        return triangle;
+    }
+
+    /**
+     * Check if a vertex is located inside the circumcircle of a triangle.
+     */
+    private boolean inCircumcircle(final int triangle, final int vertex) {
+        // Fuzziness prevents non-deterministic behavior caused by double imprecision e.g. let square a,b,c,d with d
+        // not in circumcircle a,b,c then b should not be in circumcircle a,c,d.
+        return DoubleMath.fuzzyCompare(distanceToCenter(triangle, vertex), radius[triangle],
+                InternalProperties.FUZZINESS) < 0;
+    }
+
+    private double distanceToCenter(final int triangle, final int vertex) {
+        double dx = centerX[triangle] - vx[vertex];
+        double dy = centerY[triangle] - vy[vertex];
+        return Math.sqrt((dx * dx) + (dy * dy));
+    }
+
+    /**
+     * Positive if the vertex lies on the other side of the edge (u,v) than the triangles having that edge in this
+     * order, which is the side of their neighbor across the edge. All triangles share the orientation of the
+     * super-triangle, for which this value is negative.
+     */
+    private double orientation(final int u, final int v, final int vertex) {
+        return (vx[v] - vx[u]) * (vy[vertex] - vy[u]) - (vy[v] - vy[u]) * (vx[vertex] - vx[u]);
+    }
+
+    /**
+     * Adds the edges of the triangulation that are not connected to the super-triangle.
+     */
+    private void collectEdges(final List<KVector> vertices, final Set<TEdge> tEdges) {
+        for (int triangle = 0; triangle < triangleCount; triangle++) {
+            if (!alive[triangle]) {
+                continue;
+            }
+            for (int i = 0; i < 3; i++) {
+                // each edge is shared by two triangles unless it's an edge of the super-triangle
+                int neighbor = triangleNeighbors[3 * triangle + i];
+                int u = triangleVertices[3 * triangle + (i + 1) % 3];
+                int v = triangleVertices[3 * triangle + (i + 2) % 3];
+                if (neighbor < triangle && u >= SUPER_VERTICES && v >= SUPER_VERTICES) {
+                    tEdges.add(new TEdge(vertices.get(u - SUPER_VERTICES), vertices.get(v - SUPER_VERTICES)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the triangulation, highlighting the triangles that are about to be replaced.
+     */
+    private void debugTriangles(final SVGImage svg, final int insertion, final int vertex) {
+        svg.g("new").addCircle(vx[vertex], vy[vertex], 18, "stroke=\"black\" stroke-width=\"1\" fill=\"black\"");
+        for (int triangle = 0; triangle < triangleCount; triangle++) {
+            if (!alive[triangle]) {
+                continue;
+            }
+            KVector a = new KVector(vx[triangleVertices[3 * triangle]], vy[triangleVertices[3 * triangle]]);
+            KVector b = new KVector(vx[triangleVertices[3 * triangle + 1]], vy[triangleVertices[3 * triangle + 1]]);
+            KVector c = new KVector(vx[triangleVertices[3 * triangle + 2]], vy[triangleVertices[3 * triangle + 2]]);
+            svg.g("tri").addPoly("stroke=\"black\" fill=\"none\" stroke-width=\"4\"", a, b, c, a);
+            if (invalidMark[triangle] == insertion) {
+                svg.g("invalid").addCircle(centerX[triangle], centerY[triangle], radius[triangle],
+                        "stroke=\"orange\" stroke-width=\"4\" fill=\"none\"");
+                svg.g("invalid").addPoly("stroke=\"none\" fill=\"red\" opacity=\"0.18\"", a, b, c, a);
+            }
+        }
+        svg.isave();
+        svg.clearGroup("tri");
+        svg.clearGroup("invalid");
+        svg.clearGroup("new");
+    }
 }
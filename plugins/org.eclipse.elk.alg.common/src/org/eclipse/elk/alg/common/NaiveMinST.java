@@ -27,6 +27,7 @@ import com.google.common.collect.Sets;
  * <p>precondition: The edge list E represents a connected graph (V,E) where V={w|(u,w) \in E or (w,v) \in E}
  * and root \in V.</p>
  * <p>postcondition: The returned tree structure connects all vertices in V once.</p>
+ * <p>{@link PrimMinST} computes the same tree in O(m log m) time.</p>
  */
 public final class NaiveMinST {
     
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.elk.alg.common.utils.SVGImage;
+import org.eclipse.elk.core.math.KVector;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Minimum spanning tree calculation with Prim's algorithm. The graph is kept in primitive arrays, and the edges leaving
+ * the current tree are kept in a binary heap, which makes this run in O(m log m) time for m edges.
+ * <p>
+ * The result is the same as that of {@link NaiveMinST}: of all edges that connect the tree to a new vertex, the
+ * cheapest one is added, ties being broken by the order in which the edge set iterates its edges. Hence, the children
+ * of each tree node are also in the same order.
+ * </p>
+ * <p>precondition: The edge list E represents a connected graph (V,E) where V={w|(u,w) \in E or (w,v) \in E}
+ * and root \in V.</p>
+ * <p>postcondition: The returned tree structure connects all vertices in V once.</p>
+ */
+public final class PrimMinST {
+
+    /** Hidden constructor. */
+    private PrimMinST() { };
+
+    /**
+     * Creates a minimum spanning tree for a graph using the given cost function.
+     * @param tEdges the edges of the graph
+     * @param root the root node to start the spanning tree
+     * @param costFunction a function returning a cost value for a {@link TEdge}
+     * @param debugOutputFile file name for debug SVG. Debug output will be deactivated if this is null.
+     * @return the spanning tree
+     */
+    public static Tree<KVector> createSpanningTree(final Set<TEdge> tEdges, final KVector root,
+            final ICostFunction costFunction, final String debugOutputFile) {
+
+        // number the vertices and determine edge weights
+        List<TEdge> edges = Lists.newArrayList(tEdges);
+        int edgeCount = edges.size();
+        Map<KVector, Integer> vertexIndex = Maps.newHashMap();
+        int[] edgeU = new int[edgeCount];
+        int[] edgeV = new int[edgeCount];
+        double[] weight = new double[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            TEdge edge = edges.get(e);
+            edgeU[e] = index(vertexIndex, edge.u);
+            edgeV[e] = index(vertexIndex, edge.v);
+            weight[e] = costFunction.cost(edge);
+        }
+        int vertexCount = vertexIndex.size();
+
+        // incident edges of each vertex in order, starting at incidenceStart[v]
+        int[] incidenceStart = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            incidenceStart[edgeU[e] + 1]++;
+            incidenceStart[edgeV[e] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            incidenceStart[v + 1] += incidenceStart[v];
+        }
+        int[] incidence = new int[2 * edgeCount];
+        int[] fill = new int[vertexCount];
+        for (int e = 0; e < edgeCount; e++) {
+            incidence[incidenceStart[edgeU[e]] + fill[edgeU[e]]++] = e;
+            incidence[incidenceStart[edgeV[e]] + fill[edgeV[e]]++] = e;
+        }
+
+        Tree<KVector> minST = new Tree<KVector>(root);
+
+        // debug output ----------------------------------------------------------------------------------------------
+        SVGImage svg = new SVGImage(debugOutputFile);
+        // elkjs-exclude-start
+        if (svg.debug) {
+            svg.addGroups("e", "t");
+            for (int e = 0; e < edgeCount; e++) {
+                TEdge edge = edges.get(e);
+                svg.g("e").addLine(edge.u.x, edge.u.y, edge.v.x, edge.v.y, "stroke=\"black\" stroke-width=\"1\"");
+                svg.g("t").addElementStr("<text x=\"" + (edge.u.x + edge.v.x) / 2
+                    + "\" y=\"" + (edge.u.y + edge.v.y) / 2 + "\" fill=\"blue\""
+                    + " font-size=\"20px\">" + String.format("%.2f", weight[e]) + "</text>");
+            }
+            svg.isave();
+        }
+        // elkjs-exclude-end
+        // -----------------------------------------------------------------------------------------------------------
+
+        Integer rootIndex = vertexIndex.get(root);
+        if (rootIndex == null) {
+            return minST;
+        }
+
+        // iteratively add cheapest edge where one node is contained in current tree and one is new
+        @SuppressWarnings("unchecked")
+        Tree<KVector>[] treeNodes = new Tree[vertexCount];
+        EdgeHeap heap = new EdgeHeap(weight);
+        treeNodes[rootIndex] = minST;
+        heap.pushIncidentEdges(rootIndex, incidenceStart, incidence, edgeU, edgeV, treeNodes);
+
+        while (!heap.isEmpty()) {
+            int nextEdge = heap.pop();
+            int nextNode;
+            int nodeInTree;
+            KVector nextVector;
+            if (treeNodes[edgeU[nextEdge]] != null && treeNodes[edgeV[nextEdge]] == null) {
+                nextNode = edgeV[nextEdge];
+                nodeInTree = edgeU[nextEdge];
+                nextVector = edges.get(nextEdge).v;
+            } else if (treeNodes[edgeV[nextEdge]] != null && treeNodes[edgeU[nextEdge]] == null) {
+                nextNode = edgeU[nextEdge];
+                nodeInTree = edgeV[nextEdge];
+                nextVector = edges.get(nextEdge).u;
+            } else {
+                // both nodes have been added to the tree after the edge was pushed
+                continue;
+            }
+
+            // add the new node to the spanning tree
+            Tree<KVector> subTree = new Tree<KVector>(nextVector);
+            treeNodes[nodeInTree].children.add(subTree);
+            treeNodes[nextNode] = subTree;
+            heap.pushIncidentEdges(nextNode, incidenceStart, incidence, edgeU, edgeV, treeNodes);
+
+            // debug output -------------------------------------------------------------------------------------------
+            if (svg.debug) {
+                TEdge edge = edges.get(nextEdge);
+                svg.g("e").addLine(edge.u.x, edge.u.y, edge.v.x, edge.v.y, "stroke=\"red\" stroke-width=\"3\"");
+                svg.isave();
+            }
+            // --------------------------------------------------------------------------------------------------------
+        }
+
+        return minST;
+    }
+
+    /**
+     * Creates a minimum spanning tree for a graph using the given cost function.
+     * @param tEdges the edges of the graph
+     * @param root the root node to start the spanning tree
+     * @param costFunction a function returning a cost value for a {@link TEdge}
+     * @return the spanning tree
+     */
+    public static Tree<KVector> createSpanningTree(final Set<TEdge> tEdges, final KVector root,
+            final ICostFunction costFunction) {
+        return createSpanningTree(tEdges, root, costFunction, null);
+    }
+
+    private static int index(final Map<KVector, Integer> vertexIndex, final KVector vertex) {
+        Integer index = vertexIndex.get(vertex);
+        if (index == null) {
+            index = vertexIndex.size();
+            vertexIndex.put(vertex, index);
+        }
+        return index;
+    }
+
+    /**
+     * A binary min-heap of edge indices, ordered by weight first and index second.
+     */
+    private static final class EdgeHeap {
+
+        private final double[] weight;
+        private int[] heap = new int[2];
+        private int size = 0;
+
+        EdgeHeap(final double[] weight) {
+            this.weight = weight;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Pushes the edges that connect the given tree node to nodes not in the tree yet.
+         */
+        void pushIncidentEdges(final int node, final int[] incidenceStart, final int[] incidence, final int[] edgeU,
+                final int[] edgeV, final Tree<KVector>[] treeNodes) {
+            for (int i = incidenceStart[node]; i < incidenceStart[node + 1]; i++) {
+                int e = incidence[i];
+                int other = edgeU[e] == node ? edgeV[e] : edgeU[e];
+                if (treeNodes[other] == null) {
+                    push(e);
+                }
+            }
+        }
+
+        void push(final int edge) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, 2 * heap.length);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!less(edge, heap[parent])) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = edge;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int last = heap[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!less(heap[child], last)) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+
+        private boolean less(final int e1, final int e2) {
+            int cmp = Double.compare(weight[e1], weight[e2]);
+            return cmp < 0 || cmp == 0 && e1 < e2;
+        }
+    }
+}
@@ -32,10 +32,11 @@ public class NEdge {
     public int delta = 1;
 
     /**
-     * A flag indicating whether a specified edge is part of the spanning tree determined by
-     * {@code tightTree()}.
+     * A flag indicating whether a specified edge is part of the spanning tree the most recent
+     * execution of the {@link NetworkSimplex} derived its layering from. A warm start picks
+     * the tree up from here.
      * 
-     * @see NetworkSimplex#tightTreeDFS(NNode)
+     * @see NetworkSimplex#withWarmStart(boolean)
      */
     protected boolean treeEdge = false;
 
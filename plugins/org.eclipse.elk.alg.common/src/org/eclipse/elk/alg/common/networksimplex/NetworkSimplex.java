@@ -12,17 +12,14 @@ package org.eclipse.elk.alg.common.networksimplex;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.Set;
 
 import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.core.util.Pair;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 
 /**
  * The main class of the network simplex layerer component. It offers an algorithm to determine an
@@ -32,6 +29,12 @@ import com.google.common.collect.Sets;
  * <li>Emden R. Gansner, Eleftherios Koutsofios, Stephen C. North, Kiem-Phong Vo, A technique for
  * drawing directed graphs. <i>Software Engineering</i> 19(3), pp. 214-230, 1993.</li>
  * </ul>
+ *
+ * <p>While iterating, the algorithm does not work on the {@link NNode}s and {@link NEdge}s themselves, but on a
+ * compact representation of the graph in primitive arrays indexed by the nodes' and edges' internal ids. The edges
+ * incident to a node are stored in compressed sparse row format. The resulting layering is written back to the nodes'
+ * {@link NNode#layer layer} fields, and the spanning tree it was derived from is remembered by the edges. A later
+ * execution on the same, possibly slightly modified graph can {@link #withWarmStart(boolean) start} from both.</p>
  * 
  * <dl>
  * <dt>Precondition:</dt>
@@ -51,14 +54,21 @@ public final class NetworkSimplex  {
     private int[] previousLayeringNodeCounts;
     /** Whether to apply {@link #balance(int[])}. */
     private boolean balance = false;
+    /** Whether to start from the current layering and a previous spanning tree. */
+    private boolean warmStart = false;
     /** A limit on the number of iterations. */
     private int iterationLimit = Integer.MAX_VALUE;
+    /** The number of iterations performed by the most recent execution. */
+    private int iterations;
     /** Empirically determined threshold when removing subtrees pays off. */
     private static final int REMOVE_SUBTREES_THRESH = 40;
     
     /** Small value smaller than zero. Used to check whether cut values are small than zero and to deal with 
      *  imprecision of double computations. */
     private static final double FUZZY_ST_ZERO = -1e-10;
+
+    /** Index used to indicate that there is no such node or edge. */
+    private static final int NONE = -1;
     
     /** Use {@link #forGraph(NGraph)}. */
     private NetworkSimplex() {
@@ -117,22 +127,112 @@ public final class NetworkSimplex  {
         return this;
     }
     
+    /**
+     * Starts from the layering currently assigned to the graph's nodes instead of computing an initial layering
+     * from scratch. Where the current layering violates the minimum length of an edge, the edge's target is moved
+     * to a higher layer. Edges that belonged to the spanning tree of a previous execution on the graph and are still
+     * tight are kept in the initial spanning tree. If the graph and its layering have changed only slightly since the
+     * previous execution, for example because edges were added or weights were changed, far fewer iterations are
+     * needed to find an optimal layering.
+     *
+     * <p>Note that the result may differ from that of a cold start if the graph allows multiple optimal
+     * layerings.</p>
+     *
+     * @param doWarmStart
+     *            whether to start from the current layering.
+     * @return the {@link NetworkSimplex} instance for further configuration or execution.
+     */
+    public NetworkSimplex withWarmStart(final boolean doWarmStart) {
+        this.warmStart = doWarmStart;
+        return this;
+    }
+
+    /**
+     * Returns the number of iterations the most recent {@link #execute(IElkProgressMonitor) execution} needed to find
+     * an optimal solution, or performed before it hit the {@link #withIterationLimit(int) iteration limit}.
+     * 
+     * @return the number of iterations.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+    
     // ================================== Attributes ==============================================
 
     /** The graph all methods in this class operate on. */
     private NGraph graph;
 
-    /** An {@code ArrayList} containing all edges in the graph. */
-    private List<NEdge> edges;
+    /** The number of nodes the network simplex iterates on. */
+    private int nodeCount;
     
-    /** A {@code HashSet} containing all edges that are part of the spanning tree. */
-    private Set<NEdge> treeEdges;
+    /** The number of edges the network simplex iterates on. */
+    private int edgeCount;
+
+    /** The nodes of the graph, indexed by their internal id. */
+    private NNode[] nodes;
+
+    /** The edges of the graph, indexed by their internal id. */
+    private NEdge[] edges;
+
+    /** The layer of each node. */
+    private int[] layer;
+
+    /** The source node of each edge. */
+    private int[] edgeSource;
+
+    /** The target node of each edge. */
+    private int[] edgeTarget;
+
+    /** The minimal length of each edge. */
+    private int[] edgeDelta;
+
+    /** The weight of each edge. */
+    private double[] edgeWeight;
 
     /**
-     * A {@code LinkedList} containing all source nodes of the graph, i.e. all nodes that have no
-     * incident incoming edges.
+     * The position in {@link #adjacency} where the edges incident to each node start. The edges incident to node
+     * {@code v} end right before {@code adjacencyStart[v + 1]}.
      */
-    private List<NNode> sources;
+    private int[] adjacencyStart;
+
+    /**
+     * The edges incident to each node, in the same order as {@link NNode#getConnectedEdges()}: first the incoming
+     * edges, then the outgoing edges.
+     */
+    private int[] adjacency;
+
+    /** The number of incoming edges of each node. */
+    private int[] incomingCount;
+
+    /** A flag indicating whether a node is part of the spanning tree determined by {@link #tightTreeDFS(int)}. */
+    private boolean[] treeNode;
+
+    /**
+     * The part of the initial spanning forest each node belongs to, identified by one of the part's nodes. Without
+     * a warm start, each node forms a part of its own.
+     */
+    private int[] fragment;
+
+    /** A flag indicating whether a part of the initial spanning forest has been joined to the spanning tree. */
+    private boolean[] fragmentJoined;
+
+    /** A flag indicating whether an edge is part of the spanning tree. */
+    private boolean[] treeEdge;
+
+    /**
+     * The edges of the spanning tree form a doubly linked list in the order they were added to the tree. This is
+     * the successor of each tree edge in that list.
+     */
+    private int[] nextTreeEdge;
+
+    /** The predecessor of each tree edge in the list of tree edges. */
+    private int[] previousTreeEdge;
+
+    /** The tree edge that was added to the spanning tree first. */
+    private int firstTreeEdge;
+
+    /** The tree edge that was added to the spanning tree last. */
+    private int lastTreeEdge;
 
     /**
      * A flag indicating whether a specified edge has been visited during DFS-traversal. This array
@@ -144,14 +244,14 @@ public final class NetworkSimplex  {
      * The current postorder traversal number used by {@code postorderTraversal()} to assign an
      * unique traversal ID to each node.
      * 
-     * @see #postorderTraversal(NNode)
+     * @see #postorderTraversal(int)
      */
     private int postOrder;
 
     /**
      * The postorder traversal ID of each node determined by {@code postorderTraversal()}.
      * 
-     * @see #postorderTraversal(NNode)
+     * @see #postorderTraversal(int)
      */
     private int[] poID;
 
@@ -159,7 +259,7 @@ public final class NetworkSimplex  {
      * The lowest postorder traversal ID of each nodes reachable through a node lower in the
      * traversal tree determined by {@code postorderTraversal}.
      * 
-     * @see #postorderTraversal(NNode)
+     * @see #postorderTraversal(int)
      */
     private int[] lowestPoID;
 
@@ -175,6 +275,23 @@ public final class NetworkSimplex  {
      */
     private double[] cutvalue;
     
+    /** The number of incident tree edges of each node whose cut values are still unknown while computing them. */
+    private int[] unknownCutvalues;
+
+    /** A flag indicating whether the cut value of a tree edge has been determined while computing them. */
+    private boolean[] cutvalueKnown;
+
+    /** The nodes on the stack of a depth-first traversal, from the root to the current node. */
+    private int[] dfsNodes;
+
+    /** For each node on the stack of a depth-first traversal, the position in {@link #adjacency} to continue at. */
+    private int[] dfsCursors;
+
+    /**
+     * For each node on the stack of a postorder traversal, the lowest postorder traversal ID found below it so far.
+     */
+    private int[] dfsLowestPoIDs;
+
     /**
      * Nodes that are part of subtrees of the graph. They will be removed prior to the actual
      * execution of the network simplex since positioning them with minimal edge length is trivial.
@@ -189,51 +306,75 @@ public final class NetworkSimplex  {
     /**
      * Helper method for the network simplex layerer. It instantiates all necessary attributes for
      * the execution of the network simplex layerer and initializes them with their default values.
-     * All edges in the connected component given by the input argument will be determined, as well
-     * as the number of incoming and outgoing edges of each node ( {@code inDegree}, respectively
-     * {@code outDegree}). All sinks and source nodes in the connected component identified in this
-     * step will be added to {@code sinks}, respectively {@code sources}.
-     * 
+     * Nodes and edges are indexed and the graph's structure is copied to the primitive arrays the
+     * algorithm iterates on. Edges are numbered in the order of their source nodes.
      */
     private void initialize() {
-        // initialize node attributes
-        int numNodes = graph.nodes.size();
-        for (NNode n : graph.nodes) {
-            n.treeNode = false;
+        // index nodes
+        nodeCount = graph.nodes.size();
+        nodes = graph.nodes.toArray(new NNode[nodeCount]);
+        layer = new int[nodeCount];
+        incomingCount = new int[nodeCount];
+        adjacencyStart = new int[nodeCount + 1];
+        List<NEdge> theEdges = Lists.newArrayList();
+        for (int node = 0; node < nodeCount; node++) {
+            NNode nNode = nodes[node];
+            nNode.internalId = node;
+            layer[node] = nNode.layer;
+            incomingCount[node] = nNode.getIncomingEdges().size();
+            adjacencyStart[node + 1] = adjacencyStart[node] + incomingCount[node] + nNode.getOutgoingEdges().size();
+            theEdges.addAll(nNode.getOutgoingEdges());
         }
-        poID = new int[numNodes];
-        lowestPoID = new int[numNodes];
-        sources = Lists.newArrayList();
 
-        // determine edges and re-index nodes
-        int index = 0;
-        List<NEdge> theEdges = Lists.newArrayList();
-        for (NNode node : graph.nodes) {
-            node.internalId = index++;
-            // add node to sinks, resp. sources
-            if (node.getIncomingEdges().size() == 0) {
-                sources.add(node);
+        // index edges
+        edgeCount = theEdges.size();
+        edges = theEdges.toArray(new NEdge[edgeCount]);
+        edgeSource = new int[edgeCount];
+        edgeTarget = new int[edgeCount];
+        edgeDelta = new int[edgeCount];
+        edgeWeight = new double[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            NEdge nEdge = edges[edge];
+            nEdge.internalId = edge;
+            edgeSource[edge] = nEdge.source.internalId;
+            edgeTarget[edge] = nEdge.target.internalId;
+            edgeDelta[edge] = nEdge.delta;
+            edgeWeight[edge] = nEdge.weight;
+        }
+
+        // incident edges of each node
+        adjacency = new int[adjacencyStart[nodeCount]];
+        for (int node = 0; node < nodeCount; node++) {
+            int i = adjacencyStart[node];
+            for (NEdge nEdge : nodes[node].getIncomingEdges()) {
+                adjacency[i++] = nEdge.internalId;
+            }
+            for (NEdge nEdge : nodes[node].getOutgoingEdges()) {
+                adjacency[i++] = nEdge.internalId;
             }
-            theEdges.addAll(node.getOutgoingEdges());
-        }
-        // re-index edges
-        int counter = 0;
-        for (NEdge edge : theEdges) {
-            edge.internalId = counter++;
-            edge.treeEdge = false;
-        }
-        // initialize edge attributes
-        int numEdges = theEdges.size();
-        if (cutvalue == null || cutvalue.length < numEdges) {
-            cutvalue = new double[numEdges];
-            edgeVisited = new boolean[numEdges];
-        } else {
-            Arrays.fill(edgeVisited, false);
         }
-        edges = theEdges;
-        // we iterate over this set, thus we have to use a linked hash set 
-        // to get a deterministic iteration order
-        treeEdges = Sets.newLinkedHashSetWithExpectedSize(edges.size());
+
+        // initialize tree-related attributes
+        treeNode = new boolean[nodeCount];
+        fragment = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            fragment[node] = node;
+        }
+        fragmentJoined = new boolean[nodeCount];
+        treeEdge = new boolean[edgeCount];
+        nextTreeEdge = new int[edgeCount];
+        previousTreeEdge = new int[edgeCount];
+        firstTreeEdge = NONE;
+        lastTreeEdge = NONE;
+        poID = new int[nodeCount];
+        lowestPoID = new int[nodeCount];
+        cutvalue = new double[edgeCount];
+        unknownCutvalues = new int[nodeCount];
+        cutvalueKnown = new boolean[edgeCount];
+        edgeVisited = new boolean[edgeCount];
+        dfsNodes = new int[nodeCount];
+        dfsCursors = new int[nodeCount];
+        dfsLowestPoIDs = new int[nodeCount];
         postOrder = 1;
     }
 
@@ -241,13 +382,31 @@ public final class NetworkSimplex  {
      * Release all created resources so the GC can reap them.
      */
     private void dispose() {
-        this.cutvalue = null;
+        this.nodes = null;
         this.edges = null;
-        this.treeEdges = null;
+        this.layer = null;
+        this.edgeSource = null;
+        this.edgeTarget = null;
+        this.edgeDelta = null;
+        this.edgeWeight = null;
+        this.adjacencyStart = null;
+        this.adjacency = null;
+        this.incomingCount = null;
+        this.treeNode = null;
+        this.fragment = null;
+        this.fragmentJoined = null;
+        this.treeEdge = null;
+        this.nextTreeEdge = null;
+        this.previousTreeEdge = null;
+        this.cutvalue = null;
+        this.unknownCutvalues = null;
+        this.cutvalueKnown = null;
         this.edgeVisited = null;
         this.lowestPoID = null;
         this.poID = null;
-        this.sources = null;
+        this.dfsNodes = null;
+        this.dfsCursors = null;
+        this.dfsLowestPoIDs = null;
         this.subtreeNodesStack = null;
     }
 
@@ -268,15 +427,18 @@ public final class NetworkSimplex  {
      */
     public void execute(final IElkProgressMonitor monitor) {
         monitor.begin("Network simplex", 1);
+        iterations = 0;
 
         if (graph.nodes.size() < 1) {
             monitor.done();
             return;
         }
         
-        // reset any old layering
-        for (NNode node : graph.nodes) {
-            node.layer = 0;
+        // reset any old layering, unless we want to start from it
+        if (!warmStart) {
+            for (NNode node : graph.nodes) {
+                node.layer = 0;
+            }
         }
         
         // remove leafs
@@ -290,13 +452,20 @@ public final class NetworkSimplex  {
         // determine an initial feasible layering
         feasibleTree();
         // improve the initial layering until it is optimal
-        NEdge e = leaveEdge();
-        int iter = 0;
-        while (e != null && iter < iterationLimit) {
+        int e = leaveEdge();
+        while (e != NONE && iterations < iterationLimit) {
             // current layering is not optimal
             exchange(e, enterEdge(e));
             e = leaveEdge();
-            iter++;
+            iterations++;
+        }
+
+        // transfer the layering and the spanning tree to the graph
+        for (int node = 0; node < nodeCount; node++) {
+            nodes[node].layer = layer[node];
+        }
+        for (int edge = 0; edge < edgeCount; edge++) {
+            edges[edge].treeEdge = treeEdge[edge];
         }
 
         // re-attach leafs
@@ -328,11 +497,14 @@ public final class NetworkSimplex  {
         
         // find initial leafs
         Queue<NNode> leafs = Lists.newLinkedList();
+        int index = 0;
         for (NNode node : graph.nodes) {
+            node.internalId = index++;
             if (node.getConnectedEdges().size() == 1) {
                 leafs.add(node);
             }
         }
+        boolean[] removed = new boolean[index];
         
         // remove them from the graph like there's no tomorrow
         while (!leafs.isEmpty()) {
@@ -357,15 +529,17 @@ public final class NetworkSimplex  {
             
             Pair<NNode, NEdge> leafy = Pair.of(node, edge);
             subtreeNodesStack.push(leafy);
-            // remove the node from the graph's nodes
-            graph.nodes.remove(node);
+            removed[node.internalId] = true;
         }
         
+        // remove the nodes from the graph's nodes all at once
+        graph.nodes.removeIf(node -> removed[node.internalId]);
     }
     
     /**
      * Re-attaches the previously removed tree nodes. It is important that 
-     * the nodes are re-attached in the opposite order than they were removed.  
+     * the nodes are re-attached in the opposite order than they were removed. The edges
+     * they are attached with are tight and thus become part of the spanning tree.
      */
     private void reattachSubtrees() {
         
@@ -384,6 +558,7 @@ public final class NetworkSimplex  {
                 placed.getIncomingEdges().add(edge);
                 node.layer = placed.layer - edge.delta;
             }
+            edge.treeEdge = true;
             
             graph.nodes.add(node);
         }
@@ -402,67 +577,99 @@ public final class NetworkSimplex  {
      * non-tree nodes as well. If all nodes of the graph are contained in the spanning tree, a tight
      * tree has been found. A concluding computation of each edge's initial cut value takes place.
      * 
-     * @see NetworkSimplex#tightTreeDFS(NNode) tightTreeDFS()
+     * <p>On a warm start, the tree starts out with those edges of the previous spanning tree that
+     * are still tight. They form a forest whose parts are joined as a whole as the tree grows, so
+     * that no other edge can close a cycle with them.</p>
+     *
+     * @see NetworkSimplex#tightTreeDFS(int) tightTreeDFS()
      */
     private void feasibleTree() {
         
         // determine initial layering
-        layeringTopologicalNumbering(sources);
+        layeringTopologicalNumbering();
         
-        if (edges.size() > 0) {
+        if (edgeCount > 0) {
+            if (warmStart) {
+                for (int edge = 0; edge < edgeCount; edge++) {
+                    if (edges[edge].treeEdge && isTight(edge)) {
+                        treeEdge[edge] = true;
+                        addTreeEdge(edge);
+                        fragment[findFragment(edgeSource[edge])] = findFragment(edgeTarget[edge]);
+                    }
+                }
+                for (int node = 0; node < nodeCount; node++) {
+                    fragment[node] = findFragment(node);
+                }
+            }
+
             Arrays.fill(edgeVisited, false);
-            while (tightTreeDFS(graph.nodes.iterator().next()) < graph.nodes.size()) {
+            while (tightTreeDFS(0) < nodeCount) {
                 // some nodes are still not part of the tree
-                NEdge e = minimalSlack();
-                int slack = e.getTarget().layer - e.getSource().layer - e.delta;
-                if (e.getTarget().treeNode) {
+                int e = minimalSlack();
+                int slack = layer[edgeTarget[e]] - layer[edgeSource[e]] - edgeDelta[e];
+                if (treeNode[edgeTarget[e]]) {
                     slack = -slack;
                 }
 
                 // update tree
-                for (NNode node : graph.nodes) {
-                    if (node.treeNode) {
-                        node.layer += slack;
+                for (int node = 0; node < nodeCount; node++) {
+                    if (treeNode[node]) {
+                        layer[node] += slack;
                     }
                 }
                 Arrays.fill(edgeVisited, false);
             }
             // update tree-related attributes
             Arrays.fill(edgeVisited, false);
-            postorderTraversal(graph.nodes.iterator().next());
+            postorderTraversal(0);
             cutvalues();
         }
     }
 
+    /**
+     * Returns the part of the initial spanning forest the given node belongs to, compressing the
+     * path to it on the way.
+     */
+    private int findFragment(final int node) {
+        int current = node;
+        while (fragment[current] != current) {
+            fragment[current] = fragment[fragment[current]];
+            current = fragment[current];
+        }
+        return current;
+    }
+
     /**
      * Helper method for the network simplex layerer. It determines an (initial) feasible layering
-     * for the graph by traversing it by a minimal topological numbering. Dependently of
-     * the chosen mode indicated by {@code reverse}, this method traverses incoming edges (if
-     * {@code reverse = true}), or outgoing edges, if {@code reverse = false}, only. Therefore, this
-     * method should only be called with source nodes as argument in the first-mentioned case and
-     * only with sink nodes in the latter case.
-     * 
-     * @param initialRootNodes
-     *            the roots of the topological numbering (sources or sinks, depending on the direction)
+     * for the graph by traversing it by a minimal topological numbering, starting at the graph's
+     * sources. No node is moved to a lower layer than the one it is currently assigned to, so on a
+     * warm start this turns the current layering into a feasible one.
      */
-    private void layeringTopologicalNumbering(final List<NNode> initialRootNodes) {
+    private void layeringTopologicalNumbering() {
         
         // initialize the number of incident edges for each node
-        int[] incident = new int[graph.nodes.size()];
-        for (NNode node : graph.nodes) {
-            incident[node.internalId] += node.getIncomingEdges().size();
+        int[] incident = Arrays.copyOf(incomingCount, nodeCount);
+
+        // each node becomes a root exactly once, so the queue of roots fits into an array
+        int[] roots = new int[nodeCount];
+        int firstRoot = 0;
+        int rootCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (incomingCount[node] == 0) {
+                roots[rootCount++] = node;
+            }
         }
 
-        LinkedList<NNode> roots = Lists.newLinkedList(initialRootNodes);
-        while (!roots.isEmpty()) {
-            NNode node = roots.poll();
+        while (firstRoot < rootCount) {
+            int node = roots[firstRoot++];
             
-            for (NEdge edge : node.getOutgoingEdges()) {
-                NNode target = edge.getTarget();
-                target.layer = Math.max(target.layer, node.layer + edge.delta);
-                incident[target.internalId]--;
-                if (incident[target.internalId] == 0) {
-                    roots.add(target);
+            for (int i = adjacencyStart[node] + incomingCount[node]; i < adjacencyStart[node + 1]; i++) {
+                int edge = adjacency[i];
+                int target = edgeTarget[edge];
+                layer[target] = Math.max(layer[target], layer[node] + edgeDelta[edge]);
+                incident[target]--;
+                if (incident[target] == 0) {
+                    roots[rootCount++] = target;
                 }
             }
         }
@@ -502,58 +709,120 @@ public final class NetworkSimplex  {
         return new Pair<Integer, Integer>(minSpanIn, minSpanOut);
     }
 
+    /**
+     * Returns the node at the other end of the given edge.
+     */
+    private int getOther(final int edge, final int node) {
+        return edgeSource[edge] == node ? edgeTarget[edge] : edgeSource[edge];
+    }
+
+    /**
+     * Whether the given edge's current length matches its minimal length.
+     */
+    private boolean isTight(final int edge) {
+        return edgeDelta[edge] == layer[edgeTarget[edge]] - layer[edgeSource[edge]];
+    }
+
+    /**
+     * Appends the given edge to the list of tree edges.
+     */
+    private void addTreeEdge(final int edge) {
+        previousTreeEdge[edge] = lastTreeEdge;
+        nextTreeEdge[edge] = NONE;
+        if (lastTreeEdge == NONE) {
+            firstTreeEdge = edge;
+        } else {
+            nextTreeEdge[lastTreeEdge] = edge;
+        }
+        lastTreeEdge = edge;
+    }
+
+    /**
+     * Removes the given edge from the list of tree edges.
+     */
+    private void removeTreeEdge(final int edge) {
+        if (previousTreeEdge[edge] == NONE) {
+            firstTreeEdge = nextTreeEdge[edge];
+        } else {
+            nextTreeEdge[previousTreeEdge[edge]] = nextTreeEdge[edge];
+        }
+        if (nextTreeEdge[edge] == NONE) {
+            lastTreeEdge = previousTreeEdge[edge];
+        } else {
+            previousTreeEdge[nextTreeEdge[edge]] = previousTreeEdge[edge];
+        }
+    }
+
     /**
      * Helper method for the network simplex layerer. It determines a DFS-subtree of the graph by
      * traversing tight edges only (i.e. edges whose current length matches their minimal length in
      * the layering) and returns the number of nodes in this. If this number is equal to the total
-     * number of nodes in the graph, a tight spanning tree has been determined.
+     * number of nodes in the graph, a tight spanning tree has been determined. The traversal keeps
+     * an explicit stack to not overflow the call stack on large graphs.
      * 
-     * @param node
+     * @param root
      *            the root of the DFS-subtree
      * @return the number of nodes in the determined tight DFS-tree
      */
-    private int tightTreeDFS(final NNode node) {
-        int nodeCount = 1;
-        node.treeNode = true;
-        NNode opposite = null;
-        for (NEdge edge : node.getConnectedEdges()) {
-            if (!edgeVisited[edge.internalId]) {
-                edgeVisited[edge.internalId] = true;
-                opposite = edge.getOther(node);
-                if (edge.treeEdge) {
-                    // edge is a tree edge already: follow this path
-                    nodeCount += tightTreeDFS(opposite);
-                } else if (!opposite.treeNode
-                        && edge.delta == edge.getTarget().layer
-                                - edge.getSource().layer) {
-                    // edge is a tight non-tree edge
-                    edge.treeEdge = true;
-                    treeEdges.add(edge);
-                    nodeCount += tightTreeDFS(opposite);
+    private int tightTreeDFS(final int root) {
+        int count = 1;
+        int depth = 0;
+        dfsNodes[0] = root;
+        dfsCursors[0] = adjacencyStart[root];
+        treeNode[root] = true;
+        fragmentJoined[fragment[root]] = true;
+
+        while (depth >= 0) {
+            int node = dfsNodes[depth];
+            if (dfsCursors[depth] == adjacencyStart[node + 1]) {
+                // all incident edges are done
+                depth--;
+                continue;
+            }
+
+            int edge = adjacency[dfsCursors[depth]++];
+            if (!edgeVisited[edge]) {
+                edgeVisited[edge] = true;
+                int opposite = getOther(edge, node);
+                boolean follow = treeEdge[edge];
+                if (!follow && !fragmentJoined[fragment[opposite]] && isTight(edge)) {
+                    // edge is a tight non-tree edge leading to a node that is not connected to the tree yet
+                    treeEdge[edge] = true;
+                    addTreeEdge(edge);
+                    follow = true;
+                }
+
+                if (follow) {
+                    depth++;
+                    dfsNodes[depth] = opposite;
+                    dfsCursors[depth] = adjacencyStart[opposite];
+                    treeNode[opposite] = true;
+                    fragmentJoined[fragment[opposite]] = true;
+                    count++;
                 }
             }
         }
-        return nodeCount;
+        return count;
     }
 
     /**
      * Helper method for the network simplex layerer. It returns the non-tree edge incident on the
      * tree and incident to a non-tree node with a minimal amount of slack (i.e. an edge with the
-     * lowest difference between its current and minimal length) or {@code null}, if no such edge
+     * lowest difference between its current and minimal length) or {@link #NONE}, if no such edge
      * exists. Note, that the returned edge's slack is never {@code 0}, since otherwise, the edge
      * would be a tree-edge.
      * 
-     * @return a non-tree edge incident on the tree with a minimal amount of slack or {@code null},
+     * @return a non-tree edge incident on the tree with a minimal amount of slack or {@link #NONE},
      *         if no such edge exists
      */
-    private NEdge minimalSlack() {
+    private int minimalSlack() {
         int minSlack = Integer.MAX_VALUE;
-        NEdge minSlackEdge = null;
+        int minSlackEdge = NONE;
         int curSlack;
-        for (NEdge edge : edges) {
-            if (edge.getSource().treeNode ^ edge.getTarget().treeNode) {
+        for (int edge = 0; edge < edgeCount; edge++) {
+            if (treeNode[edgeSource[edge]] ^ treeNode[edgeTarget[edge]]) {
                 // edge is non-tree edge and incident on the tree
-                curSlack = edge.getTarget().layer - edge.getSource().layer - edge.delta;
+                curSlack = layer[edgeTarget[edge]] - layer[edgeSource[edge]] - edgeDelta[edge];
                 if (curSlack < minSlack) {
                     minSlack = curSlack;
                     minSlackEdge = edge;
@@ -568,27 +837,43 @@ public final class NetworkSimplex  {
      * graph beginning with the input node. Each node will be assigned a unique traversal ID, which
      * will be stored in {@code poID}. Furthermore, the lowest postorder traversal ID of any node in
      * a descending path relative to the input node will be computed and stored in
-     * {@code lowestPoID}, which is also the return value of this method.
+     * {@code lowestPoID}.
      * 
-     * @param node
+     * @param root
      *            the root of the DFS-subtree
-     * @return the lowest post-order ID of any descending edge in the depth-first-search
      * 
      * @see NetworkSimplex#poID poID
      * @see NetworkSimplex#lowestPoID lowestPoID
      * @see NetworkSimplex#postOrder postOrder
      */
-    private int postorderTraversal(final NNode node) {
-        int lowest = Integer.MAX_VALUE;
-        for (NEdge edge : node.getConnectedEdges()) {
-            if (edge.treeEdge && !edgeVisited[edge.internalId]) {
-                edgeVisited[edge.internalId] = true;
-                lowest = Math.min(lowest, postorderTraversal(edge.getOther(node)));
+    private void postorderTraversal(final int root) {
+        int depth = 0;
+        dfsNodes[0] = root;
+        dfsCursors[0] = adjacencyStart[root];
+        dfsLowestPoIDs[0] = Integer.MAX_VALUE;
+
+        while (depth >= 0) {
+            int node = dfsNodes[depth];
+            if (dfsCursors[depth] < adjacencyStart[node + 1]) {
+                int edge = adjacency[dfsCursors[depth]++];
+                if (treeEdge[edge] && !edgeVisited[edge]) {
+                    edgeVisited[edge] = true;
+                    int child = getOther(edge, node);
+                    depth++;
+                    dfsNodes[depth] = child;
+                    dfsCursors[depth] = adjacencyStart[child];
+                    dfsLowestPoIDs[depth] = Integer.MAX_VALUE;
+                }
+            } else {
+                // all descendants have been numbered
+                poID[node] = postOrder;
+                lowestPoID[node] = Math.min(dfsLowestPoIDs[depth], postOrder++);
+                depth--;
+                if (depth >= 0) {
+                    dfsLowestPoIDs[depth] = Math.min(dfsLowestPoIDs[depth], lowestPoID[node]);
+                }
             }
         }
-        poID[node.internalId] = postOrder;
-        lowestPoID[node.internalId] = Math.min(lowest, postOrder++);
-        return lowestPoID[node.internalId];
     }
 
     /**
@@ -607,22 +892,22 @@ public final class NetworkSimplex  {
      * @return {@code true}, if node is in the head component or {@code false}, if the node is in
      *         the tail component of the edge
      */
-    private boolean isInHead(final NNode node, final NEdge edge) {
-        NNode source = edge.getSource();
-        NNode target = edge.getTarget();
+    private boolean isInHead(final int node, final int edge) {
+        int source = edgeSource[edge];
+        int target = edgeTarget[edge];
 
-        if (lowestPoID[source.internalId] <= poID[node.internalId] 
-                && poID[node.internalId] <= poID[source.internalId]
-                && lowestPoID[target.internalId] <= poID[node.internalId] 
-                && poID[node.internalId] <= poID[target.internalId]) {
+        if (lowestPoID[source] <= poID[node]
+                && poID[node] <= poID[source]
+                && lowestPoID[target] <= poID[node]
+                && poID[node] <= poID[target]) {
             // node is in a descending path in the DFS-Tree
-            if (poID[source.internalId] < poID[target.internalId]) {
+            if (poID[source] < poID[target]) {
                 // root is in the head component
                 return false;
             }
             return true;
         }
-        if (poID[source.internalId] < poID[target.internalId]) {
+        if (poID[source] < poID[target]) {
             // root is in the head component
             return true;
         }
@@ -640,72 +925,80 @@ public final class NetworkSimplex  {
      * @see NetworkSimplex#cutvalue cutvalue
      */
     private void cutvalues() {
-        // determine incident tree edges for each node
-        List<NNode> leafs = Lists.newArrayList();
-        int treeEdgeCount;
-        for (NNode node : graph.nodes) {
-            treeEdgeCount = 0;
-            node.unknownCutvalues.clear();
-            for (NEdge edge : node.getConnectedEdges()) {
-                if (edge.treeEdge) {
-                    node.unknownCutvalues.add(edge);
+        // determine incident tree edges for each node, the leafs of the tree are where we start
+        // (no traversal is in progress, so the traversal stack can hold them)
+        int[] leafs = dfsNodes;
+        int leafCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            int treeEdgeCount = 0;
+            for (int i = adjacencyStart[node]; i < adjacencyStart[node + 1]; i++) {
+                if (treeEdge[adjacency[i]]) {
                     treeEdgeCount++;
                 }
             }
+            unknownCutvalues[node] = treeEdgeCount;
             if (treeEdgeCount == 1) {
-                leafs.add(node);
+                leafs[leafCount++] = node;
             }
         }
+        Arrays.fill(cutvalueKnown, false);
         
         // determine cut values
-        NEdge toDetermine;
-        NNode source, target;
-        for (NNode node : leafs) {
-            while (node.unknownCutvalues.size() == 1) {
+        for (int l = 0; l < leafCount; l++) {
+            int node = leafs[l];
+            while (unknownCutvalues[node] == 1) {
                 // one tree edge with undetermined cut value is incident
-                toDetermine = node.unknownCutvalues.iterator().next();
-                cutvalue[toDetermine.internalId] = toDetermine.weight;
-                source = toDetermine.getSource();
-                target = toDetermine.getTarget();
-                for (NEdge edge : node.getConnectedEdges()) {
-                    if (!edge.equals(toDetermine)) {
-                        if (edge.treeEdge) {
+                int toDetermine = NONE;
+                for (int i = adjacencyStart[node]; toDetermine == NONE; i++) {
+                    int edge = adjacency[i];
+                    if (treeEdge[edge] && !cutvalueKnown[edge]) {
+                        toDetermine = edge;
+                    }
+                }
+
+                cutvalue[toDetermine] = edgeWeight[toDetermine];
+                int source = edgeSource[toDetermine];
+                int target = edgeTarget[toDetermine];
+                for (int i = adjacencyStart[node]; i < adjacencyStart[node + 1]; i++) {
+                    int edge = adjacency[i];
+                    if (edge != toDetermine) {
+                        if (treeEdge[edge]) {
                             // edge is tree edge
-                            if (source.equals(edge.getSource())
-                                    || target.equals(edge.getTarget())) {
+                            if (source == edgeSource[edge] || target == edgeTarget[edge]) {
                                 // edge has not the same direction as toDetermine
-                                cutvalue[toDetermine.internalId] -= cutvalue[edge.internalId] - edge.weight;
+                                cutvalue[toDetermine] -= cutvalue[edge] - edgeWeight[edge];
                             } else {
-                                cutvalue[toDetermine.internalId] += cutvalue[edge.internalId] - edge.weight;
+                                cutvalue[toDetermine] += cutvalue[edge] - edgeWeight[edge];
                             }
                         } else {
                             // edge is non-tree edge
-                            if (node.equals(source)) {
-                                if (edge.getSource().equals(node)) {
-                                    cutvalue[toDetermine.internalId] += edge.weight;
+                            if (node == source) {
+                                if (edgeSource[edge] == node) {
+                                    cutvalue[toDetermine] += edgeWeight[edge];
                                 } else {
-                                    cutvalue[toDetermine.internalId] -= edge.weight;
+                                    cutvalue[toDetermine] -= edgeWeight[edge];
                                 }
                             } else {
-                                if (edge.getSource().equals(node)) {
-                                    cutvalue[toDetermine.internalId] -= edge.weight;
+                                if (edgeSource[edge] == node) {
+                                    cutvalue[toDetermine] -= edgeWeight[edge];
                                 } else {
-                                    cutvalue[toDetermine.internalId] += edge.weight;
+                                    cutvalue[toDetermine] += edgeWeight[edge];
                                 }
                             }
                         }
                     }
                 }
                 
-                // remove edge from 'unknownCutvalues'
-                source.unknownCutvalues.remove(toDetermine);
-                target.unknownCutvalues.remove(toDetermine);
+                // the edge's cut value is no longer unknown to either of its nodes
+                cutvalueKnown[toDetermine] = true;
+                unknownCutvalues[source]--;
+                unknownCutvalues[target]--;
                 
                 // proceed with next node
-                if (source.equals(node)) {
-                    node = toDetermine.getTarget();
+                if (source == node) {
+                    node = target;
                 } else {
-                    node = toDetermine.getSource();
+                    node = source;
                 }
             }
         }
@@ -713,19 +1006,19 @@ public final class NetworkSimplex  {
 
     /**
      * Helper method for the network simplex layerer. It returns a tree edge with a negative cut
-     * value or {@code null}, if no such edge exists, meaning that the current layer assignment of
+     * value or {@link #NONE}, if no such edge exists, meaning that the current layer assignment of
      * all nodes is optimal. Note, that this method returns any edge with a negative cut value. A
      * special preference to an edge with lowest value will not be given.
      * 
-     * @return a tree edge with negative cut value or {@code null}, if no such edge exists
+     * @return a tree edge with negative cut value or {@link #NONE}, if no such edge exists
      */
-    private NEdge leaveEdge() {
-        for (NEdge edge : treeEdges) {
-            if (edge.treeEdge && cutvalue[edge.internalId] < FUZZY_ST_ZERO) {
+    private int leaveEdge() {
+        for (int edge = firstTreeEdge; edge != NONE; edge = nextTreeEdge[edge]) {
+            if (cutvalue[edge] < FUZZY_ST_ZERO) {
                 return edge;
             }
         }
-        return null;
+        return NONE;
     }
 
     /**
@@ -740,21 +1033,21 @@ public final class NetworkSimplex  {
      * @throws IllegalArgumentException
      *             if the input edge is not a tree edge
      */
-    private NEdge enterEdge(final NEdge leave) {
-        if (!leave.treeEdge) {    
+    private int enterEdge(final int leave) {
+        if (!treeEdge[leave]) {
             throw new IllegalArgumentException("The input edge is not a tree edge.");
         }
 
-        NEdge replace = null;
+        int replace = NONE;
         int repSlack = Integer.MAX_VALUE;
         int slack;
-        NNode source, target;
-        for (NEdge edge : edges) {
-            source = edge.getSource();
-            target = edge.getTarget();
+        int source, target;
+        for (int edge = 0; edge < edgeCount; edge++) {
+            source = edgeSource[edge];
+            target = edgeTarget[edge];
             if (isInHead(source, leave) && !isInHead(target, leave)) {
                 // edge is to consider
-                slack = target.layer - source.layer - edge.delta;
+                slack = layer[target] - layer[source] - edgeDelta[edge];
                 if (slack < repSlack) {
                     repSlack = slack;
                     replace = edge;
@@ -776,29 +1069,29 @@ public final class NetworkSimplex  {
      * @throws IllegalArgumentException
      *             if either {@code leave} is no tree edge or {@code enter} is a tree edge already
      * 
-     * @see NetworkSimplex#enterEdge(NEdge) enterEdge()
+     * @see NetworkSimplex#enterEdge(int) enterEdge()
      * @see NetworkSimplex#leaveEdge() leaveEdge()
      */
-    private void exchange(final NEdge leave, final NEdge enter) {
-        if (!leave.treeEdge) {
+    private void exchange(final int leave, final int enter) {
+        if (!treeEdge[leave]) {
             throw new IllegalArgumentException("Given leave edge is no tree edge.");
         }
-        if (enter.treeEdge) {
+        if (treeEdge[enter]) {
             throw new IllegalArgumentException("Given enter edge is a tree edge already.");
         }
 
         // update tree
-        leave.treeEdge = false;
-        treeEdges.remove(leave);
-        enter.treeEdge = true;
-        treeEdges.add(enter);
-        int delta = enter.getTarget().layer - enter.getSource().layer - enter.delta;
-        if (!isInHead(enter.getTarget(), leave)) {
+        treeEdge[leave] = false;
+        removeTreeEdge(leave);
+        treeEdge[enter] = true;
+        addTreeEdge(enter);
+        int delta = layer[edgeTarget[enter]] - layer[edgeSource[enter]] - edgeDelta[enter];
+        if (!isInHead(edgeTarget[enter], leave)) {
             delta = -delta;
         }
-        for (NNode node : graph.nodes) {
+        for (int node = 0; node < nodeCount; node++) {
             if (!isInHead(node, leave)) {
-                node.layer += delta;
+                layer[node] += delta;
             }
         }
         
@@ -806,7 +1099,7 @@ public final class NetworkSimplex  {
         // update tree-based values
         postOrder = 1;
         Arrays.fill(edgeVisited, false);
-        postorderTraversal(graph.nodes.iterator().next());
+        postorderTraversal(0);
         cutvalues();
     }
 
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.polyomino;
+
+import java.util.function.BiFunction;
+
+import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
+import org.eclipse.elk.core.util.Pair;
+
+/**
+ * <p>
+ * A traversal function computing the successor of a point (x, y) in ℕ x ℕ, that is, the next candidate position for
+ * placing a polyomino. {@link PolyominoCompactor} tries a great many candidate positions per polyomino, so successors
+ * are computed in place on an array of two coordinates instead of allocating a new {@link Pair} for each of them.
+ * </p>
+ */
+public interface ISuccessor extends BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+
+    /**
+     * Replaces the given point by its successor.
+     *
+     * @param coords
+     *            array holding the x- and y-coordinate of the current point, which are replaced by those of its
+     *            successor
+     * @param poly
+     *            the polyomino to be placed
+     */
+    void advance(int[] coords, Polyomino poly);
+
+    @Override
+    default Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
+        int[] next = { coords.getFirst(), coords.getSecond() };
+        advance(next, poly);
+        return new Pair<Integer, Integer>(next[0], next[1]);
+    }
+
+}
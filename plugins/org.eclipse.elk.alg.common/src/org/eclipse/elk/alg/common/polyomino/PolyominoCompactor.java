@@ -12,9 +12,13 @@ package org.eclipse.elk.alg.common.polyomino;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.common.compaction.options.PolyominoOptions;
 import org.eclipse.elk.alg.common.polyomino.structures.Direction;
@@ -22,7 +26,11 @@ import org.eclipse.elk.alg.common.polyomino.structures.PlanarGrid;
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
 import org.eclipse.elk.alg.common.polyomino.structures.Polyominoes;
 import org.eclipse.elk.alg.common.utils.UniqueTriple;
-import org.eclipse.elk.core.util.Pair;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
+
+import com.google.common.collect.Lists;
 
 /**
  * <p>
@@ -51,6 +59,11 @@ import org.eclipse.elk.core.util.Pair;
  */
 public class PolyominoCompactor {
 
+    /** number of candidate positions tested on the calling thread before candidates are tested concurrently. */
+    private static final int SEQUENTIAL_CANDIDATES = 256;
+    /** number of candidate positions tested by each task when candidates are tested concurrently. */
+    private static final int CANDIDATES_PER_TASK = 256;
+
     /**
      * Places {@link Polyomino polyominoes} close together, in order to achieve a minimum area, based on the heuristic
      * algorithm PackPolyominoes from the paper.
@@ -83,9 +96,9 @@ public class PolyominoCompactor {
             polys.sort(new MinNumOfExtensionDirectionsComparator());
         }
 
-        // 2. Initialize cost function. Implemented as a BiFunction for future interchangeability with different
+        // 2. Initialize cost function. Implemented as an ISuccessor for future interchangeability with different
         // metrics.
-        BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> successorBasedOnCost;
+        ISuccessor successorBasedOnCost;
         switch (polyHolder.getProperty(PolyominoOptions.POLYOMINO_TRAVERSAL_STRATEGY)) {
         case SPIRAL:
             successorBasedOnCost = new SuccessorMaxNormWindingInMathPosSense();
@@ -118,24 +131,102 @@ public class PolyominoCompactor {
             successorBasedOnCost = new SuccessorQuadrantsGeneric(new SuccessorJitter());
         }
 
+        // elkjs-exclude-start
+        int threads = ElkConcurrency.resolveThreadCount(polyHolder.getProperty(PolyominoOptions.POLYOMINO_THREADS));
+        if (threads > 1) {
+            packPolyominoesConcurrently(polys, grid, successorBasedOnCost, threads);
+            return;
+        }
+        // elkjs-exclude-end
+
+        int[] candidate = new int[2];
         for (Polyomino poly : polys) {
             // 3. Start placement of each polyomino at the center of the grid
-            int offX = 0;
-            int offY = 0;
-            Pair<Integer, Integer> next = new Pair<Integer, Integer>(offX, offY);
+            candidate[0] = 0;
+            candidate[1] = 0;
 
             // 4. Until no polyomino cell intersects with another polyomino already placed ...
-            while (grid.intersectsWithCenterBased(poly, offX, offY)) {
+            while (grid.intersectsWithCenterBased(poly, candidate[0], candidate[1])) {
                 // ... get next trial position based on cost function
-                next = successorBasedOnCost.apply(next, poly);
-                offX = next.getFirst();
-                offY = next.getSecond();
+                successorBasedOnCost.advance(candidate, poly);
             }
             // 5. When a valid position is found, mark all new cells in the underlying grid and save the position of the
             // polyomino's center relative to the grid's center
-            grid.addFilledCellsFrom(poly, offX, offY);
+            grid.addFilledCellsFrom(poly, candidate[0], candidate[1]);
+        }
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Places the polyominoes like {@link #packPolyominoes(Polyominoes)} does, but tests blocks of candidate positions
+     * concurrently once a polyomino didn't fit on the first few candidates. Of each block, the first candidate in
+     * traversal order that doesn't intersect other polyominoes is chosen, so the result is the same as when testing
+     * the candidates one after another.
+     */
+    private void packPolyominoesConcurrently(final List<? extends Polyomino> polys, final PlanarGrid grid,
+            final ISuccessor successorBasedOnCost, final int threads) {
+
+        int blockSize = threads * CANDIDATES_PER_TASK;
+        int[] block = new int[2 * blockSize];
+        int[] candidate = new int[2];
+
+        ExecutorService executor = ElkConcurrency.newExecutor(threads);
+        try {
+            for (Polyomino poly : polys) {
+                candidate[0] = 0;
+                candidate[1] = 0;
+
+                // Most polyominoes fit on one of the first candidates, which are thus tested right away
+                boolean found = false;
+                for (int i = 0; i < SEQUENTIAL_CANDIDATES; i++) {
+                    if (!grid.intersectsWithCenterBased(poly, candidate[0], candidate[1])) {
+                        found = true;
+                        break;
+                    }
+                    successorBasedOnCost.advance(candidate, poly);
+                }
+
+                while (!found) {
+                    // Compute the next block of candidates up front, the tasks only read the grid
+                    for (int i = 0; i < blockSize; i++) {
+                        block[2 * i] = candidate[0];
+                        block[2 * i + 1] = candidate[1];
+                        successorBasedOnCost.advance(candidate, poly);
+                    }
+
+                    AtomicInteger firstFit = new AtomicInteger(blockSize);
+                    List<Callable<Void>> tasks = Lists.newArrayListWithCapacity(threads);
+                    for (int t = 0; t < threads; t++) {
+                        int start = t * CANDIDATES_PER_TASK;
+                        tasks.add(() -> {
+                            // Candidates behind one already known to fit don't need to be tested
+                            for (int i = start; i < start + CANDIDATES_PER_TASK && i < firstFit.get(); i++) {
+                                if (!grid.intersectsWithCenterBased(poly, block[2 * i], block[2 * i + 1])) {
+                                    firstFit.accumulateAndGet(i, Math::min);
+                                    break;
+                                }
+                            }
+                            return null;
+                        });
+                    }
+                    ElkConcurrency.invokeAll(executor, tasks);
+
+                    if (firstFit.get() < blockSize) {
+                        candidate[0] = block[2 * firstFit.get()];
+                        candidate[1] = block[2 * firstFit.get() + 1];
+                        found = true;
+                    }
+                }
+
+                grid.addFilledCellsFrom(poly, candidate[0], candidate[1]);
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
         }
     }
+    // elkjs-exclude-end
 
     ///////////////////////////////////////////////////////////////////////////////
     // Inner Classes
@@ -9,22 +9,19 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
-import java.util.function.BiFunction;
-
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
  * Implements one way of computing the successor of a point (x, y) in ℕ x ℕ by combining two other traversal functions,
- * given as instances of {@link BiFunction}. {@code normalFun} is used on polyominoes without external extensions,
+ * given as instances of {@link ISuccessor}. {@code normalFun} is used on polyominoes without external extensions,
  * {@code externalFun} is used on polyominoes with external extensions.
  * </p>
  */
-public class SuccessorCombination implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorCombination implements ISuccessor {
 
-    private BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> normalFun;
-    private BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> externalFun;
+    private ISuccessor normalFun;
+    private ISuccessor externalFun;
 
     /**
      * Constructor for a function computing the successor of a point (x, y) in ℕ x ℕ by combining two other traversal
@@ -35,18 +32,17 @@ public class SuccessorCombination implements BiFunction<Pair<Integer, Integer>,
      * @param externalFun
      *            traversal function used on polyominoes with external extensions
      */
-    public SuccessorCombination(final BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> normalFun,
-            final BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> externalFun) {
+    public SuccessorCombination(final ISuccessor normalFun, final ISuccessor externalFun) {
         this.normalFun = normalFun;
         this.externalFun = externalFun;
     }
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
+    public void advance(final int[] coords, final Polyomino poly) {
         if (poly.getPolyominoExtensions().size() > 0) {
-            return externalFun.apply(coords, poly);
+            externalFun.advance(coords, poly);
         } else {
-            return normalFun.apply(coords, poly);
+            normalFun.advance(coords, poly);
         }
     }
 
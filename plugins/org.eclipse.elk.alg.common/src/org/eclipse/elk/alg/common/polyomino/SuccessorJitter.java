@@ -9,10 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
-import java.util.function.BiFunction;
-
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
@@ -65,12 +62,12 @@ import org.eclipse.elk.core.util.Pair;
  * {@code O O O}</br>
  * </br>
  */
-public class SuccessorJitter implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorJitter implements ISuccessor {
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
-        int x = coords.getFirst();
-        int y = coords.getSecond();
+    public void advance(final int[] coords, final Polyomino poly) {
+        int x = coords[0];
+        int y = coords[1];
 
         int newX = x;
         int newY = y;
@@ -92,7 +89,8 @@ public class SuccessorJitter implements BiFunction<Pair<Integer, Integer>, Polyo
                 newY = x;
             }
         }
-        return new Pair<Integer, Integer>(newX, newY);
+        coords[0] = newX;
+        coords[1] = newY;
     }
 
 }
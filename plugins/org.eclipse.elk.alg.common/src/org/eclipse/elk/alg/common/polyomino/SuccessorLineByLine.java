@@ -9,10 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
-import java.util.function.BiFunction;
-
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
@@ -64,27 +61,32 @@ import org.eclipse.elk.core.util.Pair;
  * {@code O O X}</br>
  * </br>
  */
-public class SuccessorLineByLine implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorLineByLine implements ISuccessor {
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
-        int x = coords.getFirst();
-        int y = coords.getSecond();
+    public void advance(final int[] coords, final Polyomino poly) {
+        int x = coords[0];
+        int y = coords[1];
         if (x >= 0) {
             if (x == y) {
-                return new Pair<Integer, Integer>(-x - 1, -x - 1);
+                coords[0] = -x - 1;
+                coords[1] = -x - 1;
+                return;
             }
             if (x == -y) {
-                return new Pair<Integer, Integer>(-x, y + 1);
+                coords[0] = -x;
+                coords[1] = y + 1;
+                return;
             }
         }
         if (Math.abs(x) > Math.abs(y)) {
-            if (x < 0) {
-                return new Pair<Integer, Integer>(-x, y);
+            coords[0] = -x;
+            if (x >= 0) {
+                coords[1] = y + 1;
             }
-            return new Pair<Integer, Integer>(-x, y + 1);
+            return;
         }
-        return new Pair<Integer, Integer>(x + 1, y);
+        coords[0] = x + 1;
     }
 
 }
@@ -9,10 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
-import java.util.function.BiFunction;
-
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
@@ -47,12 +44,12 @@ import org.eclipse.elk.core.util.Pair;
  * {@code _ O _}</br>
  * </br>
  */
-public class SuccessorManhattan implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorManhattan implements ISuccessor {
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
-        int x = coords.getFirst();
-        int y = coords.getSecond();
+    public void advance(final int[] coords, final Polyomino poly) {
+        int x = coords[0];
+        int y = coords[1];
 
         int newX = x;
         int newY = y;
@@ -84,7 +81,8 @@ public class SuccessorManhattan implements BiFunction<Pair<Integer, Integer>, Po
             }
         }
 
-        return new Pair<Integer, Integer>(newX, newY);
+        coords[0] = newX;
+        coords[1] = newY;
     }
 
 }
@@ -9,10 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
-import java.util.function.BiFunction;
-
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
@@ -65,24 +62,23 @@ import org.eclipse.elk.core.util.Pair;
  * </br>
  */
 public class SuccessorMaxNormWindingInMathPosSense
-        implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+        implements ISuccessor {
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
-        int x = coords.getFirst();
-        int y = coords.getSecond();
+    public void advance(final int[] coords, final Polyomino poly) {
+        int x = coords[0];
+        int y = coords[1];
         int cost = Math.max(Math.abs(x), Math.abs(y));
         if (x < cost && y == -cost) {
-            return new Pair<Integer, Integer>(x + 1, y);
-        }
-        if (x == cost && y < cost) {
-            return new Pair<Integer, Integer>(x, y + 1);
-        }
-        if (x >= -cost && y == cost) {
-            return new Pair<Integer, Integer>(x - 1, y);
+            coords[0] = x + 1;
+        } else if (x == cost && y < cost) {
+            coords[1] = y + 1;
+        } else if (x >= -cost && y == cost) {
+            coords[0] = x - 1;
+        } else {
+            // x == -cost && y > -cost
+            coords[1] = y - 1;
         }
-        // if (x == -cost && y > -cost)
-        return new Pair<Integer, Integer>(x, y - 1);
     }
 
 }
@@ -10,19 +10,17 @@
 package org.eclipse.elk.alg.common.polyomino;
 
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.elk.alg.common.polyomino.structures.Direction;
 import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
 import org.eclipse.elk.alg.common.utils.UniqueTriple;
-import org.eclipse.elk.core.util.Pair;
 
 /**
  * <p>
  * Implements one way of computing the successor of a point (x', y') in ℕ x ℕ by modifying an existing way, given as an
- * instance of {@link BiFunction}. The modification is as follows.
+ * instance of {@link ISuccessor}. The modification is as follows.
  * </p>
  * 
  * <p>
@@ -62,26 +60,24 @@ import org.eclipse.elk.core.util.Pair;
  * case: polyomino has only NORTH and WEST extensions: only return values of the old function, if y<0, x<0.
  * </p>
  */
-public class SuccessorQuadrantsGeneric
-        implements BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> {
+public class SuccessorQuadrantsGeneric implements ISuccessor {
 
     private Polyomino lastPoly;
     private boolean posX, posY, negX, negY;
-    private BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> costFun;
+    private ISuccessor costFun;
 
     /**
      * Constructor for a function computing the successor of a point (x', y') in ℕ x ℕ by modifying an existing way,
-     * given as a {@link BiFunction}. Based on the directions the extensions of a polyomino are facing the number of
+     * given as an {@link ISuccessor}. Based on the directions the extensions of a polyomino are facing the number of
      * valid candidate positions are further restricted by only allowing certain quadrants of the underlying coordinate
      * system.
      */
-    public SuccessorQuadrantsGeneric(
-            final BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> costFun) {
+    public SuccessorQuadrantsGeneric(final ISuccessor costFun) {
         this.costFun = costFun;
     }
 
     @Override
-    public Pair<Integer, Integer> apply(final Pair<Integer, Integer> coords, final Polyomino poly) {
+    public void advance(final int[] coords, final Polyomino poly) {
         if (!poly.equals(lastPoly)) {
             lastPoly = poly;
             Function<UniqueTriple<Direction, Integer, Integer>, Direction> detectDirections =
@@ -114,38 +110,18 @@ public class SuccessorQuadrantsGeneric
 
         }
 
-        Pair<Integer, Integer> nextCoords = costFun.apply(coords, poly);
-
-        int newX = nextCoords.getFirst();
-        int newY = nextCoords.getSecond();
+        // Skip candidates outside of the allowed quadrants
+        do {
+            costFun.advance(coords, poly);
+        } while (!isAllowed(coords[0], coords[1]));
+    }
 
+    /**
+     * Returns whether a position lies in one of the quadrants allowed for the current polyomino.
+     */
+    private boolean isAllowed(final int x, final int y) {
         // (0,0) is part of the positive quadrant
-        boolean invalid = false;
-        if (newX < 0) {
-            if (!negX) {
-                invalid = true;
-            }
-        } else {
-            if (!posX) {
-                invalid = true;
-            }
-        }
-        if (newY < 0) {
-            if (!negY) {
-                invalid = true;
-            }
-        } else {
-            if (!posY) {
-                invalid = true;
-            }
-        }
-
-        if (invalid) {
-            return apply(nextCoords, poly);
-        } else {
-            return nextCoords;
-        }
-
+        return (x < 0 ? negX : posX) && (y < 0 ? negY : posY);
     }
 
 }
@@ -149,18 +149,7 @@ public class PlanarGrid extends TwoBitGrid {
      */
     public <G extends PlanarGrid> boolean intersectsWithCenterBased(final G other, final int xOffset,
             final int yOffset) {
-        for (int x = 0; x < other.getWidth(); x++) {
-            int xTranslated = x - other.getCenterX() + xOffset;
-            for (int y = 0; y < other.getHeight(); y++) {
-                int yTranslated = y - other.getCenterY() + yOffset;
-                if (this.inBoundsCenterBased(xTranslated, yTranslated)
-                        && ((!(other.isEmpty(x, y)) && this.isBlockedCenterBased(xTranslated, yTranslated))
-                                || (other.isBlocked(x, y) && !(this.isEmptyCenterBased(xTranslated, yTranslated))))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return intersects(other, xCenter - other.getCenterX() + xOffset, yCenter - other.getCenterY() + yOffset);
     }
 
     /**
@@ -364,6 +353,13 @@ public class PlanarGrid extends TwoBitGrid {
      */
     public boolean weaklyIntersectsArea(final int xUpperLeft, final int yUpperleft, final int xBottomRight,
             final int yBottomRight) {
+        if (xUpperLeft > xBottomRight || yUpperleft > yBottomRight) {
+            return false;
+        }
+        if (inBounds(xUpperLeft, yUpperleft) && inBounds(xBottomRight, yBottomRight)) {
+            return containsBlocked(xUpperLeft, yUpperleft, xBottomRight, yBottomRight);
+        }
+        // Areas reaching out of the grid are tested cell by cell, failing the same way they always have
         for (int yi = yUpperleft; yi <= yBottomRight; yi++) {
             for (int xi = xUpperLeft; xi <= xBottomRight; xi++) {
                 // Might throw IndexOutOfBoundsException
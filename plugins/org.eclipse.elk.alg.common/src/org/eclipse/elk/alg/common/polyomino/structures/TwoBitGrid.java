@@ -9,6 +9,8 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino.structures;
 
+import java.util.Arrays;
+
 /**
  * Basic data structure for representing a discrete ℕ x ℕ grid, albeit bounded by a given width and height. The data
  * structure is based on a two dimensional long array, making it possible to address each bit individually to save
@@ -26,6 +28,9 @@ public class TwoBitGrid implements IThreeValueGrid {
     private static final double HALF_WORD = 32.0;
     private static final int REST_MASK = 0x1F;
     private static final int RIGHT_SHIFT = 5; // 2^5 = 32
+    /** Mask of the least significant bit of each of the 32 cells in a word. */
+    private static final long LSBS_MASK = 0x5555555555555555L;
+    private static final int BITS_PER_WORD = 64;
 
     ///////////////////////////////////////////////////////////////////////////////
     // Variables
@@ -34,6 +39,12 @@ public class TwoBitGrid implements IThreeValueGrid {
     private long[][] grid;
     /** The dimensions of the current grid. */
     private int xSize, ySize;
+    /** Per row, the x-coordinates of its first and last blocked cell, or {@code xSize} and {@code -1} if none. */
+    private int[] firstBlockedInRow, lastBlockedInRow;
+    /** Per column, the y-coordinates of its first and last blocked cell, or {@code ySize} and {@code -1} if none. */
+    private int[] firstBlockedInColumn, lastBlockedInColumn;
+    /** Whether the first and last blocked cells are up to date, which they are unless blocked cells were cleared. */
+    private boolean blockedProfilesValid;
 
     ///////////////////////////////////////////////////////////////////////////////
     // Package private Constructors
@@ -57,6 +68,11 @@ public class TwoBitGrid implements IThreeValueGrid {
         grid = new long[height][(int) Math.ceil(width / HALF_WORD)];
         xSize = width;
         ySize = height;
+        firstBlockedInRow = new int[height];
+        lastBlockedInRow = new int[height];
+        firstBlockedInColumn = new int[width];
+        lastBlockedInColumn = new int[width];
+        clearBlockedProfiles();
     }
 
     ///////////////////////////////////////////////////////////////////////////////
@@ -112,6 +128,11 @@ public class TwoBitGrid implements IThreeValueGrid {
         grid = new long[height][(int) Math.ceil(width / HALF_WORD)];
         xSize = width;
         ySize = height;
+        firstBlockedInRow = new int[height];
+        lastBlockedInRow = new int[height];
+        firstBlockedInColumn = new int[width];
+        lastBlockedInColumn = new int[width];
+        clearBlockedProfiles();
 
     }
 
@@ -160,6 +181,110 @@ public class TwoBitGrid implements IThreeValueGrid {
         return output.substring(0, output.length() - 1);
     }
 
+    ///////////////////////////////////////////////////////////////////////////////
+    // Package private methods
+
+    /**
+     * Tests whether the filled cells of another grid intersect with the cells of this grid if the other grid's upper
+     * left corner is placed on cell (xOffset, yOffset) of this grid. Weakly blocked cells may overlap each other, while
+     * blocked cells intersect with blocked and weakly blocked cells. Cells of the other grid that come to lie outside
+     * of this grid are ignored. Instead of testing one cell at a time, whole words of 32 cells are compared at once.
+     * 
+     * @param other
+     *            Other grid to be tested for intersection with this grid
+     * @param xOffset
+     *            X-coordinate of the cell of this grid the other grid's upper left corner is placed upon
+     * @param yOffset
+     *            Y-coordinate of the cell of this grid the other grid's upper left corner is placed upon
+     * @return true: both grids overlap/intersect with each other; false: otherwise
+     */
+    boolean intersects(final TwoBitGrid other, final int xOffset, final int yOffset) {
+        int yStart = Math.max(0, -yOffset);
+        int yEnd = Math.min(other.ySize, ySize - yOffset);
+        for (int y = yStart; y < yEnd; y++) {
+            long[] otherRow = other.grid[y];
+            long[] thisRow = grid[y + yOffset];
+            for (int xWord = 0; xWord < otherRow.length; xWord++) {
+                long otherCells = otherRow[xWord];
+                if (otherCells == EMPTY) {
+                    continue;
+                }
+                // The cells of this grid covered by the other grid's word
+                long thisCells = cellsFrom(thisRow, (xWord << RIGHT_SHIFT) + xOffset);
+
+                // Per cell, the least significant bit tells whether it is blocked or non-empty, respectively
+                long otherBlocked = otherCells & LSBS_MASK;
+                long otherNonEmpty = (otherCells | (otherCells >>> 1)) & LSBS_MASK;
+                long thisBlocked = thisCells & LSBS_MASK;
+                long thisNonEmpty = (thisCells | (thisCells >>> 1)) & LSBS_MASK;
+                if (((otherNonEmpty & thisBlocked) | (otherBlocked & thisNonEmpty)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a given rectangular area contains at least one blocked cell. Areas reaching to a side of the grid
+     * are tested by looking up the first or last blocked cell of each of their columns or rows, all other areas by
+     * testing whole words of 32 cells at once. Both corners have to be inside the grid.
+     * 
+     * @param xUpperLeft
+     *            x-coordinate of upper left corner
+     * @param yUpperLeft
+     *            y-coordinate of upper left corner
+     * @param xBottomRight
+     *            x-coordinate of bottom right corner
+     * @param yBottomRight
+     *            y-coordinate of bottom right corner
+     * @return true, area contains blocked cell(s), false, otherwise
+     */
+    boolean containsBlocked(final int xUpperLeft, final int yUpperLeft, final int xBottomRight,
+            final int yBottomRight) {
+        if (!blockedProfilesValid) {
+            computeBlockedProfiles();
+        }
+        if (yUpperLeft == 0 || yBottomRight == ySize - 1) {
+            for (int x = xUpperLeft; x <= xBottomRight; x++) {
+                if (yUpperLeft == 0 ? firstBlockedInColumn[x] <= yBottomRight
+                        : lastBlockedInColumn[x] >= yUpperLeft) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (xUpperLeft == 0 || xBottomRight == xSize - 1) {
+            for (int y = yUpperLeft; y <= yBottomRight; y++) {
+                if (xUpperLeft == 0 ? firstBlockedInRow[y] <= xBottomRight : lastBlockedInRow[y] >= xUpperLeft) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int firstWord = xUpperLeft >> RIGHT_SHIFT;
+        int lastWord = xBottomRight >> RIGHT_SHIFT;
+        long firstMask = LSBS_MASK & (-1L << ((xUpperLeft & REST_MASK) << 1));
+        long lastMask = LSBS_MASK & (-1L >>> (BITS_PER_WORD - 2 - ((xBottomRight & REST_MASK) << 1)));
+        for (int y = yUpperLeft; y <= yBottomRight; y++) {
+            long[] row = grid[y];
+            for (int xWord = firstWord; xWord <= lastWord; xWord++) {
+                long mask = LSBS_MASK;
+                if (xWord == firstWord) {
+                    mask &= firstMask;
+                }
+                if (xWord == lastWord) {
+                    mask &= lastMask;
+                }
+                if ((row[xWord] & mask) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     ///////////////////////////////////////////////////////////////////////////////
     // Private methods
 
@@ -206,7 +331,12 @@ public class TwoBitGrid implements IThreeValueGrid {
             long mask = LSB_MASK << (xRest << 1);
             if (lsb) {
                 grid[y][xWord] = grid[y][xWord] | mask;
+                addToBlockedProfiles(x, y);
             } else {
+                if ((grid[y][xWord] & mask) != 0) {
+                    // A blocked cell is cleared, which may change its row's and column's first or last blocked cell
+                    blockedProfilesValid = false;
+                }
                 grid[y][xWord] = grid[y][xWord] & ~mask;
             }
             mask <<= 1;
@@ -222,6 +352,65 @@ public class TwoBitGrid implements IThreeValueGrid {
         }
     }
 
+    /**
+     * Returns a word holding the 32 cells of a row starting at the given cell, which may lie anywhere. Cells outside
+     * of the row are empty.
+     * 
+     * @param row
+     *            the row's words
+     * @param firstCell
+     *            the x-coordinate of the cell to become the word's first cell
+     * @return the cells firstCell to firstCell + 31 of the row
+     */
+    private static long cellsFrom(final long[] row, final int firstCell) {
+        int xWord = firstCell >> RIGHT_SHIFT;
+        int shift = (firstCell & REST_MASK) << 1;
+        long low = xWord >= 0 && xWord < row.length ? row[xWord] : EMPTY;
+        if (shift == 0) {
+            return low;
+        }
+        long high = xWord + 1 >= 0 && xWord + 1 < row.length ? row[xWord + 1] : EMPTY;
+        return (low >>> shift) | (high << (BITS_PER_WORD - shift));
+    }
+
+    /**
+     * Resets the first and last blocked cells of all rows and columns to those of an empty grid.
+     */
+    private void clearBlockedProfiles() {
+        Arrays.fill(firstBlockedInRow, xSize);
+        Arrays.fill(lastBlockedInRow, -1);
+        Arrays.fill(firstBlockedInColumn, ySize);
+        Arrays.fill(lastBlockedInColumn, -1);
+        blockedProfilesValid = true;
+    }
+
+    /**
+     * Updates the first and last blocked cells of a row and a column with a cell that has just been blocked.
+     */
+    private void addToBlockedProfiles(final int x, final int y) {
+        firstBlockedInRow[y] = Math.min(firstBlockedInRow[y], x);
+        lastBlockedInRow[y] = Math.max(lastBlockedInRow[y], x);
+        firstBlockedInColumn[x] = Math.min(firstBlockedInColumn[x], y);
+        lastBlockedInColumn[x] = Math.max(lastBlockedInColumn[x], y);
+    }
+
+    /**
+     * Recomputes the first and last blocked cells of all rows and columns from scratch.
+     */
+    private void computeBlockedProfiles() {
+        clearBlockedProfiles();
+        for (int y = 0; y < ySize; y++) {
+            for (int xWord = 0; xWord < grid[y].length; xWord++) {
+                long blocked = grid[y][xWord] & LSBS_MASK;
+                while (blocked != 0) {
+                    addToBlockedProfiles((xWord << RIGHT_SHIFT) + (Long.numberOfTrailingZeros(blocked) >> 1), y);
+                    // Clear the lowest blocked cell
+                    blocked &= blocked - 1;
+                }
+            }
+        }
+    }
+
     /**
      * Increments a number by 1 if it is between 0 and 8, returns 0 otherwise.
      * 
@@ -9,8 +9,11 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.force.model;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import org.eclipse.elk.alg.force.graph.FBendpoint;
 import org.eclipse.elk.alg.force.graph.FEdge;
@@ -20,6 +23,7 @@ import org.eclipse.elk.alg.force.graph.FNode;
 import org.eclipse.elk.alg.force.graph.FParticle;
 import org.eclipse.elk.alg.force.options.ForceOptions;
 import org.eclipse.elk.alg.force.options.InternalProperties;
+import org.eclipse.elk.alg.force.options.RepulsionApproximation;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 
@@ -109,16 +113,25 @@ public abstract class AbstractForceModel {
         initialize(fgraph);
         int iterations = 0;
         
+        boolean barnesHut = supportsApproximateRepulsion()
+                && fgraph.getProperty(ForceOptions.REPULSION_APPROXIMATION) == RepulsionApproximation.BARNES_HUT;
+        double theta = fgraph.getProperty(ForceOptions.BARNES_HUT_THETA);
+        List<FParticle[]> connectedPairs = barnesHut ? connectedPairs(fgraph) : null;
+        
         while (moreIterations(iterations) && !monitor.isCanceled()) {
 
             iterationDone();
-            // calculate attractive and repulsive forces
-            for (FParticle v : fgraph.getParticles()) {
-                for (FParticle u : fgraph.getParticles()) {
-                    if (u != v) {
-                        KVector displacement = calcDisplacement(u, v);
-                        if (displacement != null) {
-                            v.getDisplacement().add(displacement);
+            if (barnesHut) {
+                calcApproximateDisplacements(fgraph, theta, connectedPairs);
+            } else {
+                // calculate attractive and repulsive forces
+                for (FParticle v : fgraph.getParticles()) {
+                    for (FParticle u : fgraph.getParticles()) {
+                        if (u != v) {
+                            KVector displacement = calcDisplacement(u, v);
+                            if (displacement != null) {
+                                v.getDisplacement().add(displacement);
+                            }
                         }
                     }
                 }
@@ -136,6 +149,75 @@ public abstract class AbstractForceModel {
         monitor.done();
     }
     
+    /**
+     * Calculate the displacements of all particles, approximating repulsive forces with a quadtree. Since the
+     * approximation treats all pairs of particles alike, pairs of connected particles are corrected afterwards to
+     * experience the force computed by {@link #calcDisplacement(FParticle, FParticle)}.
+     * 
+     * @param fgraph a force graph
+     * @param theta the accuracy parameter of the Barnes-Hut approximation
+     * @param connectedPairs pairs of particles with a non-zero connection
+     */
+    private void calcApproximateDisplacements(final FGraph fgraph, final double theta,
+            final List<FParticle[]> connectedPairs) {
+        
+        List<FParticle> particles = new ArrayList<>();
+        fgraph.getParticles().forEach(particles::add);
+        
+        ParticleQuadtree quadtree = new ParticleQuadtree(particles);
+        for (FParticle v : particles) {
+            quadtree.addRepulsion(v, theta, this);
+        }
+        
+        for (FParticle[] pair : connectedPairs) {
+            correctConnectedDisplacement(pair[0], pair[1]);
+            correctConnectedDisplacement(pair[1], pair[0]);
+        }
+    }
+    
+    /**
+     * Replace the repulsive force the forcer exerts on the forcee by the actual force between the two.
+     */
+    private void correctConnectedDisplacement(final FParticle forcer, final FParticle forcee) {
+        KVector displacement = calcDisplacement(forcer, forcee);
+        if (displacement != null) {
+            forcee.getDisplacement().add(displacement);
+        }
+        KVector repulsion = calcRepulsion(forcer.getPosition(), forcer.getRadius(),
+                forcer.getProperty(ForceOptions.PRIORITY), forcee);
+        if (repulsion != null) {
+            forcee.getDisplacement().sub(repulsion);
+        }
+    }
+    
+    /**
+     * Collect all pairs of particles for which {@link FGraph#getConnection(FParticle, FParticle)} may be non-zero:
+     * nodes connected by an edge, and bend points of the same edge. Each pair is only contained once.
+     */
+    private static List<FParticle[]> connectedPairs(final FGraph fgraph) {
+        List<FParticle[]> pairs = new ArrayList<>();
+        Set<Long> connectedNodes = new HashSet<>();
+        long n = fgraph.getNodes().size();
+        
+        for (FEdge edge : fgraph.getEdges()) {
+            FNode source = edge.getSource();
+            FNode target = edge.getTarget();
+            long key = Math.min(source.id, target.id) * n + Math.max(source.id, target.id);
+            if (source != target && connectedNodes.add(key)) {
+                pairs.add(new FParticle[] { source, target });
+            }
+            
+            List<FBendpoint> bends = edge.getBendpoints();
+            for (int i = 0; i < bends.size(); i++) {
+                for (int j = i + 1; j < bends.size(); j++) {
+                    pairs.add(new FParticle[] { bends.get(i), bends.get(j) });
+                }
+            }
+        }
+        
+        return pairs;
+    }
+    
     /**
      * Perform all necessary calculations after a full iteration. Subclasses must call
      * the superclass method first.
@@ -169,6 +251,32 @@ public abstract class AbstractForceModel {
      */
     protected abstract KVector calcDisplacement(FParticle forcer, FParticle forcee);
     
+    /**
+     * Whether this model implements {@link #calcRepulsion(KVector, double, double, FParticle)} and can thus
+     * approximate repulsive forces. Models that cannot do so always compute forces exactly.
+     * 
+     * @return {@code true} if repulsive forces can be approximated
+     */
+    protected boolean supportsApproximateRepulsion() {
+        return false;
+    }
+    
+    /**
+     * Calculate the repulsive displacement a particle, or a group of particles, exerts on the given particle if
+     * the two are not connected. Used to approximate repulsive forces if
+     * {@link #supportsApproximateRepulsion()} returns {@code true}.
+     * 
+     * @param forcerPosition position of the particle causing the force, or the center of the group
+     * @param forcerRadius radius of the particle causing the force, or the mean radius of the group
+     * @param forcerCharge priority of the particle causing the force, or the sum of priorities of the group
+     * @param forcee the particle that is affected by the force
+     * @return a displacement vector for the forcee, or {@code null} if no force is applied
+     */
+    protected KVector calcRepulsion(final KVector forcerPosition, final double forcerRadius,
+            final double forcerCharge, final FParticle forcee) {
+        return null;
+    }
+    
     /**
      * Avoid having nodes on the same position by moving them a little.
      * 
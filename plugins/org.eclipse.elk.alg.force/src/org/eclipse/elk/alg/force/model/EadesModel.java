@@ -68,6 +68,22 @@ public final class EadesModel extends AbstractForceModel {
         return displacement;
     }
     
+    @Override
+    protected boolean supportsApproximateRepulsion() {
+        return true;
+    }
+    
+    @Override
+    protected KVector calcRepulsion(final KVector forcerPosition, final double forcerRadius,
+            final double forcerCharge, final FParticle forcee) {
+        
+        KVector displacement = forcee.getPosition().clone().sub(forcerPosition);
+        double length = displacement.length();
+        double d = Math.max(0, length - forcerRadius - forcee.getRadius());
+        double force = repulsive(d, repulsionFactor) * forcerCharge;
+        return displacement.scale(force / length);
+    }
+    
     /**
      * Compute repulsion force between the forcee and the forcer.
      *
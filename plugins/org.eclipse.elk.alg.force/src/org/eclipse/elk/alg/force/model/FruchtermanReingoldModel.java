@@ -84,6 +84,22 @@ public final class FruchtermanReingoldModel extends AbstractForceModel {
         return displacement;
     }
     
+    @Override
+    protected boolean supportsApproximateRepulsion() {
+        return true;
+    }
+    
+    @Override
+    protected KVector calcRepulsion(final KVector forcerPosition, final double forcerRadius,
+            final double forcerCharge, final FParticle forcee) {
+        
+        KVector displacement = forcee.getPosition().clone().sub(forcerPosition);
+        double length = displacement.length();
+        double d = Math.max(0, length - forcerRadius - forcee.getRadius());
+        double force = repulsive(d, k) * forcerCharge;
+        return displacement.scale(force * temperature / length);
+    }
+    
     @Override
     protected void iterationDone() {
         super.iterationDone();
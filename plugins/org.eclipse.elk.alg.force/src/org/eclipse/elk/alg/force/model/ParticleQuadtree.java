@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.force.graph.FParticle;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.core.math.KVector;
+
+/**
+ * A quadtree over the positions of a set of particles, used to approximate repulsive forces as proposed by
+ * Barnes and Hut. Each cell of the tree knows the number of particles it contains, their center, their mean radius,
+ * and their total charge, which is the sum of their priorities. Far-away cells can thus be treated as a single
+ * particle.
+ *
+ * <p>The tree is a snapshot of the particle positions at the time it is built and is meant to be rebuilt for every
+ * iteration of a force model.</p>
+ */
+final class ParticleQuadtree {
+
+    /** cells at this depth are not split any further, which prevents endless splitting for coinciding particles. */
+    private static final int MAX_DEPTH = 32;
+
+    /** the root cell, or {@code null} if there are no particles. */
+    private final Cell root;
+
+    /**
+     * Builds a quadtree for the given particles.
+     *
+     * @param particles the particles to insert.
+     */
+    ParticleQuadtree(final List<FParticle> particles) {
+        if (particles.isEmpty()) {
+            root = null;
+            return;
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (FParticle particle : particles) {
+            KVector pos = particle.getPosition();
+            minX = Math.min(minX, pos.x);
+            minY = Math.min(minY, pos.y);
+            maxX = Math.max(maxX, pos.x);
+            maxY = Math.max(maxY, pos.y);
+        }
+
+        // The root cell is a square; enlarge it slightly so that no particle lies on its far border
+        double size = Math.max(Math.max(maxX - minX, maxY - minY), 1) * (1 + 1e-9);
+        root = new Cell(minX, minY, size);
+        for (FParticle particle : particles) {
+            insert(root, particle, 0);
+        }
+    }
+
+    private void insert(final Cell cell, final FParticle particle, final int depth) {
+        cell.add(particle);
+
+        if (cell.children == null) {
+            if (cell.particles.isEmpty() || depth >= MAX_DEPTH) {
+                cell.particles.add(particle);
+                return;
+            }
+
+            // The leaf is occupied, so split it and move its particles down
+            cell.split();
+            for (FParticle contained : cell.particles) {
+                insert(cell.childFor(contained.getPosition()), contained, depth + 1);
+            }
+            cell.particles.clear();
+        }
+        insert(cell.childFor(particle.getPosition()), particle, depth + 1);
+    }
+
+    /**
+     * Adds the repulsive forces that all particles in the tree exert on the given particle to its displacement.
+     * Particles are grouped if the extent of their cell divided by their distance to the forcee is less than
+     * {@code theta}.
+     *
+     * @param forcee the particle affected by the forces.
+     * @param theta the accuracy parameter of the approximation.
+     * @param model the force model that computes the actual forces.
+     */
+    void addRepulsion(final FParticle forcee, final double theta, final AbstractForceModel model) {
+        if (root != null) {
+            addRepulsion(root, forcee, theta, model);
+        }
+    }
+
+    private void addRepulsion(final Cell cell, final FParticle forcee, final double theta,
+            final AbstractForceModel model) {
+
+        KVector displacement = forcee.getDisplacement();
+        if (cell.children == null) {
+            // Leaves are evaluated exactly
+            for (FParticle forcer : cell.particles) {
+                if (forcer != forcee) {
+                    AbstractForceModel.avoidSamePosition(model.getRandom(), forcer, forcee);
+                    addNonNull(displacement, model.calcRepulsion(forcer.getPosition(), forcer.getRadius(),
+                            forcer.getProperty(ForceOptions.PRIORITY), forcee));
+                }
+            }
+            return;
+        }
+
+        KVector pos = forcee.getPosition();
+        double centerX = cell.sumX / cell.count;
+        double centerY = cell.sumY / cell.count;
+        double dx = pos.x - centerX;
+        double dy = pos.y - centerY;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (!cell.contains(pos) && cell.size < theta * distance) {
+            addNonNull(displacement, model.calcRepulsion(new KVector(centerX, centerY),
+                    cell.radiusSum / cell.count, cell.charge, forcee));
+        } else {
+            for (Cell child : cell.children) {
+                if (child.count > 0) {
+                    addRepulsion(child, forcee, theta, model);
+                }
+            }
+        }
+    }
+
+    private static void addNonNull(final KVector displacement, final KVector force) {
+        if (force != null) {
+            displacement.add(force);
+        }
+    }
+
+    /**
+     * A square cell of the quadtree.
+     */
+    private static final class Cell {
+        /** left border. */
+        private final double minX;
+        /** top border. */
+        private final double minY;
+        /** width and height. */
+        private final double size;
+        /** number of particles in this cell and its children. */
+        private int count;
+        /** sum of the particles' x coordinates. */
+        private double sumX;
+        /** sum of the particles' y coordinates. */
+        private double sumY;
+        /** sum of the particles' radii. */
+        private double radiusSum;
+        /** sum of the particles' priorities. */
+        private double charge;
+        /** the four child cells, or {@code null} for a leaf. */
+        private Cell[] children;
+        /** the particles stored in a leaf. */
+        private final List<FParticle> particles = new ArrayList<>(1);
+
+        Cell(final double minX, final double minY, final double size) {
+            this.minX = minX;
+            this.minY = minY;
+            this.size = size;
+        }
+
+        void add(final FParticle particle) {
+            KVector pos = particle.getPosition();
+            count++;
+            sumX += pos.x;
+            sumY += pos.y;
+            radiusSum += particle.getRadius();
+            charge += particle.getProperty(ForceOptions.PRIORITY);
+        }
+
+        void split() {
+            double half = size / 2;
+            children = new Cell[] {
+                new Cell(minX, minY, half),
+                new Cell(minX + half, minY, half),
+                new Cell(minX, minY + half, half),
+                new Cell(minX + half, minY + half, half)
+            };
+        }
+
+        Cell childFor(final KVector pos) {
+            double half = size / 2;
+            int index = (pos.x >= minX + half ? 1 : 0) + (pos.y >= minY + half ? 2 : 0);
+            return children[index];
+        }
+
+        boolean contains(final KVector pos) {
+            return pos.x >= minX && pos.x <= minX + size && pos.y >= minY && pos.y <= minY + size;
+        }
+    }
+
+}
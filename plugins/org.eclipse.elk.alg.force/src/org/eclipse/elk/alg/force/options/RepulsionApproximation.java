@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.options;
+
+/**
+ * Enumeration of the ways force models can compute repulsive forces between particles.
+ */
+public enum RepulsionApproximation {
+    
+    /** compute the repulsive force between every pair of particles, which takes quadratic time per iteration. */
+    EXACT,
+    /**
+     * approximate the repulsive forces of far-away groups of particles using a quadtree, which takes
+     * O(n log n) time per iteration.
+     */
+    BARNES_HUT;
+
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.options;
+
+/**
+ * Enumeration of available stress models.
+ */
+public enum StressModelStrategy {
+    
+    /**
+     * the full stress model, which considers the graph-theoretic distances of all pairs of nodes. Requires memory and
+     * time per iteration quadratic in the number of nodes.
+     */
+    FULL,
+    /**
+     * the sparse stress model, which considers the distances of adjacent nodes and the distances of all nodes to a
+     * fixed number of pivot nodes. Requires memory and time per iteration linear in the number of nodes and edges.
+     */
+    SPARSE;
+
+}
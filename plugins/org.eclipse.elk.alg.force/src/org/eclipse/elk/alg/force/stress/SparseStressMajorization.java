@@ -0,0 +1,624 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.stress;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.graph.FEdge;
+import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.graph.FNode;
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressMajorization.Dimension;
+
+/**
+ * Implementation of the sparse stress model as described by Ortmann, Klimenta, and Brandes, initialized with a pivot
+ * MDS layout as described by Brandes and Pich.
+ * <ul><li>
+ * Mark Ortmann, Mirza Klimenta, and Ulrik Brandes. A sparse stress model. <em>Graph Drawing</em>, 2016.
+ * </li><li>
+ * Ulrik Brandes and Christian Pich. Eigensolver methods for progressive multidimensional scaling of large data.
+ * <em>Graph Drawing</em>, 2006.
+ * </li></ul>
+ *
+ * Instead of the shortest path distances of all pairs of nodes, the stress of a node only considers its adjacent
+ * nodes and a fixed number of pivot nodes, which are chosen to be far apart. Each node is assigned to its closest
+ * pivot, and the term between a node and a pivot is weighted by the number of nodes the pivot represents. Memory and
+ * time per iteration are thus linear in the number of nodes and edges, times the number of pivots.
+ *
+ * <p>Just as {@link StressMajorization}, the implementation supports one-dimensional layouts and fixed nodes.</p>
+ */
+public class SparseStressMajorization {
+
+    /** The graph do be laid out, should be connected. */
+    private FGraph graph;
+    /** Number of nodes of the graph. */
+    private int n;
+
+    /** Common desired edge length, can be overridden by individual edges. */
+    private double desiredEdgeLength;
+    /** Dimensions to consider during layout. */
+    private Dimension dim;
+    /** Epsilon for terminating the stress minimizing process. */
+    private double epsilon;
+    /** Maximum number of iterations (overrides the {@link #epsilon}). */
+    private int iterationLimit;
+
+    /** Adjacent nodes of node {@code i} are stored at indices {@code adjStart[i]} to {@code adjStart[i + 1] - 1}. */
+    private int[] adjStart;
+    /** Adjacent nodes, without duplicates. */
+    private int[] adjTarget;
+    /** Desired lengths of the edges to adjacent nodes. */
+    private double[] adjLength;
+
+    /** Ids of the pivot nodes. */
+    private int[] pivots;
+    /** Shortest path distances of each pivot to all nodes, indexed by pivot and node. */
+    private double[][] pivotDist;
+    /** Weights of the terms between each pivot and all nodes, indexed by pivot and node; zero if there is none. */
+    private double[][] pivotWeight;
+
+    /** Current x coordinates. */
+    private double[] x;
+    /** Current y coordinates. */
+    private double[] y;
+    /** Whether a node must not be moved. */
+    private boolean[] fixed;
+
+    /**
+     * Initialize all internal structures that are required for the subsequent iterative procedure. Unless the graph
+     * is laid out interactively, this also computes initial coordinates.
+     *
+     * @param fgraph the graph to be laid out.
+     */
+    public void initialize(final FGraph fgraph) {
+        this.graph = fgraph;
+        this.n = fgraph.getNodes().size();
+        if (n <= 1) {
+            return;
+        }
+
+        this.dim = graph.getProperty(StressOptions.DIMENSION);
+        this.iterationLimit = graph.getProperty(StressOptions.ITERATION_LIMIT);
+        this.epsilon = graph.getProperty(StressOptions.EPSILON);
+        this.desiredEdgeLength = graph.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+
+        x = new double[n];
+        y = new double[n];
+        fixed = new boolean[n];
+        for (FNode node : graph.getNodes()) {
+            x[node.id] = node.getPosition().x;
+            y[node.id] = node.getPosition().y;
+            fixed[node.id] = node.getProperty(StressOptions.FIXED);
+        }
+
+        buildAdjacency();
+        selectPivots(Math.min(graph.getProperty(StressOptions.PIVOTS), n));
+        computePivotWeights();
+
+        if (!graph.getProperty(StressOptions.INTERACTIVE)) {
+            pivotMds();
+        }
+    }
+
+    /**
+     * Execute the stress-minimizing iteration until a termination criterion is reached.
+     */
+    public void execute() {
+        if (n <= 1) {
+            return;
+        }
+
+        int count = 0;
+        double prevStress = computeStress();
+        double curStress = Double.POSITIVE_INFINITY;
+
+        do {
+            if (count > 0) {
+                prevStress = curStress;
+            }
+
+            for (FNode u : graph.getNodes()) {
+                if (!fixed[u.id]) {
+                    updatePosition(u.id);
+                }
+            }
+
+            curStress = computeStress();
+
+        } while (!done(count++, prevStress, curStress));
+
+        for (FNode node : graph.getNodes()) {
+            node.getPosition().set(x[node.id], y[node.id]);
+        }
+    }
+
+    // /////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Initialization
+
+    /**
+     * Stores the adjacency of the graph in arrays. Of multiple edges between the same pair of nodes, the shortest
+     * one is kept. Self loops are ignored.
+     */
+    private void buildAdjacency() {
+        int[] degree = new int[n + 1];
+        for (FEdge edge : graph.getEdges()) {
+            if (edge.getSource() != edge.getTarget()) {
+                degree[edge.getSource().id]++;
+                degree[edge.getTarget().id]++;
+            }
+        }
+
+        int[] start = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            start[i + 1] = start[i] + degree[i];
+        }
+        int[] target = new int[start[n]];
+        double[] length = new double[start[n]];
+        int[] next = Arrays.copyOf(start, n);
+        for (FEdge edge : graph.getEdges()) {
+            int s = edge.getSource().id;
+            int t = edge.getTarget().id;
+            if (s != t) {
+                double l = edgeLength(edge);
+                target[next[s]] = t;
+                length[next[s]++] = l;
+                target[next[t]] = s;
+                length[next[t]++] = l;
+            }
+        }
+
+        // Remove duplicates, keeping the shortest length
+        int[] position = new int[n];
+        Arrays.fill(position, -1);
+        adjStart = new int[n + 1];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            adjStart[i] = size;
+            for (int e = start[i]; e < start[i + 1]; e++) {
+                int t = target[e];
+                if (position[t] >= adjStart[i]) {
+                    length[position[t]] = Math.min(length[position[t]], length[e]);
+                } else {
+                    position[t] = size;
+                    target[size] = t;
+                    length[size++] = length[e];
+                }
+            }
+        }
+        adjStart[n] = size;
+        adjTarget = Arrays.copyOf(target, size);
+        adjLength = Arrays.copyOf(length, size);
+    }
+
+    private double edgeLength(final FEdge edge) {
+        if (edge.hasProperty(StressOptions.DESIRED_EDGE_LENGTH)) {
+            return edge.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+        } else {
+            return desiredEdgeLength;
+        }
+    }
+
+    /**
+     * Selects pivots using the max/min strategy: starting with the node of highest degree, the next pivot is always
+     * the node farthest away from all pivots selected so far.
+     */
+    private void selectPivots(final int count) {
+        pivots = new int[count];
+        pivotDist = new double[count][];
+        boolean[] isPivot = new boolean[n];
+        double[] minDist = new double[n];
+        Arrays.fill(minDist, Double.POSITIVE_INFINITY);
+
+        int pivot = 0;
+        for (int i = 1; i < n; i++) {
+            if (adjStart[i + 1] - adjStart[i] > adjStart[pivot + 1] - adjStart[pivot]) {
+                pivot = i;
+            }
+        }
+
+        for (int p = 0; p < count; p++) {
+            pivots[p] = pivot;
+            isPivot[pivot] = true;
+            pivotDist[p] = dijkstra(pivot);
+
+            int farthest = -1;
+            for (int i = 0; i < n; i++) {
+                minDist[i] = Math.min(minDist[i], pivotDist[p][i]);
+                if (!isPivot[i] && (farthest < 0 || minDist[i] > minDist[farthest])) {
+                    farthest = i;
+                }
+            }
+            pivot = farthest;
+        }
+    }
+
+    /**
+     * Computes the shortest path distances from the given node to all other nodes. Unreachable nodes have an
+     * infinite distance.
+     */
+    private double[] dijkstra(final int source) {
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[source] = 0;
+
+        // Queue entries are (distance, node) pairs; outdated entries are skipped when polled
+        PriorityQueue<double[]> queue = new PriorityQueue<>((e1, e2) -> Double.compare(e1[0], e2[0]));
+        queue.add(new double[] { 0, source });
+        while (!queue.isEmpty()) {
+            double[] entry = queue.poll();
+            int u = (int) entry[1];
+            if (entry[0] > dist[u]) {
+                continue;
+            }
+            for (int e = adjStart[u]; e < adjStart[u + 1]; e++) {
+                int v = adjTarget[e];
+                double d = dist[u] + adjLength[e];
+                if (d < dist[v]) {
+                    dist[v] = d;
+                    queue.add(new double[] { d, v });
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Assigns each node to its closest pivot and weights the term between a node {@code i} and a pivot {@code p} by
+     * the number of nodes assigned to {@code p} that are at most half as far away from {@code p} as {@code i} is.
+     * Pivots adjacent to a node are already covered by the node's adjacency and get no additional term.
+     */
+    private void computePivotWeights() {
+        int k = pivots.length;
+
+        // Distances of the nodes assigned to each pivot, in ascending order
+        int[] regionSize = new int[k];
+        int[] region = new int[n];
+        for (int i = 0; i < n; i++) {
+            int closest = 0;
+            for (int p = 1; p < k; p++) {
+                if (pivotDist[p][i] < pivotDist[closest][i]) {
+                    closest = p;
+                }
+            }
+            region[i] = closest;
+            regionSize[closest]++;
+        }
+        double[][] regionDist = new double[k][];
+        for (int p = 0; p < k; p++) {
+            regionDist[p] = new double[regionSize[p]];
+            regionSize[p] = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            int p = region[i];
+            regionDist[p][regionSize[p]++] = pivotDist[p][i];
+        }
+
+        int[] adjacentStamp = new int[n];
+        Arrays.fill(adjacentStamp, -1);
+        pivotWeight = new double[k][n];
+        for (int p = 0; p < k; p++) {
+            Arrays.sort(regionDist[p]);
+            int pivot = pivots[p];
+            for (int e = adjStart[pivot]; e < adjStart[pivot + 1]; e++) {
+                adjacentStamp[adjTarget[e]] = p;
+            }
+
+            for (int i = 0; i < n; i++) {
+                double d = pivotDist[p][i];
+                if (i != pivot && adjacentStamp[i] != p && d > 0 && d < Double.POSITIVE_INFINITY) {
+                    int represented = countAtMost(regionDist[p], d / 2);
+                    pivotWeight[p][i] = represented / (d * d);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the sorted array that are less than or equal to the given bound.
+     */
+    private static int countAtMost(final double[] sorted, final double bound) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Computes initial coordinates using pivot MDS. The coordinates are the projections of the double-centered
+     * matrix of squared pivot distances onto its two dominant eigenvectors, scaled to match the desired edge
+     * lengths as closely as possible.
+     */
+    private void pivotMds() {
+        int k = pivots.length;
+
+        // Double centering of the squared distances; unreachable nodes are treated as being far away
+        double maxDist = 0;
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                if (pivotDist[p][i] < Double.POSITIVE_INFINITY) {
+                    maxDist = Math.max(maxDist, pivotDist[p][i]);
+                }
+            }
+        }
+        double[][] c = new double[k][n];
+        double[] rowMean = new double[n];
+        double[] colMean = new double[k];
+        double totalMean = 0;
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                double d = Math.min(pivotDist[p][i], maxDist + desiredEdgeLength);
+                c[p][i] = d * d;
+                rowMean[i] += c[p][i] / k;
+                colMean[p] += c[p][i] / n;
+            }
+            totalMean += colMean[p] / k;
+        }
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                c[p][i] = -(c[p][i] - rowMean[i] - colMean[p] + totalMean) / 2;
+            }
+        }
+
+        // Dominant eigenvectors of C^T C, a k x k matrix
+        double[][] ctc = new double[k][k];
+        for (int p = 0; p < k; p++) {
+            for (int q = p; q < k; q++) {
+                double sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum += c[p][i] * c[q][i];
+                }
+                ctc[p][q] = sum;
+                ctc[q][p] = sum;
+            }
+        }
+        double[] first = dominantEigenvector(ctc, null);
+        double[] second = dominantEigenvector(ctc, first);
+
+        double[] newX = project(c, first);
+        double[] newY = project(c, second);
+        if (dim == Dimension.Y) {
+            newY = newX;
+        }
+
+        // Fall back to random coordinates in dimensions the projection cannot separate nodes in
+        Random random = new Random(1);
+        double extent = Math.sqrt(n) * desiredEdgeLength;
+        for (double[] coordinates : new double[][] { newX, newY }) {
+            if (isDegenerate(coordinates)) {
+                for (int i = 0; i < n; i++) {
+                    coordinates[i] = random.nextDouble() * extent;
+                }
+            }
+        }
+
+        // Scale the layout such that edge lengths match their desired lengths best
+        double numerator = 0;
+        double denominator = 0;
+        for (int i = 0; i < n; i++) {
+            for (int e = adjStart[i]; e < adjStart[i + 1]; e++) {
+                int j = adjTarget[e];
+                double dx = dim == Dimension.Y ? 0 : newX[i] - newX[j];
+                double dy = dim == Dimension.X ? 0 : newY[i] - newY[j];
+                double eucDist = Math.sqrt(dx * dx + dy * dy);
+                numerator += adjLength[e] * eucDist;
+                denominator += eucDist * eucDist;
+            }
+        }
+        double scale = denominator > 0 ? numerator / denominator : 1;
+
+        for (int i = 0; i < n; i++) {
+            if (!fixed[i]) {
+                if (dim != Dimension.Y) {
+                    x[i] = newX[i] * scale;
+                }
+                if (dim != Dimension.X) {
+                    y[i] = newY[i] * scale;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the dominant eigenvector of the given symmetric matrix using power iteration. If an orthogonal vector
+     * is given, the eigenvector is restricted to the space orthogonal to it.
+     */
+    private static double[] dominantEigenvector(final double[][] matrix, final double[] orthogonalTo) {
+        final int maxIterations = 100;
+        final double tolerance = 1e-10;
+        int k = matrix.length;
+
+        double[] v = new double[k];
+        for (int p = 0; p < k; p++) {
+            v[p] = 1.0 / (p + 1);
+        }
+        orthogonalize(v, orthogonalTo);
+        if (!normalize(v)) {
+            return v;
+        }
+
+        double[] next = new double[k];
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            for (int p = 0; p < k; p++) {
+                double sum = 0;
+                for (int q = 0; q < k; q++) {
+                    sum += matrix[p][q] * v[q];
+                }
+                next[p] = sum;
+            }
+            orthogonalize(next, orthogonalTo);
+            if (!normalize(next)) {
+                return next;
+            }
+
+            double change = 0;
+            for (int p = 0; p < k; p++) {
+                change += Math.abs(next[p] - v[p]);
+                v[p] = next[p];
+            }
+            if (change < tolerance) {
+                break;
+            }
+        }
+        return v;
+    }
+
+    private static void orthogonalize(final double[] v, final double[] orthogonalTo) {
+        if (orthogonalTo != null) {
+            double dot = 0;
+            for (int p = 0; p < v.length; p++) {
+                dot += v[p] * orthogonalTo[p];
+            }
+            for (int p = 0; p < v.length; p++) {
+                v[p] -= dot * orthogonalTo[p];
+            }
+        }
+    }
+
+    /**
+     * Normalizes the vector to unit length. Returns {@code false} if the vector is zero and thus cannot be
+     * normalized.
+     */
+    private static boolean normalize(final double[] v) {
+        double length = 0;
+        for (double value : v) {
+            length += value * value;
+        }
+        length = Math.sqrt(length);
+        if (length < Double.MIN_NORMAL) {
+            return false;
+        }
+        for (int p = 0; p < v.length; p++) {
+            v[p] /= length;
+        }
+        return true;
+    }
+
+    private double[] project(final double[][] c, final double[] v) {
+        double[] coordinates = new double[n];
+        for (int p = 0; p < v.length; p++) {
+            for (int i = 0; i < n; i++) {
+                coordinates[i] += c[p][i] * v[p];
+            }
+        }
+        return coordinates;
+    }
+
+    private boolean isDegenerate(final double[] coordinates) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double coordinate : coordinates) {
+            min = Math.min(min, coordinate);
+            max = Math.max(max, coordinate);
+        }
+        return !(max - min > 1e-9 * Math.max(1, Math.abs(max)));
+    }
+
+    // /////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Iteration
+
+    /**
+     * Done if either stress improvement is small than {@link StressOptions#EPSILON} or the
+     * {@link StressOptions#ITERATION_LIMIT} is reached.
+     */
+    private boolean done(final int count, final double prevStress, final double curStress) {
+        return prevStress == 0
+            || (((prevStress - curStress) / prevStress) < epsilon)
+            || (count >= iterationLimit);
+    }
+
+    /**
+     * @return the sparse stress value of the current node positioning.
+     */
+    private double computeStress() {
+        double stress = 0;
+        for (int i = 0; i < n; i++) {
+            for (int e = adjStart[i]; e < adjStart[i + 1]; e++) {
+                int j = adjTarget[e];
+                double d = adjLength[e];
+                double eucDisplacement = distance(i, j) - d;
+                stress += eucDisplacement * eucDisplacement / (d * d);
+            }
+            for (int p = 0; p < pivots.length; p++) {
+                double wip = pivotWeight[p][i];
+                if (wip > 0) {
+                    double eucDisplacement = distance(i, pivots[p]) - pivotDist[p][i];
+                    stress += wip * eucDisplacement * eucDisplacement;
+                }
+            }
+        }
+        return stress;
+    }
+
+    /**
+     * Moves the given node to the position that minimizes its stress if all other nodes keep their positions.
+     */
+    private void updatePosition(final int i) {
+        double weightSum = 0;
+        double xDisp = 0;
+        double yDisp = 0;
+
+        for (int e = adjStart[i]; e < adjStart[i + 1]; e++) {
+            double d = adjLength[e];
+            double wij = 1 / (d * d);
+            int j = adjTarget[e];
+            weightSum += wij;
+            xDisp += wij * target(x, i, j, d);
+            yDisp += wij * target(y, i, j, d);
+        }
+        for (int p = 0; p < pivots.length; p++) {
+            double wip = pivotWeight[p][i];
+            if (wip > 0) {
+                int j = pivots[p];
+                double d = pivotDist[p][i];
+                weightSum += wip;
+                xDisp += wip * target(x, i, j, d);
+                yDisp += wip * target(y, i, j, d);
+            }
+        }
+
+        if (weightSum > 0) {
+            if (dim != Dimension.Y) {
+                x[i] = xDisp / weightSum;
+            }
+            if (dim != Dimension.X) {
+                y[i] = yDisp / weightSum;
+            }
+        }
+    }
+
+    /**
+     * The coordinate node {@code i} would have if it was at distance {@code d} of node {@code j}, moving along the
+     * line between the two nodes.
+     */
+    private double target(final double[] coordinates, final int i, final int j, final double d) {
+        double eucDist = distance(i, j);
+        if (eucDist > 0) {
+            return coordinates[j] + d * (coordinates[i] - coordinates[j]) / eucDist;
+        } else {
+            return coordinates[j];
+        }
+    }
+
+    private double distance(final int i, final int j) {
+        double dx = x[i] - x[j];
+        double dy = y[i] - y[j];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+}
@@ -17,6 +17,7 @@ import org.eclipse.elk.alg.force.ElkGraphImporter;
 import org.eclipse.elk.alg.force.ForceLayoutProvider;
 import org.eclipse.elk.alg.force.IGraphImporter;
 import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.options.StressModelStrategy;
 import org.eclipse.elk.alg.force.options.StressOptions;
 import org.eclipse.elk.core.AbstractLayoutProvider;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
@@ -31,18 +32,23 @@ public class StressLayoutProvider extends AbstractLayoutProvider {
     private ComponentsProcessor componentsProcessor = new ComponentsProcessor();
     /** implementation of stress majorization. */
     private StressMajorization stressMajorization = new StressMajorization();
+    /** implementation of sparse stress majorization. */
+    private SparseStressMajorization sparseStressMajorization = new SparseStressMajorization();
 
     @Override
     public void layout(final ElkNode layoutGraph, final IElkProgressMonitor progressMonitor) {
         progressMonitor.begin("ELK Stress", 1);
 
 
-        // calculate initial coordinates
-        if (!layoutGraph.getProperty(StressOptions.INTERACTIVE)) {
+        boolean sparse = layoutGraph.getProperty(StressOptions.MODEL) == StressModelStrategy.SPARSE;
+
+        // calculate initial coordinates; the sparse model computes them itself since force layout does not scale
+        if (!layoutGraph.getProperty(StressOptions.INTERACTIVE) && !sparse) {
             new ForceLayoutProvider().layout(layoutGraph, progressMonitor.subTask(1));
         } else {
             // If requested, compute nodes's dimensions, place node labels, ports, port labels, etc.
-            // Note that for the non-interactive case (above) this will be taken care of by the force layout provider
+            // Note that for the non-interactive, full case (above) this will be taken care of by the force layout
+            // provider
             if (!layoutGraph.getProperty(StressOptions.OMIT_NODE_MICRO_LAYOUT)) {
                 NodeMicroLayout.forGraph(layoutGraph)
                                .execute();
@@ -61,8 +67,13 @@ public class StressLayoutProvider extends AbstractLayoutProvider {
             if (subGraph.getNodes().size() <= 1) {
                 continue;
             }
-            stressMajorization.initialize(subGraph);
-            stressMajorization.execute();
+            if (sparse) {
+                sparseStressMajorization.initialize(subGraph);
+                sparseStressMajorization.execute();
+            } else {
+                stressMajorization.initialize(subGraph);
+                stressMajorization.execute();
+            }
             
             // Note that contrary to force itself, labels are not considered during stress layout.
             // Hence, all we can do here is to place the labels at reasonable positions after layout has finished.
@@ -9,16 +9,24 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.force.stress;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.force.graph.FEdge;
 import org.eclipse.elk.alg.force.graph.FGraph;
 import org.eclipse.elk.alg.force.graph.FNode;
 import org.eclipse.elk.alg.force.options.StressOptions;
 import org.eclipse.elk.core.math.KVector;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
@@ -32,6 +40,11 @@ import com.google.common.collect.Multimap;
  * The implementation supports performing a layout in one dimension only, preserving the coordinates of the other
  * dimension. For this, set {@link StressOptions#DIMENSION} to either {@link Dimension#X} or {@link Dimension#Y}.
  * Furthermore, nodes can be fixed using the {@link StressOptions#FIXED} option.
+ * 
+ * <p>If {@link StressOptions#CONCURRENCY_THREADS} allows more than one thread, the shortest paths from different
+ * sources and the stress of the layout are computed concurrently. Positions are then updated concurrently as well if
+ * {@link StressOptions#POSITION_UPDATE} is set to {@link PositionUpdate#JACOBI}. The threads are started by
+ * {@link #initialize(FGraph)} and stopped once {@link #execute()} is done.</p>
  */
 public class StressMajorization {
 
@@ -51,6 +64,17 @@ public class StressMajorization {
     private double epsilon;
     /** Maximum number of iterations (overrides the {@link #epsilon}). */
     private int iterationLimit;
+    /** How node positions are updated in each iteration. */
+    private PositionUpdate positionUpdate;
+    /** Number of threads that may be used. */
+    private int threads = 1;
+    // elkjs-exclude-start
+    /** Executor shared by all concurrent computations of a layout, or {@code null} if everything runs sequentially. */
+    private ExecutorService executor;
+    // elkjs-exclude-end
+
+    /** Number of nodes processed by a single task if work is split among threads. */
+    private static final int CHUNK_SIZE = 64;
 
     private Multimap<FNode, FEdge> connectedEdges = LinkedListMultimap.create();
 
@@ -71,6 +95,13 @@ public class StressMajorization {
         this.iterationLimit = graph.getProperty(StressOptions.ITERATION_LIMIT);
         this.epsilon = graph.getProperty(StressOptions.EPSILON);
         this.desiredEdgeLength = graph.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+        this.positionUpdate = graph.getProperty(StressOptions.POSITION_UPDATE);
+        // elkjs-exclude-start
+        this.threads = ElkConcurrency.resolveThreadCount(graph.getProperty(StressOptions.CONCURRENCY_THREADS));
+        shutdownExecutor();
+        int maxChunkCount = (graph.getNodes().size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        executor = ElkConcurrency.newExecutor(Math.min(threads, maxChunkCount));
+        // elkjs-exclude-end
         
         connectedEdges.clear();
         for (FEdge edge : graph.getEdges()) {
@@ -78,20 +109,29 @@ public class StressMajorization {
             connectedEdges.put(edge.getTarget(), edge);
         }
 
-        // all pairs shortest path
+        // all pairs shortest path and weight matrix, one row per source node
         int n = graph.getNodes().size();
         apsp = new double[n][n];
-        for (FNode source : graph.getNodes()) {
-            dijkstra(source, apsp[source.id]);
-        }
-
-        // init weight matrix
         w = new double[n][n];
-        for (int i = 0; i < n; ++i) {
-            for (int j = 0; j < n; ++j) {
-                double dij = apsp[i][j];
-                double wij = 1.0 / (dij * dij);
-                w[i][j] = wij;
+        List<FNode> nodes = graph.getNodes();
+        boolean initialized = false;
+        try {
+            forEachChunk(n, (from, to) -> {
+                for (int s = from; s < to; s++) {
+                    FNode source = nodes.get(s);
+                    dijkstra(source, apsp[source.id]);
+                    
+                    for (int j = 0; j < n; ++j) {
+                        double dij = apsp[source.id][j];
+                        double wij = 1.0 / (dij * dij);
+                        w[source.id][j] = wij;
+                    }
+                }
+            });
+            initialized = true;
+        } finally {
+            if (!initialized) {
+                shutdownExecutor();
             }
         }
     }
@@ -104,31 +144,121 @@ public class StressMajorization {
             return;
         }
         
-        int count = 0;
-        double prevStress = computeStress();
-        double curStress = Double.POSITIVE_INFINITY;
+        try {
+            int count = 0;
+            double prevStress = computeStress();
+            double curStress = Double.POSITIVE_INFINITY;
+
+            do {
+                if (count > 0) {
+                    prevStress = curStress;
+                }
 
-        do {
-            if (count > 0) {
-                prevStress = curStress;
-            }
+                if (positionUpdate == PositionUpdate.JACOBI) {
+                    updatePositionsJacobi();
+                } else {
+                    updatePositionsGaussSeidel();
+                }
 
-            for (FNode u : graph.getNodes()) {
+                curStress = computeStress();
 
-                // note that we do not use 'NO_LAYOUT' here,
-                // since that option results in the node already
-                // being excluded by the layout engine
-                if (u.getProperty(StressOptions.FIXED)) {
-                    continue;
-                }
+            } while (!done(count++, prevStress, curStress));
+        } finally {
+            shutdownExecutor();
+        }
+    }
 
-                KVector newPos = computeNewPosition(u);
-                u.getPosition().reset().add(newPos);
+    /**
+     * Stops the threads started for the current layout, if any.
+     */
+    private void shutdownExecutor() {
+        // elkjs-exclude-start
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        // elkjs-exclude-end
+    }
+    
+    /**
+     * Moves one node after the other, each to the position computed from the current positions of all other nodes.
+     */
+    private void updatePositionsGaussSeidel() {
+        for (FNode u : graph.getNodes()) {
+
+            // note that we do not use 'NO_LAYOUT' here,
+            // since that option results in the node already
+            // being excluded by the layout engine
+            if (u.getProperty(StressOptions.FIXED)) {
+                continue;
             }
 
-            curStress = computeStress();
-            
-        } while (!done(count++, prevStress, curStress));
+            KVector newPos = computeNewPosition(u);
+            u.getPosition().reset().add(newPos);
+        }
+    }
+    
+    /**
+     * Computes the new positions of all nodes from the positions of the previous iteration before moving any node.
+     * Since the new positions are independent of each other, they can be computed concurrently.
+     */
+    private void updatePositionsJacobi() {
+        List<FNode> nodes = graph.getNodes();
+        KVector[] newPositions = new KVector[nodes.size()];
+        forEachChunk(nodes.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                FNode u = nodes.get(i);
+                if (!u.getProperty(StressOptions.FIXED)) {
+                    newPositions[i] = computeNewPosition(u);
+                }
+            }
+        });
+        
+        for (int i = 0; i < newPositions.length; i++) {
+            if (newPositions[i] != null) {
+                nodes.get(i).getPosition().set(newPositions[i]);
+            }
+        }
+    }
+    
+    /**
+     * Splits the range {@code [0, size)} into chunks of {@link #CHUNK_SIZE} and processes them, concurrently if
+     * more than one thread may be used. Chunks must not write to data that other chunks access.
+     */
+    private void forEachChunk(final int size, final ChunkProcessor processor) {
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        
+        // elkjs-exclude-start
+        if (executor != null && chunkCount > 1) {
+            List<Callable<Void>> tasks = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int from = chunk * CHUNK_SIZE;
+                int to = Math.min(size, from + CHUNK_SIZE);
+                tasks.add(() -> {
+                    processor.process(from, to);
+                    return null;
+                });
+            }
+            ElkConcurrency.invokeAll(executor, tasks);
+            return;
+        }
+        // elkjs-exclude-end
+        
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = chunk * CHUNK_SIZE;
+            processor.process(from, Math.min(size, from + CHUNK_SIZE));
+        }
+    }
+    
+    /**
+     * Processes a range of indices for {@link StressMajorization#forEachChunk(int, ChunkProcessor)}.
+     */
+    @FunctionalInterface
+    private interface ChunkProcessor {
+        /**
+         * Processes the indices from {@code from} (inclusive) to {@code to} (exclusive).
+         */
+        void process(int from, int to);
     }
 
     /**
@@ -189,10 +319,28 @@ public class StressMajorization {
      * @return the stress value of the current node positioning.
      */
     private double computeStress() {
-        double stress = 0;
         List<FNode> nodes = graph.getNodes();
+        if (threads <= 1) {
+            return computeStress(nodes, 0, nodes.size());
+        }
+        
+        // sum up the stress of chunks in a fixed order, which keeps the result independent of the number of threads
+        double[] chunkStress = new double[(nodes.size() + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        forEachChunk(nodes.size(), (from, to) -> chunkStress[from / CHUNK_SIZE] = computeStress(nodes, from, to));
+        double stress = 0;
+        for (double s : chunkStress) {
+            stress += s;
+        }
+        return stress;
+    }
+    
+    /**
+     * @return the stress of the pairs of nodes whose first node's index is in the given range.
+     */
+    private double computeStress(final List<FNode> nodes, final int from, final int to) {
+        double stress = 0;
         // we know 'nodes' is an arraylist
-        for (int i = 0; i < nodes.size(); ++i) {
+        for (int i = from; i < to; ++i) {
             FNode u = nodes.get(i);
             for (int j = i + 1; j < nodes.size(); ++j) {
                 FNode v = nodes.get(j);
@@ -257,6 +405,19 @@ public class StressMajorization {
         }
     }
     
+    /**
+     * Ways of updating node positions in each iteration.
+     */
+    public enum PositionUpdate {
+        /** Nodes are moved one after another, each based on the current positions of all other nodes. */
+        GAUSS_SEIDEL,
+        /**
+         * All nodes are moved at once, based on the positions of the previous iteration. New positions can be
+         * computed concurrently, but more iterations may be required.
+         */
+        JACOBI
+    }
+    
     /**
      * Dimensions in which nodes may be moved.
      */
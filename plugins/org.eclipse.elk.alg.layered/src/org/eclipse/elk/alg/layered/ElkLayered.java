@@ -17,6 +17,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.components.ComponentsProcessor;
 import org.eclipse.elk.alg.layered.compound.CompoundGraphPostprocessor;
@@ -43,6 +47,9 @@ import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.core.util.Pair;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 
 /**
  * The main entry point into ELK Layered. ELK Layered is a layout algorithm after the layered
@@ -143,13 +150,26 @@ public final class ElkLayered {
             // Execute layout on the sole component using the top-level progress monitor
             layout(components.get(0), theMonitor);
         } else {
-            // Execute layout on each component using a progress monitor subtask
-            float compWork = 1.0f / components.size();
-            for (LGraph comp : components) {
-                if (monitor.isCanceled()) {
-                    return;
+            int threads = 1;
+            // elkjs-exclude-start
+            if (testController == null) {
+                threads = ElkConcurrency.resolveThreadCount(lgraph.getProperty(LayeredOptions.CONCURRENCY_THREADS));
+            }
+            // elkjs-exclude-end
+            
+            if (threads > 1) {
+                // elkjs-exclude-start
+                layoutConcurrently(components, threads, theMonitor);
+                // elkjs-exclude-end
+            } else {
+                // Execute layout on each component using a progress monitor subtask
+                float compWork = 1.0f / components.size();
+                for (LGraph comp : components) {
+                    if (monitor.isCanceled()) {
+                        return;
+                    }
+                    layout(comp, theMonitor.subTask(compWork));
                 }
-                layout(comp, theMonitor.subTask(compWork));
             }
         }
         componentsProcessor.combine(components, lgraph);
@@ -161,6 +181,51 @@ public final class ElkLayered {
     }
 
 
+    // elkjs-exclude-start
+    
+    /**
+     * Lays out the given components concurrently. The processors attached to the components are shared among them
+     * and may keep state while they run. Thus, each component is given a processor chain of its own, assembled by a
+     * fresh graph configurator, before the layout work is distributed.
+     *
+     * <p>Each component reports its progress to a sub-monitor of its own. These sub-monitors are not assigned any
+     * work to keep them from reporting progress to the shared monitor from different threads.</p>
+     *
+     * @param components the components to lay out.
+     * @param threads the number of threads to use, including the calling thread.
+     * @param monitor the progress monitor, which must already be running.
+     */
+    private void layoutConcurrently(final List<LGraph> components, final int threads,
+            final IElkProgressMonitor monitor) {
+        
+        List<Callable<Void>> tasks = new ArrayList<>(components.size());
+        for (LGraph comp : components) {
+            // This also sets up a random number generator and spacings of the component's own. Components thus
+            // don't share the graph's random number generator as they do when laid out one after another
+            new GraphConfigurator().prepareGraphForLayout(comp);
+            
+            IElkProgressMonitor compMonitor = monitor.subTask(0);
+            tasks.add(() -> {
+                if (!monitor.isCanceled()) {
+                    layout(comp, compMonitor);
+                }
+                return null;
+            });
+        }
+        
+        ExecutorService executor = ElkConcurrency.newExecutor(Math.min(threads, components.size()));
+        try {
+            ElkConcurrency.invokeAll(executor, tasks);
+        } finally {
+            executor.shutdown();
+        }
+        
+        monitor.worked(1);
+    }
+    
+    // elkjs-exclude-end
+
+
     ////////////////////////////////////////////////////////////////////////////////
     // Compound Graph Layout
 
@@ -532,9 +597,11 @@ public final class ElkLayered {
     
     /**
      * Notifies the test controller (if installed) that the given processor is ready to start processing the given
-     * graph. If the graph is the root graph, the corresponding notification is triggered as well.
+     * graph. If the graph is the root graph, the corresponding notification is triggered as well. Also starts
+     * collecting {@link LayeredMetrics metrics} for the processor if requested.
      */
     private void notifyProcessorReady(final LGraph lgraph, final ILayoutProcessor<?> processor) {
+        LayeredMetrics.processorStarted(lgraph, processor);
         if (testController != null) {
             if (isRoot(lgraph)) {
                 testController.notifyRootProcessorReady(lgraph, processor);
@@ -546,9 +613,11 @@ public final class ElkLayered {
 
     /**
      * Notifies the test controller (if installed) that the given processor has finished processing the given
-     * graph. If the graph is the root graph, the corresponding notification is triggered as well.
+     * graph. If the graph is the root graph, the corresponding notification is triggered as well. Also reports the
+     * {@link LayeredMetrics metrics} collected for the processor, if any.
      */
     private void notifyProcessorFinished(final LGraph lgraph, final ILayoutProcessor<?> processor) {
+        LayeredMetrics.processorFinished(lgraph, processor);
         if (testController != null) {
             if (isRoot(lgraph)) {
                 testController.notifyRootProcessorFinished(lgraph, processor);
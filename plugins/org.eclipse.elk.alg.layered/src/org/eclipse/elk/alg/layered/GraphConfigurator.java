@@ -219,10 +219,17 @@ final class GraphConfigurator {
         // If the graph should be laid out interactively or you really want it,
         // add the layers and positions to the nodes.
         if (lgraph.getProperty(LayeredOptions.INTERACTIVE_LAYOUT)
-                || lgraph.getProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS)) {
+                || lgraph.getProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS)
+                || lgraph.getProperty(LayeredOptions.INCREMENTAL_ENABLED)) {
             configuration.addAfter(LayeredPhases.P5_EDGE_ROUTING, 
                     IntermediateProcessorStrategy.CONSTRAINTS_POSTPROCESSOR);
         }
+        
+        // Incremental layout starts from the layers and positions of the previous layout
+        if (lgraph.getProperty(InternalProperties.INCREMENTAL_LAYOUT)) {
+            configuration.addBefore(LayeredPhases.P1_CYCLE_BREAKING,
+                    IntermediateProcessorStrategy.INCREMENTAL_LAYOUT_PREPROCESSOR);
+        }
 
         // graph transformations for unusual layout directions
         switch (lgraph.getProperty(LayeredOptions.DIRECTION)) {
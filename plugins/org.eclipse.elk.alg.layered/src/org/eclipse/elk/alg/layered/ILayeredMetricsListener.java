@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+
+/**
+ * Receives the metrics ELK Layered collects while it executes its layout processors. A listener is installed by
+ * setting {@link LayeredMetrics#LISTENER} on the graph to be laid out. If connected components are laid out
+ * concurrently, the listener is notified from several threads at once and must therefore be thread-safe.
+ * 
+ * @see LayeredMetrics
+ */
+public interface ILayeredMetricsListener {
+
+    /**
+     * Called whenever a layout processor has finished processing a graph.
+     * 
+     * @param graph
+     *            the graph that was processed. This is a connected component of the input graph or, in hierarchical
+     *            layout, one of its nested graphs.
+     * @param metrics
+     *            the metrics collected while the processor ran.
+     */
+    void processorFinished(LGraph graph, ProcessorMetrics metrics);
+
+}
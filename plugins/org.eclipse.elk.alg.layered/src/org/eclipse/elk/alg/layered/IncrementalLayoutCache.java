@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
+import org.eclipse.elk.alg.layered.options.CycleBreakingStrategy;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.LayeringStrategy;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+/**
+ * Remembers the layers and in-layer positions computed for the nodes of graphs laid out with
+ * {@link LayeredOptions#INCREMENTAL_ENABLED} so that subsequent layouts of the same graph can build upon them. Graphs
+ * are identified by the identifier of their parent node, nodes by their own identifiers. Graphs whose parent node has
+ * no identifier are neither remembered nor laid out incrementally.
+ *
+ * <p>When a graph is laid out again, it is compared to the remembered one. A node counts as changed if it was added,
+ * removed, or if the set of nodes it is connected to has changed. If the fraction of changed nodes does not exceed
+ * {@link LayeredOptions#INCREMENTAL_CHANGE_THRESHOLD}, the previous layers and positions are annotated to the nodes
+ * of the layered graph and the interactive strategies are selected for the first three phases. The
+ * {@link org.eclipse.elk.alg.layered.intermediate.IncrementalLayoutPreprocessor IncrementalLayoutPreprocessor} then
+ * derives pseudo positions from these annotations that the interactive strategies respect.</p>
+ *
+ * <p>Only a limited number of graphs is remembered; the least recently laid out ones are forgotten first. The cache
+ * may be used by several threads at the same time, and thus be shared by several layout providers, see
+ * {@link LayeredLayoutProvider#setIncrementalLayoutCache(IncrementalLayoutCache)}.</p>
+ */
+public final class IncrementalLayoutCache {
+
+    /** the maximal number of graphs remembered at the same time. */
+    private static final int MAX_GRAPHS = 16;
+
+    /** remembered graph layouts, keyed by the identifiers of their parent nodes and kept in access order. */
+    private final Map<String, Map<String, NodeState>> snapshots =
+            new LinkedHashMap<String, Map<String, NodeState>>(MAX_GRAPHS, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Map<String, NodeState>> eldest) {
+                    return size() > MAX_GRAPHS;
+                }
+            };
+
+    /**
+     * Annotates the nodes of the given layered graph with the layers and positions they had in the previous layout of
+     * the graph, if there is one and the graph has not changed too much since. If so, the graph is configured to be
+     * laid out interactively.
+     *
+     * @param elkgraph
+     *            the parent node of the graph to be laid out.
+     * @param lgraph
+     *            the layered graph imported from {@code elkgraph}.
+     * @return {@code true} if the graph will be laid out incrementally.
+     */
+    public boolean restore(final ElkNode elkgraph, final LGraph lgraph) {
+        if (elkgraph.getIdentifier() == null) {
+            return false;
+        }
+        Map<String, NodeState> previous;
+        synchronized (snapshots) {
+            previous = snapshots.get(elkgraph.getIdentifier());
+        }
+        if (previous == null) {
+            return false;
+        }
+
+        // Count nodes that were added or reconnected, and nodes that were removed
+        int changed = 0;
+        int retained = 0;
+        Map<ElkNode, NodeState> states = new HashMap<>();
+        for (ElkNode child : elkgraph.getChildren()) {
+            NodeState state = child.getIdentifier() == null ? null : previous.get(child.getIdentifier());
+            if (state == null) {
+                changed++;
+            } else {
+                retained++;
+                states.put(child, state);
+                if (state.connections != connections(child)) {
+                    changed++;
+                }
+            }
+        }
+        changed += previous.size() - retained;
+
+        int size = Math.max(previous.size(), elkgraph.getChildren().size());
+        if (changed > elkgraph.getProperty(LayeredOptions.INCREMENTAL_CHANGE_THRESHOLD) * size) {
+            return false;
+        }
+
+        for (LNode lnode : lgraph.getLayerlessNodes()) {
+            NodeState state = states.get(lnode.getProperty(InternalProperties.ORIGIN));
+            if (state != null) {
+                lnode.setProperty(InternalProperties.INCREMENTAL_LAYER, state.layer);
+                lnode.setProperty(InternalProperties.INCREMENTAL_POSITION, state.position);
+            }
+        }
+
+        lgraph.setProperty(InternalProperties.INCREMENTAL_LAYOUT, true);
+        lgraph.setProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY, CycleBreakingStrategy.INTERACTIVE);
+        lgraph.setProperty(LayeredOptions.LAYERING_STRATEGY, LayeringStrategy.INTERACTIVE);
+        lgraph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY, CrossingMinimizationStrategy.INTERACTIVE);
+        return true;
+    }
+
+    /**
+     * Remembers the layers and positions the children of the given node were assigned in the layout that was just
+     * applied to them. Children without identifier are not remembered, and neither are graphs whose parent node has
+     * no identifier.
+     *
+     * @param elkgraph
+     *            the parent node of a graph that was just laid out.
+     */
+    public void remember(final ElkNode elkgraph) {
+        if (elkgraph.getIdentifier() == null) {
+            return;
+        }
+        Map<String, NodeState> snapshot = new HashMap<>();
+        for (ElkNode child : elkgraph.getChildren()) {
+            int layer = child.getProperty(LayeredOptions.LAYERING_LAYER_ID);
+            if (child.getIdentifier() != null && layer >= 0) {
+                snapshot.put(child.getIdentifier(), new NodeState(layer,
+                        child.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID), connections(child)));
+            }
+        }
+
+        synchronized (snapshots) {
+            snapshots.put(elkgraph.getIdentifier(), snapshot);
+        }
+    }
+
+    /**
+     * Forgets all remembered layouts.
+     */
+    public void clear() {
+        synchronized (snapshots) {
+            snapshots.clear();
+        }
+    }
+
+    /**
+     * Computes a hash over the identifiers of the nodes the given node is connected to, distinguishing outgoing from
+     * incoming edges. The hash does not depend on the order of the edges.
+     */
+    private static int connections(final ElkNode node) {
+        int hash = 0;
+        for (ElkEdge edge : ElkGraphUtil.allOutgoingEdges(node)) {
+            for (ElkConnectableShape target : edge.getTargets()) {
+                hash += 2 * identifierHash(target) + 1;
+            }
+        }
+        for (ElkEdge edge : ElkGraphUtil.allIncomingEdges(node)) {
+            for (ElkConnectableShape source : edge.getSources()) {
+                hash += 2 * identifierHash(source);
+            }
+        }
+        return hash;
+    }
+
+    private static int identifierHash(final ElkConnectableShape shape) {
+        String identifier = ElkGraphUtil.connectableShapeToNode(shape).getIdentifier();
+        return identifier == null ? 0 : identifier.hashCode();
+    }
+
+    /**
+     * The layer and in-layer position of a node in a previous layout, along with a hash of its connections.
+     */
+    private static final class NodeState {
+        private final int layer;
+        private final int position;
+        private final int connections;
+
+        NodeState(final int layer, final int position, final int connections) {
+            this.layer = layer;
+            this.position = position;
+            this.connections = connections;
+        }
+    }
+
+}
@@ -35,6 +35,8 @@ public final class LayeredLayoutProvider extends AbstractLayoutProvider implemen
 
     /** the layout algorithm used for regular layout runs. */
     private final ElkLayered elkLayered = new ElkLayered();
+    /** the previous layouts that incremental layout runs build upon. */
+    private IncrementalLayoutCache incrementalLayoutCache = new IncrementalLayoutCache();
 
 
     ///////////////////////////////////////////////////////////////////////////////
@@ -48,21 +50,41 @@ public final class LayeredLayoutProvider extends AbstractLayoutProvider implemen
         LGraph layeredGraph = graphTransformer.importGraph(elkgraph);
 
         // Check if hierarchy handling for a compound graph is requested
+        boolean incremental = false;
         if (elkgraph.getProperty(LayeredOptions.HIERARCHY_HANDLING) == HierarchyHandling.INCLUDE_CHILDREN) {
             // Layout for all hierarchy levels is requested
             elkLayered.doCompoundLayout(layeredGraph, progressMonitor);
         } else {
-            // Only the top-level graph is processed
+            // Only the top-level graph is processed, possibly based on its previous layout
+            incremental = elkgraph.getProperty(LayeredOptions.INCREMENTAL_ENABLED);
+            if (incremental) {
+                incrementalLayoutCache.restore(elkgraph, layeredGraph);
+            }
             elkLayered.doLayout(layeredGraph, progressMonitor);
         }
         
         if (!progressMonitor.isCanceled()) {
             // Apply the layout results to the original graph
             graphTransformer.applyLayout(layeredGraph);
+            
+            if (incremental) {
+                incrementalLayoutCache.remember(elkgraph);
+            }
         }
     }
 
 
+    /**
+     * Set the cache of previous layouts that incremental layout runs build upon. By default, each provider instance
+     * has a cache of its own; providers that share a cache can build upon each other's layouts.
+     * 
+     * @param cache the cache of previous layouts
+     */
+    public void setIncrementalLayoutCache(final IncrementalLayoutCache cache) {
+        this.incrementalLayoutCache = cache;
+    }
+
+
     ///////////////////////////////////////////////////////////////////////////////
     // Layout Testing
     
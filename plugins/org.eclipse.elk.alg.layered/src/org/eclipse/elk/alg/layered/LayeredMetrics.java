@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+// elkjs-exclude-start
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+// elkjs-exclude-end
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.Property;
+
+/**
+ * Collects metrics while ELK Layered executes its layout processors and reports them to an
+ * {@link ILayeredMetricsListener}. For each processor and graph, the elapsed time, the CPU time and allocations of the
+ * executing thread, and the counters reported by the processor through {@link #count(LGraph, String, long)} are
+ * collected. Metrics are only collected if a listener is installed on the graph to be laid out:
+ * 
+ * <pre>
+ * graph.setProperty(LayeredMetrics.LISTENER, (lgraph, metrics) -&gt; System.out.println(metrics));
+ * </pre>
+ * 
+ * <p>Processors should only compute values they would not compute anyway if {@link #isRecording(LGraph)} returns
+ * {@code true}. The counters reported by ELK Layered's own processors are defined as constants in this class.</p>
+ */
+public final class LayeredMetrics {
+
+    /** the listener to report metrics to. Set it on the graph to be laid out. */
+    public static final IProperty<ILayeredMetricsListener> LISTENER =
+            new Property<>("org.eclipse.elk.layered.metricsListener");
+
+    /** number of edge crossings between the graph's layers before crossing minimization. */
+    public static final String CROSSINGS_BEFORE = "crossingsBefore";
+    /** number of edge crossings between the graph's layers after crossing minimization. */
+    public static final String CROSSINGS_AFTER = "crossingsAfter";
+    /** number of dummy nodes inserted into the graph. */
+    public static final String DUMMY_NODES = "dummyNodes";
+    /** number of iterations performed by the network simplex algorithm, summed up over all of its executions. */
+    public static final String NETWORK_SIMPLEX_ITERATIONS = "networkSimplexIterations";
+
+    /** the recording in progress on a graph. */
+    private static final IProperty<Recording> RECORDING = new Property<>("layered.metricsRecording");
+
+    // elkjs-exclude-start
+    /** the JVM's thread management interface. */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    /** the method that returns the bytes allocated by a thread, if the JVM supports it. */
+    private static final Method THREAD_ALLOCATED_BYTES = findThreadAllocatedBytesMethod();
+    // elkjs-exclude-end
+
+    private LayeredMetrics() {
+    }
+
+    /**
+     * Checks whether metrics are collected for the given graph.
+     * 
+     * @param graph
+     *            the graph currently being processed.
+     * @return {@code true} if a processor is currently recording metrics for the graph.
+     */
+    public static boolean isRecording(final LGraph graph) {
+        return graph.getProperty(RECORDING) != null;
+    }
+
+    /**
+     * Adds the given value to a counter of the processor currently processing the given graph. Does nothing if no
+     * metrics are collected for the graph.
+     * 
+     * @param graph
+     *            the graph currently being processed.
+     * @param counter
+     *            the name of the counter.
+     * @param value
+     *            the value to add.
+     */
+    public static void count(final LGraph graph, final String counter, final long value) {
+        Recording recording = graph.getProperty(RECORDING);
+        if (recording != null) {
+            recording.counters.merge(counter, value, Long::sum);
+        }
+    }
+
+    /**
+     * Starts collecting metrics for the given processor if a listener is installed on the given graph or on the
+     * graph it is nested in.
+     */
+    static void processorStarted(final LGraph graph, final ILayoutProcessor<?> processor) {
+        ILayeredMetricsListener listener = findListener(graph);
+        if (listener != null) {
+            graph.setProperty(RECORDING, new Recording(listener, processor));
+        }
+    }
+
+    /**
+     * Stops collecting metrics for the given processor and reports them.
+     */
+    static void processorFinished(final LGraph graph, final ILayoutProcessor<?> processor) {
+        Recording recording = graph.getProperty(RECORDING);
+        if (recording != null && recording.processor == processor) {
+            graph.setProperty(RECORDING, null);
+            recording.listener.processorFinished(graph, recording.finish());
+        }
+    }
+
+    private static ILayeredMetricsListener findListener(final LGraph graph) {
+        LGraph current = graph;
+        while (true) {
+            ILayeredMetricsListener listener = current.getProperty(LISTENER);
+            LNode parentNode = current.getParentNode();
+            if (listener != null || parentNode == null || parentNode.getGraph() == null) {
+                return listener;
+            }
+            current = parentNode.getGraph();
+        }
+    }
+
+    /**
+     * Returns the CPU time the current thread has spent so far, or -1 if that is not known.
+     */
+    private static long threadCpuTime() {
+        // elkjs-exclude-start
+        if (THREADS.isCurrentThreadCpuTimeSupported()) {
+            return THREADS.getCurrentThreadCpuTime();
+        }
+        // elkjs-exclude-end
+        return -1;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far, or -1 if that is not known.
+     */
+    private static long threadAllocatedBytes() {
+        // elkjs-exclude-start
+        if (THREAD_ALLOCATED_BYTES != null) {
+            try {
+                return (Long) THREAD_ALLOCATED_BYTES.invoke(THREADS, Thread.currentThread().getId());
+            } catch (ReflectiveOperationException | RuntimeException exception) {
+                return -1;
+            }
+        }
+        // elkjs-exclude-end
+        return -1;
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Allocations can only be measured through an extension of the thread management interface that not all JVMs
+     * provide, which is why it is accessed reflectively.
+     */
+    private static Method findThreadAllocatedBytesMethod() {
+        try {
+            Class<?> beanClass =
+                    Class.forName("com.sun.management.ThreadMXBean", false, ClassLoader.getPlatformClassLoader());
+            if (beanClass.isInstance(THREADS)) {
+                return beanClass.getMethod("getThreadAllocatedBytes", long.class);
+            }
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // Allocations are not supported
+        }
+        return null;
+    }
+    // elkjs-exclude-end
+
+    /**
+     * The metrics of a processor that is currently running.
+     */
+    private static final class Recording {
+        private final ILayeredMetricsListener listener;
+        private final ILayoutProcessor<?> processor;
+        private final Map<String, Long> counters = new LinkedHashMap<>();
+        private final long startTime = System.nanoTime();
+        private final long startCpuTime = threadCpuTime();
+        private final long startAllocatedBytes = threadAllocatedBytes();
+
+        Recording(final ILayeredMetricsListener listener, final ILayoutProcessor<?> processor) {
+            this.listener = listener;
+            this.processor = processor;
+        }
+
+        ProcessorMetrics finish() {
+            long wallTime = System.nanoTime() - startTime;
+            long cpuTime = difference(startCpuTime, threadCpuTime());
+            long allocatedBytes = difference(startAllocatedBytes, threadAllocatedBytes());
+            return new ProcessorMetrics(processor, wallTime, cpuTime, allocatedBytes, counters);
+        }
+
+        private static long difference(final long start, final long end) {
+            return start < 0 || end < 0 ? -1 : end - start;
+        }
+    }
+
+}
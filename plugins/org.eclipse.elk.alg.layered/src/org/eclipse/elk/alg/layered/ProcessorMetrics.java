@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+
+/**
+ * The metrics collected while a single layout processor processed a graph: the time it took, the memory it allocated,
+ * and the {@link LayeredMetrics#count(org.eclipse.elk.alg.layered.graph.LGraph, String, long) counters} it reported.
+ * Times and allocations are only available if the JVM supports measuring them for the current thread; otherwise,
+ * they are reported as {@code -1}.
+ */
+public final class ProcessorMetrics {
+
+    /** the processor the metrics were collected for. */
+    private final ILayoutProcessor<?> processor;
+    /** the elapsed time, in nanoseconds. */
+    private final long wallTime;
+    /** the CPU time spent by the executing thread, in nanoseconds, or -1. */
+    private final long cpuTime;
+    /** the number of bytes allocated by the executing thread, or -1. */
+    private final long allocatedBytes;
+    /** the counters reported by the processor. */
+    private final Map<String, Long> counters;
+
+    /**
+     * Creates a new set of metrics.
+     * 
+     * @param processor the processor the metrics were collected for.
+     * @param wallTime the elapsed time, in nanoseconds.
+     * @param cpuTime the CPU time spent by the executing thread, in nanoseconds, or -1 if unknown.
+     * @param allocatedBytes the number of bytes allocated by the executing thread, or -1 if unknown.
+     * @param counters the counters reported by the processor.
+     */
+    ProcessorMetrics(final ILayoutProcessor<?> processor, final long wallTime, final long cpuTime,
+            final long allocatedBytes, final Map<String, Long> counters) {
+        
+        this.processor = processor;
+        this.wallTime = wallTime;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+        this.counters = Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Returns the processor the metrics were collected for.
+     * 
+     * @return the processor.
+     */
+    public ILayoutProcessor<?> getProcessor() {
+        return processor;
+    }
+
+    /**
+     * Returns the time that elapsed while the processor ran.
+     * 
+     * @return the elapsed time, in nanoseconds.
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Returns the CPU time the executing thread spent while the processor ran. This excludes time spent by other
+     * threads the processor may have used.
+     * 
+     * @return the CPU time, in nanoseconds, or {@code -1} if it could not be measured.
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * Returns the number of bytes the executing thread allocated while the processor ran. This excludes allocations
+     * by other threads the processor may have used.
+     * 
+     * @return the number of bytes, or {@code -1} if it could not be measured.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the counters the processor reported, such as the ones defined in {@link LayeredMetrics}.
+     * 
+     * @return an unmodifiable map from counter names to values.
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * Returns the value of the given counter.
+     * 
+     * @param counter the name of the counter.
+     * @return the counter's value, or {@code 0} if the processor did not report it.
+     */
+    public long getCounter(final String counter) {
+        Long value = counters.get(counter);
+        return value == null ? 0 : value;
+    }
+
+    @Override
+    public String toString() {
+        return processor.getClass().getSimpleName() + "[wallTime=" + wallTime + ",cpuTime=" + cpuTime
+                + ",allocatedBytes=" + allocatedBytes + ",counters=" + counters + "]";
+    }
+
+}
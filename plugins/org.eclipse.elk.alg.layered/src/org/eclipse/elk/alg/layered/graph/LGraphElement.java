@@ -10,7 +10,9 @@
 package org.eclipse.elk.alg.layered.graph;
 
 import org.eclipse.elk.alg.layered.graph.transform.ElkGraphTransformer;
-import org.eclipse.elk.graph.properties.MapPropertyHolder;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.graph.properties.IndexedPropertyHolder;
 
 import com.google.common.base.Strings;
 
@@ -27,12 +29,39 @@ import com.google.common.base.Strings;
  * runs on the same graph. As a consequence, hash tables and hash sets would store their content
  * in different order, which can lead to different layouts in some cases. The deterministic hash
  * code implemented here guarantees that such effects will not occur.</p>
+ * 
+ * <p>The properties most frequently accessed during layout are registered with slots of the
+ * {@link IndexedPropertyHolder}, which stores their values in arrays instead of hash maps.</p>
  */
-public abstract class LGraphElement extends MapPropertyHolder {
+public abstract class LGraphElement extends IndexedPropertyHolder {
 
     /** the serial version UID. */
     private static final long serialVersionUID = 5480383439314459124L;
     
+    static {
+        registerIndexedProperties(
+                InternalProperties.ORIGIN,
+                InternalProperties.MODEL_ORDER,
+                InternalProperties.EXT_PORT_SIDE,
+                InternalProperties.PORT_DUMMY,
+                InternalProperties.LONG_EDGE_SOURCE,
+                InternalProperties.LONG_EDGE_TARGET,
+                InternalProperties.LONG_EDGE_HAS_LABEL_DUMMIES,
+                InternalProperties.REVERSED,
+                InternalProperties.IN_LAYER_LAYOUT_UNIT,
+                InternalProperties.IN_LAYER_CONSTRAINT,
+                InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS,
+                InternalProperties.PORT_RATIO_OR_POSITION,
+                InternalProperties.INSIDE_CONNECTIONS,
+                LayeredOptions.PORT_CONSTRAINTS,
+                LayeredOptions.JUNCTION_POINTS,
+                LayeredOptions.LAYERING_LAYER_CONSTRAINT,
+                LayeredOptions.EDGE_THICKNESS,
+                LayeredOptions.PRIORITY_DIRECTION,
+                LayeredOptions.PRIORITY_SHORTNESS,
+                LayeredOptions.PRIORITY_STRAIGHTNESS);
+    }
+    
     // CHECKSTYLEOFF VisibilityModifier
     /** Identifier value, may be arbitrarily used by algorithms. */
     public int id;
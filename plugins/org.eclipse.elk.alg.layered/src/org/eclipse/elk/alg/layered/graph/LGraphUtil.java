@@ -661,7 +661,7 @@ public final class LGraphUtil {
             
             // if port coordinates are (0,0), we default to port offset 0 to make the common case
             // frustration-free
-            if (!port.getAllProperties().containsKey(LayeredOptions.PORT_BORDER_OFFSET)
+            if (!port.hasProperty(LayeredOptions.PORT_BORDER_OFFSET)
                     && portSide != PortSide.UNDEFINED
                     && (port.getPosition().x != 0 || port.getPosition().y != 0)) {
                 
@@ -690,7 +690,7 @@ public final class LGraphUtil {
                 break;
             }
             
-            port.setProperty(InternalProperties.PORT_RATIO_OR_POSITION, ratio);
+            port.setDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION, ratio);
         }
 
         KVector portSize = port.getSize();
@@ -952,7 +952,7 @@ public final class LGraphUtil {
                 }
             }
             
-            dummy.setProperty(InternalProperties.PORT_RATIO_OR_POSITION, informationAboutIt);
+            dummy.setDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION, informationAboutIt);
         }
         
         // Set the port side of the dummy
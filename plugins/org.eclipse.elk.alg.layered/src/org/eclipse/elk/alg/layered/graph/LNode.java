@@ -76,6 +76,8 @@ public final class LNode extends LShape {
     private LGraph graph;
     /** the containing layer. */
     private Layer layer;
+    /** the node's last known index in its layer's list of nodes, validated before it is used. */
+    private int indexInLayer = -1;
     /** the node's node type. */
     private NodeType type = NodeType.NORMAL;
     /** the ports of the node. */
@@ -129,6 +131,7 @@ public final class LNode extends LShape {
         
         if (this.layer != null) {
             this.layer.getNodes().add(this);
+            indexInLayer = this.layer.getNodes().size() - 1;
         }
     }
     
@@ -182,6 +185,7 @@ public final class LNode extends LShape {
         
         if (newlayer != null) {
             newlayer.getNodes().add(index, this);
+            indexInLayer = index;
         }
     }
     
@@ -429,17 +433,38 @@ public final class LNode extends LShape {
     
     /**
      * Returns the index of the node in the containing layer's list of nodes.
-     * Note that this method has linear running time in the number of nodes,
-     * so use it with caution.
+     * The index is cached and validated against the layer's list of nodes,
+     * which makes this method run in constant time unless the list was modified
+     * since the last call. In that case, the indices of all of the layer's nodes
+     * are recomputed.
      * 
      * @return the index of this node, or -1 if the node has no owner
      */
     public int getIndex() {
         if (layer == null) {
             return -1;
-        } else {
-            return layer.getNodes().indexOf(this);
         }
+        
+        List<LNode> layerNodes = layer.getNodes();
+        int index = indexInLayer;
+        if (index < 0 || index >= layerNodes.size() || layerNodes.get(index) != this) {
+            layer.updateNodeIndices();
+            index = indexInLayer;
+            if (index < 0 || index >= layerNodes.size() || layerNodes.get(index) != this) {
+                // The node is not contained in its layer's list of nodes
+                return -1;
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Sets the cached index of this node in its layer's list of nodes. Only to be used by {@link Layer}.
+     * 
+     * @param index the node's current index
+     */
+    void setIndexInLayer(final int index) {
+        indexInLayer = index;
     }
     
     /**
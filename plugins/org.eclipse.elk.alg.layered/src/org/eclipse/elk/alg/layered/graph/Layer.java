@@ -63,6 +63,17 @@ public final class Layer extends LGraphElement implements Iterable<LNode> {
         return nodes;
     }
 
+    /**
+     * Recomputes the cached indices of all nodes in this layer's list of nodes. Called by
+     * {@link LNode#getIndex()} once it notices that its cached index is outdated, which happens
+     * whenever the list of nodes was modified.
+     */
+    void updateNodeIndices() {
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).setIndexInLayer(i);
+        }
+    }
+
     /**
      * Returns an iterator over the contained nodes.
      * 
@@ -213,7 +213,7 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
             mirrorNodeLabelPlacementX(node);
 
             // mirror position
-            if (node.getAllProperties().containsKey(LayeredOptions.POSITION)) {
+            if (node.hasProperty(LayeredOptions.POSITION)) {
                 mirrorX(node.getProperty(LayeredOptions.POSITION), offset - node.getSize().x);
             }
             
@@ -412,7 +412,7 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
             mirrorNodeLabelPlacementY(node);
             
             // mirror position
-            if (node.getAllProperties().containsKey(LayeredOptions.POSITION)) {
+            if (node.hasProperty(LayeredOptions.POSITION)) {
                 mirrorY(node.getProperty(LayeredOptions.POSITION), offset - node.getSize().y);
             }
             
@@ -839,7 +839,7 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
         }
         
         // POSITION
-        if (node.getAllProperties().containsKey(LayeredOptions.POSITION)) {
+        if (node.hasProperty(LayeredOptions.POSITION)) {
             KVector pos = node.getProperty(LayeredOptions.POSITION);
             double tmp = pos.x;
             pos.x = pos.y;
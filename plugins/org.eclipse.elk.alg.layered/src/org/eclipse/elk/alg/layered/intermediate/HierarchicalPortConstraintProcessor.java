@@ -81,9 +81,9 @@ public final class HierarchicalPortConstraintProcessor implements ILayoutProcess
         @Override
         public int compare(final LNode node1, final LNode node2) {
             NodeType nodeType1 = node1.getType();
-            double nodePos1 = node1.getProperty(InternalProperties.PORT_RATIO_OR_POSITION);
+            double nodePos1 = node1.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION);
             NodeType nodeType2 = node2.getType();
-            double nodePos2 = node2.getProperty(InternalProperties.PORT_RATIO_OR_POSITION);
+            double nodePos2 = node2.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION);
             
             if (nodeType2 != NodeType.EXTERNAL_PORT) {
                 return -1;
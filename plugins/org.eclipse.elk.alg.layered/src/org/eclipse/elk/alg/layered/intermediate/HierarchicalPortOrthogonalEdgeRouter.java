@@ -384,7 +384,7 @@ public final class HierarchicalPortOrthogonalEdgeRouter implements ILayoutProces
     private void applyNorthSouthDummyRatio(final LNode dummy, final double width) {
         KVector anchor = dummy.getProperty(LayeredOptions.PORT_ANCHOR);
         double offset = anchor == null ? 0 : anchor.x;
-        dummy.getPosition().x = width * dummy.getProperty(InternalProperties.PORT_RATIO_OR_POSITION)
+        dummy.getPosition().x = width * dummy.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION)
                 - offset;
     }
     
@@ -396,7 +396,7 @@ public final class HierarchicalPortOrthogonalEdgeRouter implements ILayoutProces
     private void applyNorthSouthDummyPosition(final LNode dummy) {
         KVector anchor = dummy.getProperty(LayeredOptions.PORT_ANCHOR);
         double offset = anchor == null ? 0 : anchor.x;
-        dummy.getPosition().x = dummy.getProperty(InternalProperties.PORT_RATIO_OR_POSITION) - offset;
+        dummy.getPosition().x = dummy.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION) - offset;
     }
     
     /**
@@ -442,8 +442,8 @@ public final class HierarchicalPortOrthogonalEdgeRouter implements ILayoutProces
         
         Arrays.sort(dummyArray, new Comparator<LNode>() {
             public int compare(final LNode a, final LNode b) {
-                return Double.compare(a.getProperty(InternalProperties.PORT_RATIO_OR_POSITION),
-                        b.getProperty(InternalProperties.PORT_RATIO_OR_POSITION));
+                return Double.compare(a.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION),
+                        b.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION));
             }
         });
         
@@ -758,13 +758,13 @@ public final class HierarchicalPortOrthogonalEdgeRouter implements ILayoutProces
             case EAST:
             case WEST:
                 if (constraints == PortConstraints.FIXED_RATIO) {
-                    double ratio = node.getProperty(InternalProperties.PORT_RATIO_OR_POSITION);
+                    double ratio = node.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION);
                     nodePosition.y = graphActualSize.y * ratio
                             - node.getProperty(LayeredOptions.PORT_ANCHOR).y;
                     requiredActualGraphHeight = nodePosition.y + extPortSize.y;
                     node.borderToContentAreaCoordinates(false, true);
                 } else if (constraints == PortConstraints.FIXED_POS) {
-                    nodePosition.y = node.getProperty(InternalProperties.PORT_RATIO_OR_POSITION)
+                    nodePosition.y = node.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION)
                             - node.getProperty(LayeredOptions.PORT_ANCHOR).y;
                     requiredActualGraphHeight = nodePosition.y + extPortSize.y;
                     node.borderToContentAreaCoordinates(false, true);
@@ -107,7 +107,7 @@ public final class HierarchicalPortPositionProcessor implements ILayoutProcessor
                 continue;
             }
             
-            double finalYCoordinate = node.getProperty(InternalProperties.PORT_RATIO_OR_POSITION);
+            double finalYCoordinate = node.getDoubleProperty(InternalProperties.PORT_RATIO_OR_POSITION);
             
             if (portConstraints == PortConstraints.FIXED_RATIO) {
                 // finalYCoordinate is a ratio that must be multiplied with the graph's height
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.intermediate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+/**
+ * Prepares a graph that is laid out incrementally for the interactive strategies of the first three phases. Nodes
+ * that were part of the previous layout are moved to pseudo positions that reflect their previous layer and in-layer
+ * position. Nodes that are new are placed next to their already placed neighbors: right of their predecessors (or
+ * left of their successors) and at the average position of their neighbors. Nodes of components that are entirely
+ * new are placed below all other nodes. The interactive strategies then only have to repair the layering and node
+ * order where the new or reconnected nodes require it.
+ *
+ * <p>Since the original bend points of the edges refer to the previous coordinates, they are dropped.</p>
+ *
+ * <dl>
+ *   <dt>Precondition:</dt>
+ *     <dd>an unlayered graph whose nodes may carry {@link InternalProperties#INCREMENTAL_LAYER} and
+ *       {@link InternalProperties#INCREMENTAL_POSITION}.</dd>
+ *   <dt>Postcondition:</dt>
+ *     <dd>regular nodes have pseudo positions that encode their layer and their position in the layer.</dd>
+ *   <dt>Slots:</dt>
+ *     <dd>Before phase 1.</dd>
+ *   <dt>Same-slot dependencies:</dt>
+ *     <dd>After {@link GraphTransformer}</dd>
+ *     <dd>Before {@link InteractiveExternalPortPositioner}</dd>
+ * </dl>
+ */
+public final class IncrementalLayoutPreprocessor implements ILayoutProcessor<LGraph> {
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor progressMonitor) {
+        progressMonitor.begin("Incremental layout preprocessing", 1);
+
+        List<LNode> nodes = layeredGraph.getLayerlessNodes();
+        double[] layers = new double[nodes.size()];
+        double[] positions = new double[nodes.size()];
+        boolean[] placed = new boolean[nodes.size()];
+
+        // Place the nodes that were already part of the previous layout
+        Deque<LNode> queue = new ArrayDeque<>();
+        double maxWidth = 0, maxHeight = 0;
+        double maxPosition = -1;
+        int index = 0;
+        for (LNode node : nodes) {
+            node.id = index++;
+            maxWidth = Math.max(maxWidth, node.getSize().x);
+            maxHeight = Math.max(maxHeight, node.getSize().y);
+
+            Integer layer = node.getProperty(InternalProperties.INCREMENTAL_LAYER);
+            if (layer != null && node.getType() == NodeType.NORMAL) {
+                layers[node.id] = layer;
+                positions[node.id] = node.getProperty(InternalProperties.INCREMENTAL_POSITION);
+                placed[node.id] = true;
+                maxPosition = Math.max(maxPosition, positions[node.id]);
+                queue.add(node);
+            }
+
+            for (LEdge edge : node.getOutgoingEdges()) {
+                edge.setProperty(InternalProperties.ORIGINAL_BENDPOINTS, null);
+            }
+        }
+
+        // Place new nodes next to their neighbors, starting a new component below everything else if there are no
+        // placed neighbors left
+        for (LNode node : nodes) {
+            if (!placed[node.id] && node.getType() == NodeType.NORMAL) {
+                layers[node.id] = 0;
+                positions[node.id] = ++maxPosition;
+                placed[node.id] = true;
+                queue.add(node);
+            }
+
+            while (!queue.isEmpty()) {
+                LNode current = queue.poll();
+                for (LEdge edge : current.getConnectedEdges()) {
+                    LNode neighbor = edge.getSource().getNode() == current
+                            ? edge.getTarget().getNode() : edge.getSource().getNode();
+                    if (!placed[neighbor.id] && neighbor.getType() == NodeType.NORMAL) {
+                        placeNextToNeighbors(neighbor, layers, positions, placed);
+                        maxPosition = Math.max(maxPosition, positions[neighbor.id]);
+                        queue.add(neighbor);
+                    }
+                }
+            }
+        }
+
+        // Turn layers and positions into coordinates such that nodes of different layers do not overlap horizontally
+        // and nodes of the same layer are sorted by their positions
+        double layerStep = maxWidth + 1;
+        double positionStep = maxHeight + 1;
+        for (LNode node : nodes) {
+            if (placed[node.id]) {
+                node.getPosition().x = layers[node.id] * layerStep;
+                node.getPosition().y = positions[node.id] * positionStep;
+            }
+        }
+
+        progressMonitor.done();
+    }
+
+    /**
+     * Places the given node right of its rightmost placed predecessor or, if it has none, left of its leftmost placed
+     * successor, at the average position of all of its placed neighbors.
+     */
+    private void placeNextToNeighbors(final LNode node, final double[] layers, final double[] positions,
+            final boolean[] placed) {
+
+        double predecessorLayer = Double.NEGATIVE_INFINITY;
+        double successorLayer = Double.POSITIVE_INFINITY;
+        double positionSum = 0;
+        int neighborCount = 0;
+        for (LEdge edge : node.getIncomingEdges()) {
+            LNode source = edge.getSource().getNode();
+            if (placed[source.id] && source != node) {
+                predecessorLayer = Math.max(predecessorLayer, layers[source.id]);
+                positionSum += positions[source.id];
+                neighborCount++;
+            }
+        }
+        for (LEdge edge : node.getOutgoingEdges()) {
+            LNode target = edge.getTarget().getNode();
+            if (placed[target.id] && target != node) {
+                successorLayer = Math.min(successorLayer, layers[target.id]);
+                positionSum += positions[target.id];
+                neighborCount++;
+            }
+        }
+
+        layers[node.id] = predecessorLayer > Double.NEGATIVE_INFINITY ? predecessorLayer + 1 : successorLayer - 1;
+        positions[node.id] = positionSum / neighborCount;
+        placed[node.id] = true;
+    }
+
+}
@@ -40,6 +40,8 @@ public enum IntermediateProcessorStrategy implements ILayoutProcessorFactory<LGr
     COMMENT_PREPROCESSOR,
     /** Makes sure nodes with layer constraints have only incoming or only outgoing edges. */
     EDGE_AND_LAYER_CONSTRAINT_EDGE_REVERSER,
+    /** Moves the nodes of incrementally laid out graphs to positions that reflect their previous layout. */
+    INCREMENTAL_LAYOUT_PREPROCESSOR,
     /** If one of the phases is set to interactive mode, this processor positions external ports. */
     INTERACTIVE_EXTERNAL_PORT_POSITIONER,
     /** Reverse edges that run from higher-index to lower-index partitions. */
@@ -247,6 +249,9 @@ public enum IntermediateProcessorStrategy implements ILayoutProcessorFactory<LGr
         case HYPERNODE_PROCESSOR:
             return new HypernodesProcessor();
 
+        case INCREMENTAL_LAYOUT_PREPROCESSOR:
+            return new IncrementalLayoutPreprocessor();
+
         case IN_LAYER_CONSTRAINT_PROCESSOR:
             return new InLayerConstraintProcessor();
 
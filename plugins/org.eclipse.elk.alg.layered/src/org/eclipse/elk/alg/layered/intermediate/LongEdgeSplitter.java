@@ -11,6 +11,7 @@ package org.eclipse.elk.alg.layered.intermediate;
 
 import java.util.ListIterator;
 
+import org.eclipse.elk.alg.layered.LayeredMetrics;
 import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LLabel;
@@ -64,6 +65,7 @@ public final class LongEdgeSplitter implements ILayoutProcessor<LGraph> {
         }
         
         // Iterate through the layers
+        int dummyNodes = 0;
         ListIterator<Layer> layerIter = layeredGraph.getLayers().listIterator();
         Layer nextLayer = layerIter.next();
         while (layerIter.hasNext()) {
@@ -86,12 +88,14 @@ public final class LongEdgeSplitter implements ILayoutProcessor<LGraph> {
                             
                             // Split the edge
                             splitEdge(edge, createDummyNode(layeredGraph, nextLayer, edge));
+                            dummyNodes++;
                         }
                     }
                 }
             }
         }
         
+        LayeredMetrics.count(layeredGraph, LayeredMetrics.DUMMY_NODES, dummyNodes);
         monitor.done();
     }
 
@@ -132,10 +136,10 @@ public final class LongEdgeSplitter implements ILayoutProcessor<LGraph> {
         LPort oldEdgeTarget = edge.getTarget();
         
         // Set thickness of the edge
-        double thickness = edge.getProperty(LayeredOptions.EDGE_THICKNESS);
+        double thickness = edge.getDoubleProperty(LayeredOptions.EDGE_THICKNESS);
         if (thickness < 0) {
             thickness = 0;
-            edge.setProperty(LayeredOptions.EDGE_THICKNESS, thickness);
+            edge.setDoubleProperty(LayeredOptions.EDGE_THICKNESS, thickness);
         }
         dummyNode.getSize().y = thickness;
         double portPos = Math.floor(thickness / 2);
@@ -192,8 +192,8 @@ public class ModelOrderNodeComparator implements Comparator<LNode> {
             // The model order shall be used to order them.
         }
         // Order nodes by their order in the model.
-        int n1ModelOrder = n1.getProperty(InternalProperties.MODEL_ORDER);
-        int n2ModelOrder = n2.getProperty(InternalProperties.MODEL_ORDER);
+        int n1ModelOrder = n1.getIntProperty(InternalProperties.MODEL_ORDER);
+        int n2ModelOrder = n2.getIntProperty(InternalProperties.MODEL_ORDER);
         if (n1ModelOrder > n2ModelOrder) {
             updateBiggerAndSmallerAssociations(n1, n2);
         } else {
@@ -216,7 +216,7 @@ public class ModelOrderNodeComparator implements Comparator<LNode> {
         if (sourcePort != null) {
             LEdge edge = sourcePort.getIncomingEdges().get(0);
             if (edge != null) {
-                return edge.getProperty(InternalProperties.MODEL_ORDER);
+                return edge.getIntProperty(InternalProperties.MODEL_ORDER);
             }
         }
         // Set to -1 to sort dummy nodes under nodes without a connection to the previous layer.
@@ -150,8 +150,8 @@ public class ModelOrderPortComparator implements Comparator<LPort> {
             LNode p1Node = p1.getIncomingEdges().get(0).getSource().getNode();
             LNode p2Node = p2.getIncomingEdges().get(0).getSource().getNode();
             if (p1Node.equals(p2Node)) {
-                int p1MO = p1.getIncomingEdges().get(0).getProperty(InternalProperties.MODEL_ORDER);
-                int p2MO = p2.getIncomingEdges().get(0).getProperty(InternalProperties.MODEL_ORDER);
+                int p1MO = p1.getIncomingEdges().get(0).getIntProperty(InternalProperties.MODEL_ORDER);
+                int p2MO = p2.getIncomingEdges().get(0).getIntProperty(InternalProperties.MODEL_ORDER);
                 if (p1MO > p2MO) {
                     updateBiggerAndSmallerAssociations(p1, p2);
                 } else {
@@ -180,8 +180,8 @@ public class ModelOrderPortComparator implements Comparator<LPort> {
             if (this.strategy == OrderingStrategy.PREFER_NODES && p1TargetNode != null && p2TargetNode != null
                     && p1TargetNode.hasProperty(InternalProperties.MODEL_ORDER)
                     && p2TargetNode.hasProperty(InternalProperties.MODEL_ORDER)) {
-                int p1MO = p1TargetNode.getProperty(InternalProperties.MODEL_ORDER);
-                int p2MO = p2TargetNode.getProperty(InternalProperties.MODEL_ORDER);
+                int p1MO = p1TargetNode.getIntProperty(InternalProperties.MODEL_ORDER);
+                int p2MO = p2TargetNode.getIntProperty(InternalProperties.MODEL_ORDER);
                 if (p1MO > p2MO) {
                     updateBiggerAndSmallerAssociations(p1, p2);
                 } else {
@@ -207,10 +207,10 @@ public class ModelOrderPortComparator implements Comparator<LPort> {
             int p1Order = 0;
             int p2Order = 0;
             if (p1.getOutgoingEdges().get(0).hasProperty(InternalProperties.MODEL_ORDER)) {
-                p1Order = p1.getOutgoingEdges().get(0).getProperty(InternalProperties.MODEL_ORDER);
+                p1Order = p1.getOutgoingEdges().get(0).getIntProperty(InternalProperties.MODEL_ORDER);
             }
             if (p2.getOutgoingEdges().get(0).hasProperty(InternalProperties.MODEL_ORDER)) {
-                p2Order = p1.getOutgoingEdges().get(0).getProperty(InternalProperties.MODEL_ORDER);
+                p2Order = p1.getOutgoingEdges().get(0).getIntProperty(InternalProperties.MODEL_ORDER);
             }
             
             // Same target node
@@ -258,8 +258,8 @@ public class ModelOrderPortComparator implements Comparator<LPort> {
         } else if (p1.hasProperty(InternalProperties.MODEL_ORDER) && p2.hasProperty(InternalProperties.MODEL_ORDER)) {
             // The ports have no edges.
             // Use the port model order to compare them.
-            int p1MO = p1.getProperty(InternalProperties.MODEL_ORDER);
-            int p2MO = p2.getProperty(InternalProperties.MODEL_ORDER);
+            int p1MO = p1.getIntProperty(InternalProperties.MODEL_ORDER);
+            int p2MO = p2.getIntProperty(InternalProperties.MODEL_ORDER);
             if (p1MO > p2MO) {
                 updateBiggerAndSmallerAssociations(p1, p2);
             } else {
@@ -285,8 +285,8 @@ public class ModelOrderPortComparator implements Comparator<LPort> {
     public int checkPortModelOrder(final LPort p1, final LPort p2) {
         if (p1.hasProperty(InternalProperties.MODEL_ORDER)
                 && p2.hasProperty(InternalProperties.MODEL_ORDER)) {
-            return Integer.compare(p1.getProperty(InternalProperties.MODEL_ORDER),
-                    p2.getProperty(InternalProperties.MODEL_ORDER));
+            return Integer.compare(p1.getIntProperty(InternalProperties.MODEL_ORDER),
+                    p2.getIntProperty(InternalProperties.MODEL_ORDER));
         }
         return 0;
     }
@@ -453,6 +453,24 @@ public final class InternalProperties {
      */
     public static final IProperty<Map<LNode, Integer>> TARGET_NODE_MODEL_ORDER = new Property<>("targetNode.modelOrder");
     
+    /**
+     * Set on graphs that are laid out incrementally, i.e. based on the layers and in-layer positions their nodes had
+     * in a previous layout.
+     */
+    public static final IProperty<Boolean> INCREMENTAL_LAYOUT = new Property<>("incremental.layout", false);
+    
+    /**
+     * The layer a node was placed in by the previous layout of an incrementally laid out graph. Only set on nodes
+     * that were already part of the previous layout.
+     */
+    public static final IProperty<Integer> INCREMENTAL_LAYER = new Property<>("incremental.layer");
+    
+    /**
+     * The position a node had in its layer in the previous layout of an incrementally laid out graph. Only set on
+     * nodes that were already part of the previous layout.
+     */
+    public static final IProperty<Integer> INCREMENTAL_POSITION = new Property<>("incremental.position");
+    
     /**
      * Hidden default constructor.
      */
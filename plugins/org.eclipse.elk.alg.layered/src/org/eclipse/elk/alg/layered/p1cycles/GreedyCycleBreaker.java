@@ -105,7 +105,7 @@ public class GreedyCycleBreaker implements ILayoutPhase<LayeredPhases, LGraph> {
                         continue;
                     }
                     
-                    int priority = edge.getProperty(LayeredOptions.PRIORITY_DIRECTION);
+                    int priority = edge.getIntProperty(LayeredOptions.PRIORITY_DIRECTION);
                     indeg[index] += priority > 0 ? priority + 1 : 1;
                 }
                 
@@ -115,7 +115,7 @@ public class GreedyCycleBreaker implements ILayoutPhase<LayeredPhases, LGraph> {
                         continue;
                     }
                     
-                    int priority = edge.getProperty(LayeredOptions.PRIORITY_DIRECTION);
+                    int priority = edge.getIntProperty(LayeredOptions.PRIORITY_DIRECTION);
                     outdeg[index] += priority > 0 ? priority + 1 : 1;
                 }
             }
@@ -249,7 +249,7 @@ public class GreedyCycleBreaker implements ILayoutPhase<LayeredPhases, LGraph> {
                     continue;
                 }
                 
-                int priority = edge.getProperty(LayeredOptions.PRIORITY_DIRECTION);
+                int priority = edge.getIntProperty(LayeredOptions.PRIORITY_DIRECTION);
                 if (priority < 0) {
                     priority = 0;
                 }
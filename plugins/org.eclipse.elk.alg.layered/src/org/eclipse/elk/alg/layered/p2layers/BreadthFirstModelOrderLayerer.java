@@ -72,8 +72,8 @@ public final class BreadthFirstModelOrderLayerer implements ILayoutPhase<Layered
         // Sort real nodes by model order.
         Collections.sort(realNodes, (n1, n2) -> {
             if (n1.hasProperty(InternalProperties.MODEL_ORDER) && n2.hasProperty(InternalProperties.MODEL_ORDER)) {
-                return Integer.compare(n1.getProperty(InternalProperties.MODEL_ORDER),
-                        n2.getProperty(InternalProperties.MODEL_ORDER));
+                return Integer.compare(n1.getIntProperty(InternalProperties.MODEL_ORDER),
+                        n2.getIntProperty(InternalProperties.MODEL_ORDER));
             }
             throw new UnsupportedGraphException("The BF model order layer assigner requires all real nodes to have"
                     + " a model order.");
@@ -18,6 +18,7 @@ import org.eclipse.elk.alg.common.networksimplex.NEdge;
 import org.eclipse.elk.alg.common.networksimplex.NGraph;
 import org.eclipse.elk.alg.common.networksimplex.NNode;
 import org.eclipse.elk.alg.common.networksimplex.NetworkSimplex;
+import org.eclipse.elk.alg.layered.LayeredMetrics;
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
@@ -197,7 +198,7 @@ public final class NetworkSimplexLayerer implements ILayoutPhase<LayeredPhases,
                 }
                 
                 NEdge.of(lEdge)
-                     .weight(1 * Math.max(1, lEdge.getProperty(LayeredOptions.PRIORITY_SHORTNESS)))
+                     .weight(1 * Math.max(1, lEdge.getIntProperty(LayeredOptions.PRIORITY_SHORTNESS)))
                      .delta(1)
                      .source(nodeMap.get(lEdge.getSource().getNode()))
                      .target(nodeMap.get(lEdge.getTarget().getNode()))
@@ -259,10 +260,12 @@ public final class NetworkSimplexLayerer implements ILayoutPhase<LayeredPhases,
             NGraph graph = initialize(connComp);
 
             // execute the network simplex algorithm on the (sub-)graph
-            NetworkSimplex.forGraph(graph).withIterationLimit(iterLimit)
+            NetworkSimplex networkSimplex = NetworkSimplex.forGraph(graph).withIterationLimit(iterLimit)
                     .withPreviousLayering(previousLayeringNodeCounts)
-                    .withBalancing(true)
-                    .execute(monitor.subTask(1));
+                    .withBalancing(true);
+            networkSimplex.execute(monitor.subTask(1));
+            LayeredMetrics.count(layeredGraph, LayeredMetrics.NETWORK_SIMPLEX_ITERATIONS,
+                    networkSimplex.getIterations());
 
             // the layers are store in the NNode's layer field.
             List<Layer> layers = layeredGraph.getLayers();
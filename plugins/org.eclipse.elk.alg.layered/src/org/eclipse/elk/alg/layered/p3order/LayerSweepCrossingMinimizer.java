@@ -12,12 +12,18 @@ package org.eclipse.elk.alg.layered.p3order;
 import java.util.ArrayDeque;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.IHierarchyAwareLayoutProcessor;
+import org.eclipse.elk.alg.layered.LayeredMetrics;
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LNode;
@@ -31,13 +37,18 @@ import org.eclipse.elk.alg.layered.options.InternalProperties;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.alg.layered.options.LongEdgeOrderingStrategy;
 import org.eclipse.elk.alg.layered.options.OrderingStrategy;
+import org.eclipse.elk.alg.layered.p3order.counting.AllCrossingsCounter;
 import org.eclipse.elk.alg.layered.p3order.counting.CrossMinUtil;
+import org.eclipse.elk.alg.layered.p3order.counting.IInitializable;
 import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.options.HierarchyHandling;
 import org.eclipse.elk.core.options.PortConstraints;
 import org.eclipse.elk.core.options.PortSide;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -60,6 +71,13 @@ import com.google.common.collect.Sets;
  * 
  * Therefore this is a <i>hierarchical</i> processor which must have access to the root graph.
  * <p>
+ * If the crossing minimization heuristic is randomized, several runs are compared and the best result is kept. If
+ * {@link LayeredOptions#CONCURRENCY_THREADS} allows more than one thread, the runs of graphs without nested graphs
+ * are executed concurrently, each on a copy of the graph and with a random number generator of its own. The results
+ * do not depend on the number of threads, but usually differ from those of a sequential execution, whose runs share
+ * the graph's random number generator.
+ * </p>
+ * <p>
  * Reference for the original layer sweep:
  * <ul>
  * <li>Kozo Sugiyama, Shojiro Tagawa, and Mitsuhiko Toda. Methods for visual understanding of hierarchical system
@@ -88,6 +106,8 @@ public class LayerSweepCrossingMinimizer
     private Random random;
     private long randomSeed;
     private CrossMinType crossMinType;
+    /** Number of threads randomized runs may be executed on. */
+    private int threads = 1;
 
     /**
      * Creates LayerSweepHierarchicalCrossingMinimizer using given minimizer type.
@@ -119,6 +139,11 @@ public class LayerSweepCrossingMinimizer
             return;
         }
 
+        boolean recording = LayeredMetrics.isRecording(layeredGraph);
+        if (recording) {
+            LayeredMetrics.count(layeredGraph, LayeredMetrics.CROSSINGS_BEFORE, countCrossings(layeredGraph));
+        }
+
         List<GraphInfoHolder> graphsToSweepOn = initialize(layeredGraph);
 
         Consumer<GraphInfoHolder> minimizingMethod = chooseMinimizingMethod(graphsToSweepOn);
@@ -127,9 +152,47 @@ public class LayerSweepCrossingMinimizer
 
         transferNodeAndPortOrdersToGraph();
 
+        if (recording) {
+            LayeredMetrics.count(layeredGraph, LayeredMetrics.CROSSINGS_AFTER, countCrossings(layeredGraph));
+        }
+
         progressMonitor.done();
     }
 
+    /**
+     * Counts the crossings of the given graph in its current node and port order. Nested graphs are not taken into
+     * account. Counting requires identifiers of its own for the graph's nodes and ports, so their previous identifiers
+     * are restored afterwards.
+     */
+    private static int countCrossings(final LGraph graph) {
+        LNode[][] nodeOrder = graph.toNodeArray();
+        List<Integer> savedIds = Lists.newArrayList();
+        for (LNode[] layer : nodeOrder) {
+            for (int i = 0; i < layer.length; i++) {
+                savedIds.add(layer[i].id);
+                for (LPort port : layer[i].getPorts()) {
+                    savedIds.add(port.id);
+                }
+                layer[i].id = i;
+            }
+        }
+        try {
+            AllCrossingsCounter counter = new AllCrossingsCounter(nodeOrder);
+            IInitializable.init(Lists.newArrayList(counter), nodeOrder);
+            return counter.countAllCrossings(nodeOrder);
+        } finally {
+            Iterator<Integer> ids = savedIds.iterator();
+            for (LNode[] layer : nodeOrder) {
+                for (LNode node : layer) {
+                    node.id = ids.next();
+                    for (LPort port : node.getPorts()) {
+                        port.id = ids.next();
+                    }
+                }
+            }
+        }
+    }
+
     private Consumer<GraphInfoHolder> chooseMinimizingMethod(final List<GraphInfoHolder> graphsToSweepOn) {
         GraphInfoHolder parent = graphsToSweepOn.get(0);
         if (!parent.crossMinDeterministic()) {
@@ -184,6 +247,14 @@ public class LayerSweepCrossingMinimizer
         // In order to only copy graphs whose node order has changed, save them in a set.
         graphsWhoseNodeOrderChanged.clear();
 
+        // elkjs-exclude-start
+        if (threads > 1 && gData.childGraphs().isEmpty()
+                && gData.lGraph().getProperty(LayeredOptions.THOROUGHNESS) > 1) {
+            compareDifferentRandomizedLayoutsConcurrently(gData);
+            return;
+        }
+        // elkjs-exclude-end
+
         if (gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0
             || gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0) {
             double bestCrossings = Double.MAX_VALUE;
@@ -224,6 +295,96 @@ public class LayerSweepCrossingMinimizer
         }
     }
 
+    // elkjs-exclude-start
+    /**
+     * Executes the randomized runs of {@link #compareDifferentRandomizedLayouts(GraphInfoHolder)} concurrently. Each
+     * run works on a copy of the graph, starts from the graph's current node and port order, and uses a random number
+     * generator initialized with a seed of its own. The seeds are drawn from the random number generator up front.
+     * Once all runs have finished, the first run in run order with the fewest crossings wins, which makes the result
+     * independent of how runs are scheduled.
+     */
+    private void compareDifferentRandomizedLayoutsConcurrently(final GraphInfoHolder gData) {
+        final LGraph graph = gData.lGraph();
+        final boolean considerModelOrder =
+                graph.getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_STRATEGY) != OrderingStrategy.NONE;
+        // Same criterion as for sequential runs
+        final boolean countModelOrderChanges =
+                graph.getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0;
+        int thouroughness = graph.getProperty(LayeredOptions.THOROUGHNESS);
+
+        List<Callable<RandomizedRun>> runs = Lists.newArrayListWithCapacity(thouroughness);
+        for (int i = 0; i < thouroughness; i++) {
+            final long seed = random.nextLong();
+            // Just as in sequential runs, the first run tries to keep the initial order if model order matters
+            final boolean firstTry = considerModelOrder && i == 0;
+            runs.add(() -> runOnCopy(gData, seed, firstTry, countModelOrderChanges));
+        }
+
+        ExecutorService executor = ElkConcurrency.newExecutor(Math.min(threads, thouroughness));
+        List<RandomizedRun> results;
+        try {
+            results = ElkConcurrency.invokeAll(executor, runs);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+
+        double bestCrossings = Double.MAX_VALUE;
+        for (RandomizedRun run : results) {
+            if (run.crossings < bestCrossings) {
+                bestCrossings = run.crossings;
+                if (run.bestSweep != null) {
+                    gData.setBestNodeNPortOrder(run.bestSweep);
+                }
+                if (bestCrossings == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs a single randomized run on a copy of the given graph. If model order matters, only the first run tries
+     * to keep the initial order. This matches runs on the graph itself: since
+     * {@link InternalProperties#SECOND_TRY_WITH_INITIAL_ORDER} shares its identifier with
+     * {@link InternalProperties#FIRST_TRY_WITH_INITIAL_ORDER}, the first run already clears both.
+     */
+    private RandomizedRun runOnCopy(final GraphInfoHolder gData, final long seed, final boolean firstTry,
+            final boolean countModelOrderChanges) {
+
+        RestartGraphCopy copy = new RestartGraphCopy(gData.lGraph(), gData.currentNodeOrder());
+        LGraph graphCopy = copy.graph();
+        graphCopy.setProperty(InternalProperties.RANDOM, new Random(seed));
+        graphCopy.setProperty(InternalProperties.FIRST_TRY_WITH_INITIAL_ORDER, firstTry);
+
+        LayerSweepCrossingMinimizer runMinimizer = new LayerSweepCrossingMinimizer(crossMinType);
+        runMinimizer.initialize(graphCopy);
+        GraphInfoHolder gDataCopy = runMinimizer.graphInfoHolders.get(0);
+
+        double crossings = countModelOrderChanges
+                ? runMinimizer.minimizeCrossingsNodePortOrderWithCounter(gDataCopy)
+                : runMinimizer.minimizeCrossingsWithCounter(gDataCopy);
+        SweepCopy bestSweep = gDataCopy.currentlyBestNodeAndPortOrder();
+        return new RandomizedRun(crossings, bestSweep == null ? null : copy.toOriginal(bestSweep));
+    }
+
+    /**
+     * Result of a single randomized run.
+     */
+    private static final class RandomizedRun {
+        /** the number of crossings of the best order found by the run. */
+        private final double crossings;
+        /** the best order found by the run, or {@code null} if the run kept the initial order. */
+        private final SweepCopy bestSweep;
+
+        RandomizedRun(final double crossings, final SweepCopy bestSweep) {
+            this.crossings = crossings;
+            this.bestSweep = bestSweep;
+        }
+    }
+    // elkjs-exclude-end
+
     private int minimizeCrossingsWithCounter(final GraphInfoHolder gData) {
         boolean isForwardSweep = random.nextBoolean();
 
@@ -595,6 +756,9 @@ public class LayerSweepCrossingMinimizer
         graphInfoHolders = Lists.newArrayList();
         random = rootGraph.getProperty(InternalProperties.RANDOM);
         randomSeed = random.nextLong();
+        // elkjs-exclude-start
+        threads = ElkConcurrency.resolveThreadCount(rootGraph.getProperty(LayeredOptions.CONCURRENCY_THREADS));
+        // elkjs-exclude-end
         List<GraphInfoHolder> graphsToSweepOn = Lists.newLinkedList();
         List<LGraph> graphs = Lists.<LGraph>newArrayList(rootGraph);
         int i = 0;
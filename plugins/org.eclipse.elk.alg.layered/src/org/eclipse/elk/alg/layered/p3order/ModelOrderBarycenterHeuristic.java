@@ -67,8 +67,8 @@ public class ModelOrderBarycenterHeuristic extends AbstractBarycenterHeuristicPr
      */
     @Override
     protected int compareNodeOrder(LNode node1, LNode node2) {
-        return Integer.compare(node1.getProperty(InternalProperties.MODEL_ORDER),
-                node2.getProperty(InternalProperties.MODEL_ORDER));
+        return Integer.compare(node1.getIntProperty(InternalProperties.MODEL_ORDER),
+                node2.getIntProperty(InternalProperties.MODEL_ORDER));
     }
 
 }
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p3order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LGraphElement;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.graph.properties.IProperty;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A copy of a graph without nested graphs that a randomized run of the {@link LayerSweepCrossingMinimizer} can
+ * work on without touching the original graph. This allows several runs to be executed concurrently, each of which
+ * reorders nodes and ports of a copy of its own.
+ *
+ * <p>Nodes, ports, and edges are copied along with their properties. Property values that reference nodes, ports, or
+ * edges of the original graph, either directly or through a list, are replaced by references to the corresponding
+ * copies. Other property values are shared with the original graph and must not be modified.</p>
+ */
+final class RestartGraphCopy {
+
+    /** the copied graph. */
+    private final LGraph graph = new LGraph();
+    /** maps nodes of the original graph to their copies. */
+    private final Map<LNode, LNode> nodeCopies = Maps.newHashMap();
+    /** maps ports of the original graph to their copies. */
+    private final Map<LPort, LPort> portCopies = Maps.newHashMap();
+    /** maps edges of the original graph to their copies. */
+    private final Map<LEdge, LEdge> edgeCopies = Maps.newHashMap();
+    /** maps copied nodes back to the nodes of the original graph. */
+    private final Map<LNode, LNode> originalNodes = Maps.newHashMap();
+    /** maps copied ports back to the ports of the original graph. */
+    private final Map<LPort, LPort> originalPorts = Maps.newHashMap();
+
+    /**
+     * Copies the given graph. The copy's layers contain the nodes in the given order, their ports in the order of
+     * their current port lists.
+     *
+     * @param original
+     *            the graph to copy. Must not contain nodes with nested graphs.
+     * @param nodeOrder
+     *            the current order of the graph's nodes.
+     */
+    RestartGraphCopy(final LGraph original, final LNode[][] nodeOrder) {
+        graph.copyProperties(original);
+
+        for (LNode[] layerNodes : nodeOrder) {
+            Layer layer = new Layer(graph);
+            graph.getLayers().add(layer);
+
+            for (LNode node : layerNodes) {
+                LNode nodeCopy = new LNode(graph);
+                nodeCopy.setType(node.getType());
+                nodeCopy.copyProperties(node);
+                nodeCopy.setLayer(layer);
+                nodeCopies.put(node, nodeCopy);
+                originalNodes.put(nodeCopy, node);
+
+                for (LPort port : node.getPorts()) {
+                    LPort portCopy = new LPort();
+                    portCopy.copyProperties(port);
+                    portCopy.setSide(port.getSide());
+                    portCopy.setNode(nodeCopy);
+                    portCopies.put(port, portCopy);
+                    originalPorts.put(portCopy, port);
+                }
+                nodeCopy.cachePortSides();
+            }
+        }
+
+        copyEdges();
+        replaceReferences(graph);
+        nodeCopies.values().forEach(this::replaceReferences);
+        portCopies.values().forEach(this::replaceReferences);
+        edgeCopies.values().forEach(this::replaceReferences);
+    }
+
+    /**
+     * Copies all edges between copied ports and makes sure that the copied ports list their edges in the same order as
+     * the original ports do.
+     */
+    private void copyEdges() {
+        for (Map.Entry<LPort, LPort> entry : portCopies.entrySet()) {
+            for (LEdge edge : entry.getKey().getOutgoingEdges()) {
+                LPort targetCopy = portCopies.get(edge.getTarget());
+                if (targetCopy != null) {
+                    LEdge edgeCopy = new LEdge();
+                    edgeCopy.copyProperties(edge);
+                    edgeCopy.setSource(entry.getValue());
+                    edgeCopy.setTarget(targetCopy);
+                    edgeCopies.put(edge, edgeCopy);
+                }
+            }
+        }
+
+        for (Map.Entry<LPort, LPort> entry : portCopies.entrySet()) {
+            copyEdgeOrder(entry.getKey().getOutgoingEdges(), entry.getValue().getOutgoingEdges());
+            copyEdgeOrder(entry.getKey().getIncomingEdges(), entry.getValue().getIncomingEdges());
+        }
+    }
+
+    private void copyEdgeOrder(final List<LEdge> originalEdges, final List<LEdge> copiedEdges) {
+        copiedEdges.clear();
+        for (LEdge edge : originalEdges) {
+            LEdge edgeCopy = edgeCopies.get(edge);
+            if (edgeCopy != null) {
+                copiedEdges.add(edgeCopy);
+            }
+        }
+    }
+
+    /**
+     * Replaces property values of the given element that reference elements of the original graph.
+     */
+    @SuppressWarnings("unchecked")
+    private void replaceReferences(final LGraphElement element) {
+        for (Map.Entry<IProperty<?>, Object> entry : element.getAllProperties().entrySet()) {
+            Object value = entry.getValue();
+            Object valueCopy = value;
+            if (value instanceof List<?>) {
+                List<?> list = (List<?>) value;
+                if (list.stream().anyMatch(item -> copyOf(item) != item)) {
+                    List<Object> listCopy = new ArrayList<>(list.size());
+                    list.forEach(item -> listCopy.add(copyOf(item)));
+                    valueCopy = listCopy;
+                }
+            } else {
+                valueCopy = copyOf(value);
+            }
+
+            if (valueCopy != value) {
+                element.setProperty((IProperty<Object>) entry.getKey(), valueCopy);
+            }
+        }
+    }
+
+    private Object copyOf(final Object object) {
+        Object copy = null;
+        if (object instanceof LNode) {
+            copy = nodeCopies.get(object);
+        } else if (object instanceof LPort) {
+            copy = portCopies.get(object);
+        } else if (object instanceof LEdge) {
+            copy = edgeCopies.get(object);
+        }
+        return copy != null ? copy : object;
+    }
+
+    /**
+     * Returns the copied graph.
+     *
+     * @return the copy.
+     */
+    LGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Translates a node and port order computed on the copy into the corresponding order of the original graph's
+     * nodes and ports.
+     *
+     * @param sweep
+     *            node and port order of the copy.
+     * @return the equivalent node and port order of the original graph.
+     */
+    SweepCopy toOriginal(final SweepCopy sweep) {
+        LNode[][] copiedNodes = sweep.nodes();
+        LNode[][] nodes = new LNode[copiedNodes.length][];
+        List<List<List<LPort>>> portOrders = Lists.newArrayListWithCapacity(copiedNodes.length);
+
+        for (int l = 0; l < copiedNodes.length; l++) {
+            nodes[l] = new LNode[copiedNodes[l].length];
+            List<List<LPort>> layerPorts = Lists.newArrayListWithCapacity(copiedNodes[l].length);
+            portOrders.add(layerPorts);
+
+            for (int n = 0; n < copiedNodes[l].length; n++) {
+                nodes[l][n] = originalNodes.get(copiedNodes[l][n]);
+                List<LPort> copiedPorts = sweep.ports().get(l).get(n);
+                List<LPort> ports = new ArrayList<>(copiedPorts.size());
+                for (LPort port : copiedPorts) {
+                    ports.add(originalPorts.get(port));
+                }
+                layerPorts.add(ports);
+            }
+        }
+
+        return new SweepCopy(nodes, portOrders);
+    }
+
+}
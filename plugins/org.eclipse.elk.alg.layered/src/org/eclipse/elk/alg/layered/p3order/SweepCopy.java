@@ -62,6 +62,19 @@ class SweepCopy {
         portOrders = new ArrayList<>(sc.portOrders);
     }
 
+    /**
+     * Takes ownership of the given node and port orders without copying them.
+     * 
+     * @param nodeOrder
+     *            the node order.
+     * @param portOrders
+     *            the orders of the ports on each node, indexed like the node order.
+     */
+    SweepCopy(final LNode[][] nodeOrder, final List<List<List<LPort>>> portOrders) {
+        this.nodeOrder = nodeOrder;
+        this.portOrders = portOrders;
+    }
+
     private LNode[][] deepCopy(final LNode[][] currentlyBestNodeOrder) {
         if (currentlyBestNodeOrder == null) {
             return null;
@@ -82,6 +95,16 @@ class SweepCopy {
         return nodeOrder;
     }
 
+    /**
+     * Returns the copy of the port orders, indexed like the node order. WARNING: Do not change, or the copy will be
+     * invalid.
+     * 
+     * @return the portOrders
+     */
+    List<List<List<LPort>>> ports() {
+        return portOrders;
+    }
+
     /**
      * @param lGraph
      */
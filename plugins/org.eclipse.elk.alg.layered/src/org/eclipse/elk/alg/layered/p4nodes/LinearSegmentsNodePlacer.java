@@ -222,11 +222,11 @@ public final class LinearSegmentsNodePlacer implements ILayoutPhase<LayeredPhase
                 int inprio = Integer.MIN_VALUE, outprio = Integer.MIN_VALUE;
                 for (LPort port : node.getPorts()) {
                     for (LEdge edge : port.getIncomingEdges()) {
-                        int prio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+                        int prio = edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
                         inprio = Math.max(inprio, prio);
                     }
                     for (LEdge edge : port.getOutgoingEdges()) {
-                        int prio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+                        int prio = edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
                         outprio = Math.max(outprio, prio);
                     }
                 }
@@ -685,7 +685,7 @@ public final class LinearSegmentsNodePlacer implements ILayoutPhase<LayeredPhase
                         if (segment != linearSegments[otherNode.id]) {
                             int otherPrio = Math.max(otherNode.getProperty(INPUT_PRIO),
                                     otherNode.getProperty(OUTPUT_PRIO));
-                            int prio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+                            int prio = edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
                             if (prio >= minPrio && prio >= otherPrio) {
                                 nodeDeflection += otherNode.getPosition().y
                                         + otherPort.getPosition().y + otherPort.getAnchor().y
@@ -703,7 +703,7 @@ public final class LinearSegmentsNodePlacer implements ILayoutPhase<LayeredPhase
                         if (segment != linearSegments[otherNode.id]) {
                             int otherPrio = Math.max(otherNode.getProperty(INPUT_PRIO),
                                     otherNode.getProperty(OUTPUT_PRIO));
-                            int prio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+                            int prio = edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
                             if (prio >= minPrio && prio >= otherPrio) {
                                 nodeDeflection += otherNode.getPosition().y
                                         + otherPort.getPosition().y + otherPort.getAnchor().y
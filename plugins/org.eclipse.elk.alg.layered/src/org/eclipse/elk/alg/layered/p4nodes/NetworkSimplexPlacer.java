@@ -27,6 +27,7 @@ import org.eclipse.elk.alg.common.networksimplex.NEdge;
 import org.eclipse.elk.alg.common.networksimplex.NGraph;
 import org.eclipse.elk.alg.common.networksimplex.NNode;
 import org.eclipse.elk.alg.common.networksimplex.NetworkSimplex;
+import org.eclipse.elk.alg.layered.LayeredMetrics;
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
@@ -249,10 +250,11 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         // larger node and edge count
         int iterLimit = layeredGraph.getProperty(LayeredOptions.THOROUGHNESS) * nGraph.nodes.size();
         
-        NetworkSimplex.forGraph(nGraph)
+        NetworkSimplex networkSimplex = NetworkSimplex.forGraph(nGraph)
             .withIterationLimit(iterLimit)
-            .withBalancing(false)
-            .execute(progressMonitor.subTask(1));
+            .withBalancing(false);
+        networkSimplex.execute(progressMonitor.subTask(1));
+        LayeredMetrics.count(layeredGraph, LayeredMetrics.NETWORK_SIMPLEX_ITERATIONS, networkSimplex.getIterations());
         
         // every individual node can be 'flexible where space permits'.
         // thus we cannot check for the property here but must rely on the fact that the 
@@ -269,11 +271,11 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                 edge.weight = NODE_SIZE_WEIGHT_FLEXIBLE;
             }
 
-            // run network simplex a second time
-            NetworkSimplex.forGraph(nGraph)
-                .withIterationLimit(iterLimit)
-                .withBalancing(false)
-                .execute(pm.subTask(1));
+            // run network simplex a second time, starting from the result of the first run. The new auxiliary
+            // edges are tight in that result, so only the changed weights have to be accounted for
+            networkSimplex.withWarmStart(true).execute(pm.subTask(1));
+            LayeredMetrics.count(layeredGraph, LayeredMetrics.NETWORK_SIMPLEX_ITERATIONS,
+                    networkSimplex.getIterations());
             
             pm.done();
         }
@@ -789,7 +791,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
      *         {@link org.eclipse.elk.alg.layered.options.PRIORITY PRIORITY} layout option.
      */
     private double getEdgeWeight(final LEdge edge) {
-        int priority = Math.max(1, edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS));
+        int priority = Math.max(1, edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS));
         double edgeTypeWeight =
                 getEdgeWeight(edge.getSource().getNode().getType(), edge.getTarget().getNode().getType());
         return priority * edgeTypeWeight;
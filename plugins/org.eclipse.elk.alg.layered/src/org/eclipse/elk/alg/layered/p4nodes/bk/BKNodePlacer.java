@@ -14,6 +14,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LEdge;
@@ -32,6 +36,9 @@ import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.core.util.Pair;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -102,6 +109,10 @@ import com.google.common.collect.Sets;
  * overlap each other or violating the layer ordering constraint. If the algorithm detects that, the
  * respective layout is discarded and another one is chosen.</p>
  * 
+ * <p>The four layouts only share read-only information and can thus be computed concurrently if
+ * {@link LayeredOptions#CONCURRENCY_THREADS} allows for more than one thread. Since none of the steps
+ * involves random decisions, the result is the same as that of computing them one after another.</p>
+ * 
  * <dl>
  *   <dt>Preconditions:</dt>
  *     <dd>The graph has a proper layering with optimized nodes ordering</dd>
@@ -202,23 +213,35 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
                 layouts.add(leftup); 
         }
         
-        BKAligner aligner = new BKAligner(layeredGraph, ni);
-        for (BKAlignedLayout bal : layouts) {
-            // Phase which determines the nodes' memberships in blocks. This happens in four different
-            // ways, either from processing the nodes from the first layer to the last or vice versa.
-            aligner.verticalAlignment(bal, markedEdges);
-            
-            // Additional phase which is not included in the original Brandes-Koepf Algorithm.
-            // It makes sure that the connected ports within a block are aligned to avoid unnecessary
-            // bend points. Also, the required size of each block is determined.
-            aligner.insideBlockShift(bal);
+        // The layouts are independent of each other and may thus be computed concurrently
+        boolean concurrent = false;
+        // elkjs-exclude-start
+        int threads = ElkConcurrency.resolveThreadCount(layeredGraph.getProperty(LayeredOptions.CONCURRENCY_THREADS));
+        if (threads > 1 && layouts.size() > 1) {
+            computeLayoutsConcurrently(layeredGraph, layouts, threads);
+            concurrent = true;
         }
-
-        ICompactor compacter = new BKCompactor(layeredGraph, ni);
-        for (BKAlignedLayout bal : layouts) {
-            // This phase determines the y coordinates of the blocks and thus the vertical coordinates
-            // of all nodes.
-            compacter.horizontalCompaction(bal);
+        // elkjs-exclude-end
+        
+        if (!concurrent) {
+            BKAligner aligner = new BKAligner(layeredGraph, ni);
+            for (BKAlignedLayout bal : layouts) {
+                // Phase which determines the nodes' memberships in blocks. This happens in four different
+                // ways, either from processing the nodes from the first layer to the last or vice versa.
+                aligner.verticalAlignment(bal, markedEdges);
+                
+                // Additional phase which is not included in the original Brandes-Koepf Algorithm.
+                // It makes sure that the connected ports within a block are aligned to avoid unnecessary
+                // bend points. Also, the required size of each block is determined.
+                aligner.insideBlockShift(bal);
+            }
+    
+            ICompactor compacter = new BKCompactor(layeredGraph, ni);
+            for (BKAlignedLayout bal : layouts) {
+                // This phase determines the y coordinates of the blocks and thus the vertical coordinates
+                // of all nodes.
+                compacter.horizontalCompaction(bal);
+            }
         }
 
         // Debug output
@@ -286,6 +309,40 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
         monitor.done();
     }
     
+    // elkjs-exclude-start
+    /**
+     * Computes the given layouts concurrently, running vertical alignment, inside block shift, and horizontal
+     * compaction for each of them on a thread of its own. Each layout only writes to its own arrays, and the
+     * neighborhood information and marked conflicts are only read, so each layout ends up exactly as it would
+     * if the layouts were computed one after another. Since the list of layouts keeps its order, the layout
+     * chosen or balanced afterwards does not depend on how the layouts were scheduled either.
+     */
+    private void computeLayoutsConcurrently(final LGraph layeredGraph, final List<BKAlignedLayout> layouts,
+            final int threads) {
+        
+        List<Callable<BKAlignedLayout>> tasks = Lists.newArrayListWithCapacity(layouts.size());
+        for (BKAlignedLayout bal : layouts) {
+            // Compactors keep state while compacting, so each layout needs one of its own
+            tasks.add(() -> {
+                BKAligner aligner = new BKAligner(layeredGraph, ni);
+                aligner.verticalAlignment(bal, markedEdges);
+                aligner.insideBlockShift(bal);
+                new BKCompactor(layeredGraph, ni).horizontalCompaction(bal);
+                return bal;
+            });
+        }
+        
+        ExecutorService executor = ElkConcurrency.newExecutor(Math.min(threads, tasks.size()));
+        try {
+            ElkConcurrency.invokeAll(executor, tasks);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+    // elkjs-exclude-end
+    
 
     /////////////////////////////////////////////////////////////////////////////////////////////////////
     // Conflict Detection
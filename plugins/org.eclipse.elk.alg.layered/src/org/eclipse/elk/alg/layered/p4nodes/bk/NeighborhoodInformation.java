@@ -134,7 +134,7 @@ public final class NeighborhoodInformation {
                     if (edge.isSelfLoop() || edge.isInLayerEdge()) {
                         continue;
                     } 
-                    int edgePrio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+                    int edgePrio = edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
                     if (edgePrio > maxPriority) {
                         maxPriority = edgePrio;
                         result.clear();
@@ -167,7 +167,7 @@ public final class NeighborhoodInformation {
                     if (edge.isSelfLoop() || edge.isInLayerEdge()) {
                         continue;
                     } 
-                    int edgePrio = edge.getProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
+                    int edgePrio = edge.getIntProperty(LayeredOptions.PRIORITY_STRAIGHTNESS);
                     if (edgePrio > maxPriority) {
                         maxPriority = edgePrio;
                         result.clear();
@@ -12,6 +12,10 @@ package org.eclipse.elk.alg.layered.p5edges;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LGraph;
@@ -22,13 +26,20 @@ import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
 import org.eclipse.elk.alg.layered.options.GraphProperties;
 import org.eclipse.elk.alg.layered.options.InternalProperties;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.HyperEdgeSegment;
 import org.eclipse.elk.alg.layered.p5edges.orthogonal.OrthogonalRoutingGenerator;
 import org.eclipse.elk.alg.layered.p5edges.orthogonal.direction.RoutingDirection;
 import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.core.util.NullElkProgressMonitor;
+import org.eclipse.elk.core.util.Pair;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 
 /**
  * Edge routing implementation that creates orthogonal bend points. Inspired by
@@ -50,6 +61,9 @@ import com.google.common.collect.Iterables;
  *   <dt>Postcondition:</dt><dd>each node is assigned a horizontal coordinate;
  *     the bend points of each edge are set; the width of the whole graph is set</dd>
  * </dl>
+ * 
+ * <p>If {@link LayeredOptions#CONCURRENCY_THREADS} allows more than one thread, the routing slots of all gaps between
+ * layers are assigned concurrently before the layers are placed from left to right.</p>
  */
 public final class OrthogonalEdgeRouter implements ILayoutPhase<LayeredPhases, LGraph> {
     
@@ -220,6 +234,16 @@ public final class OrthogonalEdgeRouter implements ILayoutPhase<LayeredPhases, L
         double edgeNodeSpacing =
                 layeredGraph.getProperty(LayeredOptions.SPACING_EDGE_NODE_BETWEEN_LAYERS).doubleValue();
         
+        // The hyperedge segments of all layer gaps and their dependencies may have been created up front; otherwise,
+        // we create them as we go
+        List<Pair<OrthogonalRoutingGenerator, List<HyperEdgeSegment>>> gaps = null;
+        // elkjs-exclude-start
+        int threads = ElkConcurrency.resolveThreadCount(layeredGraph.getProperty(LayeredOptions.CONCURRENCY_THREADS));
+        if (threads > 1 && layeredGraph.getLayers().size() > 1 && !monitor.isLoggingEnabled()) {
+            gaps = createSegmentDependenciesConcurrently(layeredGraph, edgeEdgeSpacing, threads);
+        }
+        // elkjs-exclude-end
+        
         // Prepare for iteration!
         OrthogonalRoutingGenerator routingGenerator = new OrthogonalRoutingGenerator(
                 RoutingDirection.WEST_TO_EAST, edgeEdgeSpacing, "phase5");
@@ -249,8 +273,18 @@ public final class OrthogonalEdgeRouter implements ILayoutPhase<LayeredPhases, L
             
             // Route edges between the two layers
             double startPos = leftLayer == null ? xpos : xpos + edgeNodeSpacing;
-            slotsCount = routingGenerator.routeEdges(monitor, layeredGraph, leftLayerNodes, leftLayerIndex,
-                    rightLayerNodes, startPos);
+            if (gaps == null) {
+                slotsCount = routingGenerator.routeEdges(monitor, layeredGraph, leftLayerNodes, leftLayerIndex,
+                        rightLayerNodes, startPos);
+            } else {
+                // Cycles are broken in the order of the gaps, which keeps the random decisions the same as if each
+                // gap was routed as a whole
+                OrthogonalRoutingGenerator gapGenerator = gaps.get(leftLayerIndex + 1).getFirst();
+                List<HyperEdgeSegment> segments = gaps.get(leftLayerIndex + 1).getSecond();
+                gapGenerator.breakCyclesAndAssignSlots(monitor, layeredGraph, leftLayerNodes, leftLayerIndex,
+                        segments, layeredGraph.getProperty(InternalProperties.RANDOM));
+                slotsCount = gapGenerator.calculateBendPoints(segments, startPos);
+            }
             
             boolean isLeftLayerExternal = leftLayer == null || Iterables.all(leftLayerNodes,
                     PolylineEdgeRouter.PRED_EXTERNAL_WEST_OR_EAST_PORT);
@@ -289,4 +323,46 @@ public final class OrthogonalEdgeRouter implements ILayoutPhase<LayeredPhases, L
         monitor.done();
     }
     
+    // elkjs-exclude-start
+    /**
+     * Creates the hyperedge segments of all gaps between layers and their dependencies concurrently, including the
+     * gaps in front of the first and behind the last layer. This is the bulk of the work of assigning routing slots
+     * and only depends on the coordinates of ports along the layers, not on the horizontal positions of the layers.
+     * No random decisions are taken here, so the routing slots assigned afterwards are the same as those of routing
+     * the gaps one after another.
+     * 
+     * @return for each gap, the routing generator to assign routing slots with and the hyperedge segments.
+     */
+    private List<Pair<OrthogonalRoutingGenerator, List<HyperEdgeSegment>>> createSegmentDependenciesConcurrently(
+            final LGraph layeredGraph, final double edgeEdgeSpacing, final int threads) {
+        
+        List<Layer> layers = layeredGraph.getLayers();
+        
+        List<Callable<Pair<OrthogonalRoutingGenerator, List<HyperEdgeSegment>>>> tasks =
+                Lists.newArrayListWithCapacity(layers.size() + 1);
+        for (int gap = 0; gap <= layers.size(); gap++) {
+            final List<LNode> leftLayerNodes = gap > 0 ? layers.get(gap - 1).getNodes() : null;
+            final List<LNode> rightLayerNodes = gap < layers.size() ? layers.get(gap).getNodes() : null;
+            final int leftLayerIndex = gap - 1;
+            
+            // Routing generators keep state until slots are assigned, so each gap needs one of its own
+            tasks.add(() -> {
+                OrthogonalRoutingGenerator generator =
+                        new OrthogonalRoutingGenerator(RoutingDirection.WEST_TO_EAST, edgeEdgeSpacing, null);
+                return Pair.of(generator, generator.createSegmentDependencies(new NullElkProgressMonitor(),
+                        layeredGraph, leftLayerNodes, leftLayerIndex, rightLayerNodes));
+            });
+        }
+        
+        ExecutorService executor = ElkConcurrency.newExecutor(Math.min(threads, tasks.size()));
+        try {
+            return ElkConcurrency.invokeAll(executor, tasks);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+    // elkjs-exclude-end
+    
 }
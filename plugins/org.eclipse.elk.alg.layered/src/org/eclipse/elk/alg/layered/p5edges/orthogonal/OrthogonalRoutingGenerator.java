@@ -9,6 +9,7 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.p5edges.orthogonal;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -49,8 +50,16 @@ import com.google.common.collect.Maps;
  * code is factored out into {@link IRoutingDirectionStrategy routing strategies}.</p>
  *
  * <p>When instantiating a new routing generator, the concrete directional strategy must be
- * specified. Once that is done, {@link #routeEdges(LGraph, List, int, List, double)}
+ * specified. Once that is done, {@link #routeEdges(IElkProgressMonitor, LGraph, Iterable, int, Iterable, double)}
  * is called repeatedly to route edges between given lists of nodes.</p>
+ *
+ * <p>Routing edges consists of two steps that can also be invoked separately. First,
+ * {@link #assignRoutingSlots(IElkProgressMonitor, LGraph, Iterable, int, Iterable, Random) routing slots are assigned}
+ * to the hyperedge segments between two layers. This only depends on the coordinates of the ports along the layers.
+ * Second, {@link #calculateBendPoints(List, double) bend points are calculated} once the position of the first routing
+ * slot is known. Assigning slots in turn starts with creating the segments and their dependencies, which takes no
+ * random decisions. This may thus be done concurrently for different pairs of layers, as long as each thread uses a
+ * routing generator of its own, while cycles are still broken in the order of the layers.</p>
  */
 public final class OrthogonalRoutingGenerator {
 
@@ -103,6 +112,8 @@ public final class OrthogonalRoutingGenerator {
      * </p>
      */
     private double criticalConflictThreshold;
+    /** the number of critical dependencies between the hyperedge segments of the current pair of layers. */
+    private int criticalDependencyCount;
     
     /** prefix of debug output files. */
     private final String debugPrefix;
@@ -155,6 +166,64 @@ public final class OrthogonalRoutingGenerator {
             final Iterable<LNode> sourceLayerNodes, final int sourceLayerIndex, final Iterable<LNode> targetLayerNodes,
             final double startPos) {
 
+        List<HyperEdgeSegment> edgeSegments = assignRoutingSlots(monitor, layeredGraph, sourceLayerNodes,
+                sourceLayerIndex, targetLayerNodes, layeredGraph.getProperty(InternalProperties.RANDOM));
+        return calculateBendPoints(edgeSegments, startPos);
+    }
+
+    /**
+     * Assigns routing slots to the hyperedge segments between the given layers. Bend points are not calculated yet.
+     * This is the same as {@link #createSegmentDependencies(IElkProgressMonitor, LGraph, Iterable, int, Iterable)
+     * creating the segments and their dependencies} and then {@link #breakCyclesAndAssignSlots(IElkProgressMonitor,
+     * LGraph, Iterable, int, List, Random) assigning slots} based on them.
+     *
+     * @param monitor
+     *            the progress monitor we're using.
+     * @param layeredGraph
+     *            the layered graph.
+     * @param sourceLayerNodes
+     *            the left layer. May be {@code null}.
+     * @param sourceLayerIndex
+     *            the source layer's index. Ignored if there is no source layer.
+     * @param targetLayerNodes
+     *            the right layer. May be {@code null}.
+     * @param random
+     *            the random number generator used to break cycles of dependencies between segments.
+     * @return the hyperedge segments with assigned routing slots, to be passed to
+     *         {@link #calculateBendPoints(List, double)}.
+     */
+    public List<HyperEdgeSegment> assignRoutingSlots(final IElkProgressMonitor monitor, final LGraph layeredGraph,
+            final Iterable<LNode> sourceLayerNodes, final int sourceLayerIndex, final Iterable<LNode> targetLayerNodes,
+            final Random random) {
+
+        List<HyperEdgeSegment> edgeSegments = createSegmentDependencies(monitor, layeredGraph, sourceLayerNodes,
+                sourceLayerIndex, targetLayerNodes);
+        breakCyclesAndAssignSlots(monitor, layeredGraph, sourceLayerNodes, sourceLayerIndex, edgeSegments, random);
+        return edgeSegments;
+    }
+
+    /**
+     * Creates the hyperedge segments between the given layers and the dependencies between them. No random decisions
+     * are taken yet. The segments must be passed to
+     * {@link #breakCyclesAndAssignSlots(IElkProgressMonitor, LGraph, Iterable, int, List, Random)} of the same routing
+     * generator before it is used for another pair of layers.
+     *
+     * @param monitor
+     *            the progress monitor we're using.
+     * @param layeredGraph
+     *            the layered graph.
+     * @param sourceLayerNodes
+     *            the left layer. May be {@code null}.
+     * @param sourceLayerIndex
+     *            the source layer's index. Ignored if there is no source layer.
+     * @param targetLayerNodes
+     *            the right layer. May be {@code null}.
+     * @return the hyperedge segments.
+     */
+    public List<HyperEdgeSegment> createSegmentDependencies(final IElkProgressMonitor monitor,
+            final LGraph layeredGraph, final Iterable<LNode> sourceLayerNodes, final int sourceLayerIndex,
+            final Iterable<LNode> targetLayerNodes) {
+
         // Keep track of our hyperedge segements, and which ports they were created for
         Map<LPort, HyperEdgeSegment> portToEdgeSegmentMap = Maps.newHashMap();
         List<HyperEdgeSegment> edgeSegments = Lists.newArrayList();
@@ -166,19 +235,9 @@ public final class OrthogonalRoutingGenerator {
         createHyperEdgeSegments(
                 targetLayerNodes, routingStrategy.getTargetPortSide(), edgeSegments, portToEdgeSegmentMap);
 
-        // Our critical conflict threshold is a fraction of the minimum distance between two horizontal hyperedge
-        // segments
-        criticalConflictThreshold = CRITICAL_CONFLICT_THRESHOLD_FACTOR * minimumHorizontalSegmentDistance(edgeSegments);
-        
         // create dependencies for the hyperedge segment ordering graph and note how many critical dependencies have
         // been created
-        int criticalDependencyCount = 0;
-        for (int firstIdx = 0; firstIdx < edgeSegments.size() - 1; firstIdx++) {
-            HyperEdgeSegment firstSegment = edgeSegments.get(firstIdx);
-            for (int secondIdx = firstIdx + 1; secondIdx < edgeSegments.size(); secondIdx++) {
-                criticalDependencyCount += createDependencyIfNecessary(firstSegment, edgeSegments.get(secondIdx));
-            }
-        }
+        criticalDependencyCount = createDependencies(edgeSegments);
 
         // write the full dependency graph to an output file
         // elkjs-exclude-start
@@ -193,8 +252,32 @@ public final class OrthogonalRoutingGenerator {
         }
         // elkjs-exclude-end
         
+        return edgeSegments;
+    }
+
+    /**
+     * Breaks cycles of dependencies between the given hyperedge segments and assigns routing slots to them. The
+     * segments must have been created by the last call of
+     * {@link #createSegmentDependencies(IElkProgressMonitor, LGraph, Iterable, int, Iterable)}.
+     *
+     * @param monitor
+     *            the progress monitor we're using.
+     * @param layeredGraph
+     *            the layered graph.
+     * @param sourceLayerNodes
+     *            the left layer. May be {@code null}.
+     * @param sourceLayerIndex
+     *            the source layer's index. Ignored if there is no source layer.
+     * @param edgeSegments
+     *            the hyperedge segments between the two layers.
+     * @param random
+     *            the random number generator used to break cycles of dependencies between segments.
+     */
+    public void breakCyclesAndAssignSlots(final IElkProgressMonitor monitor, final LGraph layeredGraph,
+            final Iterable<LNode> sourceLayerNodes, final int sourceLayerIndex,
+            final List<HyperEdgeSegment> edgeSegments, final Random random) {
+
         // if there are at least two critical dependencies, there may be critical cycles that need to be broken
-        Random random = layeredGraph.getProperty(InternalProperties.RANDOM);
         if (criticalDependencyCount >= 2) {
             breakCriticalCycles(edgeSegments, random);
         }
@@ -217,7 +300,19 @@ public final class OrthogonalRoutingGenerator {
         
         // assign ranks to the edge segments
         topologicalNumbering(edgeSegments);
+    }
 
+    /**
+     * Calculates the bend points of the edges represented by the given hyperedge segments, which must have been
+     * assigned routing slots already.
+     *
+     * @param edgeSegments
+     *            the hyperedge segments between two layers.
+     * @param startPos
+     *            horizontal position of the first routing slot
+     * @return the number of routing slots for this layer
+     */
+    public int calculateBendPoints(final List<HyperEdgeSegment> edgeSegments, final double startPos) {
         // set bend points with appropriate coordinates
         int rankCount = -1;
         for (HyperEdgeSegment node : edgeSegments) {
@@ -308,8 +403,73 @@ public final class OrthogonalRoutingGenerator {
     }
 
     /**
-     * Create dependencies between the two given hyperedge segments, if one is needed. This method is used not just
-     * here, but also by {@link HyperEdgeSegmentSplitter}.
+     * Creates dependencies between all pairs of the given hyperedge segments that need one. Two segments can only
+     * conflict or cross if they come closer to each other than the conflict thresholds, so instead of comparing all
+     * pairs of segments, a sweep over the segments sorted by their start coordinates only compares pairs that do.
+     * Dependencies are created in the same order as if all pairs of segments were compared in list order, which keeps
+     * the subsequent cycle breaking independent of the sweep. Also determines the critical conflict threshold for the
+     * given segments.
+     *
+     * @param edgeSegments
+     *            the hyperedge segments.
+     * @return the number of critical dependencies that were added
+     */
+    int createDependencies(final List<HyperEdgeSegment> edgeSegments) {
+        // Our critical conflict threshold is a fraction of the minimum distance between two horizontal hyperedge
+        // segments
+        criticalConflictThreshold = CRITICAL_CONFLICT_THRESHOLD_FACTOR * minimumHorizontalSegmentDistance(edgeSegments);
+        
+        // Straight segments don't take up a slot and thus never depend on other segments
+        int segmentCount = 0;
+        Integer[] order = new Integer[edgeSegments.size()];
+        for (int i = 0; i < edgeSegments.size(); i++) {
+            if (!isStraight(edgeSegments.get(i))) {
+                order[segmentCount++] = i;
+            }
+        }
+        Arrays.sort(order, 0, segmentCount, (i1, i2) -> Double.compare(
+                edgeSegments.get(i1).getStartCoordinate(), edgeSegments.get(i2).getStartCoordinate()));
+
+        // Collect the pairs of segments that come close enough to each other, encoding each pair's indices in a long
+        // such that sorting the pairs yields the list order
+        double reach = Math.max(conflictThreshold, criticalConflictThreshold);
+        long[] pairs = new long[Math.max(segmentCount, 1)];
+        int pairCount = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            double end = edgeSegments.get(order[i]).getEndCoordinate() + reach;
+            for (int j = i + 1; j < segmentCount && edgeSegments.get(order[j]).getStartCoordinate() <= end; j++) {
+                if (pairCount == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, 2 * pairs.length);
+                }
+                int first = Math.min(order[i], order[j]);
+                int second = Math.max(order[i], order[j]);
+                pairs[pairCount++] = ((long) first << Integer.SIZE) | second;
+            }
+        }
+        Arrays.sort(pairs, 0, pairCount);
+
+        // Connection coordinates are compared over and over again, so turn them into arrays once
+        double[][] incoming = new double[edgeSegments.size()][];
+        double[][] outgoing = new double[edgeSegments.size()][];
+        for (int i = 0; i < segmentCount; i++) {
+            incoming[order[i]] = toArray(edgeSegments.get(order[i]).getIncomingConnectionCoordinates());
+            outgoing[order[i]] = toArray(edgeSegments.get(order[i]).getOutgoingConnectionCoordinates());
+        }
+
+        int criticalDependencyCount = 0;
+        for (int p = 0; p < pairCount; p++) {
+            int first = (int) (pairs[p] >>> Integer.SIZE);
+            int second = (int) pairs[p];
+            criticalDependencyCount += createDependencyIfNecessary(
+                    edgeSegments.get(first), incoming[first], outgoing[first],
+                    edgeSegments.get(second), incoming[second], outgoing[second]);
+        }
+        return criticalDependencyCount;
+    }
+
+    /**
+     * Create dependencies between the two given hyperedge segments, if one is needed. This method is used by
+     * {@link HyperEdgeSegmentSplitter}.
      *
      * @param he1
      *            first hyperedge segments
@@ -320,15 +480,25 @@ public final class OrthogonalRoutingGenerator {
     int createDependencyIfNecessary(final HyperEdgeSegment he1, final HyperEdgeSegment he2) {
         // check if at least one of the two nodes is just a straight line; those don't
         // create dependencies since they don't take up a slot
-        if (Math.abs(he1.getStartCoordinate() - he1.getEndCoordinate()) < TOLERANCE
-                || Math.abs(he2.getStartCoordinate() - he2.getEndCoordinate()) < TOLERANCE) {
-            
+        if (isStraight(he1) || isStraight(he2)) {
             return 0;
         }
+        
+        return createDependencyIfNecessary(
+                he1, toArray(he1.getIncomingConnectionCoordinates()), toArray(he1.getOutgoingConnectionCoordinates()),
+                he2, toArray(he2.getIncomingConnectionCoordinates()), toArray(he2.getOutgoingConnectionCoordinates()));
+    }
+
+    /**
+     * Create dependencies between the two given hyperedge segments, neither of which may be straight, if one is
+     * needed. The connection coordinates of the segments are given as sorted arrays.
+     */
+    private int createDependencyIfNecessary(final HyperEdgeSegment he1, final double[] incoming1,
+            final double[] outgoing1, final HyperEdgeSegment he2, final double[] incoming2, final double[] outgoing2) {
 
         // compare number of conflicts for both variants
-        int conflicts1 = countConflicts(he1.getOutgoingConnectionCoordinates(), he2.getIncomingConnectionCoordinates());
-        int conflicts2 = countConflicts(he2.getOutgoingConnectionCoordinates(), he1.getIncomingConnectionCoordinates());
+        int conflicts1 = countConflicts(outgoing1, incoming2);
+        int conflicts2 = countConflicts(outgoing2, incoming1);
         
         boolean criticalConflictsDetected =
                 conflicts1 == CRITICAL_CONFLICTS_DETECTED || conflicts2 == CRITICAL_CONFLICTS_DETECTED;
@@ -350,14 +520,10 @@ public final class OrthogonalRoutingGenerator {
             
         } else {
             // we did not detect critical conflicts, so count the number of crossings for both variants
-            int crossings1 = countCrossings(
-                    he1.getOutgoingConnectionCoordinates(), he2.getStartCoordinate(), he2.getEndCoordinate());
-            crossings1 += countCrossings(
-                    he2.getIncomingConnectionCoordinates(), he1.getStartCoordinate(), he1.getEndCoordinate());
-            int crossings2 = countCrossings(
-                    he2.getOutgoingConnectionCoordinates(), he1.getStartCoordinate(), he1.getEndCoordinate());
-            crossings2 += countCrossings(
-                    he1.getIncomingConnectionCoordinates(), he2.getStartCoordinate(), he2.getEndCoordinate());
+            int crossings1 = countCrossings(outgoing1, he2.getStartCoordinate(), he2.getEndCoordinate());
+            crossings1 += countCrossings(incoming2, he1.getStartCoordinate(), he1.getEndCoordinate());
+            int crossings2 = countCrossings(outgoing2, he1.getStartCoordinate(), he1.getEndCoordinate());
+            crossings2 += countCrossings(incoming1, he2.getStartCoordinate(), he2.getEndCoordinate());
             
             // compute the penalty; crossings are deemed worse than (non-critical) conflicts
             int depValue1 = CONFLICT_PENALTY * conflicts1 + CROSSING_PENALTY * crossings1;
@@ -379,38 +545,55 @@ public final class OrthogonalRoutingGenerator {
         return criticalDependencyCount;
     }
 
+    private static boolean isStraight(final HyperEdgeSegment segment) {
+        return Math.abs(segment.getStartCoordinate() - segment.getEndCoordinate()) < TOLERANCE;
+    }
+
+    /**
+     * Returns the given positions as a sorted array.
+     */
+    private static double[] toArray(final List<Double> positions) {
+        double[] array = new double[positions.size()];
+        int i = 0;
+        for (double position : positions) {
+            array[i++] = position;
+        }
+        Arrays.sort(array);
+        return array;
+    }
+
     /**
-     * Counts the number of conflicts for the given lists of positions.
+     * Counts the number of conflicts for the given arrays of positions.
      *
      * @param posis1
-     *            sorted list of positions
+     *            sorted array of positions
      * @param posis2
-     *            sorted list of positions
+     *            sorted array of positions
      * @return number of positions that overlap, or {@link #CRITICAL_CONFLICTS_DETECTED} if a critical conflict was
      *         detected.
      */
-    private int countConflicts(final List<Double> posis1, final List<Double> posis2) {
+    private int countConflicts(final double[] posis1, final double[] posis2) {
         int conflicts = 0;
 
-        if (!posis1.isEmpty() && !posis2.isEmpty()) {
-            Iterator<Double> iter1 = posis1.iterator();
-            Iterator<Double> iter2 = posis2.iterator();
-            double pos1 = iter1.next();
-            double pos2 = iter2.next();
+        if (posis1.length > 0 && posis2.length > 0) {
+            int index1 = 0;
+            int index2 = 0;
             boolean hasMore = true;
 
             do {
+                double pos1 = posis1[index1];
+                double pos2 = posis2[index2];
                 if (pos1 > pos2 - criticalConflictThreshold && pos1 < pos2 + criticalConflictThreshold) {
                     // We're done as soon as we find a single critical conflict
-                    return -1;
+                    return CRITICAL_CONFLICTS_DETECTED;
                 } else if (pos1 > pos2 - conflictThreshold && pos1 < pos2 + conflictThreshold) {
                     conflicts++;
                 }
 
-                if (pos1 <= pos2 && iter1.hasNext()) {
-                    pos1 = iter1.next();
-                } else if (pos2 <= pos1 && iter2.hasNext()) {
-                    pos2 = iter2.next();
+                if (pos1 <= pos2 && index1 < posis1.length - 1) {
+                    index1++;
+                } else if (pos2 <= pos1 && index2 < posis2.length - 1) {
+                    index2++;
                 } else {
                     hasMore = false;
                 }
@@ -429,15 +612,37 @@ public final class OrthogonalRoutingGenerator {
      * @return number of positions in the critical area
      */
     static int countCrossings(final List<Double> posis, final double start, final double end) {
-        int crossings = 0;
-        for (double pos : posis) {
-            if (pos > end) {
-                break;
-            } else if (pos >= start) {
-                crossings++;
+        return countCrossings(toArray(posis), start, end);
+    }
+
+    /**
+     * Counts the number of crossings for a given array of positions by searching for the bounds of the critical area.
+     *
+     * @param posis sorted array of positions
+     * @param start start of the critical area
+     * @param end end of the critical area
+     * @return number of positions in the critical area
+     */
+    private static int countCrossings(final double[] posis, final double start, final double end) {
+        return Math.max(0, positionsBefore(posis, end, true) - positionsBefore(posis, start, false));
+    }
+
+    /**
+     * Returns the number of positions smaller than the given bound, or smaller than or equal to it if
+     * {@code inclusive} is {@code true}.
+     */
+    private static int positionsBefore(final double[] posis, final double bound, final boolean inclusive) {
+        int low = 0;
+        int high = posis.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (posis[middle] < bound || inclusive && posis[middle] == bound) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
-        return crossings;
+        return low;
     }
 
     ///////////////////////////////////////////////////////////////////////////////
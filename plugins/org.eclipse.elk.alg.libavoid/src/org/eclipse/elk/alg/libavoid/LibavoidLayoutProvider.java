@@ -54,10 +54,13 @@ public class LibavoidLayoutProvider extends AbstractLayoutProvider {
         
         // create an Libavoid server process instance or use an existing one
         LibavoidServer lvServer = LibavoidServerPool.INSTANCE.fetch();
-        // send a layout request to the server process and apply the layout
-        comm.requestLayout(parentNode, progressMonitor, lvServer);
-        // if everything worked well, release the used process instance
-        LibavoidServerPool.INSTANCE.release(lvServer);
+        try {
+            // send a layout request to the server process and apply the layout
+            comm.requestLayout(parentNode, progressMonitor, lvServer);
+        } finally {
+            // release the used process instance, which the pool closes if it was stopped due to errors
+            LibavoidServerPool.INSTANCE.release(lvServer);
+        }
 
     }
     
@@ -11,9 +11,13 @@ package org.eclipse.elk.alg.libavoid;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.eclipse.elk.alg.libavoid.options.LibavoidOptions;
 import org.eclipse.elk.alg.libavoid.server.LibavoidServer;
@@ -132,14 +136,8 @@ public class LibavoidServerCommunicator {
             // flush the stream
             outputStream.flush();
 
-            // read the layout information
-            Map<String, KVectorChain> layoutInformation =
-                    readLayoutInformation(lvServer, progressMonitor.subTask(1));
-
-            // apply the layout back to the KGraph
-            applyLayout(layoutNode, layoutInformation, progressMonitor.subTask(1));
-            // calculate junction points
-            calculateJunctionPoints(layoutNode);
+            // read the layout information and apply it
+            receiveLayout(layoutNode, lvServer, progressMonitor);
             // clean up the Libavoid server process
             lvServer.cleanup(Cleanup.NORMAL);
 
@@ -152,6 +150,85 @@ public class LibavoidServerCommunicator {
         }
     }
 
+    /**
+     * Requests layouts for several graphs from the libavoid server. The requests are pipelined: all graphs are sent
+     * to the server process right away, and their layouts are applied as the responses arrive. Compared to calling
+     * {@link #requestLayout(ElkNode, IElkProgressMonitor, LibavoidServer)} for each graph, the server process does
+     * not have to wait for the next graph after each response.
+     * 
+     * @param layoutNodes
+     *            the root nodes of the graphs to layout.
+     * @param progressMonitor
+     *            the monitor
+     * @param lvServer
+     *            an instance of the libavoid server.
+     */
+    public void requestLayouts(final List<ElkNode> layoutNodes, final IElkProgressMonitor progressMonitor,
+            final LibavoidServer lvServer) {
+        progressMonitor.begin("Libavoid Layout", layoutNodes.size() * LAYOUT_WORK);
+
+        // every graph needs its own mapping of ids, so each one gets a communicator of its own
+        List<ElkNode> graphs = new ArrayList<>(layoutNodes.size());
+        List<LibavoidServerCommunicator> communicators = new ArrayList<>(layoutNodes.size());
+        List<byte[]> requests = new ArrayList<>(layoutNodes.size());
+        for (ElkNode layoutNode : layoutNodes) {
+            // if the graph is empty there is no need to layout
+            if (!layoutNode.getChildren().isEmpty()) {
+                LibavoidServerCommunicator communicator = new LibavoidServerCommunicator();
+                graphs.add(layoutNode);
+                communicators.add(communicator);
+                requests.add(communicator.textGraph(layoutNode));
+            }
+        }
+        if (graphs.isEmpty()) {
+            progressMonitor.done();
+            return;
+        }
+
+        // start the libavoid server process, or retrieve the previously used process
+        lvServer.initialize();
+
+        boolean complete = false;
+        try {
+            Future<?> writing = lvServer.writeAsync(requests);
+            for (int i = 0; i < graphs.size(); i++) {
+                communicators.get(i).receiveLayout(graphs.get(i), lvServer, progressMonitor);
+            }
+            writing.get();
+            complete = true;
+            // clean up the Libavoid server process
+            lvServer.cleanup(Cleanup.NORMAL);
+
+        } catch (ExecutionException exception) {
+            throw new WrappedException("Failed to communicate with the Libavoid process.", exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new WrappedException("Interrupted while communicating with the Libavoid process.", exception);
+        } finally {
+            if (!complete) {
+                // responses to later requests may still arrive, so the process cannot be used anymore
+                lvServer.cleanup(Cleanup.STOP);
+            }
+            progressMonitor.done();
+        }
+    }
+
+    /**
+     * Reads the layout computed for the given graph from the libavoid server and applies it.
+     */
+    private void receiveLayout(final ElkNode layoutNode, final LibavoidServer lvServer,
+            final IElkProgressMonitor progressMonitor) {
+
+        // read the layout information
+        Map<String, KVectorChain> layoutInformation =
+                readLayoutInformation(lvServer, progressMonitor.subTask(1));
+
+        // apply the layout back to the KGraph
+        applyLayout(layoutNode, layoutInformation, progressMonitor.subTask(1));
+        // calculate junction points
+        calculateJunctionPoints(layoutNode);
+    }
+
     /**
      * Applies the layout information back to the original graph.
      * 
@@ -266,6 +343,18 @@ public class LibavoidServerCommunicator {
      * Transforms the passed graph to a textual format and writes it to the specified output stream.
      */
     private void writeTextGraph(final ElkNode root, final OutputStream stream) {
+        try {
+            // write it to the stream
+            stream.write(textGraph(root));
+        } catch (IOException e) {
+            throw new WrappedException("Could not write to the outputstream of the libavoid server.", e);
+        }
+    }
+
+    /**
+     * Transforms the passed graph to the complete textual request sent to the libavoid server.
+     */
+    private byte[] textGraph(final ElkNode root) {
 
         // first send the options
         transformOptions(root);
@@ -284,12 +373,7 @@ public class LibavoidServerCommunicator {
             System.out.println(sb);
         }
 
-        try {
-            // write it to the stream
-            stream.write(sb.toString().getBytes());
-        } catch (IOException e) {
-            throw new WrappedException("Could not write to the outputstream of the libavoid server.", e);
-        }
+        return sb.toString().getBytes();
     }
 
     private void transformOptions(final ElkNode node) {
@@ -19,7 +19,15 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Path;
@@ -29,6 +37,10 @@ import org.osgi.framework.Bundle;
 /**
  * Wraps the execution of the libavoid-server binary. Also employs an watchdog in case of errors.
  * 
+ * <p>A server process handles layout requests one after another. Responses are read through a single reader per
+ * process, so several requests may be written before their responses are read, see {@link #writeAsync(List)}.
+ * Timeouts are supervised by a watchdog thread that is shared by all server instances.</p>
+ * 
  * @author uru
  * @author msp
  */
@@ -40,9 +52,9 @@ public class LibavoidServer {
     public static enum Cleanup {
         /** normal cleanup. */
         NORMAL,
-        /** read error output and stop the Libavoid process and the watcher thread. */
+        /** read error output and stop the Libavoid process. */
         ERROR,
-        /** stop the Libavoid process and the watcher thread. */
+        /** stop the Libavoid process. */
         STOP;
     }
 
@@ -87,18 +99,31 @@ public class LibavoidServer {
 
     /**
      * Constructor only has package visibility. Use {@link LibavoidServerPool} to create instances.
+     * 
+     * @param command
+     *            the command that starts the server process, or {@code null} to start the bundled executable.
+     * @param generation
+     *            the pool's generation of server commands the server was created in.
      */
-    LibavoidServer() {
+    LibavoidServer(final String[] command, final int generation) {
+        this.command = command;
+        this.generation = generation;
     }
 
+    /** The command that starts the server process, or {@code null} to start the bundled executable. */
+    private final String[] command;
+    /** The pool's generation of server commands the server was created in. */
+    private final int generation;
+    /** Whether the process has been stopped, after which the server cannot be used anymore. */
+    private volatile boolean stopped = false;
     /** The ogdf server executable. */
     private String executable;
     /** The ogdf server process. */
-    private Process process;
-    /** The watcher thread used to cancel a blocked read operation. */
-    private Watchdog watchdog;
-    /** The input stream given by the Libavoid process. */
-    private InputStream libavoidStream;
+    private volatile Process process;
+    /** The stream for writing input to the Libavoid process. */
+    private OutputStream processInput;
+    /** The reader for the output of the Libavoid process, which may already hold the beginning of later output. */
+    private BufferedReader processOutput;
     /** A temporary file that should be removed after closing the process. */
     private File tempFile;
     /** Timeout waiting for the Libavoid process */
@@ -190,23 +215,24 @@ public class LibavoidServer {
     }
 
     /**
-     * Initialize the Libavoid server instance by starting the Libavoid process and the watcher
-     * thread as necessary.
+     * Initialize the Libavoid server instance by starting the Libavoid process as necessary.
      */
     public synchronized void initialize() {
-        if (watchdog == null) {
-            // start the watcher thread for timeout checking
-            watchdog = new Watchdog();
-            watchdog.setName("Libavoid Watchdog");
-            watchdog.start();
+        if (stopped) {
+            throw new IllegalStateException("Libavoid server has been stopped.");
         }
-
         if (process == null) {
             try {
-                if (executable == null) {
-                    executable = resolveExecutable().getPath();
+                if (command != null) {
+                    process = Runtime.getRuntime().exec(command);
+                } else {
+                    if (executable == null) {
+                        executable = resolveExecutable().getPath();
+                    }
+                    process = Runtime.getRuntime().exec(new String[] { executable });
                 }
-                process = Runtime.getRuntime().exec(new String[] { executable });
+                processInput = new BufferedOutputStream(process.getOutputStream());
+                processOutput = new BufferedReader(new InputStreamReader(process.getInputStream()));
             } catch (IOException exception) {
                 throw new LibavoidServerException("Failed to start libavoid server process.", exception);
             } finally {
@@ -217,6 +243,39 @@ public class LibavoidServer {
         }
     }
 
+    /**
+     * Check whether the server can be used for further requests, that is, whether its process is either not started
+     * yet or still running. Once the process has been stopped, the server is not usable anymore.
+     * 
+     * @return {@code true} if the server is usable
+     */
+    public boolean isHealthy() {
+        if (stopped) {
+            return false;
+        }
+        Process myProcess = process;
+        return myProcess == null || myProcess.isAlive();
+    }
+
+    /**
+     * Return the pool's generation of server commands the server was created in.
+     * 
+     * @return the generation
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Set the time to wait for the response to a request before the process is stopped.
+     * 
+     * @param timeout
+     *            the timeout in milliseconds
+     */
+    public void setProcessTimeout(final int timeout) {
+        this.processTimeout = timeout;
+    }
+
     /**
      * Return the stream that is used to give input to Libavoid.
      * 
@@ -224,27 +283,31 @@ public class LibavoidServer {
      */
     public OutputStream input() {
         if (process != null) {
-            return new BufferedOutputStream(process.getOutputStream());
+            return processInput;
         }
         throw new IllegalStateException("Libavoid server has not been initialized.");
     }
 
     /**
-     * Return the stream for reading the output of the Libavoid process.
+     * Write several requests to the Libavoid process without waiting for their responses, which allows the process
+     * to work on the next request while the response of the previous one is read. The requests are written by a
+     * separate thread so that the process never blocks on writing a response that nobody reads. The responses have
+     * to be read in the same order through {@link #readOutputData()}.
      * 
-     * @return an input stream for reading from the tool
+     * @param requests
+     *            the complete requests, each terminated as expected by the Libavoid process
+     * @return a future that completes once all requests are written and fails if writing fails
      */
-    private InputStream output() {
-        if (process != null) {
-            synchronized (nextJob) {
-                // create an input stream and make it visible to the watcher thread
-                libavoidStream = process.getInputStream();
-                // wake the watcher, which will then sleep until a timeout occurs
-                nextJob.notify();
+    public Future<?> writeAsync(final List<byte[]> requests) {
+        OutputStream stream = input();
+        return writers().submit(() -> {
+            for (byte[] request : requests) {
+                stream.write(request);
+                // flush each request so that the process can start working on it
+                stream.flush();
             }
-            return libavoidStream;
-        }
-        throw new IllegalStateException("Libavoid server has not been initialized.");
+            return null;
+        });
     }
 
     /**
@@ -255,13 +318,28 @@ public class LibavoidServer {
     }
 
     /**
-     * Read output data from the Libavoid server process.
+     * Read output data from the Libavoid server process. Each call reads the response to the next request that has
+     * not been answered yet. If no complete response arrives within the timeout, the process is stopped.
      * 
      * @return key-value map of output data, or {@code null} if the process output was not complete
      */
     public Map<String, String> readOutputData() {
+        Process myProcess = process;
+        if (myProcess == null) {
+            throw new IllegalStateException("Libavoid server has not been initialized.");
+        }
+
+        // if the timeout occurs, killing the process makes the blocked read operation return
+        ScheduledFuture<?> timeout = watchdog().schedule(myProcess::destroy, processTimeout, TimeUnit.MILLISECONDS);
+        try {
+            return parseOutputData(processOutput);
+        } finally {
+            timeout.cancel(false);
+        }
+    }
+
+    private Map<String, String> parseOutputData(final BufferedReader reader) {
         Map<String, String> data = new HashMap<String, String>();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(output()));
         ParseState state = ParseState.TYPE;
         boolean parseMore = true;
         StringBuilder error = null;
@@ -336,6 +414,9 @@ public class LibavoidServer {
      */
     public synchronized void cleanup(final Cleanup c) {
         StringBuilder error = null;
+        if (c == Cleanup.ERROR || c == Cleanup.STOP) {
+            stopped = true;
+        }
         if (process != null) {
             InputStream errorStream = process.getErrorStream();
             try {
@@ -377,6 +458,8 @@ public class LibavoidServer {
                 }
                 process.destroy();
                 process = null;
+                processInput = null;
+                processOutput = null;
 
                 if (tempFile != null) {
                     tempFile.delete();
@@ -385,20 +468,6 @@ public class LibavoidServer {
             }
         }
 
-        synchronized (nextJob) {
-            // reset the stream to indicate that the job is done
-            libavoidStream = null;
-            if (watchdog != null) {
-                Watchdog myWatchdog = watchdog;
-                // if requested, reset the watcher to indicate that it should terminate
-                if (c == Cleanup.ERROR || c == Cleanup.STOP) {
-                    watchdog = null;
-                }
-                // wake the watcher if it is still waiting for timeout
-                myWatchdog.interrupt();
-            }
-        }
-
         if (error != null && error.length() > 0) {
             // an error output could be read from Libavoid, so display that to the user
             throw new LibavoidServerException("Libavoid error: " + error.toString());
@@ -450,56 +519,33 @@ public class LibavoidServer {
     /** default timeout for waiting for the server to give some output. */
     public static final int PROCESS_DEF_TIMEOUT = 10000;
 
-    /** synchronization object between the main thread and the watcher thread. */
-    private Object nextJob = new Object();
-
-    /**
-     * A watcher thread that takes action when a timeout occurs.
-     */
-    private class Watchdog extends Thread {
+    /** the thread that stops processes whose output does not arrive in time, shared by all servers. */
+    private static ScheduledThreadPoolExecutor watchdog;
+    /** the threads that write pipelined requests, shared by all servers. */
+    private static ExecutorService writers;
 
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void run() {
-            do {
-                synchronized (nextJob) {
-                    // the watcher starts working as soon as a stream is made visible
-                    while (libavoidStream == null) {
-                        try {
-                            // wait for notification by the main thread
-                            nextJob.wait();
-                        } catch (InterruptedException ex) {
-                            // the watchdog thread is interrupted: shutdown is requested
-                            if (watchdog != this) {
-                                return;
-                            }
-                        }
-                    }
-                }
-
-                boolean interrupted = false;
-                try {
-                    Thread.sleep(processTimeout);
-                } catch (InterruptedException ex) {
-                    // this means the main thread has done a cleanup before the timeout occurred
-                    interrupted = true;
-                }
-
-                if (!interrupted) {
-                    synchronized (nextJob) {
-                        // timeout has occurred! kill the process so the main thread will wake
-                        Process myProcess = process;
-                        if (myProcess != null) {
-                            libavoidStream = null;
-                            myProcess.destroy();
-                        }
-                    }
-                }
+    private static synchronized ScheduledThreadPoolExecutor watchdog() {
+        if (watchdog == null) {
+            watchdog = new ScheduledThreadPoolExecutor(1, daemonThreads("Libavoid Watchdog"));
+            // timeouts are almost always cancelled, so don't keep them around until they would have expired
+            watchdog.setRemoveOnCancelPolicy(true);
+        }
+        return watchdog;
+    }
 
-            } while (watchdog == this);
+    private static synchronized ExecutorService writers() {
+        if (writers == null) {
+            writers = Executors.newCachedThreadPool(daemonThreads("Libavoid Writer"));
         }
+        return writers;
+    }
 
+    private static ThreadFactory daemonThreads(final String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
     }
+
 }
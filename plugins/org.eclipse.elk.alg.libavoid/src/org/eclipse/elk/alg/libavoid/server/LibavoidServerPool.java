@@ -9,18 +9,24 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.libavoid.server;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.eclipse.elk.alg.libavoid.server.LibavoidServer.Cleanup;
 
 
 /**
- * A pool for Libavoid server process instances.
+ * A pool for Libavoid server process instances. The number of server instances handed out at the same time is
+ * bounded; further requests wait until an instance is released. Idle instances are checked before they are handed
+ * out again, and instances whose process has died are replaced by new ones.
  *
  * @author msp
  */
 public final class LibavoidServerPool {
     
+    /** the default maximal number of server instances; must be initialized before the singleton instance. */
+    public static final int DEFAULT_MAX_SERVERS = Runtime.getRuntime().availableProcessors();
+    
     /** the singleton instance of the server pool. */
     public static final LibavoidServerPool INSTANCE = new LibavoidServerPool();
     
@@ -30,33 +36,137 @@ public final class LibavoidServerPool {
     private LibavoidServerPool() {
     }
     
-    /** the list of currently available servers. */
-    private LinkedList<LibavoidServer> servers = new LinkedList<LibavoidServer>();
+    /** the currently available servers, the most recently used one first. */
+    private final Deque<LibavoidServer> servers = new ArrayDeque<LibavoidServer>();
+    /** the number of servers created by this pool that have not been disposed yet. */
+    private int serverCount = 0;
+    /** the maximal number of servers. */
+    private int maxServers = DEFAULT_MAX_SERVERS;
+    /** the command that starts server processes, or {@code null} to start the bundled executable. */
+    private String[] serverCommand;
+    /** the generation of the server command, incremented whenever the command is set. */
+    private int generation = 0;
+    
+    /**
+     * Set the maximal number of server instances that may exist at the same time. If more instances exist when the
+     * limit is lowered, they are disposed as they are released.
+     * 
+     * @param max the maximal number of servers, at least one
+     */
+    public void setMaxServers(final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("The pool must allow at least one server.");
+        }
+        synchronized (servers) {
+            maxServers = max;
+            servers.notifyAll();
+        }
+    }
     
     /**
-     * Fetch an Libavoid server process from the pool, creating one if necessary.
+     * Set the command that starts new server processes instead of the bundled Libavoid executable, for example a
+     * stub server that speaks the same protocol. Idle servers are disposed, and servers that are currently in use are
+     * disposed when they are released.
+     * 
+     * @param command the command and its arguments, or {@code null} to start the bundled executable
+     */
+    public void setServerCommand(final String... command) {
+        synchronized (servers) {
+            serverCommand = command == null ? null : command.clone();
+            generation++;
+        }
+        dispose();
+    }
+    
+    /**
+     * Start server processes in advance so that the next layout requests do not have to wait for them.
+     * 
+     * @param count the number of server processes that should be available; limited by the maximal number of
+     *          servers
+     */
+    public void warmUp(final int count) {
+        int missing;
+        String[] command;
+        int commandGeneration;
+        synchronized (servers) {
+            missing = Math.min(count - servers.size(), maxServers - serverCount);
+            serverCount += Math.max(missing, 0);
+            command = serverCommand;
+            commandGeneration = generation;
+        }
+        for (int i = 0; i < missing; i++) {
+            LibavoidServer server = new LibavoidServer(command, commandGeneration);
+            try {
+                server.initialize();
+            } catch (LibavoidServerException exception) {
+                discard(server);
+                synchronized (servers) {
+                    serverCount -= missing - i - 1;
+                }
+                throw exception;
+            }
+            release(server);
+        }
+    }
+    
+    /**
+     * Fetch an Libavoid server process from the pool, creating one if necessary. If the maximal number of servers
+     * is in use, wait until one is released.
      * 
      * @return an Libavoid server process
      */
     public LibavoidServer fetch() {
         synchronized (servers) {
-            if (servers.isEmpty()) {
-                return new LibavoidServer();
+            while (true) {
+                while (!servers.isEmpty()) {
+                    LibavoidServer server = servers.removeFirst();
+                    if (server.isHealthy()) {
+                        return server;
+                    }
+                    disposeServer(server);
+                }
+                if (serverCount < maxServers) {
+                    serverCount++;
+                    return new LibavoidServer(serverCommand, generation);
+                }
+                try {
+                    servers.wait();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new LibavoidServerException("Interrupted while waiting for a Libavoid server.",
+                            exception);
+                }
             }
-            return servers.removeFirst();
         }
     }
     
     /**
-     * Release a previously created server process into the pool. Only instances that
-     * are still usable may be released. Process instances that lead to errors must be closed
-     * without releasing them.
+     * Release a previously fetched server process into the pool. Server processes that are no longer usable,
+     * for example because they have terminated or were started by a server command that has been replaced since,
+     * are closed instead.
      * 
      * @param server an Libavoid server process
      */
     public void release(final LibavoidServer server) {
         synchronized (servers) {
-            servers.add(server);
+            if (server.isHealthy() && server.getGeneration() == generation && serverCount <= maxServers) {
+                servers.addFirst(server);
+            } else {
+                disposeServer(server);
+            }
+            servers.notifyAll();
+        }
+    }
+    
+    /**
+     * Close a previously fetched server process that led to errors instead of releasing it into the pool.
+     * 
+     * @param server an Libavoid server process
+     */
+    public void discard(final LibavoidServer server) {
+        synchronized (servers) {
+            disposeServer(server);
+            servers.notifyAll();
         }
     }
     
@@ -65,10 +175,19 @@ public final class LibavoidServerPool {
      */
     public void dispose() {
         synchronized (servers) {
-            for (LibavoidServer server : servers) {
-                server.cleanup(Cleanup.STOP);
+            while (!servers.isEmpty()) {
+                disposeServer(servers.removeFirst());
             }
-            servers.clear();
+            servers.notifyAll();
+        }
+    }
+    
+    private void disposeServer(final LibavoidServer server) {
+        serverCount--;
+        try {
+            server.cleanup(Cleanup.STOP);
+        } catch (LibavoidServerException exception) {
+            // the server is gone either way
         }
     }
 
@@ -115,6 +115,20 @@ public class AbstractRadiusExtensionCompaction {
         
     }
 
+    /**
+     * Creates a solver for the number of steps by which the given nodes of one radius can be contracted or have to be
+     * extended, based on the root, compaction step and spacing set for this class.
+     * 
+     * @param layerNodes
+     *            List of nodes of one radius.
+     * @param isContracting
+     *            Determines if the layer shall be contracted or extended.
+     * @return the solver, to which the overlaps to be considered still have to be added
+     */
+    public RadiusStepSolver createStepSolver(final List<ElkNode> layerNodes, final boolean isContracting) {
+        return new RadiusStepSolver(layerNodes, root, isContracting ? -compactionStep : compactionStep, spacing);
+    }
+
     /**
      * Calculates if two nodes overlap with each other.
      * 
@@ -10,7 +10,6 @@
 package org.eclipse.elk.alg.radial.intermediate.compaction;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.elk.alg.radial.InternalProperties;
@@ -91,90 +90,38 @@ public class AnnulusWedgeCompaction extends AbstractRadiusExtensionCompaction im
      */
     private void contractWedge(final ElkNode wedgeParent, final List<ElkNode> predecessors,
             final ElkNode radialPredecessor, final ElkNode radialSuccessor, final List<ElkNode> currentRadiusNodes) {
-        boolean isOverlapping = overlapping(predecessors, radialPredecessor, radialSuccessor, currentRadiusNodes);
-        boolean wasContracted = false;
-
-        while (!isOverlapping) {
-            contractLayer(currentRadiusNodes, true);
-            wasContracted = true;
-            isOverlapping = overlapping(predecessors, radialPredecessor, radialSuccessor, currentRadiusNodes);
-        }
-
-        // undo last step
-        if (wasContracted) {
-            contractLayer(currentRadiusNodes, false);
-        }
-        // continue with the nodes from the next radius
-        List<ElkNode> nextLevelNodes = RadialUtil.getNextLevelNodes(currentRadiusNodes);
-        if (!nextLevelNodes.isEmpty()) {
-            if (sorter != null) {
-                sorter.sort(nextLevelNodes);
-            }
-            contractWedge(wedgeParent, currentRadiusNodes, radialPredecessor, radialSuccessor, nextLevelNodes);
-        }
-    }
-
-    /**
-     * Calculate the overlaps. Overlaps are considered between the nodes of the wedge of one radius. Furthermore the
-     * overlaps of the nodes and it's predecessors and between the leftmost node and the right contour of the wedge to
-     * it's left are considered. And between the overlaps between the rightmost node and left contour of the wedge to
-     * it's right.
-     * 
-     * @param layerNodes
-     * @return
-     */
-    private boolean overlapping(final List<ElkNode> predecessors, final ElkNode leftParent, final ElkNode rightParent,
-            final List<ElkNode> layerNodes) {
         if (sorter != null) {
-            sorter.sort(layerNodes);
-        }
-        ElkNode firstNode = layerNodes.get(0);
-
-        // overlap with left wedge contour
-        if (contourOverlap(leftParent, firstNode, false)) {
-            return true;
+            sorter.sort(currentRadiusNodes);
         }
+        RadiusStepSolver solver = createStepSolver(currentRadiusNodes, true);
 
-        // overlap with right wegde contour
-        ElkNode lastNode = layerNodes.get(layerNodes.size() - 1);
-        if (contourOverlap(rightParent, lastNode, true)) {
-            return true;
+        // overlaps with the contours of the neighboring wedges
+        for (ElkNode contourNode : rightContour.get(radialPredecessor)) {
+            solver.addOverlaps(0, contourNode);
         }
-
-        // overlaps on the radius
-        if (overlapLayer(layerNodes)) {
-            return true;
+        for (ElkNode contourNode : leftContour.get(radialSuccessor)) {
+            solver.addOverlaps(currentRadiusNodes.size() - 1, contourNode);
         }
 
-        // overlaps with the predecessors
-        for (ElkNode sortedNode : layerNodes) {
+        // overlaps on the radius and with the predecessors
+        solver.addLayerOverlaps();
+        for (int i = 0; i < currentRadiusNodes.size(); i++) {
             for (ElkNode predecessor : predecessors) {
-                if (overlap(sortedNode, predecessor)) {
-                    return true;
-                }
+                solver.addOverlaps(i, predecessor);
             }
         }
 
-        return false;
-    }
+        // contract up to the step before the first one with overlaps
+        solver.apply(Math.max(0, solver.firstStepWithOverlaps() - 1));
 
-    /**
-     * Check if a node overlaps with a neighboring wedge contour.
-     * 
-     * @param neighbourWedgeParent
-     * @param node
-     * @param left
-     * @return
-     */
-    private boolean contourOverlap(final ElkNode neighbourWedgeParent, final ElkNode node, final boolean left) {
-        Collection<ElkNode> contour =
-                left ? leftContour.get(neighbourWedgeParent) : rightContour.get(neighbourWedgeParent);
-        for (ElkNode contourNode : contour) {
-            if (overlap(node, contourNode)) {
-                return true;
+        // continue with the nodes from the next radius
+        List<ElkNode> nextLevelNodes = RadialUtil.getNextLevelNodes(currentRadiusNodes);
+        if (!nextLevelNodes.isEmpty()) {
+            if (sorter != null) {
+                sorter.sort(nextLevelNodes);
             }
+            contractWedge(wedgeParent, currentRadiusNodes, radialPredecessor, radialSuccessor, nextLevelNodes);
         }
-        return false;
     }
 
     /**
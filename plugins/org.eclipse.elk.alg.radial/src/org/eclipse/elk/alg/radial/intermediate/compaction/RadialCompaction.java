@@ -57,17 +57,15 @@ public class RadialCompaction extends AbstractRadiusExtensionCompaction implemen
      */
     public void contract(final List<ElkNode> nodes) {
         if (!nodes.isEmpty()) {
-            boolean isOverlapping = overlapping(nodes);
-            boolean wasContracted = false;
-            while (!isOverlapping) {
-                contractLayer(nodes, true);
-                wasContracted = true;
-                isOverlapping = overlapping(nodes);
-            }
-            // undo last step
-            if (wasContracted) {
-                contractLayer(nodes, false);
+            RadiusStepSolver solver = createStepSolver(nodes, true);
+            solver.addLayerOverlaps();
+            ElkNode root = getRoot();
+            for (int i = 0; i < nodes.size(); i++) {
+                solver.addOverlaps(i, RadialUtil.getTreeParent(nodes.get(i)));
+                solver.addMinimumRadius(i, root.getX(), root.getY(), lastRadius);
             }
+            // contract up to the step before the first one with overlaps
+            solver.apply(Math.max(0, solver.firstStepWithOverlaps() - 1));
             List<ElkNode> nextLevelNodes = RadialUtil.getNextLevelNodes(nodes);
             if (sorter != null) {
                 sorter.sort(nextLevelNodes);
@@ -98,29 +96,4 @@ public class RadialCompaction extends AbstractRadiusExtensionCompaction implemen
         return radius;
     }
 
-    /**
-     * Calculate if nodes of a radius are either overlapping their next neighbor or its predecessor on the next layer.
-     * 
-     * @param nodes A list of nodes of one radius.
-     * @return Return if the value is overlapping or not.
-     */
-    private boolean overlapping(final List<ElkNode> nodes) {
-        if (overlapLayer(nodes)) {
-            return true;
-        }
-        for (ElkNode node : nodes) {
-            ElkNode parent = RadialUtil.getTreeParent(node);
-            if (overlap(node, parent)) {
-                return true;
-
-            }
-
-            if (calculateRadius(node) - getSpacing() <= lastRadius) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.compaction;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.graph.ElkNode;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Computes by how many compaction steps the nodes of one radius have to be extended to remove their overlaps, or can
+ * be contracted before they overlap. All nodes of a radius move by the same number k of steps along the ray from the
+ * root's center through their own center, which makes the difference between the positions of two nodes linear in k.
+ * The steps at which two nodes overlap, as determined by {@link AbstractRadiusExtensionCompaction#overlap(ElkNode,
+ * ElkNode)}, thus form at most four intervals that are computed in closed form, instead of moving the nodes one step
+ * at a time and testing all of them for overlaps after each step.
+ *
+ * <p>The nodes' positions are read into arrays when the solver is created and are only written back by
+ * {@link #apply(int)}.</p>
+ */
+public final class RadiusStepSolver {
+
+    /** the nodes of the radius. */
+    private final List<ElkNode> nodes;
+    /** the index of each node of the radius. */
+    private final Map<ElkNode, Integer> indices = Maps.newHashMap();
+    /** upper left corners and sizes of the nodes. */
+    private final double[] x, y, width, height;
+    /** the movement of the nodes per step. */
+    private final double[] stepX, stepY;
+    /** the spacing nodes keep to each other. */
+    private final double spacing;
+
+    /** start and end of the open intervals of steps at which two nodes overlap. */
+    private double[] overlapStart = new double[16], overlapEnd = new double[16];
+    /** the number of intervals. */
+    private int overlapCount = 0;
+    /** the first step at which a node comes too close to the root. */
+    private long firstStepTooClose = Long.MAX_VALUE;
+
+    /**
+     * Creates a solver for the given nodes of one radius.
+     *
+     * @param nodes
+     *            the nodes of the radius, sorted if cyclic neighbors are to be considered
+     * @param root
+     *            the root of the tree, whose center the nodes move away from or towards
+     * @param step
+     *            the distance a node moves by per step. Positive values extend the radius, negative ones contract it.
+     * @param spacing
+     *            the spacing nodes keep to each other
+     */
+    public RadiusStepSolver(final List<ElkNode> nodes, final ElkNode root, final double step, final double spacing) {
+        this.nodes = nodes;
+        this.spacing = spacing;
+        int size = nodes.size();
+        x = new double[size];
+        y = new double[size];
+        width = new double[size];
+        height = new double[size];
+        stepX = new double[size];
+        stepY = new double[size];
+
+        double rootX = root.getX() + root.getWidth() / 2;
+        double rootY = root.getY() + root.getHeight() / 2;
+        for (int i = 0; i < size; i++) {
+            ElkNode node = nodes.get(i);
+            indices.put(node, i);
+            x[i] = node.getX();
+            y[i] = node.getY();
+            width[i] = node.getWidth();
+            height[i] = node.getHeight();
+
+            // nodes move along the vector from the root's center to their center
+            double vectorX = x[i] + width[i] / 2 - rootX;
+            double vectorY = y[i] + height[i] / 2 - rootY;
+            double length = Math.sqrt(vectorX * vectorX + vectorY * vectorY);
+            if (length > 0) {
+                stepX[i] = vectorX * step / length;
+                stepY[i] = vectorY * step / length;
+
+                if (step < 0) {
+                    // contracted nodes are not moved past the root's center
+                    firstStepTooClose = Math.min(firstStepTooClose, (long) Math.ceil(length / -step));
+                }
+            }
+        }
+    }
+
+    /**
+     * Considers overlaps between each node and the next one, and between the last node and the first one, just like
+     * {@link AbstractRadiusExtensionCompaction#overlapLayer(List)} does.
+     */
+    public void addLayerOverlaps() {
+        int size = nodes.size();
+        if (size < 2) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            addOverlaps(i, i < size - 1 ? i + 1 : 0);
+        }
+    }
+
+    /**
+     * Considers overlaps between a node of the radius and another node, which may or may not belong to the radius.
+     * Nodes not belonging to the radius don't move.
+     *
+     * @param index
+     *            the index of the node of the radius
+     * @param other
+     *            the other node, may be {@code null}
+     */
+    public void addOverlaps(final int index, final ElkNode other) {
+        if (other == null) {
+            return;
+        }
+        Integer otherIndex = indices.get(other);
+        if (otherIndex != null) {
+            addOverlaps(index, otherIndex);
+        } else {
+            addOverlaps(index, other.getX(), other.getY(), other.getWidth(), other.getHeight(), 0, 0);
+        }
+    }
+
+    /**
+     * Considers the distance of a node's upper left corner to a point, which must remain greater than a given radius
+     * plus the spacing.
+     *
+     * @param index
+     *            the index of the node of the radius
+     * @param pointX
+     *            x-coordinate of the point
+     * @param pointY
+     *            y-coordinate of the point
+     * @param radius
+     *            the radius that must not be reached
+     */
+    public void addMinimumRadius(final int index, final double pointX, final double pointY, final double radius) {
+        // the squared distance is a quadratic function of the step, and the step is too close where it is at most
+        // the squared minimum distance
+        double minDistance = radius + spacing;
+        if (minDistance < 0) {
+            return;
+        }
+        double vectorX = x[index] - pointX;
+        double vectorY = y[index] - pointY;
+        double a = stepX[index] * stepX[index] + stepY[index] * stepY[index];
+        double b = 2 * (vectorX * stepX[index] + vectorY * stepY[index]);
+        double c = vectorX * vectorX + vectorY * vectorY - minDistance * minDistance;
+        if (a == 0) {
+            if (c <= 0) {
+                firstStepTooClose = 0;
+            }
+            return;
+        }
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant < 0) {
+            return;
+        }
+        double root = Math.sqrt(discriminant);
+        double first = (-b - root) / (2 * a);
+        double last = (-b + root) / (2 * a);
+        long step = Math.max(0, (long) Math.ceil(first));
+        if (step <= last) {
+            firstStepTooClose = Math.min(firstStepTooClose, step);
+        }
+    }
+
+    /**
+     * Returns the first step, starting at zero, at which none of the considered pairs of nodes overlap. Pairs of
+     * nodes that overlap at every step are ignored.
+     *
+     * @return the number of steps the radius has to be extended by
+     */
+    public int firstStepWithoutOverlaps() {
+        // sweep over the intervals in the order of their starts, skipping the step behind each interval that
+        // contains the current step
+        Integer[] order = new Integer[overlapCount];
+        for (int i = 0; i < overlapCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> Double.compare(overlapStart[i1], overlapStart[i2]));
+
+        double step = 0;
+        for (int i : order) {
+            if (overlapStart[i] >= step) {
+                break;
+            }
+            if (overlapEnd[i] > step && overlapEnd[i] != Double.POSITIVE_INFINITY) {
+                step = Math.ceil(overlapEnd[i]);
+            }
+        }
+        return (int) step;
+    }
+
+    /**
+     * Returns the first step, starting at zero, at which one of the considered pairs of nodes overlaps or a node is
+     * too close to a point. Steps that would move nodes past the root's center count as well.
+     *
+     * @return the first step with overlaps, or {@link Integer#MAX_VALUE} if there is none
+     */
+    public int firstStepWithOverlaps() {
+        long first = firstStepTooClose;
+        for (int i = 0; i < overlapCount; i++) {
+            long step = Math.max(0, (long) Math.floor(overlapStart[i]) + 1);
+            if (step < overlapEnd[i]) {
+                first = Math.min(first, step);
+            }
+        }
+        return (int) Math.min(first, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves the nodes of the radius by the given number of steps.
+     *
+     * @param steps
+     *            the number of steps
+     */
+    public void apply(final int steps) {
+        if (steps == 0) {
+            return;
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).setLocation(x[i] + steps * stepX[i], y[i] + steps * stepY[i]);
+        }
+    }
+
+    private void addOverlaps(final int index, final int otherIndex) {
+        addOverlaps(index, x[otherIndex], y[otherIndex], width[otherIndex], height[otherIndex], stepX[otherIndex],
+                stepY[otherIndex]);
+    }
+
+    /**
+     * Adds the intervals of steps at which a node of the radius overlaps with the given moving box. The overlap test
+     * considers boxes overlapping if the distance of their upper left corners is, in both dimensions, greater than
+     * zero and smaller than the extent of the box in front.
+     */
+    private void addOverlaps(final int index, final double otherX, final double otherY, final double otherWidth,
+            final double otherHeight, final double otherStepX, final double otherStepY) {
+        double dx = otherX - x[index];
+        double dy = otherY - y[index];
+        double dxPerStep = otherStepX - stepX[index];
+        double dyPerStep = otherStepY - stepY[index];
+
+        // the other box being left of / right of / above / below the node
+        double leftStart = stepsStart(dx, dxPerStep, -(otherWidth + spacing), 0);
+        double leftEnd = stepsEnd(dx, dxPerStep, -(otherWidth + spacing), 0);
+        double rightStart = stepsStart(dx, dxPerStep, 0, width[index] + spacing);
+        double rightEnd = stepsEnd(dx, dxPerStep, 0, width[index] + spacing);
+        double aboveStart = stepsStart(dy, dyPerStep, -(otherHeight + spacing), 0);
+        double aboveEnd = stepsEnd(dy, dyPerStep, -(otherHeight + spacing), 0);
+        double belowStart = stepsStart(dy, dyPerStep, 0, height[index] + spacing);
+        double belowEnd = stepsEnd(dy, dyPerStep, 0, height[index] + spacing);
+
+        addInterval(Math.max(leftStart, aboveStart), Math.min(leftEnd, aboveEnd));
+        addInterval(Math.max(leftStart, belowStart), Math.min(leftEnd, belowEnd));
+        addInterval(Math.max(rightStart, aboveStart), Math.min(rightEnd, aboveEnd));
+        addInterval(Math.max(rightStart, belowStart), Math.min(rightEnd, belowEnd));
+    }
+
+    /**
+     * Returns the start of the open interval of steps k at which {@code lower < value + k * perStep < upper}.
+     */
+    private static double stepsStart(final double value, final double perStep, final double lower,
+            final double upper) {
+        if (perStep == 0) {
+            return lower < value && value < upper ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return Math.min((lower - value) / perStep, (upper - value) / perStep);
+    }
+
+    /**
+     * Returns the end of the open interval of steps k at which {@code lower < value + k * perStep < upper}.
+     */
+    private static double stepsEnd(final double value, final double perStep, final double lower, final double upper) {
+        if (perStep == 0) {
+            return lower < value && value < upper ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return Math.max((lower - value) / perStep, (upper - value) / perStep);
+    }
+
+    private void addInterval(final double start, final double end) {
+        // only intervals reaching into the non-negative steps matter
+        if (start >= end || end <= 0) {
+            return;
+        }
+        if (overlapCount == overlapStart.length) {
+            overlapStart = Arrays.copyOf(overlapStart, 2 * overlapCount);
+            overlapEnd = Arrays.copyOf(overlapEnd, 2 * overlapCount);
+        }
+        overlapStart[overlapCount] = start;
+        overlapEnd[overlapCount] = end;
+        overlapCount++;
+    }
+
+}
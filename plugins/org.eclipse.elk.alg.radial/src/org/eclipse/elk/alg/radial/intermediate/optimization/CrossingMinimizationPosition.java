@@ -20,76 +20,36 @@ import org.eclipse.elk.graph.ElkNode;
  * Count the number of crossings of the edges between root and the first radius. The algorithm expects the
  * {@link CoreOptions.POSITION} option to be set. <em>Warning</em>: It makes assumptions that the position points to a node <em>in</em>
  * the tree-parent node!
+ * 
+ * <p>The edges are given to a {@link RadialCrossingCounter} by the angles of their positions and targets around the
+ * center of the root, which is reused for all evaluations.</p>
  */
 public class CrossingMinimizationPosition implements IEvaluation {
 
-    /** The root node of the graph. */
-    private ElkNode root;
+    /** The counter, whose buffers are kept between evaluations. */
+    private final RadialCrossingCounter counter = new RadialCrossingCounter();
 
     @Override
     public double evaluate(final ElkNode rootNode) {
-        this.root = rootNode;
-        int crossings = 0;
         List<ElkNode> nodes = RadialUtil.getSuccessors(rootNode);
-
-        int k = 0;
-        for (ElkNode node1 : nodes) {
-            k++;
-            for (int i = k; i < nodes.size(); i++) {
-                if (isCrossing(node1, nodes.get(i))) {
-                    crossings += 1;
-                }
+        double rootX = rootNode.getX() + rootNode.getWidth() / 2;
+        double rootY = rootNode.getY() + rootNode.getHeight() / 2;
+
+        counter.reset(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            ElkNode node = nodes.get(i);
+            double targetAngle = Math.atan2(node.getY() + node.getHeight() / 2 - rootY,
+                    node.getX() + node.getWidth() / 2 - rootX);
+
+            // the position is relative to the root's center. Edges starting at the center don't cross others
+            KVector position = node.getProperty(CoreOptions.POSITION);
+            double sourceAngle = targetAngle;
+            if (position != null && (position.x != 0 || position.y != 0)) {
+                sourceAngle = Math.atan2(position.y, position.x);
             }
+            counter.setEdge(i, sourceAngle, targetAngle);
         }
-        return crossings;
-    }
-
-    /**
-     * Calculate if two edges are crossing by calculating the line between the nodes and their node position.
-     * 
-     * @param node1
-     *            The first node for checking the crossing.
-     * @param node2
-     *            The second node for checking the crossing.
-     * @return Returns if the lines of the nodes are crossing.
-     */
-    private boolean isCrossing(final ElkNode node1, final ElkNode node2) {
-        // root
-        double rootX = root.getX() + root.getWidth() / 2;
-        double rootY = root.getX() + root.getWidth() / 2;
-
-        // node1
-        double xPos1 = node1.getX() + node1.getWidth() / 2;
-        double yPos1 = node1.getY() + node1.getHeight() / 2;
-        KVector node1Vector = new KVector(xPos1, yPos1);
-
-        KVector position1 = node1.getProperty(CoreOptions.POSITION);
-        position1.x = position1.x + rootX;
-        position1.y = position1.y + rootY;
-
-        double m1 = (node1Vector.y - position1.y) / (node1Vector.x - position1.x);
-        double b1 = node1Vector.y - m1 * node1Vector.x;
-
-        // node2
-        double xPos2 = node2.getX() + node2.getWidth() / 2;
-        double yPos2 = node2.getY() + node2.getHeight() / 2;
-        KVector node2Vector = new KVector(xPos2, yPos2);
-
-        KVector position2 = node2.getProperty(CoreOptions.POSITION);
-        position2.x = position2.x + rootX;
-        position2.y = position2.y + rootY;
-
-        double m2 = (node2Vector.y - position2.y) / (node2Vector.x - position2.x);
-        double b2 = node2Vector.y - m2 * node2Vector.x;
-
-        double xCut = (b1 - b2) / (m2 - m1);
-        // check whether the cut occurs on the relevant line segment
-        if ((position1.x < xCut && node1Vector.x < xCut) || (xCut < position1.x && xCut < node1Vector.x)) {
-            return false;
-        } else if ((position2.x < xCut && node2Vector.x < xCut) || (xCut < position2.x && xCut < node2Vector.x)) {
-            return false;
-        }
-        return true;
+        return counter.countCrossings();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Counts crossings between the edges leading from sources around a common center, such as positions inside the root
+ * node, to targets on a surrounding radius. Each edge is given by the angle of its source and the angle of its target
+ * around the center and is drawn radially, turning from its source angle to its target angle the shorter way around.
+ * Two such edges cross if their angular order at the sources differs from the one at the targets, which is counted for
+ * all edges in O(m log m) with a binary indexed tree, similar to the crossings of edges between two layers.
+ *
+ * <p>All buffers are kept between evaluations and only grow if more edges are to be counted.</p>
+ */
+public final class RadialCrossingCounter {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    /** the number of edges. */
+    private int edgeCount;
+    /** the angle of each edge's source, in [0, 2 pi). */
+    private double[] sources = new double[0];
+    /** the angle of each edge's target, unwrapped to be less than pi away from the source angle. */
+    private double[] targets = new double[0];
+    /** the edges sorted by their source angles. */
+    private int[] order = new int[0];
+    /** scratch space for sorting the edges. */
+    private int[] sortBuffer = new int[0];
+    /** the sorted target angles, whose indices the binary indexed tree counts. */
+    private double[] sortedTargets = new double[0];
+    /** the binary indexed tree. */
+    private int[] tree = new int[1];
+
+    /**
+     * Removes all edges and makes room for the given number of edges, which have to be set before counting.
+     *
+     * @param count
+     *            the number of edges
+     */
+    public void reset(final int count) {
+        if (sources.length < count) {
+            sources = new double[count];
+            targets = new double[count];
+            order = new int[count];
+            sortBuffer = new int[count];
+            sortedTargets = new double[count];
+            tree = new int[count + 1];
+        }
+        edgeCount = count;
+    }
+
+    /**
+     * Sets the angles of an edge. Angles are measured in radians around the center and may lie in any range.
+     *
+     * @param index
+     *            the edge's index, less than the count passed to {@link #reset(int)}
+     * @param sourceAngle
+     *            the angle of the edge's source
+     * @param targetAngle
+     *            the angle of the edge's target
+     */
+    public void setEdge(final int index, final double sourceAngle, final double targetAngle) {
+        double source = normalize(sourceAngle);
+        sources[index] = source;
+        targets[index] = source + turn(source, targetAngle);
+    }
+
+    /**
+     * Counts the crossings of all edges.
+     *
+     * @return the number of crossings
+     */
+    public int countCrossings() {
+        int m = edgeCount;
+        for (int i = 0; i < m; i++) {
+            order[i] = i;
+        }
+        sortBySource(0, m);
+        System.arraycopy(targets, 0, sortedTargets, 0, m);
+        Arrays.sort(sortedTargets, 0, m);
+        Arrays.fill(tree, 0, m + 1, 0);
+
+        // sweep the edges by their source angles. An edge crosses each edge with a smaller source angle whose target
+        // lies behind its own or that is overtaken by more than a full turn
+        int count = 0;
+        int inserted = 0;
+        int groupStart = 0;
+        while (groupStart < m) {
+            int groupEnd = groupStart + 1;
+            while (groupEnd < m && sources[order[groupEnd]] == sources[order[groupStart]]) {
+                groupEnd++;
+            }
+            // edges with the same source don't cross each other
+            for (int i = groupStart; i < groupEnd; i++) {
+                double target = targets[order[i]];
+                count += inserted - prefixSum(upperBound(target, m));
+                count += prefixSum(lowerBound(target - TWO_PI, m));
+            }
+            for (int i = groupStart; i < groupEnd; i++) {
+                increment(lowerBound(targets[order[i]], m), m);
+                inserted++;
+            }
+            groupStart = groupEnd;
+        }
+        return count;
+    }
+
+    /**
+     * Normalizes an angle to [0, 2 pi).
+     */
+    private static double normalize(final double angle) {
+        double normalized = angle % TWO_PI;
+        if (normalized < 0) {
+            normalized += TWO_PI;
+        }
+        return normalized >= TWO_PI ? 0 : normalized;
+    }
+
+    /**
+     * Returns the shorter turn from one angle to another, in (-pi, pi].
+     */
+    private static double turn(final double from, final double to) {
+        double turn = normalize(to - from);
+        return turn > Math.PI ? turn - TWO_PI : turn;
+    }
+
+    /**
+     * Stable merge sort of the given range of {@link #order} by the edges' source angles.
+     */
+    private void sortBySource(final int from, final int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortBySource(from, middle);
+        sortBySource(middle, to);
+        if (sources[order[middle - 1]] <= sources[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, from, sortBuffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle && sources[sortBuffer[left]] <= sources[sortBuffer[right]]) {
+                order[i] = sortBuffer[left++];
+            } else {
+                order[i] = sortBuffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sorted targets less than the given value.
+     */
+    private int lowerBound(final double value, final int m) {
+        int low = 0;
+        int high = m;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedTargets[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of sorted targets less than or equal to the given value.
+     */
+    private int upperBound(final double value, final int m) {
+        int low = 0;
+        int high = m;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedTargets[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Counts an edge at the given index of the sorted targets.
+     */
+    private void increment(final int index, final int m) {
+        for (int i = index + 1; i <= m; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * Returns the number of counted edges at indices of the sorted targets less than the given end index.
+     */
+    private int prefixSum(final int end) {
+        int sum = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+}
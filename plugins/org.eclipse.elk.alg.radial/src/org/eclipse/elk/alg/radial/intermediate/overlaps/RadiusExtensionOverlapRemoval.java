@@ -16,6 +16,7 @@ import java.util.Set;
 import org.eclipse.elk.alg.radial.InternalProperties;
 import org.eclipse.elk.alg.radial.RadialUtil;
 import org.eclipse.elk.alg.radial.intermediate.compaction.AbstractRadiusExtensionCompaction;
+import org.eclipse.elk.alg.radial.intermediate.compaction.RadiusStepSolver;
 import org.eclipse.elk.alg.radial.options.RadialOptions;
 import org.eclipse.elk.alg.radial.sorting.IRadialSorter;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
@@ -57,9 +58,10 @@ public class RadiusExtensionOverlapRemoval extends AbstractRadiusExtensionCompac
                 oldPositions.add(new KVector(node.getX(), node.getY()));
             }
             progressMonitor.logGraph(graph, "Before removing overlaps");
-            while (overlapLayer(nodes)) {
-                contractLayer(nodes, false);
-            }
+            // Extend the radius by as many steps as it takes to remove all overlaps between neighbors
+            RadiusStepSolver solver = createStepSolver(nodes, false);
+            solver.addLayerOverlaps();
+            solver.apply(solver.firstStepWithoutOverlaps());
             progressMonitor.logGraph(graph, "After removing overlaps");
 
             double movedX = 0;
@@ -18,20 +18,34 @@ import org.eclipse.elk.alg.rectpacking.util.DrawingDataDescriptor;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.graph.ElkNode;
 
-import com.google.common.collect.Lists;
-
 /**
  * Class that handles the first iteration of the algorithm, producing an approximated bounding box for the packing.
  */
 public class AreaApproximation {
     //////////////////////////////////////////////////////////////////
     // Fields.
+    /** Placement options for the rectangle to place, in the order their drawings become candidates. */
+    private static final DrawingDataDescriptor[] CANDIDATE_POSITIONS = {
+            DrawingDataDescriptor.CANDIDATE_POSITION_LAST_PLACED_RIGHT,
+            DrawingDataDescriptor.CANDIDATE_POSITION_LAST_PLACED_BELOW,
+            DrawingDataDescriptor.CANDIDATE_POSITION_WHOLE_DRAWING_RIGHT,
+            DrawingDataDescriptor.CANDIDATE_POSITION_WHOLE_DRAWING_BELOW };
     /** Desired aspect ratio. */
     private double aspectRatio;
     /** Optimization goal. */
     private OptimizationGoal goal;
     /** Shift when placing behind or below the last placed rectangle. */
     private boolean lpShift;
+    /** Filters applied to the candidates in the order given by the optimization goal. */
+    private final List<BestCandidateFilter> filters = new ArrayList<>(3);
+    /** Drawings for each placement option of the rectangle to place, reused for every rectangle. */
+    private final DrawingData[] options = new DrawingData[CANDIDATE_POSITIONS.length];
+    /** Candidates that remain after filtering, reused for every rectangle. */
+    private final List<DrawingData> candidates = new ArrayList<>(CANDIDATE_POSITIONS.length);
+    /** x-coordinates of the rectangles placed by the last approximation. */
+    private double[] xCoordinates = new double[0];
+    /** y-coordinates of the rectangles placed by the last approximation. */
+    private double[] yCoordinates = new double[0];
 
     //////////////////////////////////////////////////////////////////
     // Constructors.
@@ -46,6 +60,30 @@ public class AreaApproximation {
         this.aspectRatio = aspectRatio;
         this.goal = goal;
         this.lpShift = lpShift;
+
+        switch (goal) {
+        // Sets the order of the filters according to the given goal.
+        case MAX_SCALE_DRIVEN:
+            filters.add(new ScaleMeasureFilter());
+            filters.add(new AreaFilter());
+            filters.add(new AspectRatioFilter());
+            break;
+        case ASPECT_RATIO_DRIVEN:
+            filters.add(new AspectRatioFilter());
+            filters.add(new AreaFilter());
+            filters.add(new ScaleMeasureFilter());
+            break;
+        case AREA_DRIVEN:
+            filters.add(new AreaFilter());
+            filters.add(new ScaleMeasureFilter());
+            filters.add(new AspectRatioFilter());
+            break;
+        default:
+        }
+
+        for (int i = 0; i < options.length; i++) {
+            options[i] = new DrawingData(aspectRatio, 0, 0, CANDIDATE_POSITIONS[i]);
+        }
     }
 
 
@@ -61,12 +99,36 @@ public class AreaApproximation {
      */
     public DrawingData approxBoundingBox(final List<ElkNode> rectangles, final double nodeNodeSpacing,
             final ElkPadding padding) {
+        DrawingData drawing = computeBoundingBox(rectangles, nodeNodeSpacing, padding);
+        applyCoordinates(rectangles);
+        return drawing;
+    }
+
+    /**
+     * Calculates a drawing for the given rectangles just like
+     * {@link #approxBoundingBox(List, double, ElkPadding)}, but keeps the coordinates of the rectangles in this object
+     * until they are {@link #applyCoordinates(List) applied}. The rectangles themselves are only read. Drawings for
+     * different options can thus be calculated concurrently, as long as each thread uses an
+     * {@link AreaApproximation} of its own.
+     * 
+     * @param rectangles The rectangles to place.
+     * @param nodeNodeSpacing The spacing between two nodes.
+     * @param padding The padding of the drawing.
+     * @return A drawing calculated by this methods algorithm.
+     */
+    public DrawingData computeBoundingBox(final List<ElkNode> rectangles, final double nodeNodeSpacing,
+            final ElkPadding padding) {
+        if (xCoordinates.length < rectangles.size()) {
+            xCoordinates = new double[rectangles.size()];
+            yCoordinates = new double[rectangles.size()];
+        }
+
         // Place first box.
         ElkNode firstRect = rectangles.get(0);
-        firstRect.setX(0);
-        firstRect.setY(0);
-        List<ElkNode> placedRects = new ArrayList<>();
-        placedRects.add(firstRect);
+        xCoordinates[0] = 0;
+        yCoordinates[0] = 0;
+        PlacedRectangles placedRects = new PlacedRectangles(nodeNodeSpacing);
+        placedRects.add(0, 0, firstRect.getWidth(), firstRect.getHeight());
         ElkNode lastPlaced = firstRect;
         DrawingData currentValues = new DrawingData(this.aspectRatio, firstRect.getWidth(), firstRect.getHeight(),
                 DrawingDataDescriptor.WHOLE_DRAWING);
@@ -75,70 +137,65 @@ public class AreaApproximation {
         for (int rectangleIdx = 1; rectangleIdx < rectangles.size(); rectangleIdx++) {
             ElkNode toPlace = rectangles.get(rectangleIdx);
 
-            // Determine drawing metrics for different candidate positions/placement options
-            DrawingData opt1 = calcValuesForOpt(DrawingDataDescriptor.CANDIDATE_POSITION_LAST_PLACED_RIGHT, toPlace,
-                    lastPlaced, currentValues, placedRects, nodeNodeSpacing);
-
-            DrawingData opt2 = calcValuesForOpt(DrawingDataDescriptor.CANDIDATE_POSITION_LAST_PLACED_BELOW, toPlace,
-                    lastPlaced, currentValues, placedRects, nodeNodeSpacing);
+            double lastX = xCoordinates[rectangleIdx - 1];
+            double lastY = yCoordinates[rectangleIdx - 1];
 
-            DrawingData opt3 = calcValuesForOpt(DrawingDataDescriptor.CANDIDATE_POSITION_WHOLE_DRAWING_RIGHT, toPlace,
-                    lastPlaced, currentValues, placedRects, nodeNodeSpacing);
-
-            DrawingData opt4 = calcValuesForOpt(DrawingDataDescriptor.CANDIDATE_POSITION_WHOLE_DRAWING_BELOW, toPlace,
-                    lastPlaced, currentValues, placedRects, nodeNodeSpacing);
+            // Determine drawing metrics for different candidate positions/placement options
+            for (int i = 0; i < options.length; i++) {
+                calcValuesForOpt(options[i], toPlace, lastPlaced, lastX, lastY, currentValues, placedRects,
+                        nodeNodeSpacing);
+            }
 
-            DrawingData bestOpt = findBestCandidate(opt1, opt2, opt3, opt4, toPlace, lastPlaced, padding);
+            DrawingData bestOpt = findBestCandidate(toPlace, lastPlaced, lastX, lastY, padding);
 
-            toPlace.setX(bestOpt.getNextXcoordinate());
-            toPlace.setY(bestOpt.getNextYcoordinate());
-            bestOpt.setPlacementOption(DrawingDataDescriptor.WHOLE_DRAWING);
-            currentValues = bestOpt;
+            // The candidates are reused for the next rectangle, so the current drawing keeps a copy of the best one
+            xCoordinates[rectangleIdx] = bestOpt.getNextXcoordinate();
+            yCoordinates[rectangleIdx] = bestOpt.getNextYcoordinate();
+            currentValues.set(bestOpt.getDrawingWidth(), bestOpt.getDrawingHeight(),
+                    DrawingDataDescriptor.WHOLE_DRAWING, bestOpt.getNextXcoordinate(), bestOpt.getNextYcoordinate());
             lastPlaced = toPlace;
-            placedRects.add(toPlace);
+            placedRects.add(xCoordinates[rectangleIdx], yCoordinates[rectangleIdx], toPlace.getWidth(),
+                    toPlace.getHeight());
         }
 
         return currentValues;
     }
 
+    /**
+     * Sets the coordinates of the given rectangles to the ones calculated by the last call of
+     * {@link #computeBoundingBox(List, double, ElkPadding)}.
+     * 
+     * @param rectangles The rectangles the drawing was calculated for.
+     */
+    public void applyCoordinates(final List<ElkNode> rectangles) {
+        for (int i = 0; i < rectangles.size(); i++) {
+            rectangles.get(i).setLocation(xCoordinates[i], yCoordinates[i]);
+        }
+    }
+
     //////////////////////////////////////////////////////////////////
     // Helper methods.
 
     /**
-     * Determines according to the selected optimization goal, which option out of the given ones is the best.
+     * Determines according to the selected optimization goal, which of the drawings calculated for the placement
+     * options is the best.
      * 
-     * @param opt1 The option lastPlaced right.
-     * @param opt2 The option lastPlaced bottom.
-     * @param opt3 The option complete drawing right.
-     * @param opt4 The option complete drawing below.
      * @param toPlace The rectangle to be placed on drawing area.
      * @param lastPlaced The rectangle that was placed last on the drawing area.
+     * @param lastX The x-coordinate of the rectangle that was placed last.
+     * @param lastY The y-coordinate of the rectangle that was placed last.
      * @return Returns the best option out of the given ones or null, if there is no best option found.
      */
-    private DrawingData findBestCandidate(final DrawingData opt1, final DrawingData opt2, final DrawingData opt3,
-            final DrawingData opt4, final ElkNode toPlace, final ElkNode lastPlaced, final ElkPadding padding) {
-        List<DrawingData> candidates = Lists.newArrayList(opt1, opt2, opt3, opt4);
-        List<BestCandidateFilter> filters = null;
-
-        switch (goal) {
-        // Sets the order of the filters according to the given goal.
-        case MAX_SCALE_DRIVEN:
-            filters = Lists.newArrayList(new ScaleMeasureFilter(), new AreaFilter(), new AspectRatioFilter());
-            break;
-        case ASPECT_RATIO_DRIVEN:
-            filters = Lists.newArrayList(new AspectRatioFilter(), new AreaFilter(), new ScaleMeasureFilter());
-            break;
-        case AREA_DRIVEN:
-            filters = Lists.newArrayList(new AreaFilter(), new ScaleMeasureFilter(), new AspectRatioFilter());
-            break;
-        default:
+    private DrawingData findBestCandidate(final ElkNode toPlace, final ElkNode lastPlaced, final double lastX,
+            final double lastY, final ElkPadding padding) {
+        candidates.clear();
+        for (DrawingData option : options) {
+            candidates.add(option);
         }
 
-        // Filter the candidates according to the order of the filters using the strategy pattern.
-        for (BestCandidateFilter filter : filters) {
-            if (candidates.size() > 1) {
-                candidates = filter.filterList(candidates, aspectRatio, padding);
-            }
+        // Filter the candidates in place according to the order of the filters using the strategy pattern.
+        for (int i = 0; i < filters.size() && candidates.size() > 1; i++) {
+            filters.get(i).filterList(candidates, aspectRatio, padding);
         }
 
         // Only one candidate remains.
@@ -147,7 +204,7 @@ public class AreaApproximation {
         }
         // Multiple options have the same value for every benchmark. These special cases are caught in the following.
         if (candidates.size() == 2) {
-            return checkSpecialCases(candidates.get(0), candidates.get(1), lastPlaced, toPlace);
+            return checkSpecialCases(candidates.get(0), candidates.get(1), lastPlaced, lastX, lastY, toPlace);
         }
         return null;
     }
@@ -159,11 +216,13 @@ public class AreaApproximation {
      * @param drawing1 A drawing to compare.
      * @param drawing2 A drawing to compare.
      * @param lastPlaced The rectangle that was last placed before the two drawings were calculated.
+     * @param lastX The x-coordinate of the rectangle that was placed last.
+     * @param lastY The y-coordinate of the rectangle that was placed last.
      * @param toPlace The rectangle that was newly placed in the two drawings.
      * @return The better drawing out of the two.
      */
     private DrawingData checkSpecialCases(final DrawingData drawing1, final DrawingData drawing2,
-            final ElkNode lastPlaced, final ElkNode toPlace) {
+            final ElkNode lastPlaced, final double lastX, final double lastY, final ElkNode toPlace) {
         DrawingDataDescriptor firstOpt = drawing1.getPlacementOption();
         DrawingDataDescriptor secondOpt = drawing2.getPlacementOption();
 
@@ -209,8 +268,8 @@ public class AreaApproximation {
                 lpbOpt = drawing1;
             }
 
-            double areaLPR = Calculations.calculateAreaLPR(lastPlaced, toPlace, lprOpt);
-            double areaLPB = Calculations.calculateAreaLPB(lastPlaced, toPlace, lpbOpt);
+            double areaLPR = Calculations.calculateAreaLPR(lastPlaced, lastX, lastY, toPlace, lprOpt);
+            double areaLPB = Calculations.calculateAreaLPB(lastPlaced, lastX, lastY, toPlace, lpbOpt);
 
             if (areaLPR <= areaLPB) {
                 if (drawing1.getPlacementOption() == DrawingDataDescriptor.CANDIDATE_POSITION_LAST_PLACED_RIGHT) {
@@ -233,18 +292,20 @@ public class AreaApproximation {
     /**
      * Calculates drawing data for the given parameters including x and y coordinate for the rectangle toPlace.
      * 
-     * @param option The placement option the values are calculated for.
+     * @param newDrawing The drawing to store the values in, whose placement option they are calculated for.
      * @param toPlace The rectangle to be placed.
      * @param lastPlaced The rectangle that was placed last.
+     * @param lastX The x-coordinate of the rectangle that was placed last.
+     * @param lastY The y-coordinate of the rectangle that was placed last.
      * @param drawing The current drawing containing width and height, besides others.
      * @param placedRects The already placed rectangles.
      * @param nodeNodeSpacing The spacing between two nodes.
-     * @return An {@link DrawingData} object containing the values after the rectangle would be placed.
      */
-    private DrawingData calcValuesForOpt(final DrawingDataDescriptor option, final ElkNode toPlace,
-            final ElkNode lastPlaced, final DrawingData drawing, final List<ElkNode> placedRects,
-            final double nodeNodeSpacing) {
+    private void calcValuesForOpt(final DrawingData newDrawing, final ElkNode toPlace,
+            final ElkNode lastPlaced, final double lastX, final double lastY, final DrawingData drawing,
+            final PlacedRectangles placedRects, final double nodeNodeSpacing) {
 
+        DrawingDataDescriptor option = newDrawing.getPlacementOption();
         double x = 0;
         double y = 0;
         double drawingWidth = drawing.getDrawingWidth();
@@ -255,11 +316,11 @@ public class AreaApproximation {
         double width, height;
         switch (option) {
         case CANDIDATE_POSITION_LAST_PLACED_RIGHT:
-            x = lastPlaced.getX() + lastPlaced.getWidth() + nodeNodeSpacing;
+            x = lastX + lastPlaced.getWidth() + nodeNodeSpacing;
             if (lpShift) {
-                y = Calculations.calculateYforLPR(x, placedRects, lastPlaced, nodeNodeSpacing);
+                y = Calculations.calculateYforLPR(x, placedRects, nodeNodeSpacing);
             } else {
-                y = lastPlaced.getY();
+                y = lastY;
             }
 
             width = Calculations.getWidthLPRorLPB(drawingWidth, x, widthToPlace);
@@ -267,11 +328,11 @@ public class AreaApproximation {
             break;
             
         case CANDIDATE_POSITION_LAST_PLACED_BELOW:
-            y = lastPlaced.getY() + lastPlaced.getHeight() + nodeNodeSpacing;
+            y = lastY + lastPlaced.getHeight() + nodeNodeSpacing;
             if (lpShift) {
-                x = Calculations.calculateXforLPB(y, placedRects, lastPlaced, nodeNodeSpacing);
+                x = Calculations.calculateXforLPB(y, placedRects, nodeNodeSpacing);
             } else {
-                x = lastPlaced.getX();
+                x = lastX;
             }
 
             width = Calculations.getWidthLPRorLPB(drawingWidth, x, widthToPlace);
@@ -298,7 +359,6 @@ public class AreaApproximation {
         }
 
         // LPR and LPB have more values to be set in newDrawing.
-        DrawingData newDrawing = new DrawingData(aspectRatio, width, height, option, x, y);
-        return newDrawing;
+        newDrawing.set(width, height, option, x, y);
     }
 }
@@ -9,7 +9,6 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
@@ -27,18 +26,24 @@ public class AreaFilter implements BestCandidateFilter {
     @Override
     public List<DrawingData> filterList(final List<DrawingData> candidates, final double aspectRatio,
             final ElkPadding padding) {
-        List<DrawingData> remainingCandidates = new ArrayList<DrawingData>();
         double minArea = Double.POSITIVE_INFINITY;
-        for (DrawingData opt : candidates) {
-            minArea = Math.min(minArea, (opt.getDrawingWidth() + padding.getHorizontal())
-                    * (opt.getDrawingHeight() + padding.getVertical()));
+        for (int i = 0; i < candidates.size(); i++) {
+            minArea = Math.min(minArea, area(candidates.get(i), padding));
         }
-        for (DrawingData candidate : candidates) {
-            if ((candidate.getDrawingWidth() + padding.getHorizontal())
-                    * (candidate.getDrawingHeight() + padding.getVertical()) == minArea) {
-                remainingCandidates.add(candidate);
+        int remaining = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (area(candidates.get(i), padding) == minArea) {
+                candidates.set(remaining++, candidates.get(i));
             }
         }
-        return remainingCandidates;
+        while (candidates.size() > remaining) {
+            candidates.remove(candidates.size() - 1);
+        }
+        return candidates;
+    }
+
+    private static double area(final DrawingData candidate, final ElkPadding padding) {
+        return (candidate.getDrawingWidth() + padding.getHorizontal())
+                * (candidate.getDrawingHeight() + padding.getVertical());
     }
 }
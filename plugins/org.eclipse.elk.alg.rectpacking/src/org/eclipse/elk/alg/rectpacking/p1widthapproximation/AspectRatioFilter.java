@@ -9,7 +9,6 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
@@ -27,21 +26,26 @@ public class AspectRatioFilter implements BestCandidateFilter {
     @Override
     public List<DrawingData> filterList(final List<DrawingData> candidates, final double aspectRatio,
             final ElkPadding padding) {
-        List<DrawingData> remainingCandidates = new ArrayList<DrawingData>();
         double smallestDeviation = Double.POSITIVE_INFINITY;
-        for (DrawingData opt : candidates) {
-            smallestDeviation = Math.min(smallestDeviation,
-                    Math.abs(((opt.getDrawingWidth() + padding.getHorizontal())
-                            / (opt.getDrawingHeight() + padding.getVertical()))
-                        - aspectRatio));
+        for (int i = 0; i < candidates.size(); i++) {
+            smallestDeviation = Math.min(smallestDeviation, deviation(candidates.get(i), aspectRatio, padding));
         }
-        for (DrawingData candidate : candidates) {
-            if (Math.abs(((candidate.getDrawingWidth() + padding.getHorizontal())
-                        / (candidate.getDrawingHeight() + padding.getVertical()))
-                    - aspectRatio) == smallestDeviation) {
-                remainingCandidates.add(candidate);
+        int remaining = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (deviation(candidates.get(i), aspectRatio, padding) == smallestDeviation) {
+                candidates.set(remaining++, candidates.get(i));
             }
         }
-        return remainingCandidates;
+        while (candidates.size() > remaining) {
+            candidates.remove(candidates.size() - 1);
+        }
+        return candidates;
+    }
+
+    private static double deviation(final DrawingData candidate, final double aspectRatio,
+            final ElkPadding padding) {
+        return Math.abs(((candidate.getDrawingWidth() + padding.getHorizontal())
+                / (candidate.getDrawingHeight() + padding.getVertical()))
+            - aspectRatio);
     }
 }
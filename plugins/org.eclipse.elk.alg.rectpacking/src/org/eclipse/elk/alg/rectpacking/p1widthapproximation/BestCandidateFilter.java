@@ -16,16 +16,17 @@ import org.eclipse.elk.core.math.ElkPadding;
 
 /**
  * Interface implementing the Strategy interface of the strategy pattern. This interface offers a method that filters a
- * given list of {@link DrawingData} objects and returns a filtered list.
+ * given list of {@link DrawingData} objects in place.
  */
 public interface BestCandidateFilter {
 
     /**
-     * Filters the given list of {@link DrawingData} objects and returns it.
+     * Filters the given list of {@link DrawingData} objects and returns it. Candidates are removed from the list
+     * itself, which thus has to be modifiable, and the remaining ones keep their order.
      * 
      * @param candidates The list to be filtered.
      * @param aspectRatio The desired aspect ratio.
-     * @return A list that is filtered by whatever the implementation filtered for.
+     * @return The given list, filtered by whatever the implementation filtered for.
      */
     List<DrawingData> filterList(List<DrawingData> candidates, double aspectRatio, ElkPadding padding);
 }
@@ -9,8 +9,6 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
-import java.util.List;
-
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
 import org.eclipse.elk.alg.rectpacking.util.DrawingDataDescriptor;
 import org.eclipse.elk.graph.ElkNode;
@@ -52,33 +50,19 @@ public final class Calculations {
     }
 
     /**
-     * Calculates the y-coordinate after the shift of the rectangle to be placed right of lastPlaced.
+     * Calculates the y-coordinate after the shift of the rectangle to be placed right of lastPlaced. It is the bottom
+     * border of the lowest already placed rectangle the rectangle would be placed left of.
      * 
      * @param x The x-coordinate of the rectangle to be placed.
-     * @param placedRects A list of already placed rectangles.
-     * @param lastPlaced The rectangle that was placed most recently.
+     * @param placedRects The already placed rectangles.
+     * @param nodeNodeSpacing The spacing between two nodes.
      * @return The y-coordinate after the shift of the rectangle to be placed right of lastPlaced
      */
-    protected static double calculateYforLPR(final double x, final List<ElkNode> placedRects,
-            final ElkNode lastPlaced, final double nodeNodeSpacing) {
-        ElkNode closestUpperNeighbor = null;
-        double closestNeighborBottomBorder = 0;
-        // find neighbors that lay between the upper and lower border of the rectangle to be placed.
-        for (ElkNode placedRect : placedRects) {
-            double placedRectBottomBorder = placedRect.getY() + placedRect.getHeight();
-            if (verticalOrderConstraint(placedRect, x, nodeNodeSpacing)) {
-                // is closest neighbor?
-                if (closestUpperNeighbor == null) {
-                    closestUpperNeighbor = placedRect;
-                } else if (lastPlaced.getY() - placedRectBottomBorder < lastPlaced.getY() - closestNeighborBottomBorder) {
-                    closestUpperNeighbor = placedRect;
-                }
-                closestNeighborBottomBorder = closestUpperNeighbor.getY() + closestUpperNeighbor.getHeight();
-            }
-        }
-
-        // no neighbor yet
-        if (closestUpperNeighbor == null) {
+    protected static double calculateYforLPR(final double x, final PlacedRectangles placedRects,
+            final double nodeNodeSpacing) {
+        double closestNeighborBottomBorder = placedRects.lowestBottomBorderBeyond(x);
+        if (Double.isNaN(closestNeighborBottomBorder)) {
+            // no neighbor yet
             return 0;
         } else {
             // else, choose closest neighbors bottom border
@@ -87,33 +71,19 @@ public final class Calculations {
     }
 
     /**
-     * Calculates the x-coordinate after shift of the rectangle to be placed below the last placed rectangle.
+     * Calculates the x-coordinate after shift of the rectangle to be placed below the last placed rectangle. It is the
+     * right border of the rightmost already placed rectangle the rectangle would be placed above of.
      * 
-     * @param placedRects A list of already placed rectangles.
      * @param y The y-coordinate of the rectangle to be placed.
-     * @param lastPlaced The most recently placed rectangle.
+     * @param placedRects The already placed rectangles.
+     * @param nodeNodeSpacing The spacing between two nodes.
      * @return The x-coordinate after shift of the rectangle to be placed below lastPlaced.
      */
-    protected static double calculateXforLPB(final double y, final List<ElkNode> placedRects,
-            final ElkNode lastPlaced, final double nodeNodeSpacing) {
-        ElkNode closestLeftNeighbour = null;
-        double closestNeighborRightBorder = 0;
-        // Find neighbors that lay in between the height of the rectangle to be placed.
-        for (ElkNode placedRect : placedRects) {
-            double placedRectRightBorder = placedRect.getX() + placedRect.getWidth();
-            if (horizontalOrderConstraint(placedRect, y, nodeNodeSpacing)) {
-                // Is closest neighbor?
-                if (closestLeftNeighbour == null) {
-                    closestLeftNeighbour = placedRect;
-                } else if (lastPlaced.getX() - placedRectRightBorder < lastPlaced.getX() - closestNeighborRightBorder) {
-                    closestLeftNeighbour = placedRect;
-                }
-                closestNeighborRightBorder = closestLeftNeighbour.getX() + closestLeftNeighbour.getWidth();
-            }
-        }
-
-        // No neighbor yet.
-        if (closestLeftNeighbour == null) {
+    protected static double calculateXforLPB(final double y, final PlacedRectangles placedRects,
+            final double nodeNodeSpacing) {
+        double closestNeighborRightBorder = placedRects.rightmostRightBorderBelow(y);
+        if (Double.isNaN(closestNeighborRightBorder)) {
+            // No neighbor yet.
             return 0;
         } else {
             // Else, choose closest neighbors right border
@@ -126,18 +96,20 @@ public final class Calculations {
      * {@link DrawingDataDescriptor} last placed right.
      * 
      * @param lastPlaced The last placed rectangle.
+     * @param lastX The x-coordinate of the last placed rectangle.
+     * @param lastY The y-coordinate of the last placed rectangle.
      * @param toPlace The rectangle to be placed.
      * @param lprOpt The drawing data containing the coordinates of the rectangle to be placed.
      * @return The area taken up by the two given rectangles.
      */
-    protected static double calculateAreaLPR(final ElkNode lastPlaced, final ElkNode toPlace,
-            final DrawingData lprOpt) {
-        double lastPlacedBottomBorder = lastPlaced.getY() + lastPlaced.getHeight();
+    protected static double calculateAreaLPR(final ElkNode lastPlaced, final double lastX, final double lastY,
+            final ElkNode toPlace, final DrawingData lprOpt) {
+        double lastPlacedBottomBorder = lastY + lastPlaced.getHeight();
         double toPlaceBottomBorder = lprOpt.getNextYcoordinate() + toPlace.getHeight();
         double maxYLPR = Math.max(lastPlacedBottomBorder, toPlaceBottomBorder);
 
-        double heightLPR = maxYLPR - Math.min(lastPlaced.getY(), lprOpt.getNextYcoordinate());
-        double widthLPR = lprOpt.getNextXcoordinate() + toPlace.getWidth() - lastPlaced.getX();
+        double heightLPR = maxYLPR - Math.min(lastY, lprOpt.getNextYcoordinate());
+        double widthLPR = lprOpt.getNextXcoordinate() + toPlace.getWidth() - lastX;
 
         return widthLPR * heightLPR;
     }
@@ -147,43 +119,21 @@ public final class Calculations {
      * {@link DrawingDataDescriptor} last placed below.
      * 
      * @param lastPlaced The last placed rectangle.
+     * @param lastX The x-coordinate of the last placed rectangle.
+     * @param lastY The y-coordinate of the last placed rectangle.
      * @param toPlace The rectangle to be placed.
      * @param lpbOpt The drawing data containing the coordinates of the rectangle to be placed.
      * @return The area taken up by the two given rectangles.
      */
-    protected static double calculateAreaLPB(final ElkNode lastPlaced, final ElkNode toPlace,
-            final DrawingData lpbOpt) {
-        double lastPlacedRightBorder = lastPlaced.getX() + lastPlaced.getWidth();
+    protected static double calculateAreaLPB(final ElkNode lastPlaced, final double lastX, final double lastY,
+            final ElkNode toPlace, final DrawingData lpbOpt) {
+        double lastPlacedRightBorder = lastX + lastPlaced.getWidth();
         double toPlaceRightBorder = lpbOpt.getNextXcoordinate() + toPlace.getWidth();
         double maxXLPB = Math.max(lastPlacedRightBorder, toPlaceRightBorder);
 
-        double widthLPB = maxXLPB - Math.min(lastPlaced.getX(), lpbOpt.getNextXcoordinate());
-        double heightLPB = lpbOpt.getNextYcoordinate() + toPlace.getHeight() - lastPlaced.getY();
+        double widthLPB = maxXLPB - Math.min(lastX, lpbOpt.getNextXcoordinate());
+        double heightLPB = lpbOpt.getNextYcoordinate() + toPlace.getHeight() - lastY;
 
         return widthLPB * heightLPB;
     }
-
-    /**
-     * Checks whether the placedRect produces an vertical order constraint regarding the order. If toPlace is placed
-     * left of placedRect, toPlace can at most be placed at the bottom border of placedRect.
-     * 
-     * @param placedRect The already placed rectangle.
-     * @param x The x-coordinate of the rectangle to be placed.
-     * @return True, if the placedRect produces a constraint. False otherwise.
-     */
-    private static boolean verticalOrderConstraint(final ElkNode placedRect, final double x, final double nodeNodeSpacing) {
-        return x < placedRect.getX() + placedRect.getWidth() + nodeNodeSpacing;
-    }
-
-    /**
-     * Checks whether the placedRect produces an horizontal order constraint regarding the order. If toPlace is placed
-     * above of placedRect, toPlace can at most be placed at the right border of placedRect.
-     * 
-     * @param placedRect The already placed rectangle.
-     * @param yCoordRectToPlace The y-coordinate of the rectangle to be placed.
-     * @return True, if the placedRect produces a constraint. False otherwise.
-     */
-    private static boolean horizontalOrderConstraint(final ElkNode placedRect, final double yCoordRectToPlace, final double nodeNodeSpacing) {
-        return yCoordRectToPlace < placedRect.getY() + placedRect.getHeight() + nodeNodeSpacing;
-    }
 }
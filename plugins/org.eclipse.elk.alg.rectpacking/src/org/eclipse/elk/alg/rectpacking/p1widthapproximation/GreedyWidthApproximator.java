@@ -9,7 +9,12 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
+import java.util.ArrayList;
 import java.util.List;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.rectpacking.RectPackingLayoutPhases;
 import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
@@ -17,9 +22,13 @@ import org.eclipse.elk.alg.rectpacking.options.OptimizationGoal;
 import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
 import org.eclipse.elk.alg.rectpacking.util.DrawingUtil;
+import org.eclipse.elk.core.UnsupportedConfigurationException;
 import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.math.ElkPadding;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.graph.ElkNode;
 
@@ -28,6 +37,11 @@ import org.eclipse.elk.graph.ElkNode;
  * area, or aspect ratio as its {@link OptimizationGoal}, to transform the rectangle packing problem into a strip
  * packing problem.
  * 
+ * <p>If {@link RectPackingOptions#WIDTH_APPROXIMATION_ASPECT_RATIO_VARIANTS} are given, the approximation is also
+ * done for each of these aspect ratios, concurrently if {@link RectPackingOptions#CONCURRENCY_THREADS} allows it.
+ * The drawing with the best scale measure regarding the desired aspect ratio determines the target width; ties are
+ * won by the desired aspect ratio and then by the variants in the given order.</p>
+ * 
  * <dl>
  *   <dt>Precondition:</dt>
  *   <dt>Postcondition:</dt>
@@ -57,13 +71,107 @@ public class GreedyWidthApproximator implements ILayoutPhase<RectPackingLayoutPh
         DrawingUtil.resetCoordinates(rectangles);
         DrawingData drawing;
         
-        // Initial width approximation.
-        AreaApproximation firstIt = new AreaApproximation(aspectRatio, goal, lastPlaceShift);
-        drawing = firstIt.approxBoundingBox(rectangles, nodeNodeSpacing, padding);
+        String variants = graph.getProperty(RectPackingOptions.WIDTH_APPROXIMATION_ASPECT_RATIO_VARIANTS);
+        if (variants == null || variants.trim().isEmpty()) {
+            // Initial width approximation.
+            AreaApproximation firstIt = new AreaApproximation(aspectRatio, goal, lastPlaceShift);
+            drawing = firstIt.approxBoundingBox(rectangles, nodeNodeSpacing, padding);
+        } else {
+            List<AreaApproximation> approximations = new ArrayList<>();
+            approximations.add(new AreaApproximation(aspectRatio, goal, lastPlaceShift));
+            for (double variant : parseAspectRatios(variants)) {
+                approximations.add(new AreaApproximation(variant, goal, lastPlaceShift));
+            }
+            
+            List<DrawingData> drawings = null;
+            // elkjs-exclude-start
+            int threads = ElkConcurrency.resolveThreadCount(graph.getProperty(RectPackingOptions.CONCURRENCY_THREADS));
+            if (threads > 1) {
+                drawings = computeConcurrently(approximations, rectangles, nodeNodeSpacing, padding, threads);
+            }
+            // elkjs-exclude-end
+            if (drawings == null) {
+                drawings = new ArrayList<>(approximations.size());
+                for (AreaApproximation approximation : approximations) {
+                    drawings.add(approximation.computeBoundingBox(rectangles, nodeNodeSpacing, padding));
+                }
+            }
+            
+            // Only a strictly better scale measure replaces the current best drawing
+            int best = 0;
+            double bestScaleMeasure = scaleMeasure(drawings.get(0), padding, aspectRatio);
+            for (int i = 1; i < drawings.size(); i++) {
+                double scaleMeasure = scaleMeasure(drawings.get(i), padding, aspectRatio);
+                if (scaleMeasure > bestScaleMeasure) {
+                    best = i;
+                    bestScaleMeasure = scaleMeasure;
+                }
+            }
+            approximations.get(best).applyCoordinates(rectangles);
+            drawing = drawings.get(best);
+        }
               
         graph.setProperty(InternalProperties.TARGET_WIDTH, drawing.getDrawingWidth());
         progressMonitor.done();
     }
+    
+    /**
+     * Parses the aspect ratio variants, which are separated by commas or whitespace.
+     * 
+     * @param variants the option value.
+     * @return the aspect ratios in the given order.
+     * @throws UnsupportedConfigurationException if a variant is not a positive number.
+     */
+    private static List<Double> parseAspectRatios(final String variants) {
+        List<Double> aspectRatios = new ArrayList<>();
+        for (String variant : variants.trim().split("[,\\s]+")) {
+            double aspectRatio;
+            try {
+                aspectRatio = Double.parseDouble(variant);
+            } catch (NumberFormatException e) {
+                aspectRatio = Double.NaN;
+            }
+            if (!(aspectRatio > 0) || Double.isInfinite(aspectRatio)) {
+                throw new UnsupportedConfigurationException(
+                        "Aspect ratio variants have to be positive numbers, but got '" + variant + "'.");
+            }
+            aspectRatios.add(aspectRatio);
+        }
+        return aspectRatios;
+    }
+    
+    private static double scaleMeasure(final DrawingData drawing, final ElkPadding padding,
+            final double aspectRatio) {
+        return DrawingUtil.computeScaleMeasure(
+                drawing.getDrawingWidth() + padding.getHorizontal(),
+                drawing.getDrawingHeight() + padding.getVertical(),
+                aspectRatio);
+    }
+    
+    // elkjs-exclude-start
+    
+    /**
+     * Computes the drawings of the given approximations on up to the given number of threads. Each approximation keeps
+     * the coordinates it calculated to itself, so the rectangles are not modified.
+     */
+    private static List<DrawingData> computeConcurrently(final List<AreaApproximation> approximations,
+            final List<ElkNode> rectangles, final double nodeNodeSpacing, final ElkPadding padding,
+            final int threads) {
+        
+        List<Callable<DrawingData>> tasks = new ArrayList<>(approximations.size());
+        for (AreaApproximation approximation : approximations) {
+            tasks.add(() -> approximation.computeBoundingBox(rectangles, nodeNodeSpacing, padding));
+        }
+        
+        ExecutorService executor = ElkConcurrency.newExecutor(Math.min(threads, tasks.size()));
+        try {
+            return ElkConcurrency.invokeAll(executor, tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    // elkjs-exclude-end
 
     /* (non-Javadoc)
      * @see org.eclipse.elk.core.alg.ILayoutPhase#getLayoutProcessorConfiguration(java.lang.Object)
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
+
+import java.util.Arrays;
+
+/**
+ * The rectangles already placed by the {@link AreaApproximation}, as far as they are needed to shift a rectangle
+ * placed right of or below the last placed one. Of all rectangles reaching beyond a given x-coordinate, only the
+ * lowest bottom border is of interest, and vice versa. Each of these queries is answered in logarithmic time from a
+ * staircase of the rectangles that aren't exceeded in both directions by another one, instead of looking at every
+ * placed rectangle.
+ */
+public final class PlacedRectangles {
+
+    /** right borders plus spacing, and the bottom borders of the rectangles reaching that far right. */
+    private final Staircase rightBorders = new Staircase();
+    /** bottom borders plus spacing, and the right borders of the rectangles reaching that far down. */
+    private final Staircase bottomBorders = new Staircase();
+    /** the spacing between two nodes. */
+    private final double nodeNodeSpacing;
+
+    /**
+     * Creates an empty set of placed rectangles.
+     *
+     * @param nodeNodeSpacing The spacing between two nodes.
+     */
+    public PlacedRectangles(final double nodeNodeSpacing) {
+        this.nodeNodeSpacing = nodeNodeSpacing;
+    }
+
+    /**
+     * Adds a placed rectangle.
+     *
+     * @param x The x-coordinate of the rectangle.
+     * @param y The y-coordinate of the rectangle.
+     * @param width The width of the rectangle.
+     * @param height The height of the rectangle.
+     */
+    public void add(final double x, final double y, final double width, final double height) {
+        rightBorders.add(x + width + nodeNodeSpacing, y + height);
+        bottomBorders.add(y + height + nodeNodeSpacing, x + width);
+    }
+
+    /**
+     * Returns the lowest bottom border of the rectangles that, together with the spacing, reach beyond the given
+     * x-coordinate.
+     *
+     * @param x The x-coordinate.
+     * @return The lowest bottom border, or {@link Double#NaN} if no rectangle reaches beyond x.
+     */
+    public double lowestBottomBorderBeyond(final double x) {
+        return rightBorders.maxValueBeyond(x);
+    }
+
+    /**
+     * Returns the rightmost right border of the rectangles that, together with the spacing, reach below the given
+     * y-coordinate.
+     *
+     * @param y The y-coordinate.
+     * @return The rightmost right border, or {@link Double#NaN} if no rectangle reaches below y.
+     */
+    public double rightmostRightBorderBelow(final double y) {
+        return bottomBorders.maxValueBeyond(y);
+    }
+
+    /**
+     * Pairs of a key and a value, keeping only pairs that no other pair exceeds in both the key and the value. Sorted by
+     * their keys, the values of the remaining pairs thus decrease.
+     */
+    private static final class Staircase {
+
+        private double[] keys = new double[16];
+        private double[] values = new double[16];
+        private int size = 0;
+
+        void add(final double key, final double value) {
+            // the first pair with a key not less than the new one has the greatest value of all such pairs
+            int index = firstIndexWithKeyAtLeast(key);
+            if (index < size && values[index] >= value) {
+                return;
+            }
+            // remove the pairs the new one exceeds, which precede it
+            int start = index;
+            while (start > 0 && values[start - 1] <= value) {
+                start--;
+            }
+            if (index < size && keys[index] == key) {
+                index++;
+            }
+            int shift = 1 - (index - start);
+            if (size + shift > keys.length) {
+                keys = Arrays.copyOf(keys, 2 * keys.length);
+                values = Arrays.copyOf(values, 2 * values.length);
+            }
+            System.arraycopy(keys, index, keys, start + 1, size - index);
+            System.arraycopy(values, index, values, start + 1, size - index);
+            keys[start] = key;
+            values[start] = value;
+            size += shift;
+        }
+
+        double maxValueBeyond(final double key) {
+            // the first pair with a greater key has the greatest value of all such pairs
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle] <= key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low < size ? values[low] : Double.NaN;
+        }
+
+        private int firstIndexWithKeyAtLeast(final double key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+}
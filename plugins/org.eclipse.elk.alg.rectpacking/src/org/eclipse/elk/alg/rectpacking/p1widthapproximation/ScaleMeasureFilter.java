@@ -9,7 +9,6 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p1widthapproximation;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
@@ -28,22 +27,26 @@ public class ScaleMeasureFilter implements BestCandidateFilter {
     @Override
     public List<DrawingData> filterList(final List<DrawingData> candidates, final double aspectRatio,
             final ElkPadding padding) {
-        List<DrawingData> remainingCandidates = new ArrayList<DrawingData>();
         double maxScale = Double.NEGATIVE_INFINITY;
-        for (DrawingData opt : candidates) {
-            maxScale = Math.max(maxScale, DrawingUtil.computeScaleMeasure(
-                    opt.getDrawingWidth() + padding.getHorizontal(),
-                    opt.getDrawingHeight() + padding.getVertical(),
-                    opt.getDesiredAspectRatio()));
+        for (int i = 0; i < candidates.size(); i++) {
+            maxScale = Math.max(maxScale, scaleMeasure(candidates.get(i), padding));
         }
-        for (DrawingData candidate : candidates) {
-            if (DrawingUtil.computeScaleMeasure(
-                    candidate.getDrawingWidth() + padding.getHorizontal(),
-                    candidate.getDrawingHeight() + padding.getVertical(),
-                    candidate.getDesiredAspectRatio()) == maxScale) {
-                remainingCandidates.add(candidate);
+        int remaining = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (scaleMeasure(candidates.get(i), padding) == maxScale) {
+                candidates.set(remaining++, candidates.get(i));
             }
         }
-        return remainingCandidates;
+        while (candidates.size() > remaining) {
+            candidates.remove(candidates.size() - 1);
+        }
+        return candidates;
+    }
+
+    private static double scaleMeasure(final DrawingData candidate, final ElkPadding padding) {
+        return DrawingUtil.computeScaleMeasure(
+                candidate.getDrawingWidth() + padding.getHorizontal(),
+                candidate.getDrawingHeight() + padding.getVertical(),
+                candidate.getDesiredAspectRatio());
     }
 }
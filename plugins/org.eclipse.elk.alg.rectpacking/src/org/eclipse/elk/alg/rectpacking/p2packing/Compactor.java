@@ -15,11 +15,11 @@ import org.eclipse.elk.alg.rectpacking.RectPackingLayoutPhases;
 import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
 import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
+import org.eclipse.elk.alg.rectpacking.util.RectRow;
 import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
-import org.eclipse.elk.graph.ElkGraphFactory;
 import org.eclipse.elk.graph.ElkNode;
 
 /**
@@ -64,36 +64,55 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
         copyRowWidthChangeValues(graph, secondIt);
         
         // Begin more compaction iterations if more than one iteration is specified.
+        // Further iterations pack the rectangles in place. Their previous coordinates are kept in arrays to restore
+        // them if the packing is not better, and the rows of the first packing remain on the graph.
         int iterations = graph.getProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS);
-        while (iterations > 1) {
-            // Create a shallow clone based on properties and sizes of children (not grandchildren).
-            ElkNode clone = clone(graph);
-            double oldSM = drawing.getScaleMeasure();
-            // Calculate new target width and configure clone.
-            configureSecondIteration(graph, clone, drawing);
-            // Run additional compaction step.
-            secondIt = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
-            DrawingData newDrawing = secondIt.start(rectangles, progressMonitor, clone, padding);
-
-            // elkjs-exclude-start
-            if (progressMonitor.isLoggingEnabled()) {
-                progressMonitor.logGraph(clone, "Layouted clone " + iterations);
-            }
-            // elkjs-exclude-end
-            // Compare scale measure and choose the best packing.
-            double newSM = newDrawing.getScaleMeasure();
-
-            if (newSM >= oldSM && newSM == (double) newSM) {
-                // If the new packing is better apply packing to original graph.
-                for (int i = 0; i < clone.getChildren().size(); i++) {
-                    copyPosition(clone.getChildren().get(i), graph.getChildren().get(i));
+        if (iterations > 1) {
+            List<RectRow> rows = graph.getProperty(InternalProperties.ROWS);
+            double additionalHeight = graph.getProperty(InternalProperties.ADDITIONAL_HEIGHT);
+            double[] xs = new double[rectangles.size()];
+            double[] ys = new double[rectangles.size()];
+            // The target width of the current packing and of the last rejected packing since then.
+            double packedWidth = graph.getProperty(InternalProperties.TARGET_WIDTH);
+            double rejectedWidth = Double.NaN;
+            
+            while (iterations > 1) {
+                double oldSM = drawing.getScaleMeasure();
+                // Calculate new target width.
+                double targetWidth = nextTargetWidth(graph, drawing);
+                if (targetWidth == packedWidth || targetWidth == rejectedWidth) {
+                    // The packing would equal one that has already been compared to the current one, and so would
+                    // the target widths of all following iterations.
+                    break;
                 }
-                copyRowWidthChangeValues(graph, secondIt);
-                drawing.setDrawingWidth(newDrawing.getDrawingWidth());
-                drawing.setDrawingHeight(newDrawing.getDrawingHeight());
-
+                savePositions(rectangles, xs, ys);
+                // Run additional compaction step.
+                secondIt = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
+                DrawingData newDrawing = secondIt.start(rectangles, progressMonitor, graph, padding, targetWidth);
+                
+                // elkjs-exclude-start
+                if (progressMonitor.isLoggingEnabled()) {
+                    progressMonitor.logGraph(graph, "Layouted iteration " + iterations);
+                }
+                // elkjs-exclude-end
+                // Compare scale measure and choose the best packing.
+                double newSM = newDrawing.getScaleMeasure();
+                
+                if (newSM >= oldSM && newSM == (double) newSM) {
+                    // If the new packing is better keep it.
+                    copyRowWidthChangeValues(graph, secondIt);
+                    drawing.setDrawingWidth(newDrawing.getDrawingWidth());
+                    drawing.setDrawingHeight(newDrawing.getDrawingHeight());
+                    packedWidth = targetWidth;
+                    rejectedWidth = Double.NaN;
+                } else {
+                    restorePositions(rectangles, xs, ys);
+                    rejectedWidth = targetWidth;
+                }
+                iterations--;
             }
-            iterations--;
+            graph.setProperty(InternalProperties.ROWS, rows);
+            graph.setProperty(InternalProperties.ADDITIONAL_HEIGHT, additionalHeight);
         }
         
         graph.setProperty(InternalProperties.DRAWING_HEIGHT, drawing.getDrawingHeight());
@@ -125,14 +144,16 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
     }
     
     /**
-     * Set new target width on clone.
+     * Calculates the target width for the next iteration.
      * 
      * @param layoutGraph The original graph.
-     * @param drawing The initial drawing.
+     * @param drawing The current drawing.
+     * @return The new target width, or the target width of the graph if the aspect ratio fits.
      */
-    private void configureSecondIteration(ElkNode layoutGraph, ElkNode clone, DrawingData drawing) {
+    private double nextTargetWidth(ElkNode layoutGraph, DrawingData drawing) {
         ElkPadding padding = layoutGraph.getProperty(RectPackingOptions.PADDING);
         double aspectRatio = layoutGraph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        double targetWidth = layoutGraph.getProperty(InternalProperties.TARGET_WIDTH);
         // Try to layout again if the aspect ratio seems to be bad
         if (layoutGraph.getChildren().size() > 1
                 && layoutGraph.getProperty(InternalProperties.MIN_ROW_INCREASE) != Double.POSITIVE_INFINITY
@@ -140,53 +161,43 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
                         / (drawing.getDrawingHeight() + padding.getVertical()) < aspectRatio) {
             // The drawing is too high, this means the approximated target width is too low
             // The new target width will be set to the next higher value that would change something.
-            clone.setProperty(InternalProperties.TARGET_WIDTH, layoutGraph.getProperty(InternalProperties.TARGET_WIDTH)
-                    + layoutGraph.getProperty(InternalProperties.MIN_ROW_INCREASE));
+            return targetWidth + layoutGraph.getProperty(InternalProperties.MIN_ROW_INCREASE);
         } else if (layoutGraph.getChildren().size() > 1
                 && layoutGraph.getProperty(InternalProperties.MIN_ROW_DECREASE) != Double.POSITIVE_INFINITY
                 && (drawing.getDrawingWidth() + padding.getHorizontal())
                         / (drawing.getDrawingHeight() + padding.getVertical()) > aspectRatio) {
             // The drawing is too high, this means the approximated target width is too high.
             // The new target width will be set to the next smaller value that would change something.
-            clone.setProperty(InternalProperties.TARGET_WIDTH,
-                    Math.max(layoutGraph.getProperty(InternalProperties.MIN_WIDTH),
-                    clone.getProperty(InternalProperties.TARGET_WIDTH)
-                    - layoutGraph.getProperty(InternalProperties.MIN_ROW_DECREASE)));
+            return Math.max(layoutGraph.getProperty(InternalProperties.MIN_WIDTH),
+                    targetWidth - layoutGraph.getProperty(InternalProperties.MIN_ROW_DECREASE));
         }
+        return targetWidth;
     }
     
     /**
-     * Clones a node including all properties and its children with their properties.
+     * Saves the coordinates of the rectangles.
      * 
-     * @param node The node to clone
-     * @return The clones node
+     * @param rectangles The rectangles.
+     * @param xs The array to save the x-coordinates to.
+     * @param ys The array to save the y-coordinates to.
      */
-    private ElkNode clone(ElkNode node) {
-        ElkNode clone = ElkGraphFactory.eINSTANCE.createElkNode();
-        clone.copyProperties(node);
-        for (ElkNode child : node.getChildren()) {
-            ElkNode newChild = ElkGraphFactory.eINSTANCE.createElkNode();
-            newChild.setParent(clone);
-            newChild.setDimensions(child.getWidth(), child.getHeight());
-            newChild.setIdentifier(child.getIdentifier());
-            newChild.setLocation(child.getX(), child.getY());
-            clone.getChildren().add(newChild);
-            newChild.copyProperties(child);
+    private void savePositions(List<ElkNode> rectangles, double[] xs, double[] ys) {
+        for (int i = 0; i < rectangles.size(); i++) {
+            xs[i] = rectangles.get(i).getX();
+            ys[i] = rectangles.get(i).getY();
         }
-        return clone;
     }
-
+    
     /**
-     * Copy the position of dimension of a node to the other and does the same for its children.
+     * Restores the coordinates of the rectangles.
      * 
-     * @param node The node to copy from.
-     * @param other The node to copy to.
+     * @param rectangles The rectangles.
+     * @param xs The saved x-coordinates.
+     * @param ys The saved y-coordinates.
      */
-    private void copyPosition(ElkNode node, ElkNode other) {
-        other.setDimensions(node.getWidth(), node.getHeight());
-        other.setLocation(node.getX(), node.getY());
-        for (int i = 0; i < node.getChildren().size(); i++) {
-            copyPosition(node.getChildren().get(i), other.getChildren().get(i));
+    private void restorePositions(List<ElkNode> rectangles, double[] xs, double[] ys) {
+        for (int i = 0; i < rectangles.size(); i++) {
+            rectangles.get(i).setLocation(xs[i], ys[i]);
         }
     }
 
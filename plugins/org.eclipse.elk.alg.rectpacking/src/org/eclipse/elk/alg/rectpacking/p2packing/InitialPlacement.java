@@ -46,6 +46,8 @@ public final class InitialPlacement {
         double drawingHeight = 0;
         row.addBlock(new Block(0, 0, row, nodeNodeSpacing));
         double currentWidth = 0;
+        boolean rowHeightReevaluation = !rectangles.isEmpty() && rectangles.get(0).getParent()
+                .getProperty(RectPackingOptions.PACKING_COMPACTION_ROW_HEIGHT_REEVALUATION);
         
         for (ElkNode rect : rectangles) {
             // Check whether current rectangle can be added to the last block
@@ -64,8 +66,7 @@ public final class InitialPlacement {
             }
             
             if (block.getChildren().isEmpty()
-                    || !rect.getParent().getProperty(RectPackingOptions.PACKING_COMPACTION_ROW_HEIGHT_REEVALUATION)
-                        && isSimilarHeight(block, rect, nodeNodeSpacing)) {
+                    || !rowHeightReevaluation && isSimilarHeight(block, rect, nodeNodeSpacing)) {
                 // Every rect is in its own block before comapction.
                 block.addChild(rect);
             } else {
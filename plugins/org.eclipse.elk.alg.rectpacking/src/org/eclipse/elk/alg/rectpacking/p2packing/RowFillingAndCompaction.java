@@ -81,7 +81,22 @@ public class RowFillingAndCompaction {
      */
     public DrawingData start(final List<ElkNode> rectangles,
             final IElkProgressMonitor progressMonitor, final ElkNode layoutGraph, final ElkPadding padding) {
-        double targetWidth = layoutGraph.getProperty(InternalProperties.TARGET_WIDTH);
+        return start(rectangles, progressMonitor, layoutGraph, padding,
+                layoutGraph.getProperty(InternalProperties.TARGET_WIDTH));
+    }
+
+    /**
+     * Placement of the rectangles given by {@link ElkNode} inside a bounding box of the given target width instead of
+     * the {@link InternalProperties#TARGET_WIDTH} of the graph.
+     * @param rectangles The set of rectangles to be placed inside the bounding box.
+     * @param progressMonitor The progress monitor.
+     * @param layoutGraph The graph containing the rectangles.
+     * @param padding The padding of the graph.
+     * @param targetWidth The width of the bounding box.
+     * @return Drawing data for a produced drawing.
+     */
+    public DrawingData start(final List<ElkNode> rectangles, final IElkProgressMonitor progressMonitor,
+            final ElkNode layoutGraph, final ElkPadding padding, final double targetWidth) {
         double minWidth = layoutGraph.getProperty(InternalProperties.MIN_WIDTH);
         double minHeight = layoutGraph.getProperty(InternalProperties.MIN_HEIGHT);
         // Reset coordinates potentially set by width approximation.
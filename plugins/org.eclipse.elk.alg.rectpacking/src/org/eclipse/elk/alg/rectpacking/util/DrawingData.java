@@ -81,11 +81,34 @@ public class DrawingData {
     public DrawingData(final double dar, final double drawingWidth, final double drawingHeight,
             final DrawingDataDescriptor placementOption, final double nextXcoord, final double nextYcoord) {
         this.dar = dar;
+        set(drawingWidth, drawingHeight, placementOption, nextXcoord, nextYcoord);
+    }
+
+    /**
+     * Replaces the saved parameters by the ones of another drawing with the same desired aspect ratio. This allows
+     * reusing the object for each possible drawing instead of creating a new one.
+     * 
+     * @param drawingWidth
+     *            drawing width.
+     * @param drawingHeight
+     *            drawing height.
+     * @param placementOption
+     *            placement option.
+     * @param nextXcoord
+     *            x-coordinate for rectangle to place.
+     * @param nextYcoord
+     *            y-coordinate for rectangle to place.
+     */
+    public void set(final double drawingWidth, final double drawingHeight,
+            final DrawingDataDescriptor placementOption, final double nextXcoord, final double nextYcoord) {
         this.drawingWidth = drawingWidth;
         this.drawingHeight = drawingHeight;
         this.placementOption = placementOption;
         this.nextXcoordinate = nextXcoord;
         this.nextYcoordinate = nextYcoord;
+        this.area = 0;
+        this.aspectRatio = 0;
+        this.scaleMeasure = 0;
         calcAreaAspectRatioScaleMeasure();
     }
 
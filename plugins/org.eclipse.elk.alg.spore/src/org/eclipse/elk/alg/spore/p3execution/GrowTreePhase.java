@@ -76,7 +76,9 @@ public class GrowTreePhase implements ILayoutPhase<SPOrEPhases, Graph> {
                     c.node.originalVertex.clone().sub(r.node.originalVertex)
                     .scale(t)));
             
-            debugOut(r);
+            if (svg.debug) {
+                debugOut(r);
+            }
             
             growAt(c);
         }
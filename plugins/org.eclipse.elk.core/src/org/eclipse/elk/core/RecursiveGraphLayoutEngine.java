@@ -13,7 +13,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Executor;
+// elkjs-exclude-start
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+// elkjs-exclude-end
 
+import org.eclipse.elk.core.cache.ILayoutResultStore;
+import org.eclipse.elk.core.cache.LayoutResult;
 import org.eclipse.elk.core.data.DeprecatedLayoutOptionReplacer;
 import org.eclipse.elk.core.data.LayoutAlgorithmData;
 import org.eclipse.elk.core.data.LayoutAlgorithmResolver;
@@ -26,6 +33,9 @@ import org.eclipse.elk.core.options.HierarchyHandling;
 import org.eclipse.elk.core.options.TopdownNodeTypes;
 import org.eclipse.elk.core.options.TopdownSizeApproximator;
 import org.eclipse.elk.core.testing.TestController;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.ElkConcurrency;
+// elkjs-exclude-end
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.graph.ElkBendPoint;
@@ -62,6 +72,23 @@ import com.google.common.collect.Lists;
  * </p>
  * 
  * <p>
+ * By default, the hierarchy is traversed on the calling thread. An engine created with an {@link Executor} lays out
+ * the subgraphs of sibling compound nodes whose content is laid out separately (see
+ * {@link HierarchyHandling#SEPARATE_CHILDREN}) concurrently. Each parent waits for all of its children to be finished
+ * before its own content is laid out, so the result is the same as the one computed sequentially. This requires the
+ * layout algorithms involved to only modify the subgraph they were invoked on. Layout runs performed as part of a
+ * unit test are always executed sequentially.
+ * </p>
+ * 
+ * <p>
+ * An engine can be given an {@link ILayoutResultStore} to reuse the layouts of subgraphs laid out before. Before a
+ * layout algorithm is executed on a subgraph, the subgraph's {@link LayoutResult#computeKey(ElkNode) structural hash}
+ * is looked up in the store; if a result is found, it is applied instead of executing the algorithm. Results cover the
+ * geometry of the subgraph and the layout options set on its elements; other properties set by layout algorithms are
+ * not restored. Subgraphs laid out top-down and layout runs performed as part of a unit test are never cached.
+ * </p>
+ * 
+ * <p>
  * MIGRATE Extend the graph layout engine to offset edge coordinates properly
  * </p> 
  * 
@@ -70,6 +97,53 @@ import com.google.common.collect.Lists;
  */
 public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
     
+    /** the executor used to lay out independent subgraphs, or {@code null} for sequential layout. */
+    private final Executor executor;
+    /** the store used to reuse layouts of equal subgraphs, or {@code null} if layouts are always computed. */
+    private ILayoutResultStore resultStore;
+    
+    /**
+     * Creates a layout engine that performs layout sequentially on the calling thread.
+     */
+    public RecursiveGraphLayoutEngine() {
+        this(null);
+    }
+    
+    /**
+     * Creates a layout engine that lays out independent subgraphs using the given executor. The calling thread
+     * takes part in the work, so any executor can be used, including ones with a bounded number of threads.
+     * 
+     * @param executor the executor to run subgraph layouts on, or {@code null} to perform layout sequentially.
+     */
+    public RecursiveGraphLayoutEngine(final Executor executor) {
+        this.executor = executor;
+    }
+    
+    // elkjs-exclude-start
+    
+    /**
+     * Creates a layout engine that lays out independent subgraphs concurrently on the common fork-join pool.
+     * 
+     * @return a new layout engine.
+     */
+    public static RecursiveGraphLayoutEngine concurrent() {
+        return new RecursiveGraphLayoutEngine(ForkJoinPool.commonPool());
+    }
+    
+    // elkjs-exclude-end
+    
+    /**
+     * Makes this engine reuse the layouts of subgraphs it has already laid out, as far as they are kept by the given
+     * store.
+     * 
+     * @param store the store to keep layout results in, or {@code null} to always compute layouts.
+     * @return this engine.
+     */
+    public RecursiveGraphLayoutEngine withResultStore(final ILayoutResultStore store) {
+        this.resultStore = store;
+        return this;
+    }
+    
     /**
      * Performs recursive layout on the given layout graph.
      * 
@@ -181,6 +255,7 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                 // Look for nodes that stop the hierarchy handling, evaluating the inheritance on the way
                 final Queue<ElkNode> nodeQueue = Lists.newLinkedList();
                 nodeQueue.addAll(layoutNode.getChildren());
+                final List<ElkNode> separateNodes = Lists.newArrayList();
                 
                 while (!nodeQueue.isEmpty()) {
                     ElkNode node = nodeQueue.poll();
@@ -195,19 +270,24 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                     if (stopHierarchy 
                           || (node.hasProperty(CoreOptions.ALGORITHM) 
                                   && !algorithmData.equals(node.getProperty(CoreOptions.RESOLVED_ALGORITHM)))) {
-                        List<ElkEdge> childLayoutSelfLoops = layoutRecursively(node, testController, progressMonitor);
-                        childrenInsideSelfLoops.addAll(childLayoutSelfLoops);
-                        // Explicitly disable hierarchical layout for the child node. Simplifies the
-                        // handling of switching algorithms in the layouter.
-                        node.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.SEPARATE_CHILDREN);
-
-                        // Apply the LayoutOptions.SCALE_FACTOR if present
-                        ElkUtil.applyConfiguredNodeScaling(node);
+                        separateNodes.add(node);
                     } else {
                         // Child should be included in current layout, possibly adding its own children
                         nodeQueue.addAll(node.getChildren());
                     }
                 }
+                
+                // The separately laid out nodes are never nested in one another, so their layouts are independent
+                childrenInsideSelfLoops.addAll(layoutChildrenRecursively(separateNodes, testController, progressMonitor));
+                
+                for (ElkNode node : separateNodes) {
+                    // Explicitly disable hierarchical layout for the child node. Simplifies the
+                    // handling of switching algorithms in the layouter.
+                    node.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.SEPARATE_CHILDREN);
+
+                    // Apply the LayoutOptions.SCALE_FACTOR if present
+                    ElkUtil.applyConfiguredNodeScaling(node);
+                }
 
             } else {
                 nodeCount = layoutNode.getChildren().size();
@@ -387,10 +467,10 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                 }
                 
                 // Layout each compound node contained in this node separately
+                childrenInsideSelfLoops.addAll(
+                        layoutChildrenRecursively(layoutNode.getChildren(), testController, progressMonitor));
+                
                 for (ElkNode child : layoutNode.getChildren()) {
-                    List<ElkEdge> childLayoutSelfLoops = layoutRecursively(child, testController, progressMonitor); 
-                    childrenInsideSelfLoops.addAll(childLayoutSelfLoops);
-                    
                     // Apply the LayoutOptions.SCALE_FACTOR if present
                     ElkUtil.applyConfiguredNodeScaling(child);
                 }
@@ -424,12 +504,102 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
         }
     }
 
+    /**
+     * Calls {@link #layoutRecursively(ElkNode, TestController, IElkProgressMonitor)} for each of the given nodes, none
+     * of which may be an ancestor of another. If this engine has an executor, the nodes are laid out concurrently.
+     * In any case, the method returns only once all of the nodes are done.
+     * 
+     * @param nodes the nodes to be laid out.
+     * @param testController an optional test controller if this layout run is part of a unit test
+     * @param progressMonitor monitor used to keep track of progress
+     * @return list of self loops routed inside the nodes, in the order of the nodes.
+     */
+    private List<ElkEdge> layoutChildrenRecursively(final List<ElkNode> nodes, final TestController testController,
+            final IElkProgressMonitor progressMonitor) {
+        
+        // elkjs-exclude-start
+        if (executor != null && testController == null && countCompoundNodes(nodes) > 1) {
+            return layoutChildrenConcurrently(nodes, progressMonitor);
+        }
+        // elkjs-exclude-end
+        
+        List<ElkEdge> insideSelfLoops = Lists.newArrayList();
+        for (ElkNode node : nodes) {
+            insideSelfLoops.addAll(layoutRecursively(node, testController, progressMonitor));
+        }
+        return insideSelfLoops;
+    }
+    
+    // elkjs-exclude-start
+    
+    /**
+     * Lays out the given nodes concurrently using this engine's executor. Each node is given a sub-monitor of its
+     * own. Since these sub-monitors are not assigned any work, they never report progress to the shared monitor from
+     * different threads; their work is accounted for once all nodes are done.
+     */
+    private List<ElkEdge> layoutChildrenConcurrently(final List<ElkNode> nodes,
+            final IElkProgressMonitor progressMonitor) {
+        
+        List<Callable<List<ElkEdge>>> tasks = Lists.newArrayListWithCapacity(nodes.size());
+        int totalWork = 0;
+        
+        for (ElkNode node : nodes) {
+            final int work = countNodesRecursively(node, false);
+            final IElkProgressMonitor nodeMonitor = progressMonitor.subTask(0);
+            totalWork += work;
+            
+            tasks.add(() -> {
+                nodeMonitor.begin("Recursive Graph Layout", work);
+                try {
+                    return layoutRecursively(node, null, nodeMonitor);
+                } finally {
+                    nodeMonitor.done();
+                }
+            });
+        }
+        
+        List<ElkEdge> insideSelfLoops = Lists.newArrayList();
+        for (List<ElkEdge> nodeInsideSelfLoops : ElkConcurrency.invokeAll(executor, tasks)) {
+            insideSelfLoops.addAll(nodeInsideSelfLoops);
+        }
+        
+        progressMonitor.worked(totalWork);
+        return insideSelfLoops;
+    }
+    
+    // elkjs-exclude-end
+    
+    /**
+     * Counts the nodes whose content actually has to be laid out.
+     */
+    private int countCompoundNodes(final List<ElkNode> nodes) {
+        int count = 0;
+        for (ElkNode node : nodes) {
+            if (!node.getChildren().isEmpty() || node.getProperty(CoreOptions.INSIDE_SELF_LOOPS_ACTIVATE)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Execute the given layout algorithm on a parent node.
      */
     protected void executeAlgorithm(final ElkNode layoutNode, final LayoutAlgorithmData algorithmData,
             final TestController testController, final IElkProgressMonitor progressMonitor) {
         
+        // Reuse a previously computed layout of an equal subgraph if possible
+        String resultKey = null;
+        if (resultStore != null && testController == null && !layoutNode.getProperty(CoreOptions.TOPDOWN_LAYOUT)) {
+            resultKey = LayoutResult.computeKey(layoutNode);
+            LayoutResult result = resultStore.get(resultKey);
+            if (result != null && result.applyTo(layoutNode)) {
+                progressMonitor.begin("Cached layout", 1);
+                progressMonitor.done();
+                return;
+            }
+        }
+        
         // Get an instance of the layout provider
         AbstractLayoutProvider layoutProvider = algorithmData.getInstancePool().fetch();
         
@@ -442,6 +612,10 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
             // Perform layout on the current hierarchy level
             layoutProvider.layout(layoutNode, progressMonitor);
             algorithmData.getInstancePool().release(layoutProvider);
+            
+            if (resultKey != null && !progressMonitor.isCanceled()) {
+                resultStore.put(resultKey, LayoutResult.capture(layoutNode));
+            }
         } catch (Exception exception) {
             // The layout provider has failed - destroy it slowly and painfully
             layoutProvider.dispose();
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.cache;
+
+// elkjs-exclude-start
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.elk.core.util.WrappedException;
+
+/**
+ * A layout result store that keeps each result in a file of its own, which allows results to be shared between
+ * processes and to survive restarts. The store is bounded by the total size of its files; once the bound is exceeded,
+ * the files that were least recently used are deleted. Since several processes may use the same directory, the bound
+ * is only approximately respected.
+ *
+ * <p>Files are written atomically where the file system supports it. Failures to read or write a file are treated like
+ * a missing result. This store is usually put behind a {@link MemoryLayoutResultStore}.</p>
+ *
+ * <p>Note that this class is not available when running in a JavaScript environment, which is why it is excluded
+ * from elkjs as a whole.</p>
+ */
+public final class FileLayoutResultStore implements ILayoutResultStore {
+
+    /** extension of the files results are stored in. */
+    private static final String EXTENSION = ".layout";
+    /** marks the beginning of a result file. */
+    private static final int MAGIC = 0x454c4b52;
+
+    /** the directory the results are stored in. */
+    private final Path directory;
+    /** the maximal total size of the result files, in bytes. */
+    private final long maxBytes;
+    /** the estimated total size of the result files, or -1 if it has not been determined yet. */
+    private long bytes = -1;
+    /** lock guarding {@link #bytes} and the eviction of files. */
+    private final Object lock = new Object();
+
+    /**
+     * Creates a store that keeps its results in the given directory, which is created if it does not exist.
+     *
+     * @param directory
+     *            the directory to store results in.
+     * @param maxBytes
+     *            the maximal total size of the result files, in bytes.
+     */
+    public FileLayoutResultStore(final Path directory, final long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("The maximal size must not be negative.");
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new WrappedException("Unable to create the layout result directory " + directory, exception);
+        }
+    }
+
+    @Override
+    public LayoutResult get(final String key) {
+        Path file = fileFor(key);
+        try {
+            byte[] content = Files.readAllBytes(file);
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(content));
+            if (input.readInt() != MAGIC) {
+                return null;
+            }
+
+            // The lengths are checked against the remaining bytes to not be fooled by corrupt files
+            int length = input.readInt();
+            if (length < 0 || length > input.available() / Double.BYTES) {
+                return null;
+            }
+            double[] values = new double[length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = input.readDouble();
+            }
+            length = input.readInt();
+            if (length < 0 || length > input.available() / 2) {
+                return null;
+            }
+            String[] options = new String[length];
+            for (int i = 0; i < options.length; i++) {
+                options[i] = input.readUTF();
+            }
+
+            // Remember that the file was used, which is what eviction is based on
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return LayoutResult.fromArrays(values, options);
+        } catch (IOException | RuntimeException exception) {
+            // Missing, unreadable, or corrupt files are no different from missing results
+            return null;
+        }
+    }
+
+    @Override
+    public void put(final String key, final LayoutResult result) {
+        double[] values = result.toArray();
+        String[] options = result.optionsToArray();
+        Path file = fileFor(key);
+        Path temporaryFile = null;
+        try {
+            // Write to a temporary file first to never expose half-written results to other processes
+            temporaryFile = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream output =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(values.length);
+                for (double value : values) {
+                    output.writeDouble(value);
+                }
+                output.writeInt(options.length);
+                for (String option : options) {
+                    output.writeUTF(option);
+                }
+            }
+
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            deleteQuietly(temporaryFile);
+            return;
+        }
+
+        synchronized (lock) {
+            if (bytes >= 0) {
+                bytes += sizeOf(file);
+            }
+            if (bytes < 0 || bytes > maxBytes) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Determines the total size of the result files and deletes the least recently used files until the size is
+     * within bounds. Must be called while holding the lock.
+     */
+    private void evict() {
+        List<Path> files = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+                total += sizeOf(file);
+            }
+        } catch (IOException exception) {
+            return;
+        }
+
+        if (total > maxBytes) {
+            files.sort(Comparator.comparingLong(FileLayoutResultStore::lastModified));
+            for (Path file : files) {
+                if (total <= maxBytes) {
+                    break;
+                }
+                long size = sizeOf(file);
+                if (deleteQuietly(file)) {
+                    total -= size;
+                }
+            }
+        }
+        bytes = total;
+    }
+
+    private Path fileFor(final String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    private static long sizeOf(final Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException exception) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException exception) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static boolean deleteQuietly(final Path file) {
+        if (file == null) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+}
+// elkjs-exclude-end
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.cache;
+
+/**
+ * A store for layout results, used by the {@link org.eclipse.elk.core.RecursiveGraphLayoutEngine
+ * RecursiveGraphLayoutEngine} to avoid laying out the same subgraph over and over again. Results are stored under
+ * the keys computed by {@link LayoutResult#computeKey(org.eclipse.elk.graph.ElkNode)}, which only consist of
+ * letters, digits and dashes.
+ *
+ * <p>Implementations must be safe to be used by several threads at the same time. They are free to forget results
+ * at any time, for example to limit the amount of memory they use.</p>
+ */
+public interface ILayoutResultStore {
+
+    /**
+     * Returns the result stored under the given key.
+     *
+     * @param key
+     *            the key of the result.
+     * @return the result, or {@code null} if there is none.
+     */
+    LayoutResult get(String key);
+
+    /**
+     * Stores a result under the given key, replacing any result previously stored under that key.
+     *
+     * @param key
+     *            the key of the result.
+     * @param result
+     *            the result to store.
+     */
+    void put(String key, LayoutResult result);
+
+}
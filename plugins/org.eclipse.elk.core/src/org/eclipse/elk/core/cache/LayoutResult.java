@@ -0,0 +1,442 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.util.IDataObject;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+/**
+ * The layout computed for a subgraph: the size of its parent node and the positions and sizes of all nodes, ports,
+ * and labels it contains, along with the sections of its edges and the layout options set on its elements. The
+ * latter include options set by layout algorithms for their callers, such as port sides and port constraints.
+ * Properties that are not registered layout options are not part of a result.
+ *
+ * <p>A result does not refer to any graph elements. Instead, it is a sequence of numbers that lists the geometry of
+ * the subgraph's elements in a fixed order, and a sequence of strings that lists the options of the elements by their
+ * index in that order. It can therefore be applied to any subgraph with the same structure, which is guaranteed for
+ * subgraphs with the same {@link #computeKey(ElkNode) key}, and can be easily stored outside of the JVM by means of
+ * {@link #toArray()}, {@link #optionsToArray()}, and {@link #fromArrays(double[], String[])}.</p>
+ */
+public final class LayoutResult {
+
+    /** the geometry of the subgraph's elements. */
+    private final double[] values;
+    /** the options of the subgraph's elements, as triples of element index, option identifier, and value. */
+    private final String[] options;
+
+    private LayoutResult(final double[] values, final String[] options) {
+        this.values = values;
+        this.options = options;
+    }
+
+    /**
+     * Computes the key under which the layout of the given node's subgraph is stored. The key is a hash over the
+     * structure and geometry of the subgraph and over the layout options set on its elements, excluding the position
+     * of the node itself.
+     *
+     * @param node
+     *            the parent node of the subgraph.
+     * @return the key, which consists of letters, digits and dashes only.
+     */
+    public static String computeKey(final ElkNode node) {
+        return StructuralHash.of(node);
+    }
+
+    /**
+     * Captures the current layout of the given node's subgraph.
+     *
+     * @param node
+     *            the parent node of the subgraph.
+     * @return the captured layout.
+     */
+    public static LayoutResult capture(final ElkNode node) {
+        Writer writer = new Writer();
+        writer.writeNode(node, true);
+
+        List<String> options = new ArrayList<>();
+        List<ElkGraphElement> elements = collectElements(node);
+        for (int i = 0; i < elements.size(); i++) {
+            for (Map.Entry<IProperty<?>, Object> entry : elements.get(i).getProperties()) {
+                LayoutOptionData optionData = optionDataFor(entry.getKey());
+                Object value = entry.getValue();
+                // Only options whose values can be restored from their string representation are kept
+                if (optionData != null && value != null && (optionData.getType() != LayoutOptionData.Type.OBJECT
+                        || value instanceof IDataObject)) {
+                    options.add(Integer.toString(i));
+                    options.add(optionData.getId());
+                    options.add(value.toString());
+                }
+            }
+        }
+
+        return new LayoutResult(Arrays.copyOf(writer.values, writer.size), options.toArray(new String[0]));
+    }
+
+    /**
+     * Creates a result from the arrays returned by {@link #toArray()} and {@link #optionsToArray()}.
+     *
+     * @param values
+     *            the numbers that make up the result.
+     * @param options
+     *            the strings that make up the result.
+     * @return the result.
+     */
+    public static LayoutResult fromArrays(final double[] values, final String[] options) {
+        return new LayoutResult(values.clone(), options.clone());
+    }
+
+    /**
+     * Returns the numbers that make up this result, which describe the geometry of the subgraph.
+     *
+     * @return a copy of the result's numbers.
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns the strings that make up this result, which describe the layout options of the subgraph's elements.
+     *
+     * @return a copy of the result's strings.
+     */
+    public String[] optionsToArray() {
+        return options.clone();
+    }
+
+    /**
+     * Returns the number of values and strings this result consists of, which is a measure of its size in memory.
+     *
+     * @return the number of values and strings.
+     */
+    public int size() {
+        return values.length + options.length;
+    }
+
+    /**
+     * Applies this result to the given node's subgraph, which must have the same structure as the subgraph the
+     * result was captured from. The structure is checked first; if it does not fit, the subgraph is left untouched.
+     *
+     * @param node
+     *            the parent node of the subgraph.
+     * @return {@code true} if the result was applied.
+     */
+    public boolean applyTo(final ElkNode node) {
+        Reader check = new Reader(values, false);
+        if (!check.readNode(node, true) || check.position != values.length || options.length % 3 != 0) {
+            return false;
+        }
+
+        // Parse all options before anything is changed
+        List<ElkGraphElement> elements = collectElements(node);
+        ElkGraphElement[] optionElements = new ElkGraphElement[options.length / 3];
+        LayoutOptionData[] optionData = new LayoutOptionData[optionElements.length];
+        Object[] optionValues = new Object[optionElements.length];
+        for (int i = 0; i < optionElements.length; i++) {
+            try {
+                optionElements[i] = elements.get(Integer.parseInt(options[3 * i]));
+                optionData[i] = LayoutMetaDataService.getInstance().getOptionData(options[3 * i + 1]);
+                optionValues[i] = optionData[i] == null ? null : optionData[i].parseValue(options[3 * i + 2]);
+            } catch (RuntimeException exception) {
+                return false;
+            }
+            if (optionValues[i] == null) {
+                return false;
+            }
+        }
+
+        new Reader(values, true).readNode(node, true);
+        for (int i = 0; i < optionElements.length; i++) {
+            optionElements[i].setProperty(optionData[i], optionValues[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the meta data of the given property if it is a layout option of a type that can be parsed.
+     */
+    static LayoutOptionData optionDataFor(final IProperty<?> property) {
+        LayoutOptionData optionData = LayoutMetaDataService.getInstance().getOptionData(property.getId());
+        if (optionData == null || optionData.getType() == LayoutOptionData.Type.UNDEFINED) {
+            return null;
+        }
+        return optionData;
+    }
+
+    /**
+     * Returns the node, its labels and ports along with their labels, and recursively the same for its children,
+     * followed by its contained edges and their labels.
+     */
+    private static List<ElkGraphElement> collectElements(final ElkNode node) {
+        List<ElkGraphElement> elements = new ArrayList<>();
+        collectElements(node, elements);
+        return elements;
+    }
+
+    private static void collectElements(final ElkNode node, final List<ElkGraphElement> elements) {
+        elements.add(node);
+        elements.addAll(node.getLabels());
+        for (ElkPort port : node.getPorts()) {
+            elements.add(port);
+            elements.addAll(port.getLabels());
+        }
+        for (ElkNode child : node.getChildren()) {
+            collectElements(child, elements);
+        }
+        for (ElkEdge edge : node.getContainedEdges()) {
+            elements.add(edge);
+            elements.addAll(edge.getLabels());
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////
+    // Writing and Reading
+
+    /**
+     * Writes the geometry of a subgraph into a growing array.
+     */
+    private static final class Writer {
+        private double[] values = new double[64];
+        private int size;
+
+        void writeNode(final ElkNode node, final boolean root) {
+            if (!root) {
+                write(node.getX(), node.getY());
+            }
+            write(node.getWidth(), node.getHeight());
+            writeLabels(node.getLabels());
+            for (ElkPort port : node.getPorts()) {
+                writeShape(port);
+                writeLabels(port.getLabels());
+            }
+            for (ElkNode child : node.getChildren()) {
+                writeNode(child, false);
+            }
+
+            for (ElkEdge edge : node.getContainedEdges()) {
+                writeLabels(edge.getLabels());
+
+                List<ElkEdgeSection> sections = edge.getSections();
+                write(sections.size());
+                for (ElkEdgeSection section : sections) {
+                    write(section.getStartX(), section.getStartY());
+                    write(section.getEndX(), section.getEndY());
+                    write(edge.getSources().indexOf(section.getIncomingShape()));
+                    write(edge.getTargets().indexOf(section.getOutgoingShape()));
+                    write(section.getBendPoints().size());
+                    for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                        write(bendPoint.getX(), bendPoint.getY());
+                    }
+                    write(section.getOutgoingSections().size());
+                    for (ElkEdgeSection outgoing : section.getOutgoingSections()) {
+                        write(sections.indexOf(outgoing));
+                    }
+                }
+            }
+        }
+
+        private void writeLabels(final List<ElkLabel> labels) {
+            for (ElkLabel label : labels) {
+                writeShape(label);
+            }
+        }
+
+        private void writeShape(final ElkShape shape) {
+            write(shape.getX(), shape.getY());
+            write(shape.getWidth(), shape.getHeight());
+        }
+
+        private void write(final double v1, final double v2) {
+            write(v1);
+            write(v2);
+        }
+
+        private void write(final double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Reads the geometry of a subgraph written by a {@link Writer}. A reader can either only check whether the values
+     * fit the subgraph's structure, or actually apply them.
+     */
+    private static final class Reader {
+        private final double[] values;
+        private final boolean apply;
+        private int position;
+
+        Reader(final double[] values, final boolean apply) {
+            this.values = values;
+            this.apply = apply;
+        }
+
+        boolean readNode(final ElkNode node, final boolean root) {
+            if (!root) {
+                if (!available(2)) {
+                    return false;
+                }
+                if (apply) {
+                    node.setLocation(values[position], values[position + 1]);
+                }
+                position += 2;
+            }
+            if (!available(2)) {
+                return false;
+            }
+            if (apply) {
+                node.setDimensions(values[position], values[position + 1]);
+            }
+            position += 2;
+
+            if (!readLabels(node.getLabels())) {
+                return false;
+            }
+            for (ElkPort port : node.getPorts()) {
+                if (!readShape(port) || !readLabels(port.getLabels())) {
+                    return false;
+                }
+            }
+            for (ElkNode child : node.getChildren()) {
+                if (!readNode(child, false)) {
+                    return false;
+                }
+            }
+            for (ElkEdge edge : node.getContainedEdges()) {
+                if (!readLabels(edge.getLabels()) || !readSections(edge)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean readSections(final ElkEdge edge) {
+            int count = readCount(0);
+            if (count < 0) {
+                return false;
+            }
+
+            ElkEdgeSection[] sections = new ElkEdgeSection[count];
+            if (apply) {
+                edge.getSections().clear();
+                for (int i = 0; i < count; i++) {
+                    sections[i] = ElkGraphUtil.createEdgeSection(edge);
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (!available(6)) {
+                    return false;
+                }
+                int incoming = (int) values[position + 4];
+                int outgoing = (int) values[position + 5];
+                if (incoming >= edge.getSources().size() || outgoing >= edge.getTargets().size()) {
+                    return false;
+                }
+                if (apply) {
+                    ElkEdgeSection section = sections[i];
+                    section.setStartLocation(values[position], values[position + 1]);
+                    section.setEndLocation(values[position + 2], values[position + 3]);
+                    section.setIncomingShape(incoming < 0 ? null : edge.getSources().get(incoming));
+                    section.setOutgoingShape(outgoing < 0 ? null : edge.getTargets().get(outgoing));
+                }
+                position += 6;
+
+                int bendPoints = readCount(2);
+                if (bendPoints < 0) {
+                    return false;
+                }
+                if (apply) {
+                    for (int j = 0; j < bendPoints; j++) {
+                        ElkGraphUtil.createBendPoint(sections[i], values[position + 2 * j],
+                                values[position + 2 * j + 1]);
+                    }
+                }
+                position += 2 * bendPoints;
+
+                int outgoingSections = readCount(1);
+                if (outgoingSections < 0) {
+                    return false;
+                }
+                for (int j = 0; j < outgoingSections; j++) {
+                    int index = (int) values[position + j];
+                    if (index < 0 || index >= count) {
+                        return false;
+                    }
+                    if (apply) {
+                        sections[i].getOutgoingSections().add(sections[index]);
+                    }
+                }
+                position += outgoingSections;
+            }
+            return true;
+        }
+
+        private boolean readLabels(final List<ElkLabel> labels) {
+            for (ElkLabel label : labels) {
+                if (!readShape(label)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean readShape(final ElkShape shape) {
+            if (!available(4)) {
+                return false;
+            }
+            if (apply) {
+                shape.setLocation(values[position], values[position + 1]);
+                shape.setDimensions(values[position + 2], values[position + 3]);
+            }
+            position += 4;
+            return true;
+        }
+
+        /**
+         * Reads a count of items that each consist of the given number of values and checks that these values are
+         * available. Returns -1 if they are not.
+         */
+        private int readCount(final int itemSize) {
+            if (!available(1)) {
+                return -1;
+            }
+            int count = (int) values[position];
+            if (count < 0 || !available(1 + count * itemSize)) {
+                return -1;
+            }
+            position++;
+            return count;
+        }
+
+        private boolean available(final int count) {
+            return count <= values.length - position;
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A layout result store that keeps results in memory. The store is bounded by the total size of the results it keeps,
+ * measured in {@link LayoutResult#size() values}; once the bound is exceeded, the least recently used results are
+ * forgotten.
+ *
+ * <p>A memory store can be put in front of a slower store, such as a {@link FileLayoutResultStore}. Results are then
+ * written through to the backing store, and results missing from memory are looked up in the backing store.</p>
+ */
+public final class MemoryLayoutResultStore implements ILayoutResultStore {
+
+    /** the maximal total size of the results kept in memory. */
+    private final long maxSize;
+    /** the store to write results through to, if any. */
+    private final ILayoutResultStore backingStore;
+    /** the results, in access order. */
+    private final Map<String, LayoutResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    /** the total size of the results. */
+    private long size;
+
+    /**
+     * Creates a store that keeps results of the given total size.
+     *
+     * @param maxSize
+     *            the maximal total size of the results kept, in values.
+     */
+    public MemoryLayoutResultStore(final long maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Creates a store that keeps results of the given total size in front of another store.
+     *
+     * @param maxSize
+     *            the maximal total size of the results kept, in values.
+     * @param backingStore
+     *            the store to write results through to and to look up results missing from memory in, or
+     *            {@code null}.
+     */
+    public MemoryLayoutResultStore(final long maxSize, final ILayoutResultStore backingStore) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximal size must not be negative.");
+        }
+        this.maxSize = maxSize;
+        this.backingStore = backingStore;
+    }
+
+    @Override
+    public LayoutResult get(final String key) {
+        synchronized (results) {
+            LayoutResult result = results.get(key);
+            if (result != null || backingStore == null) {
+                return result;
+            }
+        }
+
+        LayoutResult result = backingStore.get(key);
+        if (result != null) {
+            keep(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public void put(final String key, final LayoutResult result) {
+        keep(key, result);
+        if (backingStore != null) {
+            backingStore.put(key, result);
+        }
+    }
+
+    /**
+     * Removes all results from memory. Results in the backing store are not affected.
+     */
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+            size = 0;
+        }
+    }
+
+    private void keep(final String key, final LayoutResult result) {
+        synchronized (results) {
+            LayoutResult previous = results.put(key, result);
+            if (previous != null) {
+                size -= previous.size();
+            }
+            size += result.size();
+
+            Iterator<LayoutResult> iterator = results.values().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                size -= iterator.next().size();
+                iterator.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.core.data.LayoutAlgorithmData;
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.common.util.EMap;
+
+/**
+ * Computes a 128 bit hash over everything a layout algorithm may base the layout of a subgraph on: the structure of
+ * the subgraph, the geometry of all of its elements, label texts, the layout options set on its elements, and the
+ * number of edges that connect the ports of its parent node to the rest of the graph. Identifiers are not taken into
+ * account, and neither is the position of the subgraph's parent node, so equal subgraphs placed in different graphs
+ * have the same hash. Elements are hashed in the order they are stored in, which matters to layout algorithms that
+ * respect the model order.
+ *
+ * <p>Properties that are not registered layout options are ignored, as are options set to the default values of the
+ * layout algorithms responsible for them. Option values are hashed through their string representations, which all
+ * value types of ELK's layout options provide. Values without a proper string representation only result in
+ * different hashes for equal subgraphs.</p>
+ */
+final class StructuralHash {
+
+    /** version of the hashed representation, to be changed whenever it or the stored layout results change. */
+    private static final String VERSION = "1";
+
+    /** compares properties by their identifiers. */
+    private static final Comparator<Map.Entry<IProperty<?>, Object>> PROPERTY_ORDER =
+            (p1, p2) -> p1.getKey().getId().compareTo(p2.getKey().getId());
+
+    /** first half of the hash. */
+    private long h1 = 0xcbf29ce484222325L;
+    /** second half of the hash, computed with a different multiplier. */
+    private long h2 = 0x84222325cbf29ce4L;
+    /** the algorithm whose defaults apply to the options currently hashed, if known. */
+    private LayoutAlgorithmData algorithm;
+    /** indices of the nodes and ports hashed so far, used to hash the end points of edges. */
+    private final Map<ElkConnectableShape, Integer> shapeIndices = new HashMap<>();
+
+    private StructuralHash() {
+    }
+
+    /**
+     * Computes the hash of the given node's subgraph.
+     *
+     * @param node
+     *            the parent node of the subgraph.
+     * @return the hash, as a hexadecimal string prefixed with a version number.
+     */
+    static String of(final ElkNode node) {
+        StructuralHash hash = new StructuralHash();
+        hash.hashNode(node, true);
+        return VERSION + "-" + hex(hash.h1) + hex(hash.h2);
+    }
+
+    private static String hex(final long value) {
+        String digits = Long.toHexString(value);
+        StringBuilder result = new StringBuilder(16);
+        for (int i = digits.length(); i < 16; i++) {
+            result.append('0');
+        }
+        return result.append(digits).toString();
+    }
+
+    private void hashNode(final ElkNode node, final boolean root) {
+        LayoutAlgorithmData parentAlgorithm = algorithm;
+        if (node.getProperty(CoreOptions.RESOLVED_ALGORITHM) != null) {
+            algorithm = node.getProperty(CoreOptions.RESOLVED_ALGORITHM);
+        }
+
+        shapeIndices.put(node, shapeIndices.size());
+        add('N');
+        if (!root) {
+            add(node.getX());
+            add(node.getY());
+        }
+        add(node.getWidth());
+        add(node.getHeight());
+        addProperties(node.getProperties());
+        for (ElkLabel label : node.getLabels()) {
+            hashLabel(label);
+        }
+
+        for (ElkPort port : node.getPorts()) {
+            shapeIndices.put(port, shapeIndices.size());
+            add('P');
+            add(port.getX());
+            add(port.getY());
+            add(port.getWidth());
+            add(port.getHeight());
+            addProperties(port.getProperties());
+            for (ElkLabel label : port.getLabels()) {
+                hashLabel(label);
+            }
+            if (root) {
+                // How the subgraph is connected to the outside world decides on which side its ports end up
+                addExternalEdges(port.getIncomingEdges(), node);
+                addExternalEdges(port.getOutgoingEdges(), node);
+            }
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            hashNode(child, false);
+        }
+
+        // All end points of the contained edges are part of the subgraph and have thus already been indexed
+        for (ElkEdge edge : node.getContainedEdges()) {
+            add('E');
+            add(edge.getSources().size());
+            for (ElkConnectableShape source : edge.getSources()) {
+                addShape(source);
+            }
+            add(edge.getTargets().size());
+            for (ElkConnectableShape target : edge.getTargets()) {
+                addShape(target);
+            }
+            addProperties(edge.getProperties());
+            for (ElkLabel label : edge.getLabels()) {
+                hashLabel(label);
+            }
+            for (ElkEdgeSection section : edge.getSections()) {
+                add('S');
+                add(section.getStartX());
+                add(section.getStartY());
+                for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                    add(bendPoint.getX());
+                    add(bendPoint.getY());
+                }
+                add(section.getEndX());
+                add(section.getEndY());
+            }
+        }
+        add('/');
+        algorithm = parentAlgorithm;
+    }
+
+    private void hashLabel(final ElkLabel label) {
+        add('L');
+        add(label.getText() == null ? "" : label.getText());
+        add(label.getX());
+        add(label.getY());
+        add(label.getWidth());
+        add(label.getHeight());
+        addProperties(label.getProperties());
+    }
+
+    private void addExternalEdges(final List<ElkEdge> edges, final ElkNode node) {
+        int count = 0;
+        for (ElkEdge edge : edges) {
+            ElkNode container = edge.getContainingNode();
+            if (container != node && (container == null || !ElkGraphUtil.isDescendant(container, node))) {
+                count++;
+            }
+        }
+        add(count);
+    }
+
+    private void addShape(final ElkConnectableShape shape) {
+        Integer index = shapeIndices.get(shape);
+        add(index == null ? -1 : index);
+    }
+
+    private void addProperties(final EMap<IProperty<?>, Object> properties) {
+        // Properties that are not layout options are internal to whoever set them, and options set to their default
+        // values are no different from options that are not set at all
+        List<Map.Entry<IProperty<?>, Object>> entries = new ArrayList<>(properties.size());
+        for (Map.Entry<IProperty<?>, Object> entry : properties) {
+            LayoutOptionData optionData = LayoutMetaDataService.getInstance().getOptionData(entry.getKey().getId());
+            if (optionData != null && !isDefault(optionData, entry.getValue())) {
+                entries.add(entry);
+            }
+        }
+        Collections.sort(entries, PROPERTY_ORDER);
+        add(entries.size());
+        for (Map.Entry<IProperty<?>, Object> entry : entries) {
+            add(entry.getKey().getId());
+            Object value = entry.getValue();
+            if (value instanceof LayoutAlgorithmData) {
+                add(((LayoutAlgorithmData) value).getId());
+            } else {
+                add(String.valueOf(value));
+            }
+        }
+    }
+
+    private boolean isDefault(final LayoutOptionData optionData, final Object value) {
+        Object defaultValue = null;
+        if (algorithm != null) {
+            defaultValue = algorithm.getDefaultValue(optionData.getId());
+        }
+        if (defaultValue == null) {
+            defaultValue = optionData.getDefault();
+        }
+        return defaultValue != null && value != null && defaultValue.toString().equals(value.toString());
+    }
+
+    private void add(final String value) {
+        add(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            add((long) value.charAt(i));
+        }
+    }
+
+    private void add(final double value) {
+        add(Double.doubleToLongBits(value));
+    }
+
+    private void add(final int value) {
+        add((long) value);
+    }
+
+    private void add(final char value) {
+        add((long) value);
+    }
+
+    private void add(final long value) {
+        h1 = (h1 ^ value) * 0x100000001b3L;
+        h1 ^= h1 >>> 29;
+        h2 = (h2 ^ value) * 0x9e3779b97f4a7c15L;
+        h2 ^= h2 >>> 31;
+    }
+
+}
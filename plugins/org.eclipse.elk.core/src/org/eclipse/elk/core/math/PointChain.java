@@ -0,0 +1,385 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.math;
+
+import java.util.Arrays;
+
+/**
+ * A chain of points packed into a single array of coordinates. Describes polylines like a {@link KVectorChain}, but
+ * without a list node and a {@link KVector} per point, which makes it the better choice for building up the many bend
+ * points of large graphs and handing them over to edge sections. Points are accessed by their index; methods that
+ * return a {@link KVector} return a new one, so changing it doesn't change the chain.
+ *
+ * <p>{@link #of(Iterable)} and {@link #toVectorChain()} convert from and to vector chains.</p>
+ */
+public final class PointChain {
+
+    /** the number of points space is reserved for by the default constructor. */
+    private static final int DEFAULT_CAPACITY = 4;
+
+    /** the x and y coordinates of the points, starting at {@code 2 * head}. */
+    private double[] coordinates;
+    /** the index of the first point's slot in the array. */
+    private int head;
+    /** the number of points. */
+    private int size;
+
+    /**
+     * Consumes the points of a chain.
+     */
+    @FunctionalInterface
+    public interface PointConsumer {
+
+        /**
+         * Consumes a point.
+         *
+         * @param x
+         *            x coordinate
+         * @param y
+         *            y coordinate
+         */
+        void accept(double x, double y);
+    }
+
+    /**
+     * Creates an empty point chain.
+     */
+    public PointChain() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty point chain with space for the given number of points.
+     *
+     * @param capacity
+     *            the number of points that can be added without growing the chain's array
+     */
+    public PointChain(final int capacity) {
+        coordinates = new double[2 * Math.max(capacity, 1)];
+    }
+
+    /**
+     * Creates a point chain with the coordinates of the given vectors.
+     *
+     * @param vectors
+     *            the vectors, for example a {@link KVectorChain}
+     * @return a new point chain
+     */
+    public static PointChain of(final Iterable<KVector> vectors) {
+        PointChain chain = new PointChain();
+        chain.addAll(vectors);
+        return chain;
+    }
+
+    /**
+     * Creates a vector chain with a new vector for each point of this chain.
+     *
+     * @return a new vector chain
+     */
+    public KVectorChain toVectorChain() {
+        KVectorChain chain = new KVectorChain();
+        forEach((x, y) -> chain.add(x, y));
+        return chain;
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the chain has no points.
+     *
+     * @return true if there are no points
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all points.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the point (x,y) to the end of the chain.
+     *
+     * @param x
+     *            x coordinate
+     * @param y
+     *            y coordinate
+     */
+    public void add(final double x, final double y) {
+        if (2 * (head + size) == coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, 2 * coordinates.length);
+        }
+        coordinates[2 * (head + size)] = x;
+        coordinates[2 * (head + size) + 1] = y;
+        size++;
+    }
+
+    /**
+     * Adds the coordinates of the vector to the end of the chain.
+     *
+     * @param vector
+     *            the vector
+     */
+    public void add(final KVector vector) {
+        add(vector.x, vector.y);
+    }
+
+    /**
+     * Adds the coordinates of all the vectors to the end of the chain.
+     *
+     * @param vectors
+     *            the vectors
+     */
+    public void addAll(final Iterable<KVector> vectors) {
+        for (KVector vector : vectors) {
+            add(vector.x, vector.y);
+        }
+    }
+
+    /**
+     * Adds all points of the given chain to the end of this chain.
+     *
+     * @param chain
+     *            the chain whose points to add
+     */
+    public void addAll(final PointChain chain) {
+        int required = 2 * (head + size + chain.size);
+        if (required > coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, Math.max(required, 2 * coordinates.length));
+        }
+        System.arraycopy(chain.coordinates, 2 * chain.head, coordinates, 2 * (head + size), 2 * chain.size);
+        size += chain.size;
+    }
+
+    /**
+     * Adds the point (x,y) to the beginning of the chain.
+     *
+     * @param x
+     *            x coordinate
+     * @param y
+     *            y coordinate
+     */
+    public void addFirst(final double x, final double y) {
+        if (head == 0) {
+            // make room in front of the points as large as the space the points take
+            int room = Math.max(size, 1);
+            double[] grown = new double[coordinates.length + 2 * room];
+            System.arraycopy(coordinates, 0, grown, 2 * room, 2 * size);
+            coordinates = grown;
+            head = room;
+        }
+        head--;
+        size++;
+        coordinates[2 * head] = x;
+        coordinates[2 * head + 1] = y;
+    }
+
+    /**
+     * Adds the coordinates of the vector to the beginning of the chain.
+     *
+     * @param vector
+     *            the vector
+     */
+    public void addFirst(final KVector vector) {
+        addFirst(vector.x, vector.y);
+    }
+
+    /**
+     * Returns the x coordinate of a point.
+     *
+     * @param index
+     *            the point's index
+     * @return the point's x coordinate
+     */
+    public double getX(final int index) {
+        return coordinates[2 * checkIndex(index)];
+    }
+
+    /**
+     * Returns the y coordinate of a point.
+     *
+     * @param index
+     *            the point's index
+     * @return the point's y coordinate
+     */
+    public double getY(final int index) {
+        return coordinates[2 * checkIndex(index) + 1];
+    }
+
+    /**
+     * Returns a new vector with the coordinates of a point.
+     *
+     * @param index
+     *            the point's index
+     * @return a new vector
+     */
+    public KVector get(final int index) {
+        int i = checkIndex(index);
+        return new KVector(coordinates[2 * i], coordinates[2 * i + 1]);
+    }
+
+    /**
+     * Changes the coordinates of a point.
+     *
+     * @param index
+     *            the point's index
+     * @param x
+     *            the new x coordinate
+     * @param y
+     *            the new y coordinate
+     */
+    public void set(final int index, final double x, final double y) {
+        int i = checkIndex(index);
+        coordinates[2 * i] = x;
+        coordinates[2 * i + 1] = y;
+    }
+
+    /**
+     * Passes the coordinates of all points to the consumer, in order.
+     *
+     * @param consumer
+     *            the consumer
+     */
+    public void forEach(final PointConsumer consumer) {
+        for (int i = 2 * head; i < 2 * (head + size); i += 2) {
+            consumer.accept(coordinates[i], coordinates[i + 1]);
+        }
+    }
+
+    /**
+     * Scales all points by the given amount.
+     *
+     * @param scale
+     *            scaling factor
+     * @return this
+     */
+    public PointChain scale(final double scale) {
+        return scale(scale, scale);
+    }
+
+    /**
+     * Scales all points with different values for X and Y coordinate.
+     *
+     * @param scalex
+     *            the x scaling factor
+     * @param scaley
+     *            the y scaling factor
+     * @return this
+     */
+    public PointChain scale(final double scalex, final double scaley) {
+        for (int i = 2 * head; i < 2 * (head + size); i += 2) {
+            coordinates[i] *= scalex;
+            coordinates[i + 1] *= scaley;
+        }
+        return this;
+    }
+
+    /**
+     * Adds the offset to all points.
+     *
+     * @param offset
+     *            the offset to add to the points.
+     * @return this
+     */
+    public PointChain offset(final KVector offset) {
+        return offset(offset.x, offset.y);
+    }
+
+    /**
+     * Adds the offset to all points.
+     *
+     * @param dx
+     *            x value to add.
+     * @param dy
+     *            y value to add.
+     * @return this
+     */
+    public PointChain offset(final double dx, final double dy) {
+        for (int i = 2 * head; i < 2 * (head + size); i += 2) {
+            coordinates[i] += dx;
+            coordinates[i + 1] += dy;
+        }
+        return this;
+    }
+
+    /**
+     * Calculate the total length of this point chain.
+     *
+     * @return the total length
+     */
+    public double totalLength() {
+        double length = 0;
+        for (int i = 2 * head + 2; i < 2 * (head + size); i += 2) {
+            double dx = coordinates[i - 2] - coordinates[i];
+            double dy = coordinates[i - 1] - coordinates[i + 1];
+            length += Math.sqrt((dx * dx) + (dy * dy));
+        }
+        return length;
+    }
+
+    /**
+     * Determine whether any of the coordinates is NaN.
+     *
+     * @return true if one of the coordinates is NaN
+     */
+    public boolean hasNaN() {
+        for (int i = 2 * head; i < 2 * (head + size); i++) {
+            if (Double.isNaN(coordinates[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determine whether any of the coordinates is infinite.
+     *
+     * @return true if one of the coordinates is infinite
+     */
+    public boolean hasInfinite() {
+        for (int i = 2 * head; i < 2 * (head + size); i++) {
+            if (Double.isInfinite(coordinates[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("(");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append("; ");
+            }
+            builder.append(coordinates[2 * (head + i)] + "," + coordinates[2 * (head + i) + 1]);
+        }
+        return builder.append(")").toString();
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return head + index;
+    }
+
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+// elkjs-exclude-start
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Utility methods for layout algorithms that split their work into independent tasks.
+ *
+ * <p>Tasks are always run through {@link #invokeAll(Executor, List)}, which lets the calling thread take part in the
+ * work instead of merely waiting for it. Tasks may thus submit further tasks to the same executor without risking
+ * a deadlock, regardless of how many threads the executor has.</p>
+ *
+ * <p>Note that none of this is available when running in a JavaScript environment, which is why the class is excluded
+ * from elkjs as a whole; algorithms may only call into it from code excluded from elkjs.</p>
+ */
+public final class ElkConcurrency {
+
+    /** counter used to give worker threads distinguishable names. */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Prevent instantiation.
+     */
+    private ElkConcurrency() {
+    }
+
+    /**
+     * Returns the number of threads a layout algorithm should use given the value of a thread count option. Values
+     * smaller than {@code 1} mean that one thread per available processor should be used.
+     *
+     * @param threads the configured number of threads.
+     * @return the number of threads to use, at least {@code 1}.
+     */
+    public static int resolveThreadCount(final int threads) {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Creates an executor suitable for running tasks with a total of the given number of threads through
+     * {@link #invokeAll(Executor, List)}. Since the calling thread takes part in the work, the executor has one thread
+     * less than requested. Its threads are daemon threads. The executor must be shut down once it is not required
+     * anymore.
+     *
+     * @param threads the total number of threads that should work on tasks, including the calling thread.
+     * @return a new executor service, or {@code null} if {@code threads} is not larger than {@code 1}.
+     */
+    public static ExecutorService newExecutor(final int threads) {
+        if (threads <= 1) {
+            return null;
+        }
+
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "elk-layout-worker-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads - 1, threadFactory);
+    }
+
+    /**
+     * Runs the given tasks and returns their results in the order of the tasks. The tasks are handed to the given
+     * executor, but the calling thread runs every task the executor has not started yet by the time the calling
+     * thread gets to it. The method only returns once all tasks are finished. If one or more tasks failed, the
+     * exception thrown by the first failed task in task order is rethrown; checked exceptions are wrapped in a
+     * {@link WrappedException}.
+     *
+     * @param <T> the type of results returned by the tasks.
+     * @param executor the executor to hand the tasks to. If {@code null}, all tasks are run on the calling thread.
+     * @param tasks the tasks to run.
+     * @return the tasks' results in task order.
+     */
+    public static <T> List<T> invokeAll(final Executor executor, final List<? extends Callable<T>> tasks) {
+        List<FutureTask<T>> futures = Lists.newArrayListWithCapacity(tasks.size());
+        for (Callable<T> task : tasks) {
+            FutureTask<T> future = new FutureTask<>(task);
+            futures.add(future);
+
+            // The first task is always run by the calling thread
+            if (executor != null && futures.size() > 1) {
+                try {
+                    executor.execute(future);
+                } catch (RejectedExecutionException exception) {
+                    // The task will be run on the calling thread below
+                }
+            }
+        }
+
+        List<T> results = Lists.newArrayListWithCapacity(tasks.size());
+        Throwable failure = null;
+        boolean interrupted = false;
+
+        for (FutureTask<T> future : futures) {
+            // Does nothing if the task has already been started by the executor
+            future.run();
+
+            while (true) {
+                try {
+                    results.add(future.get());
+                    break;
+                } catch (InterruptedException exception) {
+                    // We must not return while tasks are still running
+                    interrupted = true;
+                } catch (ExecutionException exception) {
+                    if (failure == null) {
+                        failure = exception.getCause();
+                    }
+                    results.add(null);
+                    break;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new WrappedException(failure);
+        }
+        return results;
+    }
+
+}
+// elkjs-exclude-end
@@ -24,6 +24,7 @@ import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.math.ElkRectangle;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.math.PointChain;
 import org.eclipse.elk.core.options.ContentAlignment;
 import org.eclipse.elk.core.options.CoreOptions;
 import org.eclipse.elk.core.options.Direction;
@@ -50,6 +51,7 @@ import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.ElkPort;
 import org.eclipse.elk.graph.ElkShape;
 import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 
 import com.google.common.base.Strings;
@@ -966,6 +968,72 @@ public final class ElkUtil {
         section.setEndLocation(lastPoint.x, lastPoint.y);
     }
 
+    /**
+     * Creates a point chain containing the start point, bend points, and end point of the given edge section. Note
+     * that modifying the point chain will be of no consequence to the edge section.
+     *
+     * @param edgeSection
+     *            the edge section to initialize the point chain with.
+     * @return the point chain.
+     */
+    public static PointChain createPointChain(final ElkEdgeSection edgeSection) {
+        PointChain chain = new PointChain(edgeSection.getBendPoints().size() + 2);
+
+        chain.add(edgeSection.getStartX(), edgeSection.getStartY());
+
+        for (ElkBendPoint bendPoint : edgeSection.getBendPoints()) {
+            chain.add(bendPoint.getX(), bendPoint.getY());
+        }
+
+        chain.add(edgeSection.getEndX(), edgeSection.getEndY());
+
+        return chain;
+    }
+
+    /**
+     * Applies the point chain's points to the given edge section, just like
+     * {@link #applyVectorChain(KVectorChain, ElkEdgeSection)} does for vector chains.
+     *
+     * @param pointChain the point chain to apply.
+     * @param section the edge section to apply the chain to.
+     * @throws IllegalArgumentException if the point chain contains less than two points.
+     */
+    public static void applyPointChain(final PointChain pointChain, final ElkEdgeSection section) {
+        // We need at least a start and an end point
+        int size = pointChain.size();
+        if (size < 2) {
+            throw new IllegalArgumentException("The point chain must contain at least a source and a target point.");
+        }
+
+        // Start point
+        section.setStartLocation(pointChain.getX(0), pointChain.getY(0));
+
+        // Reuse as many existing bend points as possible
+        EList<ElkBendPoint> bendPoints = section.getBendPoints();
+        int reused = Math.min(bendPoints.size(), size - 2);
+        for (int i = 0; i < reused; i++) {
+            bendPoints.get(i).set(pointChain.getX(i + 1), pointChain.getY(i + 1));
+        }
+
+        if (reused < size - 2) {
+            List<ElkBendPoint> added = new ArrayList<>(size - 2 - reused);
+            for (int i = reused + 1; i < size - 1; i++) {
+                ElkBendPoint bendpoint = ElkGraphFactory.eINSTANCE.createElkBendPoint();
+                bendpoint.set(pointChain.getX(i), pointChain.getY(i));
+                added.add(bendpoint);
+            }
+            bendPoints.addAll(added);
+        } else {
+            // Remove existing bend points that we did not use
+            while (bendPoints.size() > reused) {
+                bendPoints.remove(bendPoints.size() - 1);
+            }
+        }
+
+        // End point
+        section.setEndLocation(pointChain.getX(size - 1), pointChain.getY(size - 1));
+    }
+
 
     //////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // DEFAULT LAYOUT SETTINGS
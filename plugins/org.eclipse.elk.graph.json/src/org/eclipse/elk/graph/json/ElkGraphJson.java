@@ -10,7 +10,9 @@
 package org.eclipse.elk.graph.json;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 
 import org.eclipse.elk.core.util.Maybe;
 import org.eclipse.elk.graph.ElkNode;
@@ -22,6 +24,7 @@ import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Utility methods to import and export the ELK Graph JSON Format.
@@ -60,6 +63,24 @@ public final class ElkGraphJson {
         ib.jsonGraph = graph;
         return ib;
     }
+
+    /**
+     * Initializes an importer that reads the graph from the passed reader. Instead of parsing the json into an object
+     * tree first, the graph is built directly from the token stream, which keeps memory consumption low for large
+     * graphs. The import is finished using the {@link ImportBuilder#toElk()} method, which does not close the reader.
+     * 
+     * <p>Since the json is not kept in memory, a streamed import cannot remember its importer. To write layout
+     * results, export the graph again, for example using {@link ExportBuilder#toJson(Writer)}.</p>
+     * 
+     * @param graph
+     *            the reader to read the graph from.
+     * @return a builder instance that can be further configured.
+     */
+    public static ImportBuilder forGraph(final Reader graph) {
+        ImportBuilder ib = new ImportBuilder();
+        ib.graphReader = graph;
+        return ib;
+    }
     
     /**
      * Builder for importing.
@@ -68,6 +89,7 @@ public final class ElkGraphJson {
         
         private JsonObject jsonGraph;
         private String graph;
+        private Reader graphReader;
         private Maybe<JsonImporter> importerMaybe;
         /** See {@link JsonReader#setLenient(boolean)} for details. */
         private boolean lenient = true;
@@ -76,7 +98,8 @@ public final class ElkGraphJson {
         /**
          * In case a later application of layout information is desired, pass a {@link Maybe} instance to this method.
          * The instance is populated with the used {@link JsonImporter}, which can be used to
-         * {@link JsonImporter#transferLayout(ElkNode) transfer} the layout later on.
+         * {@link JsonImporter#transferLayout(ElkNode) transfer} the layout later on. Not supported for graphs read
+         * from a {@link Reader}.
          * 
          * @param maybe
          *            an empty {@link Maybe}.
@@ -108,6 +131,10 @@ public final class ElkGraphJson {
          * @return the root node of the imported ELK Graph.
          */
         public ElkNode toElk() {
+            if (graphReader != null) {
+                return streamToElk();
+            }
+
             if (jsonGraph == null) {
                 // Due to a GSON workaround the following lines are a bit more complicated that they have to be.
                 // See the javadoc comment of GSON_ELEMENT_ADAPTER for details.
@@ -133,6 +160,20 @@ public final class ElkGraphJson {
 
             return elkGraph;
         }
+
+        private ElkNode streamToElk() {
+            if (importerMaybe != null) {
+                throw new UnsupportedOperationException("A streamed import cannot remember its importer.");
+            }
+
+            JsonReader reader = new JsonReader(graphReader);
+            reader.setLenient(this.lenient);
+            try {
+                return new JsonStreamingImporter().transform(reader);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
     }
 
     /**
@@ -234,6 +275,33 @@ public final class ElkGraphJson {
             String json = gson.toJson(jsonGraph);
             return json;
         }
+
+        /**
+         * Perform the export using the specified configuration and write the result to the given writer. The json is
+         * written as a token stream without building an object tree first, which keeps memory consumption low for
+         * large graphs. The result is the same as that of {@link #toJson()}. The writer is flushed, but not closed.
+         * 
+         * @param writer
+         *            the writer to write the json representation of the graph to.
+         */
+        public void toJson(final Writer writer) {
+            JsonWriter jsonWriter = new JsonWriter(writer);
+            // write the same as Gson does when serializing a json object tree
+            jsonWriter.setLenient(true);
+            jsonWriter.setHtmlSafe(false);
+            jsonWriter.setSerializeNulls(false);
+            if (prettyPrint) {
+                jsonWriter.setIndent("  ");
+            }
+
+            JsonStreamingExporter exporter = new JsonStreamingExporter(omitZeroPosition, omitZeroDimension,
+                    omitLayoutInformation, shortLayoutOptionKeys, omitUnknownLayoutOptions);
+            try {
+                exporter.export(graph, jsonWriter);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
     }
 
 }
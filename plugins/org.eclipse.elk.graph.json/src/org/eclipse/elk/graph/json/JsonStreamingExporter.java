@@ -0,0 +1,456 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.IndividualSpacings;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Exporter from elk graph to json that writes the json to a token stream instead of building a json object tree.
+ * The written json is the same that {@link JsonExporter} produces with the same configuration. The only state kept
+ * while writing are the ids assigned to nodes, ports, edges, and edge sections.
+ */
+final class JsonStreamingExporter {
+
+    private final Map<Object, String> idMap = new HashMap<>();
+    private final Set<String> nodeIds = new HashSet<>();
+    private final Set<String> portIds = new HashSet<>();
+    private final Set<String> edgeIds = new HashSet<>();
+    private final Set<String> edgeSectionIds = new HashSet<>();
+
+    private int nodeIdCounter = 0;
+    private int portIdCounter = 0;
+    private int edgeIdCounter = 0;
+    private int edgeSectionIdCounter = 0;
+
+    private final Random random = new Random();
+
+    // configuration
+    private final boolean omitZeroPos;
+    private final boolean omitZeroDim;
+    private final boolean omitLayout;
+    private final boolean shortLayoutOptionKeys;
+    private final boolean omitUnknownLayoutOptions;
+
+    /**
+     * Creates an exporter with the given configuration, see {@link JsonExporter#setOptions(boolean, boolean,
+     * boolean, boolean, boolean)}.
+     */
+    JsonStreamingExporter(final boolean omitZeroPos, final boolean omitZeroDim, final boolean omitLayout,
+            final boolean shortLayoutOptionKeys, final boolean omitUnknownLayoutOptions) {
+
+        this.omitZeroPos = omitZeroPos;
+        this.omitZeroDim = omitZeroDim;
+        this.omitLayout = omitLayout;
+        this.shortLayoutOptionKeys = shortLayoutOptionKeys;
+        this.omitUnknownLayoutOptions = omitUnknownLayoutOptions;
+    }
+
+    /**
+     * Writes the given graph to the given writer.
+     *
+     * @param root
+     *            the root node of the graph to export.
+     * @param writer
+     *            the writer to write to.
+     * @throws IOException
+     *             if writing fails.
+     */
+    public void export(final ElkNode root, final JsonWriter writer) throws IOException {
+        try {
+            // Edges may reference any node or port, so all ids are assigned up front, in the order in which
+            // JsonExporter assigns them
+            assignShapeIds(root);
+            assignEdgeIds(root);
+
+            writeNode(root, writer);
+            writer.flush();
+        } finally {
+            idMap.clear();
+            nodeIds.clear();
+            portIds.clear();
+            edgeIds.clear();
+            edgeSectionIds.clear();
+            nodeIdCounter = 0;
+            portIdCounter = 0;
+            edgeIdCounter = 0;
+            edgeSectionIdCounter = 0;
+        }
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Ids
+     */
+
+    private void assignShapeIds(final ElkNode node) {
+        String id = node.getIdentifier();
+        if (id == null) {
+            id = "n" + nodeIdCounter++;
+        }
+        idMap.put(node, assertUnique(id, nodeIds));
+
+        for (ElkPort port : node.getPorts()) {
+            String portId = port.getIdentifier();
+            if (portId == null) {
+                portId = "p" + portIdCounter++;
+            }
+            idMap.put(port, assertUnique(portId, portIds));
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            assignShapeIds(child);
+        }
+    }
+
+    private void assignEdgeIds(final ElkNode node) {
+        for (ElkEdge edge : node.getContainedEdges()) {
+            String id = edge.getIdentifier();
+            if (id == null) {
+                id = "e" + edgeIdCounter++;
+            }
+            idMap.put(edge, assertUnique(id, edgeIds));
+
+            if (!omitLayout) {
+                for (ElkEdgeSection section : edge.getSections()) {
+                    String sectionId = section.getIdentifier();
+                    if (sectionId == null) {
+                        sectionId = "s" + edgeSectionIdCounter++;
+                    }
+                    idMap.put(section, assertUnique(sectionId, edgeSectionIds));
+                }
+            }
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            assignEdgeIds(child);
+        }
+    }
+
+    private String assertUnique(final String id, final Set<String> usedIds) {
+        String unique = id;
+        while (!usedIds.add(unique)) {
+            unique = id + "_g" + String.format("%06d", random.nextInt(1000000));
+        }
+        return unique;
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Shapes
+     */
+
+    private void writeNode(final ElkNode node, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(idMap.get(node));
+
+        if (!node.getLabels().isEmpty()) {
+            writer.name("labels").beginArray();
+            for (ElkLabel label : node.getLabels()) {
+                writeLabel(label, writer);
+            }
+            writer.endArray();
+        }
+
+        if (!node.getPorts().isEmpty()) {
+            writer.name("ports").beginArray();
+            for (ElkPort port : node.getPorts()) {
+                writePort(port, writer);
+            }
+            writer.endArray();
+        }
+
+        if (!node.getChildren().isEmpty()) {
+            writer.name("children").beginArray();
+            for (ElkNode child : node.getChildren()) {
+                writeNode(child, writer);
+            }
+            writer.endArray();
+        }
+
+        writeProperties(node, writer);
+        writeIndividualSpacings(node, writer);
+        writeShapeLayout(node, writer);
+
+        if (!node.getContainedEdges().isEmpty()) {
+            writer.name("edges").beginArray();
+            for (ElkEdge edge : node.getContainedEdges()) {
+                writeEdge(edge, writer);
+            }
+            writer.endArray();
+        }
+
+        writer.endObject();
+    }
+
+    private void writePort(final ElkPort port, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(idMap.get(port));
+
+        if (!port.getLabels().isEmpty()) {
+            writer.name("labels").beginArray();
+            for (ElkLabel label : port.getLabels()) {
+                writeLabel(label, writer);
+            }
+            writer.endArray();
+        }
+
+        writeProperties(port, writer);
+        writeShapeLayout(port, writer);
+        writer.endObject();
+    }
+
+    private void writeLabel(final ElkLabel label, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("text").value(label.getText());
+        if (label.getIdentifier() != null && !label.getIdentifier().isEmpty()) {
+            writer.name("id").value(label.getIdentifier());
+        }
+
+        writeProperties(label, writer);
+        writeShapeLayout(label, writer);
+        writer.endObject();
+    }
+
+    private void writeShapeLayout(final ElkShape shape, final JsonWriter writer) throws IOException {
+        // position
+        if (!omitLayout) {
+            // non-equality with double is fine here
+            if (!omitZeroPos || shape.getX() != 0.0) {
+                writer.name("x").value(shape.getX());
+            }
+            if (!omitZeroPos || shape.getY() != 0.0) {
+                writer.name("y").value(shape.getY());
+            }
+        }
+        // dimension
+        if (!omitZeroDim || shape.getWidth() != 0.0) {
+            writer.name("width").value(shape.getWidth());
+        }
+        if (!omitZeroDim || shape.getHeight() != 0.0) {
+            writer.name("height").value(shape.getHeight());
+        }
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Edges
+     */
+
+    private void writeEdge(final ElkEdge edge, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(idMap.get(edge));
+
+        // connection points
+        writeShapeIds("sources", edge.getSources(), writer);
+        writeShapeIds("targets", edge.getTargets(), writer);
+
+        if (!edge.getLabels().isEmpty()) {
+            writer.name("labels").beginArray();
+            for (ElkLabel label : edge.getLabels()) {
+                writeLabel(label, writer);
+            }
+            writer.endArray();
+        }
+
+        if (!omitLayout && !edge.getSections().isEmpty()) {
+            writer.name("sections").beginArray();
+            for (ElkEdgeSection section : edge.getSections()) {
+                writeSection(section, writer);
+            }
+            writer.endArray();
+        }
+
+        // make sure not to initialize an empty set of junction points by accident (#559)
+        if (!omitLayout && edge.hasProperty(CoreOptions.JUNCTION_POINTS)) {
+            KVectorChain junctionPoints = edge.getProperty(CoreOptions.JUNCTION_POINTS);
+            if (junctionPoints != null && !junctionPoints.isEmpty()) {
+                writer.name("junctionPoints").beginArray();
+                for (KVector junctionPoint : junctionPoints) {
+                    writePoint(junctionPoint.x, junctionPoint.y, writer);
+                }
+                writer.endArray();
+            }
+        }
+
+        writeProperties(edge, writer);
+        writer.endObject();
+    }
+
+    private void writeShapeIds(final String name, final List<ElkConnectableShape> shapes, final JsonWriter writer)
+            throws IOException {
+
+        writer.name(name).beginArray();
+        for (ElkConnectableShape shape : shapes) {
+            String id = idMap.get(shape);
+            if (id == null) {
+                throw new JsonImportException("Unknown edge " + name + " element: " + shape);
+            }
+            writer.value(id);
+        }
+        writer.endArray();
+    }
+
+    private void writeSection(final ElkEdgeSection section, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(idMap.get(section));
+
+        writer.name("startPoint");
+        writePoint(section.getStartX(), section.getStartY(), writer);
+        writer.name("endPoint");
+        writePoint(section.getEndX(), section.getEndY(), writer);
+
+        if (!section.getBendPoints().isEmpty()) {
+            writer.name("bendPoints").beginArray();
+            for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                writePoint(bendPoint.getX(), bendPoint.getY(), writer);
+            }
+            writer.endArray();
+        }
+
+        if (section.getIncomingShape() != null) {
+            writer.name("incomingShape").value(idMap.get(section.getIncomingShape()));
+        }
+        if (section.getOutgoingShape() != null) {
+            writer.name("outgoingShape").value(idMap.get(section.getOutgoingShape()));
+        }
+
+        if (!section.getIncomingSections().isEmpty()) {
+            writer.name("incomingSections").beginArray();
+            for (ElkEdgeSection incoming : section.getIncomingSections()) {
+                writer.value(idMap.get(incoming));
+            }
+            writer.endArray();
+        }
+        if (!section.getOutgoingSections().isEmpty()) {
+            writer.name("outgoingSections").beginArray();
+            for (ElkEdgeSection outgoing : section.getOutgoingSections()) {
+                writer.value(idMap.get(outgoing));
+            }
+            writer.endArray();
+        }
+
+        writeProperties(section, writer);
+        writer.endObject();
+    }
+
+    private static void writePoint(final double x, final double y, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.endObject();
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Layout options
+     */
+
+    private void writeProperties(final IPropertyHolder holder, final JsonWriter writer) throws IOException {
+        Map<IProperty<?>, Object> properties = holder.getAllProperties();
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        // Shortened keys may coincide, in which case the last value wins just as in a json object
+        Map<String, String> options = new LinkedHashMap<>();
+        for (Map.Entry<IProperty<?>, Object> property : properties.entrySet()) {
+            IProperty<?> key = property.getKey();
+            if (key != null && key != CoreOptions.SPACING_INDIVIDUAL) {
+                addOption(options, key, property.getValue());
+            }
+        }
+        writeOptions("layoutOptions", options, writer);
+    }
+
+    private void writeIndividualSpacings(final IPropertyHolder holder, final JsonWriter writer) throws IOException {
+        if (!holder.hasProperty(CoreOptions.SPACING_INDIVIDUAL)) {
+            return;
+        }
+        IndividualSpacings individualSpacings = holder.getProperty(CoreOptions.SPACING_INDIVIDUAL);
+        Map<IProperty<?>, Object> properties = individualSpacings.getAllProperties();
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> options = new LinkedHashMap<>();
+        for (Map.Entry<IProperty<?>, Object> property : properties.entrySet()) {
+            if (property.getKey() != null) {
+                addOption(options, property.getKey(), property.getValue());
+            }
+        }
+        writeOptions("individualSpacings", options, writer);
+    }
+
+    private void addOption(final Map<String, String> options, final IProperty<?> property, final Object value) {
+        LayoutOptionData optionData = LayoutMetaDataService.getInstance().getOptionDataBySuffix(property.getId());
+        if (!omitUnknownLayoutOptions || optionData != null) {
+            String key = shortLayoutOptionKeys ? shortOptionKey(property.getId(), optionData) : property.getId();
+            options.put(key, String.valueOf(value));
+        }
+    }
+
+    private static void writeOptions(final String name, final Map<String, String> options, final JsonWriter writer)
+            throws IOException {
+
+        writer.name(name).beginObject();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            writer.name(option.getKey()).value(option.getValue());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Returns the shortest suffix of the option's id that still identifies the option uniquely.
+     */
+    private static String shortOptionKey(final String fullId, final LayoutOptionData option) {
+        if (option == null) {
+            // if the option is unknown, return the full id
+            return fullId;
+        }
+
+        List<String> idSplit = Arrays.asList(option.getId().split("\\."));
+        int i = idSplit.size() - 1;
+        if (i >= 1 && idSplit.get(i - 1).equals(option.getGroup())) {
+            i--;
+        }
+        while (i >= 0) {
+            String suffix = String.join(".", idSplit.subList(i, idSplit.size()));
+            if (LayoutMetaDataService.getInstance().getOptionDataBySuffix(suffix) != null) {
+                return suffix;
+            }
+            i--;
+        }
+        return option.getId();
+    }
+
+}
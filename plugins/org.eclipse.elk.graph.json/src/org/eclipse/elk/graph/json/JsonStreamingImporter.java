@@ -0,0 +1,725 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.IndividualSpacings;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Importer from json to elk graph that reads the json from a token stream instead of a json object tree. It
+ * understands the same format as {@link JsonImporter}, but never holds more of the json in memory than the value
+ * currently being read. Since the members of a json object may appear in any order, references from edges and edge
+ * sections to other elements are only resolved once the whole graph has been read.
+ *
+ * <p>Contrary to {@link JsonImporter}, this importer does not remember the json it read. Layout results are written
+ * by exporting the graph again, for example through {@link JsonStreamingExporter}.</p>
+ */
+final class JsonStreamingImporter {
+
+    /* Id -> ElkGraph element maps
+     * Id can be string or integer, thus Object is used. */
+    private final Map<Object, ElkNode> nodeIdMap = new HashMap<>();
+    private final Map<Object, ElkPort> portIdMap = new HashMap<>();
+    private final Map<Object, ElkEdgeSection> edgeSectionIdMap = new HashMap<>();
+
+    /** edges read so far whose sources and targets are yet to be resolved, grouped by the node that lists them. */
+    private final List<List<PendingEdge>> pendingEdges = new ArrayList<>();
+
+    /**
+     * Reads the graph that the given reader is positioned at.
+     *
+     * @param reader
+     *            the reader to read from.
+     * @return the root node of the imported graph.
+     * @throws IOException
+     *             if reading fails.
+     * @throws JsonImportException
+     *             if the graph is not valid.
+     */
+    public ElkNode transform(final JsonReader reader) throws IOException {
+        try {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw formatError("Top-level element of the graph must be a json object.");
+            }
+            ElkNode root = readNode(reader, null);
+            resolveEdges();
+            return root;
+        } finally {
+            nodeIdMap.clear();
+            portIdMap.clear();
+            edgeSectionIdMap.clear();
+            pendingEdges.clear();
+        }
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Shapes
+     */
+
+    private ElkNode readNode(final JsonReader reader, final ElkNode parent) throws IOException {
+        ElkNode node = ElkGraphUtil.createNode(parent);
+        OptionValues options = new OptionValues();
+        List<String[]> individualSpacings = null;
+        boolean hasId = false;
+
+        // Edges are grouped by the node that lists them to keep their order independent of the order of members
+        int edgesIndex = pendingEdges.size();
+        pendingEdges.add(null);
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                Object id = readId(reader, node::setIdentifier);
+                nodeIdMap.put(id, node);
+                hasId = true;
+                break;
+            case "children":
+                readArray(reader, () -> readNode(reader, node));
+                break;
+            case "ports":
+                readArray(reader, () -> readPort(reader, node));
+                break;
+            case "labels":
+                readArray(reader, () -> readLabel(reader, node));
+                break;
+            case "edges":
+                List<PendingEdge> edges = new ArrayList<>();
+                pendingEdges.set(edgesIndex, edges);
+                readArray(reader, () -> edges.add(readEdge(reader, node)));
+                break;
+            case "individualSpacings":
+                individualSpacings = readOptionValues(reader);
+                break;
+            default:
+                if (!options.read(reader, name) && !readShapeLayout(reader, name, node)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        checkId(hasId);
+        options.apply(node);
+        if (individualSpacings != null) {
+            if (!node.hasProperty(CoreOptions.SPACING_INDIVIDUAL)) {
+                node.setProperty(CoreOptions.SPACING_INDIVIDUAL, new IndividualSpacings());
+            }
+            IndividualSpacings spacings = node.getProperty(CoreOptions.SPACING_INDIVIDUAL);
+            for (String[] option : individualSpacings) {
+                setOption(spacings, option[0], option[1]);
+            }
+        }
+        return node;
+    }
+
+    private void readPort(final JsonReader reader, final ElkNode parent) throws IOException {
+        ElkPort port = ElkGraphUtil.createPort(parent);
+        OptionValues options = new OptionValues();
+        boolean hasId = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                portIdMap.put(readId(reader, port::setIdentifier), port);
+                hasId = true;
+                break;
+            case "labels":
+                readArray(reader, () -> readLabel(reader, port));
+                break;
+            default:
+                if (!options.read(reader, name) && !readShapeLayout(reader, name, port)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        checkId(hasId);
+        options.apply(port);
+    }
+
+    private void readLabel(final JsonReader reader, final ElkGraphElement parent) throws IOException {
+        ElkLabel label = ElkGraphUtil.createLabel(parent);
+        OptionValues options = new OptionValues();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "text":
+                label.setText(readString(reader));
+                break;
+            case "id":
+                label.setIdentifier(readString(reader));
+                break;
+            default:
+                if (!options.read(reader, name) && !readShapeLayout(reader, name, label)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        options.apply(label);
+    }
+
+    private boolean readShapeLayout(final JsonReader reader, final String name, final ElkShape shape)
+            throws IOException {
+
+        switch (name) {
+        case "x":
+            shape.setX(validDouble(readDouble(reader)));
+            return true;
+        case "y":
+            shape.setY(validDouble(readDouble(reader)));
+            return true;
+        case "width":
+            shape.setWidth(validDouble(readDouble(reader)));
+            return true;
+        case "height":
+            shape.setHeight(validDouble(readDouble(reader)));
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Edges
+     */
+
+    private PendingEdge readEdge(final JsonReader reader, final ElkNode parent) throws IOException {
+        PendingEdge pending = new PendingEdge(ElkGraphUtil.createEdge(parent));
+        OptionValues options = new OptionValues();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                pending.id = readId(reader, pending.edge::setIdentifier);
+                break;
+            case "sources":
+                pending.sources = readIds(reader);
+                break;
+            case "targets":
+                pending.targets = readIds(reader);
+                break;
+            case "source":
+                pending.source = readId(reader);
+                break;
+            case "sourcePort":
+                pending.sourcePort = readId(reader);
+                break;
+            case "target":
+                pending.target = readId(reader);
+                break;
+            case "targetPort":
+                pending.targetPort = readId(reader);
+                break;
+            case "sourcePoint":
+                pending.sourcePoint = readPoint(reader);
+                pending.hasPrimitiveLayout = true;
+                break;
+            case "targetPoint":
+                pending.targetPoint = readPoint(reader);
+                pending.hasPrimitiveLayout = true;
+                break;
+            case "bendPoints":
+                pending.bendPoints = readPoints(reader);
+                pending.hasPrimitiveLayout = true;
+                break;
+            case "sections":
+                readArray(reader, () -> pending.sections.add(readSection(reader, pending.edge)));
+                break;
+            case "labels":
+                readArray(reader, () -> readLabel(reader, pending.edge));
+                break;
+            default:
+                if (!options.read(reader, name)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        checkId(pending.id != null);
+        options.apply(pending.edge);
+
+        if (!pending.isPrimitive()) {
+            return pending;
+        }
+
+        // Primitive edges describe their route through points instead of sections
+        for (PendingSection section : pending.sections) {
+            edgeSectionIdMap.remove(section.id, section.section);
+        }
+        pending.sections.clear();
+        pending.edge.getSections().clear();
+
+        if (pending.hasPrimitiveLayout) {
+            ElkEdgeSection section = ElkGraphUtil.createEdgeSection(pending.edge);
+            if (pending.sourcePoint != null) {
+                section.setStartLocation(pending.sourcePoint[0], pending.sourcePoint[1]);
+            }
+            if (pending.targetPoint != null) {
+                section.setEndLocation(pending.targetPoint[0], pending.targetPoint[1]);
+            }
+            if (pending.bendPoints != null) {
+                for (double[] bendPoint : pending.bendPoints) {
+                    ElkGraphUtil.createBendPoint(section, bendPoint[0], bendPoint[1]);
+                }
+            }
+        }
+        return pending;
+    }
+
+    private PendingSection readSection(final JsonReader reader, final ElkEdge edge) throws IOException {
+        PendingSection pending = new PendingSection(ElkGraphUtil.createEdgeSection(edge));
+        ElkEdgeSection section = pending.section;
+        OptionValues options = new OptionValues();
+        boolean hasStartPoint = false;
+        boolean hasEndPoint = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                pending.id = readId(reader, section::setIdentifier);
+                edgeSectionIdMap.put(pending.id, section);
+                break;
+            case "startPoint":
+                double[] startPoint = readPoint(reader);
+                section.setStartLocation(startPoint[0], startPoint[1]);
+                hasStartPoint = true;
+                break;
+            case "endPoint":
+                double[] endPoint = readPoint(reader);
+                section.setEndLocation(endPoint[0], endPoint[1]);
+                hasEndPoint = true;
+                break;
+            case "bendPoints":
+                for (double[] bendPoint : readPoints(reader)) {
+                    ElkGraphUtil.createBendPoint(section, bendPoint[0], bendPoint[1]);
+                }
+                break;
+            case "incomingShape":
+                pending.incomingShape = readId(reader);
+                break;
+            case "outgoingShape":
+                pending.outgoingShape = readId(reader);
+                break;
+            case "incomingSections":
+                pending.incomingSections = readIds(reader);
+                break;
+            case "outgoingSections":
+                pending.outgoingSections = readIds(reader);
+                break;
+            default:
+                if (!options.read(reader, name)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        checkId(pending.id != null);
+        if (!hasStartPoint) {
+            throw formatError("All edge sections need a start point.");
+        }
+        if (!hasEndPoint) {
+            throw formatError("All edge sections need an end point.");
+        }
+        options.apply(section);
+        return pending;
+    }
+
+    /**
+     * Connects all edges read so far to their sources and targets, which are known only after the whole graph has
+     * been read.
+     */
+    private void resolveEdges() {
+        for (List<PendingEdge> edges : pendingEdges) {
+            if (edges != null) {
+                for (PendingEdge pending : edges) {
+                    if (pending.isPrimitive()) {
+                        resolvePrimitiveEdge(pending);
+                    } else {
+                        resolveEdge(pending);
+                    }
+                    ElkGraphUtil.updateContainment(pending.edge);
+                }
+            }
+        }
+    }
+
+    private void resolvePrimitiveEdge(final PendingEdge pending) {
+        ElkEdge edge = pending.edge;
+
+        // source
+        ElkNode srcNode = pending.source == null ? null : nodeIdMap.get(pending.source);
+        ElkPort srcPort = pending.sourcePort == null ? null : portIdMap.get(pending.sourcePort);
+        if (srcNode == null) {
+            throw formatError("An edge must have a source node (edge id: '" + pending.id + "').");
+        }
+        if (srcPort != null && srcPort.getParent() != srcNode) {
+            throw formatError("The source port of an edge must be a port of the edge's source node (edge id: '"
+                    + pending.id + "').");
+        }
+        edge.getSources().add(srcPort != null ? srcPort : srcNode);
+
+        // target
+        ElkNode tgtNode = pending.target == null ? null : nodeIdMap.get(pending.target);
+        ElkPort tgtPort = pending.targetPort == null ? null : portIdMap.get(pending.targetPort);
+        if (tgtNode == null) {
+            throw formatError("An edge must have a target node (edge id: '" + pending.id + "').");
+        }
+        if (tgtPort != null && tgtPort.getParent() != tgtNode) {
+            throw formatError("The target port of an edge must be a port of the edge's target node (edge id: '"
+                    + pending.id + "').");
+        }
+        edge.getTargets().add(tgtPort != null ? tgtPort : tgtNode);
+    }
+
+    private void resolveEdge(final PendingEdge pending) {
+        ElkEdge edge = pending.edge;
+        if (pending.sources != null) {
+            for (Object id : pending.sources) {
+                edge.getSources().add(shapeById(id));
+            }
+        }
+        if (pending.targets != null) {
+            for (Object id : pending.targets) {
+                edge.getTargets().add(shapeById(id));
+            }
+        }
+        if (edge.getSources().isEmpty() || edge.getTargets().isEmpty()) {
+            throw formatError("An edge must have at least one source and one target (edge id: '"
+                    + pending.id + "').");
+        }
+
+        for (PendingSection section : pending.sections) {
+            if (section.incomingShape != null) {
+                section.section.setIncomingShape(shapeById(section.incomingShape));
+            }
+            if (section.outgoingShape != null) {
+                section.section.setOutgoingShape(shapeById(section.outgoingShape));
+            }
+            resolveSections(section.incomingSections, section.section.getIncomingSections(), pending);
+            resolveSections(section.outgoingSections, section.section.getOutgoingSections(), pending);
+        }
+
+        // Special case: if the edge has only a single source, a single target, and a single edge section which has
+        // no incoming and outgoing shapes, set the incoming and outgoing shape to the source and target of the edge,
+        // respectively
+        if (edge.isConnected() && !edge.isHyperedge() && edge.getSections().size() == 1) {
+            ElkEdgeSection section = edge.getSections().get(0);
+            if (section.getIncomingShape() == null && section.getOutgoingShape() == null) {
+                section.setIncomingShape(edge.getSources().get(0));
+                section.setOutgoingShape(edge.getTargets().get(0));
+            }
+        }
+    }
+
+    private void resolveSections(final List<Object> ids, final List<ElkEdgeSection> sections,
+            final PendingEdge pending) {
+
+        if (ids != null) {
+            for (Object id : ids) {
+                ElkEdgeSection referencedSection = edgeSectionIdMap.get(id);
+                if (referencedSection == null) {
+                    throw formatError("Referenced edge section does not exist: " + id
+                            + " (edge id: '" + pending.id + "').");
+                }
+                sections.add(referencedSection);
+            }
+        }
+    }
+
+    private ElkConnectableShape shapeById(final Object id) {
+        ElkNode node = nodeIdMap.get(id);
+        if (node != null) {
+            return node;
+        }
+        ElkPort port = portIdMap.get(id);
+        if (port != null) {
+            return port;
+        }
+        throw formatError("Referenced shape does not exist: " + id);
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Layout options
+     */
+
+    /**
+     * Collects the layout options of an element. Options given through the legacy {@code properties} member are only
+     * applied if there is no {@code layoutOptions} member, wherever the two appear in the json object.
+     */
+    private static final class OptionValues {
+        private List<String[]> layoutOptions;
+        private List<String[]> legacyProperties;
+
+        boolean read(final JsonReader reader, final String name) throws IOException {
+            if ("layoutOptions".equals(name)) {
+                layoutOptions = readOptionValues(reader);
+                return true;
+            } else if ("properties".equals(name)) {
+                legacyProperties = readOptionValues(reader);
+                return true;
+            }
+            return false;
+        }
+
+        void apply(final IPropertyHolder holder) {
+            List<String[]> options = layoutOptions != null ? layoutOptions : legacyProperties;
+            if (options != null) {
+                for (String[] option : options) {
+                    setOption(holder, option[0], option[1]);
+                }
+            }
+        }
+    }
+
+    private static List<String[]> readOptionValues(final JsonReader reader) throws IOException {
+        List<String[]> options = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            String value = readString(reader);
+            if (value != null) {
+                options.add(new String[] { key, value });
+            }
+        }
+        reader.endObject();
+        return options;
+    }
+
+    private static void setOption(final IPropertyHolder holder, final String id, final String value) {
+        LayoutOptionData optionData = LayoutMetaDataService.getInstance().getOptionDataBySuffix(id);
+        if (optionData != null) {
+            Object parsed = optionData.parseValue(value);
+            if (parsed != null) {
+                holder.setProperty(optionData, parsed);
+            }
+        }
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Values
+     */
+
+    /**
+     * Callback reading a single element of a json array.
+     */
+    @FunctionalInterface
+    private interface ElementReader {
+        void read() throws IOException;
+    }
+
+    /**
+     * Calls the given element reader for every element of the array the reader is positioned at, skipping
+     * {@code null} elements.
+     */
+    private static void readArray(final JsonReader reader, final ElementReader elementReader) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else {
+                elementReader.read();
+            }
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Reads an id and passes its textual representation to the given identifier setter.
+     */
+    private static Object readId(final JsonReader reader, final Consumer<String> identifierSetter)
+            throws IOException {
+
+        JsonToken token = reader.peek();
+        String identifier = token == JsonToken.STRING || token == JsonToken.NUMBER ? reader.nextString() : null;
+        Object id = toId(token, identifier);
+        identifierSetter.accept(identifier);
+        return id;
+    }
+
+    private static Object readId(final JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        return toId(token, token == JsonToken.STRING || token == JsonToken.NUMBER ? reader.nextString() : null);
+    }
+
+    /**
+     * Converts the textual representation of an id into a string or an integer, depending on its token type.
+     */
+    private static Object toId(final JsonToken token, final String value) {
+        if (token == JsonToken.STRING) {
+            return value;
+        } else if (token == JsonToken.NUMBER) {
+            double number = Double.parseDouble(value);
+            if (number % 1 == 0) {
+                return (int) number;
+            }
+        }
+        throw formatError("Id must be a string or an integer: '" + (value != null ? value : token) + "'.");
+    }
+
+    private static List<Object> readIds(final JsonReader reader) throws IOException {
+        List<Object> ids = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            ids.add(readId(reader));
+        }
+        reader.endArray();
+        return ids;
+    }
+
+    /**
+     * Reads a primitive value as a string, or returns {@code null} if the value is {@code null}.
+     */
+    private static String readString(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+        case STRING:
+        case NUMBER:
+            return reader.nextString();
+        case BOOLEAN:
+            return Boolean.toString(reader.nextBoolean());
+        case NULL:
+            reader.nextNull();
+            return null;
+        default:
+            throw formatError("Expected a primitive value at " + reader.getPath() + ".");
+        }
+    }
+
+    private static double readDouble(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextDouble();
+    }
+
+    private static double validDouble(final double d) {
+        return Double.isInfinite(d) || Double.isNaN(d) ? 0.0 : d;
+    }
+
+    private static double[] readPoint(final JsonReader reader) throws IOException {
+        double[] point = new double[2];
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("x".equals(name)) {
+                point[0] = readDouble(reader);
+            } else if ("y".equals(name)) {
+                point[1] = readDouble(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return point;
+    }
+
+    private static List<double[]> readPoints(final JsonReader reader) throws IOException {
+        List<double[]> points = new ArrayList<>();
+        readArray(reader, () -> points.add(readPoint(reader)));
+        return points;
+    }
+
+    private static void checkId(final boolean hasId) {
+        if (!hasId) {
+            throw formatError("Every element must have an id.");
+        }
+    }
+
+    private static JsonImportException formatError(final String msg) {
+        return new JsonImportException(msg);
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Pending references
+     */
+
+    /**
+     * An edge whose sources and targets are only known by their ids.
+     */
+    private static final class PendingEdge {
+        private final ElkEdge edge;
+        private final List<PendingSection> sections = new ArrayList<>();
+        private Object id;
+        // extended format
+        private List<Object> sources;
+        private List<Object> targets;
+        // primitive format
+        private Object source;
+        private Object sourcePort;
+        private Object target;
+        private Object targetPort;
+        private boolean hasPrimitiveLayout;
+        private double[] sourcePoint;
+        private double[] targetPoint;
+        private List<double[]> bendPoints;
+
+        PendingEdge(final ElkEdge edge) {
+            this.edge = edge;
+        }
+
+        boolean isPrimitive() {
+            return sources == null && targets == null;
+        }
+    }
+
+    /**
+     * An edge section whose incoming and outgoing shapes and sections are only known by their ids.
+     */
+    private static final class PendingSection {
+        private final ElkEdgeSection section;
+        private Object id;
+        private Object incomingShape;
+        private Object outgoingShape;
+        private List<Object> incomingSections;
+        private List<Object> outgoingSections;
+
+        PendingSection(final ElkEdgeSection section) {
+            this.section = section;
+        }
+    }
+
+}
@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.properties;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An implementation of {@link IPropertyHolder} that stores the values of frequently used properties in arrays. Such
+ * properties are registered up front through {@link #registerIndexedProperties(IProperty...)}, which assigns each of
+ * them a dense integer slot. Values of registered properties are then looked up by their slot instead of being
+ * hashed, and numeric values set through {@link #setIntProperty(IProperty, int)} or
+ * {@link #setDoubleProperty(IProperty, double)} are stored without boxing. Values of all other properties are kept in
+ * the map inherited from {@link MapPropertyHolder}.
+ *
+ * <p>Apart from performance, the only difference to {@link MapPropertyHolder} is that {@link #getAllProperties()}
+ * returns a copy of the property values instead of a live view.</p>
+ */
+public class IndexedPropertyHolder extends MapPropertyHolder {
+
+    /** the serial version UID. */
+    private static final long serialVersionUID = -2371502845717245317L;
+
+    /** type of slots that do not hold a primitive value. */
+    private static final byte NO_NUMBER = 0;
+    /** type of slots that hold a primitive integer value. */
+    private static final byte INT_NUMBER = 1;
+    /** type of slots that hold a primitive double value. */
+    private static final byte DOUBLE_NUMBER = 2;
+
+    /** values of registered properties indexed by slot, or {@code null}. */
+    private Object[] values;
+    /** primitive values of registered properties indexed by slot, or {@code null}. */
+    private double[] numbers;
+    /** which slots hold primitive values and of which type, or {@code null}. */
+    private byte[] numberTypes;
+
+    /**
+     * Registers the given properties with a slot each, which makes {@link IndexedPropertyHolder}s store their values
+     * in arrays. Properties should be registered before the first value is set for them, usually in a static
+     * initializer of the class whose instances use them the most.
+     *
+     * @param properties
+     *            the properties to register. Properties that are already registered are ignored.
+     */
+    public static void registerIndexedProperties(final IProperty<?>... properties) {
+        for (IProperty<?> property : properties) {
+            PropertySlots.register(property);
+        }
+    }
+
+    @Override
+    public <T> IndexedPropertyHolder setProperty(final IProperty<? super T> property, final T value) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            super.setProperty(property, value);
+        } else {
+            setSlotValue(slot, value);
+        }
+
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getProperty(final IProperty<T> property) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            return super.getProperty(property);
+        }
+
+        Object value = getSlotValue(slot, property);
+        if (value instanceof IPropertyValueProxy) {
+            value = ((IPropertyValueProxy) value).resolveValue(property);
+            if (value != null) {
+                setSlotValue(slot, value);
+                return (T) value;
+            }
+        } else if (value != null) {
+            return (T) value;
+        }
+
+        // Just as MapPropertyHolder does, remember cloneable default values since callers may modify them
+        T defaultValue = property.getDefault();
+        if (defaultValue instanceof Cloneable) {
+            setSlotValue(slot, defaultValue);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean hasProperty(final IProperty<?> property) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot >= 0 && hasSlotValue(slot)) {
+            return true;
+        }
+        return super.hasProperty(property);
+    }
+
+    /**
+     * Returns the value of an integer property without boxing it if it was set through
+     * {@link #setIntProperty(IProperty, int)}.
+     *
+     * @param property
+     *            the property to get.
+     * @return the current value, or the default value if the property is not set.
+     * @throws NullPointerException
+     *             if the property is neither set nor has a default value.
+     */
+    public int getIntProperty(final IProperty<Integer> property) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot >= 0 && numberType(slot) != NO_NUMBER) {
+            return (int) numbers[slot];
+        }
+        return getProperty(property);
+    }
+
+    /**
+     * Sets the value of an integer property. If the property is registered with a slot, the value is stored without
+     * boxing it.
+     *
+     * @param property
+     *            the property to set.
+     * @param value
+     *            the new value.
+     * @return {@code this} for convenience.
+     */
+    public IndexedPropertyHolder setIntProperty(final IProperty<Integer> property, final int value) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            return setProperty(property, value);
+        }
+        setSlotNumber(slot, value, INT_NUMBER);
+        return this;
+    }
+
+    /**
+     * Returns the value of a double property without boxing it if it was set through
+     * {@link #setDoubleProperty(IProperty, double)}.
+     *
+     * @param property
+     *            the property to get.
+     * @return the current value, or the default value if the property is not set.
+     * @throws NullPointerException
+     *             if the property is neither set nor has a default value.
+     */
+    public double getDoubleProperty(final IProperty<Double> property) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot >= 0 && numberType(slot) != NO_NUMBER) {
+            return numbers[slot];
+        }
+        return getProperty(property);
+    }
+
+    /**
+     * Sets the value of a double property. If the property is registered with a slot, the value is stored without
+     * boxing it.
+     *
+     * @param property
+     *            the property to set.
+     * @param value
+     *            the new value.
+     * @return {@code this} for convenience.
+     */
+    public IndexedPropertyHolder setDoubleProperty(final IProperty<Double> property, final double value) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            return setProperty(property, value);
+        }
+        setSlotNumber(slot, value, DOUBLE_NUMBER);
+        return this;
+    }
+
+    @Override
+    public IndexedPropertyHolder copyProperties(final IPropertyHolder other) {
+        if (other == null) {
+            return this;
+        }
+
+        if (other instanceof IndexedPropertyHolder) {
+            IndexedPropertyHolder indexedOther = (IndexedPropertyHolder) other;
+            int slotCount = indexedOther.values == null ? 0 : indexedOther.values.length;
+            for (int slot = 0; slot < slotCount; slot++) {
+                byte type = indexedOther.numberType(slot);
+                if (type != NO_NUMBER) {
+                    setSlotNumber(slot, indexedOther.numbers[slot], type);
+                } else if (indexedOther.values[slot] != null) {
+                    setSlotValue(slot, indexedOther.values[slot]);
+                }
+            }
+            for (Map.Entry<IProperty<?>, Object> entry : indexedOther.mapProperties().entrySet()) {
+                setRawProperty(entry.getKey(), entry.getValue());
+            }
+        } else {
+            for (Map.Entry<IProperty<?>, Object> entry : other.getAllProperties().entrySet()) {
+                setRawProperty(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns a copy of all assigned properties with associated values. Changes to the returned map are not written
+     * back to this property holder.
+     */
+    @Override
+    public Map<IProperty<?>, Object> getAllProperties() {
+        // Values set before their property was registered are overridden by more recent slot values
+        Map<IProperty<?>, Object> allProperties = new LinkedHashMap<>(super.getAllProperties());
+        int slotCount = values == null ? 0 : values.length;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (hasSlotValue(slot)) {
+                allProperties.put(PropertySlots.property(slot), slotValue(slot));
+            }
+        }
+        return allProperties;
+    }
+
+    // /////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Slot Management
+
+    @SuppressWarnings("unchecked")
+    private void setRawProperty(final IProperty<?> property, final Object value) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            super.setProperty((IProperty<Object>) property, value);
+        } else {
+            setSlotValue(slot, value);
+        }
+    }
+
+    /**
+     * Returns the values of properties without a slot, which are kept in the inherited map.
+     */
+    private Map<IProperty<?>, Object> mapProperties() {
+        return super.getAllProperties();
+    }
+
+    private Object getSlotValue(final int slot, final IProperty<?> property) {
+        if (hasSlotValue(slot)) {
+            return slotValue(slot);
+        }
+
+        // The value may have been set before the property was registered
+        Map<IProperty<?>, Object> propertyMap = mapProperties();
+        if (propertyMap.containsKey(property)) {
+            Object value = propertyMap.remove(property);
+            setSlotValue(slot, value);
+            return value;
+        }
+        return null;
+    }
+
+    private boolean hasSlotValue(final int slot) {
+        return values != null && slot < values.length && (values[slot] != null || numberType(slot) != NO_NUMBER);
+    }
+
+    private Object slotValue(final int slot) {
+        switch (numberType(slot)) {
+        case INT_NUMBER:
+            return Integer.valueOf((int) numbers[slot]);
+        case DOUBLE_NUMBER:
+            return Double.valueOf(numbers[slot]);
+        default:
+            return values[slot];
+        }
+    }
+
+    private void setSlotValue(final int slot, final Object value) {
+        if (value == null) {
+            if (values != null && slot < values.length) {
+                values[slot] = null;
+                clearNumber(slot);
+            }
+        } else {
+            ensureCapacity(slot);
+            values[slot] = value;
+            clearNumber(slot);
+        }
+    }
+
+    private void setSlotNumber(final int slot, final double value, final byte type) {
+        ensureCapacity(slot);
+        if (numbers == null) {
+            numbers = new double[values.length];
+            numberTypes = new byte[values.length];
+        }
+        values[slot] = null;
+        numbers[slot] = value;
+        numberTypes[slot] = type;
+    }
+
+    private byte numberType(final int slot) {
+        return numberTypes != null && slot < numberTypes.length ? numberTypes[slot] : NO_NUMBER;
+    }
+
+    private void clearNumber(final int slot) {
+        if (numberTypes != null && slot < numberTypes.length) {
+            numberTypes[slot] = NO_NUMBER;
+        }
+    }
+
+    private void ensureCapacity(final int slot) {
+        if (values == null || slot >= values.length) {
+            // Make room for all properties registered so far, since they will usually be set as well
+            int capacity = Math.max(slot + 1, PropertySlots.count());
+            values = values == null ? new Object[capacity] : Arrays.copyOf(values, capacity);
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, capacity);
+                numberTypes = Arrays.copyOf(numberTypes, capacity);
+            }
+        }
+    }
+
+}
@@ -30,6 +30,11 @@ public class Property<T> implements IProperty<T>, Comparable<IProperty<?>> {
     private Comparable<? super T> lowerBound = NEGATIVE_INFINITY;
     /** the upper bound of this property. */
     private Comparable<? super T> upperBound = POSITIVE_INFINITY;
+    /**
+     * the slot of this property in {@link IndexedPropertyHolder}s if non-negative. A negative value {@code -(g + 1)}
+     * records that the property was not registered with a slot as of the slot registry's generation {@code g}.
+     */
+    private int slot = Integer.MIN_VALUE;
     
     /**
      * Creates a property with given identifier and {@code null} as default value.
@@ -153,6 +158,28 @@ public class Property<T> implements IProperty<T>, Comparable<IProperty<?>> {
         return upperBound;
     }
 
+    /**
+     * Returns the slot of this property in {@link IndexedPropertyHolder}s. The slot is cached and only looked up
+     * again when properties have been registered since.
+     * 
+     * @return the slot, or {@code -1} if the property is not registered with a slot.
+     */
+    int slot() {
+        int cached = slot;
+        if (cached >= 0) {
+            return cached;
+        }
+        
+        // The generation must be read before looking up the slot so that we never cache outdated information
+        int generation = PropertySlots.generation();
+        if (cached == -generation - 1) {
+            return -1;
+        }
+        int resolved = PropertySlots.lookup(id);
+        slot = resolved >= 0 ? resolved : -generation - 1;
+        return resolved;
+    }
+
     @Override
     public int compareTo(final IProperty<?> other) {
         return id.compareTo((String) other.getId());
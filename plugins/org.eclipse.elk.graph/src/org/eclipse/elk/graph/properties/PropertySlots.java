@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.properties;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the dense integer slots used by {@link IndexedPropertyHolder}s. Properties are identified by their
+ * identifiers, so properties with the same identifier share a slot. Slots are never unregistered.
+ *
+ * <p>Registration is synchronized and replaces the registry's data structures instead of modifying them, which lets
+ * lookups proceed without locking.</p>
+ */
+final class PropertySlots {
+
+    /** maps property identifiers to their slots. */
+    private static volatile Map<String, Integer> slots = Collections.emptyMap();
+    /** the first property registered for each slot. */
+    private static volatile IProperty<?>[] properties = new IProperty<?>[0];
+    /** incremented whenever a slot is registered; lets {@link Property} instances invalidate cached lookups. */
+    private static volatile int generation = 0;
+
+    /**
+     * Prevent instantiation.
+     */
+    private PropertySlots() {
+    }
+
+    /**
+     * Registers a slot for the given property unless one is already registered for its identifier.
+     *
+     * @param property the property.
+     * @return the property's slot.
+     */
+    static synchronized int register(final IProperty<?> property) {
+        Integer slot = slots.get(property.getId());
+        if (slot != null) {
+            return slot;
+        }
+
+        int newSlot = properties.length;
+        Map<String, Integer> newSlots = new HashMap<>(slots);
+        newSlots.put(property.getId(), newSlot);
+        IProperty<?>[] newProperties = Arrays.copyOf(properties, newSlot + 1);
+        newProperties[newSlot] = property;
+
+        // The generation must be changed last, see Property#slot()
+        properties = newProperties;
+        slots = newSlots;
+        generation++;
+
+        return newSlot;
+    }
+
+    /**
+     * Returns the slot of the given property.
+     *
+     * @param property the property.
+     * @return the slot, or {@code -1} if the property is not registered with a slot.
+     */
+    static int slotOf(final IProperty<?> property) {
+        if (property instanceof Property<?>) {
+            return ((Property<?>) property).slot();
+        } else {
+            return lookup(property.getId());
+        }
+    }
+
+    /**
+     * Looks up the slot registered for the given property identifier.
+     *
+     * @param id the property identifier.
+     * @return the slot, or {@code -1} if there is none.
+     */
+    static int lookup(final String id) {
+        Integer slot = slots.get(id);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the current generation of the registry, which changes whenever a slot is registered.
+     *
+     * @return the generation.
+     */
+    static int generation() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of registered slots.
+     *
+     * @return the number of slots.
+     */
+    static int count() {
+        return properties.length;
+    }
+
+    /**
+     * Returns the first property registered for the given slot.
+     *
+     * @param slot a registered slot.
+     * @return the property.
+     */
+    static IProperty<?> property(final int slot) {
+        return properties[slot];
+    }
+
+}
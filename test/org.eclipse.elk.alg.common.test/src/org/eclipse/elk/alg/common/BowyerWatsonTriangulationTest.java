@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.core.math.KVector;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Tests the {@link BowyerWatsonTriangulation}.
+ */
+public class BowyerWatsonTriangulationTest {
+
+    /**
+     * The Delaunay triangulation of points in general position is unique, so it must not depend on the order of the
+     * points, and every point must be part of it.
+     */
+    @Test
+    public void testIndependentOfOrder() {
+        Random random = new Random(0);
+        for (int n : new int[] { 3, 10, 100, 1000 }) {
+            List<KVector> points = randomPoints(random, n);
+            Set<TEdge> tEdges = BowyerWatsonTriangulation.triangulate(points);
+
+            Set<KVector> connected = Sets.newHashSet();
+            tEdges.forEach(e -> {
+                connected.add(e.u);
+                connected.add(e.v);
+            });
+            assertEquals(n, connected.size());
+
+            Collections.shuffle(points, random);
+            assertEquals(tEdges, BowyerWatsonTriangulation.triangulate(points));
+        }
+    }
+
+    /**
+     * The Euclidean minimum spanning tree is part of the Delaunay triangulation, so the spanning tree found among the
+     * triangulation's edges must be as short as one found among all pairs of points. This also holds for grids, where
+     * there are many ways of triangulating the points.
+     */
+    @Test
+    public void testContainsMinimumSpanningTree() {
+        Random random = new Random(0);
+        for (int i = 0; i < 10; i++) {
+            List<KVector> points = i % 2 == 0 ? randomPoints(random, 200) : gridPoints(random, 200);
+            Set<TEdge> tEdges = BowyerWatsonTriangulation.triangulate(points);
+            Tree<KVector> tree = PrimMinST.createSpanningTree(tEdges, points.get(0), e -> e.u.distance(e.v));
+
+            assertEquals(points.size(), size(tree));
+            assertEquals(minimumSpanningTreeLength(points), length(tree), 1e-6);
+        }
+    }
+
+    private static List<KVector> randomPoints(final Random random, final int n) {
+        List<KVector> points = Lists.newArrayList();
+        for (int i = 0; i < n; i++) {
+            points.add(new KVector(random.nextDouble() * 1000, random.nextDouble() * 1000));
+        }
+        return points;
+    }
+
+    private static List<KVector> gridPoints(final Random random, final int n) {
+        List<KVector> points = Lists.newArrayList();
+        for (int i = 0; i < n; i++) {
+            points.add(new KVector(i % 20 * 40, i / 20 * 25));
+        }
+        // the triangulation of a grid depends on the order of the points
+        Collections.shuffle(points, random);
+        return points;
+    }
+
+    /**
+     * Prim's algorithm on the complete graph of the points.
+     */
+    private static double minimumSpanningTreeLength(final List<KVector> points) {
+        int n = points.size();
+        double[] distance = new double[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        distance[0] = 0;
+        double length = 0;
+        for (int i = 0; i < n; i++) {
+            int next = -1;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v] && (next == -1 || distance[v] < distance[next])) {
+                    next = v;
+                }
+            }
+            inTree[next] = true;
+            length += distance[next];
+            for (int v = 0; v < n; v++) {
+                distance[v] = Math.min(distance[v], points.get(next).distance(points.get(v)));
+            }
+        }
+        return length;
+    }
+
+    private static int size(final Tree<KVector> tree) {
+        int size = 1;
+        for (Tree<KVector> child : tree.children) {
+            size += size(child);
+        }
+        return size;
+    }
+
+    private static double length(final Tree<KVector> tree) {
+        double length = 0;
+        for (Tree<KVector> child : tree.children) {
+            length += tree.node.distance(child.node) + length(child);
+        }
+        return length;
+    }
+
+}
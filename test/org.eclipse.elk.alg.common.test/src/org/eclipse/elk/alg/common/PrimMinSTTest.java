@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.core.math.KVector;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the {@link PrimMinST}.
+ */
+public class PrimMinSTTest {
+
+    /**
+     * The spanning tree must be the same as the one of {@link NaiveMinST}, including the order of the children, even
+     * if many edges cost the same.
+     */
+    @Test
+    public void testSameTreeAsNaiveMinST() {
+        Random random = new Random(0);
+        for (int i = 0; i < 20; i++) {
+            List<KVector> points = Lists.newArrayList();
+            for (int j = 0; j < 100; j++) {
+                points.add(new KVector(random.nextInt(1000), random.nextInt(1000)));
+            }
+            Set<TEdge> tEdges = BowyerWatsonTriangulation.triangulate(points);
+            // rounded costs lead to ties
+            ICostFunction cost = e -> Math.round(e.u.distance(e.v) / 50);
+
+            Tree<KVector> expected = NaiveMinST.createSpanningTree(tEdges, points.get(0), cost);
+            Tree<KVector> actual = PrimMinST.createSpanningTree(tEdges, points.get(0), cost);
+            assertSameTree(expected, actual);
+        }
+    }
+
+    /**
+     * A root that is not part of any edge remains alone.
+     */
+    @Test
+    public void testIsolatedRoot() {
+        Set<TEdge> tEdges = BowyerWatsonTriangulation.triangulate(
+                Lists.newArrayList(new KVector(0, 0), new KVector(10, 0), new KVector(0, 10)));
+        Tree<KVector> tree = PrimMinST.createSpanningTree(tEdges, new KVector(5, 5), e -> e.u.distance(e.v));
+        assertEquals(0, tree.children.size());
+    }
+
+    private static void assertSameTree(final Tree<KVector> expected, final Tree<KVector> actual) {
+        assertEquals(expected.node, actual.node);
+        assertEquals(expected.children.size(), actual.children.size());
+        for (int i = 0; i < expected.children.size(); i++) {
+            assertSameTree(expected.children.get(i), actual.children.get(i));
+        }
+    }
+
+}
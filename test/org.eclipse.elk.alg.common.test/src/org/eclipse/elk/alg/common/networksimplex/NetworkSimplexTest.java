@@ -45,6 +45,90 @@ public class NetworkSimplexTest {
         }
     }
     
+    @Test
+    public void testWarmStartWithoutChanges() {
+        NGraph graph = generateRandomGraph();
+        NetworkSimplex networkSimplex = NetworkSimplex.forGraph(graph);
+        networkSimplex.execute(new BasicProgressMonitor());
+        double cost = cost(graph);
+        
+        // the layering is optimal already
+        networkSimplex.withWarmStart(true).execute(new BasicProgressMonitor());
+        Assert.assertEquals(0, networkSimplex.getIterations());
+        Assert.assertEquals(cost, cost(graph), 1e-6);
+    }
+    
+    @Test
+    public void testWarmStartAfterChanges() {
+        NGraph cold = generateRandomGraph();
+        random = new Random(1);
+        NGraph warm = generateRandomGraph();
+        
+        NetworkSimplex.forGraph(cold).execute(new BasicProgressMonitor());
+        NetworkSimplex warmNetworkSimplex = NetworkSimplex.forGraph(warm);
+        warmNetworkSimplex.execute(new BasicProgressMonitor());
+        
+        // alter both graphs in the same way
+        random = new Random(2);
+        alterGraph(cold);
+        random = new Random(2);
+        alterGraph(warm);
+        
+        NetworkSimplex.forGraph(cold).execute(new BasicProgressMonitor());
+        warmNetworkSimplex.withWarmStart(true).execute(new BasicProgressMonitor());
+        
+        assertValidDeltas(warm);
+        Assert.assertEquals(cost(cold), cost(warm), 1e-6);
+    }
+    
+    private void assertValidDeltas(final NGraph graph) {
+        for (NNode node : graph.nodes) {
+            for (NEdge e : node.getOutgoingEdges()) {
+                Assert.assertTrue("Valid delta", e.getTarget().layer - e.getSource().layer >= e.delta);
+            }
+        }
+    }
+    
+    private double cost(final NGraph graph) {
+        double cost = 0;
+        for (NNode node : graph.nodes) {
+            for (NEdge e : node.getOutgoingEdges()) {
+                cost += e.weight * (e.getTarget().layer - e.getSource().layer);
+            }
+        }
+        return cost;
+    }
+    
+    /**
+     * Changes some edge weights and adds a few edges. The network simplex may have reordered the graph's nodes, so
+     * they are looked up by id.
+     */
+    private void alterGraph(final NGraph graph) {
+        NNode[] nodes = new NNode[graph.nodes.size()];
+        for (NNode node : graph.nodes) {
+            nodes[node.id] = node;
+        }
+        
+        for (NNode node : nodes) {
+            for (NEdge e : node.getOutgoingEdges()) {
+                if (random.nextInt(10) == 0) {
+                    e.weight = random.nextDouble() * 50;
+                }
+            }
+        }
+        
+        for (int i = 0; i < nodes.length / 20; ++i) {
+            int src = random.nextInt(nodes.length - 1);
+            int tgt = src + 1 + random.nextInt(nodes.length - src - 1);
+            NEdge.of()
+                .delta(random.nextInt(50))
+                .weight(random.nextDouble() * 50)
+                .source(nodes[src])
+                .target(nodes[tgt])
+                .create();
+        }
+    }
+    
     private NGraph generateRandomGraph() {
         NGraph graph = new NGraph();
 
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.disco.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.common.compaction.options.PolyominoOptions;
+import org.eclipse.elk.alg.common.compaction.options.TraversalStrategy;
+import org.eclipse.elk.alg.common.polyomino.PolyominoCompactor;
+import org.eclipse.elk.alg.common.polyomino.structures.Direction;
+import org.eclipse.elk.alg.common.polyomino.structures.PlanarGrid;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyominoes;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the intersection tests of {@link PlanarGrid}, which work on whole words of cells, against cell by cell
+ * reference implementations, and checks that packing polyominoes doesn't depend on the number of threads.
+ */
+public class PlanarGridTest {
+
+    /**
+     * Tests intersections of random grids at all offsets, including those where the other grid sticks out.
+     */
+    @Test
+    public void testIntersectsWithCenterBased() {
+        Random random = new Random(0);
+        for (int run = 0; run < 50; run++) {
+            PlanarGrid grid = randomGrid(random, 1 + random.nextInt(80), 1 + random.nextInt(20));
+            PlanarGrid other = randomGrid(random, 1 + random.nextInt(70), 1 + random.nextInt(10));
+
+            for (int xOffset = -grid.getWidth() - 3; xOffset <= grid.getWidth() + 3; xOffset++) {
+                for (int yOffset = -grid.getHeight() - 3; yOffset <= grid.getHeight() + 3; yOffset++) {
+                    assertEquals(intersectsCellByCell(grid, other, xOffset, yOffset),
+                            grid.intersectsWithCenterBased(other, xOffset, yOffset));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests areas inside the grid and touching its sides, also after blocked cells have been cleared.
+     */
+    @Test
+    public void testWeaklyIntersectsArea() {
+        Random random = new Random(1);
+        for (int run = 0; run < 50; run++) {
+            PlanarGrid grid = randomGrid(random, 1 + random.nextInt(80), 1 + random.nextInt(20));
+            if (run % 2 == 1) {
+                for (int i = 0; i < grid.getWidth() * grid.getHeight() / 2; i++) {
+                    grid.setEmpty(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+                }
+            }
+
+            for (int x1 = 0; x1 < grid.getWidth(); x1++) {
+                for (int x2 = x1; x2 < grid.getWidth(); x2++) {
+                    int y1 = random.nextInt(grid.getHeight());
+                    int y2 = y1 + random.nextInt(grid.getHeight() - y1);
+                    assertEquals(blockedCellByCell(grid, x1, y1, x2, y2), grid.weaklyIntersectsArea(x1, y1, x2, y2));
+                    assertEquals(blockedCellByCell(grid, x1, 0, x2, y2), grid.weaklyIntersectsArea(x1, 0, x2, y2));
+                    assertEquals(blockedCellByCell(grid, x1, y1, x2, grid.getHeight() - 1),
+                            grid.weaklyIntersectsArea(x1, y1, x2, grid.getHeight() - 1));
+                    assertEquals(blockedCellByCell(grid, 0, y1, x2, y2), grid.weaklyIntersectsArea(0, y1, x2, y2));
+                    assertEquals(blockedCellByCell(grid, x1, y1, grid.getWidth() - 1, y2),
+                            grid.weaklyIntersectsArea(x1, y1, grid.getWidth() - 1, y2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs random polyominoes with and without testing candidate positions concurrently.
+     */
+    @Test
+    public void testPackingIndependentOfThreads() {
+        for (TraversalStrategy strategy : TraversalStrategy.values()) {
+            List<Polyomino> sequential = pack(strategy, 1);
+            List<Polyomino> concurrent = pack(strategy, 4);
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).getX(), concurrent.get(i).getX());
+                assertEquals(sequential.get(i).getY(), concurrent.get(i).getY());
+            }
+        }
+    }
+
+    private List<Polyomino> pack(final TraversalStrategy strategy, final int threads) {
+        Random random = new Random(2);
+        List<Polyomino> polys = Lists.newArrayList();
+        for (int i = 0; i < 60; i++) {
+            int width = 1 + random.nextInt(12);
+            int height = 1 + random.nextInt(12);
+            Polyomino poly = new Polyomino(width, height);
+            fill(random, poly);
+            if (random.nextInt(4) == 0) {
+                Direction dir = Direction.values()[random.nextInt(Direction.values().length)];
+                int length = dir.isHorizontal() ? height : width;
+                int offset = random.nextInt(length);
+                poly.addExtension(dir, offset, offset + random.nextInt(length - offset));
+            }
+            polys.add(poly);
+        }
+
+        Polyominoes<Polyomino> polyHolder = new Polyominoes<Polyomino>(Lists.newArrayList(polys), 1.0);
+        polyHolder.setProperty(PolyominoOptions.POLYOMINO_TRAVERSAL_STRATEGY, strategy);
+        polyHolder.setProperty(PolyominoOptions.POLYOMINO_THREADS, threads);
+        new PolyominoCompactor().packPolyominoes(polyHolder);
+        return polys;
+    }
+
+    private PlanarGrid randomGrid(final Random random, final int width, final int height) {
+        PlanarGrid grid = new PlanarGrid(width, height);
+        fill(random, grid);
+        return grid;
+    }
+
+    private void fill(final Random random, final PlanarGrid grid) {
+        double blocked = random.nextDouble() / 4;
+        double weaklyBlocked = random.nextDouble() / 4;
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                double value = random.nextDouble();
+                if (value < blocked) {
+                    grid.setBlocked(x, y);
+                } else if (value < blocked + weaklyBlocked) {
+                    grid.setWeaklyBlocked(x, y);
+                }
+            }
+        }
+    }
+
+    private boolean intersectsCellByCell(final PlanarGrid grid, final PlanarGrid other, final int xOffset,
+            final int yOffset) {
+        for (int x = 0; x < other.getWidth(); x++) {
+            int xTranslated = x - other.getCenterX() + xOffset;
+            for (int y = 0; y < other.getHeight(); y++) {
+                int yTranslated = y - other.getCenterY() + yOffset;
+                if (grid.inBoundsCenterBased(xTranslated, yTranslated)
+                        && (!other.isEmpty(x, y) && grid.isBlockedCenterBased(xTranslated, yTranslated)
+                                || other.isBlocked(x, y) && !grid.isEmptyCenterBased(xTranslated, yTranslated))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean blockedCellByCell(final PlanarGrid grid, final int x1, final int y1, final int x2, final int y2) {
+        for (int x = x1; x <= x2; x++) {
+            for (int y = y1; y <= y2; y++) {
+                if (grid.isBlocked(x, y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
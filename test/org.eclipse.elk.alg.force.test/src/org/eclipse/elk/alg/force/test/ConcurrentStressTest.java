@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressLayoutProvider;
+import org.eclipse.elk.alg.force.stress.StressMajorization.PositionUpdate;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests concurrent execution of the full stress model.
+ */
+public class ConcurrentStressTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Gauss-Seidel updates with concurrently computed shortest paths must not depend on the number of threads.
+     */
+    @Test
+    public void testGaussSeidelIndependentOfThreadCount() {
+        ElkNode twoThreads = createGraph(300);
+        ElkNode fourThreads = EcoreUtil.copy(twoThreads);
+
+        layout(twoThreads, 2);
+        layout(fourThreads, 4);
+
+        assertSameLayout(twoThreads, fourThreads);
+    }
+
+    /**
+     * Jacobi updates must not depend on the number of threads either, and must still produce a sensible layout.
+     */
+    @Test
+    public void testJacobiIndependentOfThreadCount() {
+        ElkNode twoThreads = createGraph(300);
+        twoThreads.setProperty(StressOptions.POSITION_UPDATE, PositionUpdate.JACOBI);
+        ElkNode fiveThreads = EcoreUtil.copy(twoThreads);
+
+        layout(twoThreads, 2);
+        layout(fiveThreads, 5);
+
+        assertSameLayout(twoThreads, fiveThreads);
+        for (ElkNode node : twoThreads.getChildren()) {
+            assertTrue(Double.isFinite(node.getX()) && Double.isFinite(node.getY()));
+        }
+    }
+
+    private static void layout(final ElkNode graph, final int threads) {
+        graph.setProperty(StressOptions.CONCURRENCY_THREADS, threads);
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+    }
+
+    /**
+     * Creates a connected graph with the given number of nodes, laid out interactively from random positions.
+     */
+    private static ElkNode createGraph(final int nodeCount) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(StressOptions.INTERACTIVE, true);
+        graph.setProperty(StressOptions.ITERATION_LIMIT, 30);
+        Random random = new Random(0);
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            node.setLocation(random.nextDouble() * 1000, random.nextDouble() * 1000);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+            if (i > 1) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+        }
+        return graph;
+    }
+
+    private static void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertEquals(expected.getChildren().get(i).getX(), actual.getChildren().get(i).getX(), 0);
+            assertEquals(expected.getChildren().get(i).getY(), actual.getChildren().get(i).getY(), 0);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.ForceLayoutProvider;
+import org.eclipse.elk.alg.force.options.ForceModelStrategy;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.alg.force.options.RepulsionApproximation;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the Barnes-Hut approximation of repulsive forces.
+ */
+public class RepulsionApproximationTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * With a theta of zero, no particles are grouped, so the approximation must yield the exact forces.
+     */
+    @Test
+    public void testZeroThetaIsExact() {
+        for (ForceModelStrategy model : ForceModelStrategy.values()) {
+            ElkNode exact = createGraph(30, 2);
+            exact.setProperty(ForceOptions.MODEL, model);
+            exact.setProperty(ForceOptions.ITERATIONS, 1);
+            exact.setProperty(ForceOptions.TEMPERATURE, 1.0);
+            ElkNode approximated = EcoreUtil.copy(exact);
+            approximated.setProperty(ForceOptions.REPULSION_APPROXIMATION, RepulsionApproximation.BARNES_HUT);
+            approximated.setProperty(ForceOptions.BARNES_HUT_THETA, 0.0);
+
+            new ForceLayoutProvider().layout(exact, new BasicProgressMonitor());
+            new ForceLayoutProvider().layout(approximated, new BasicProgressMonitor());
+
+            for (int i = 0; i < exact.getChildren().size(); i++) {
+                ElkNode exactNode = exact.getChildren().get(i);
+                ElkNode approximatedNode = approximated.getChildren().get(i);
+                assertEquals(exactNode.getX(), approximatedNode.getX(), 1e-6);
+                assertEquals(exactNode.getY(), approximatedNode.getY(), 1e-6);
+            }
+        }
+    }
+
+    /**
+     * The approximation must produce a valid layout for larger graphs.
+     */
+    @Test
+    public void testLargeGraph() {
+        for (ForceModelStrategy model : ForceModelStrategy.values()) {
+            ElkNode graph = createGraph(1000, 3);
+            graph.setProperty(ForceOptions.MODEL, model);
+            graph.setProperty(ForceOptions.ITERATIONS, 50);
+            graph.setProperty(ForceOptions.REPULSION_APPROXIMATION, RepulsionApproximation.BARNES_HUT);
+
+            new ForceLayoutProvider().layout(graph, new BasicProgressMonitor());
+
+            for (ElkNode node : graph.getChildren()) {
+                assertTrue(Double.isFinite(node.getX()) && Double.isFinite(node.getY()));
+            }
+            assertTrue(Double.isFinite(graph.getWidth()) && Double.isFinite(graph.getHeight()));
+        }
+    }
+
+    /**
+     * Creates a connected graph with the given number of nodes, each of which is connected to up to the given
+     * number of previously created nodes.
+     */
+    private ElkNode createGraph(final int nodeCount, final int edgesPerNode) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        Random random = new Random(0);
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            for (int j = 0; i > 0 && j < edgesPerNode; j++) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.options.StressModelStrategy;
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressLayoutProvider;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the sparse stress model.
+ */
+public class SparseStressTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * If every node is a pivot, the sparse stress model of a tree is the full stress model.
+     */
+    @Test
+    public void testAllPivotsIsFullStress() {
+        ElkNode full = createTree(40);
+        full.setProperty(StressOptions.INTERACTIVE, true);
+        Random random = new Random(0);
+        for (ElkNode node : full.getChildren()) {
+            node.setLocation(random.nextDouble() * 500, random.nextDouble() * 500);
+        }
+        ElkNode sparse = EcoreUtil.copy(full);
+        sparse.setProperty(StressOptions.MODEL, StressModelStrategy.SPARSE);
+        sparse.setProperty(StressOptions.PIVOTS, 40);
+
+        new StressLayoutProvider().layout(full, new BasicProgressMonitor());
+        new StressLayoutProvider().layout(sparse, new BasicProgressMonitor());
+
+        for (int i = 0; i < full.getChildren().size(); i++) {
+            assertEquals(full.getChildren().get(i).getX(), sparse.getChildren().get(i).getX(), 1e-6);
+            assertEquals(full.getChildren().get(i).getY(), sparse.getChildren().get(i).getY(), 1e-6);
+        }
+    }
+
+    /**
+     * The sparse model must lay out larger graphs such that edges roughly have their desired length.
+     */
+    @Test
+    public void testLargeGraph() {
+        ElkNode graph = createTree(3000);
+        Random random = new Random(0);
+        for (int i = 0; i < 300; i++) {
+            ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(3000)),
+                    graph.getChildren().get(random.nextInt(3000)));
+        }
+        graph.setProperty(StressOptions.MODEL, StressModelStrategy.SPARSE);
+        graph.setProperty(StressOptions.PIVOTS, 30);
+        graph.setProperty(StressOptions.ITERATION_LIMIT, 50);
+
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+
+        double[] lengths = graph.getContainedEdges().stream().mapToDouble(SparseStressTest::centerDistance).toArray();
+        Arrays.sort(lengths);
+        double median = lengths[lengths.length / 2];
+        double desired = StressOptions.DESIRED_EDGE_LENGTH.getDefault();
+        assertTrue("median edge length " + median, median > desired / 2 && median < desired * 2);
+    }
+
+    /**
+     * Creates a random tree with the given number of nodes.
+     */
+    private static ElkNode createTree(final int nodeCount) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(StressOptions.OMIT_NODE_MICRO_LAYOUT, true);
+        Random random = new Random(0);
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+        }
+        return graph;
+    }
+
+    private static double centerDistance(final ElkEdge edge) {
+        ElkNode source = ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0));
+        ElkNode target = ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0));
+        double dx = source.getX() + source.getWidth() / 2 - target.getX() - target.getWidth() / 2;
+        double dy = source.getY() + source.getHeight() / 2 - target.getY() - target.getHeight() / 2;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Helps testing that the parts of ELK Layered that may run concurrently yield the same layout regardless of the
+ * number of threads they run on.
+ */
+public final class ConcurrentLayoutTestUtil {
+
+    private ConcurrentLayoutTestUtil() {
+    }
+
+    /**
+     * Lays out the given graph with ELK Layered on the given number of threads.
+     *
+     * @param graph
+     *            the graph to lay out.
+     * @param threads
+     *            the number of threads.
+     */
+    public static void layout(final ElkNode graph, final int threads) {
+        graph.setProperty(LayeredOptions.CONCURRENCY_THREADS, threads);
+        new LayeredLayoutProvider().layout(graph, new BasicProgressMonitor());
+    }
+
+    /**
+     * Lays out copies of the given graph on each of the given numbers of threads and checks that all of them are laid
+     * out the same. The given graph is laid out on the first number of threads.
+     *
+     * @param graph
+     *            the graph to lay out.
+     * @param threads
+     *            the numbers of threads to lay out the graph on.
+     */
+    public static void assertSameLayoutOnThreads(final ElkNode graph, final int... threads) {
+        ElkNode[] copies = new ElkNode[threads.length];
+        for (int i = 1; i < threads.length; i++) {
+            copies[i] = EcoreUtil.copy(graph);
+        }
+        layout(graph, threads[0]);
+        for (int i = 1; i < threads.length; i++) {
+            layout(copies[i], threads[i]);
+            assertSameLayout(graph, copies[i]);
+        }
+    }
+
+    /**
+     * Checks that two copies of a graph are laid out the same, that is, that their nodes and bend points are at the
+     * same positions and that the graphs have the same size.
+     *
+     * @param expected
+     *            the graph with the expected layout.
+     * @param actual
+     *            the copy of the graph to check.
+     */
+    public static void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        Iterator<EObject> expectedIt = expected.eAllContents();
+        Iterator<EObject> actualIt = actual.eAllContents();
+        while (expectedIt.hasNext()) {
+            EObject expectedObject = expectedIt.next();
+            EObject actualObject = actualIt.next();
+            if (expectedObject instanceof ElkNode) {
+                assertEquals(((ElkNode) expectedObject).getX(), ((ElkNode) actualObject).getX(), 0);
+                assertEquals(((ElkNode) expectedObject).getY(), ((ElkNode) actualObject).getY(), 0);
+            } else if (expectedObject instanceof ElkEdgeSection) {
+                assertEquals(((ElkEdgeSection) expectedObject).getBendPoints().size(),
+                        ((ElkEdgeSection) actualObject).getBendPoints().size());
+            } else if (expectedObject instanceof ElkBendPoint) {
+                assertEquals(((ElkBendPoint) expectedObject).getX(), ((ElkBendPoint) actualObject).getX(), 0);
+                assertEquals(((ElkBendPoint) expectedObject).getY(), ((ElkBendPoint) actualObject).getY(), 0);
+            }
+        }
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+    }
+
+    /**
+     * Creates a connected graph whose nodes are arranged in layers, with two edges from or to each node in the
+     * previous layer, one of them at random. The nodes are 20 wide and between 20 and 40 high.
+     *
+     * @param layers
+     *            the number of layers.
+     * @param nodesPerLayer
+     *            the number of nodes per layer.
+     * @param random
+     *            the random number generator that chooses the edges.
+     * @return the graph.
+     */
+    public static ElkNode createRandomLayeredGraph(final int layers, final int nodesPerLayer, final Random random) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        ElkNode[][] nodes = new ElkNode[layers][nodesPerLayer];
+        for (int l = 0; l < layers; l++) {
+            for (int n = 0; n < nodesPerLayer; n++) {
+                nodes[l][n] = ElkGraphUtil.createNode(graph);
+                nodes[l][n].setDimensions(20, 20 + 10 * (n % 3));
+            }
+            for (int n = 0; l > 0 && n < nodesPerLayer; n++) {
+                ElkGraphUtil.createSimpleEdge(nodes[l - 1][random.nextInt(nodesPerLayer)], nodes[l][n]);
+                ElkGraphUtil.createSimpleEdge(nodes[l - 1][n], nodes[l][random.nextInt(nodesPerLayer)]);
+            }
+        }
+        return graph;
+    }
+
+}
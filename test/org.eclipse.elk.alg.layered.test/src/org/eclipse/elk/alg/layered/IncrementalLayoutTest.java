@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests laying out graphs incrementally, based on their previous layout.
+ */
+public class IncrementalLayoutTest {
+
+    /** number of layers of the test graph. */
+    private static final int LAYERS = 8;
+    /** number of nodes per layer of the test graph. */
+    private static final int LAYER_SIZE = 6;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /** the cache shared by all layout runs of a test. */
+    private IncrementalLayoutCache cache;
+
+    @Before
+    public void createCache() {
+        cache = new IncrementalLayoutCache();
+    }
+
+    /**
+     * Adding a node must not change the layers and relative order of the nodes that were already there.
+     */
+    @Test
+    public void testAddedNodeKeepsPreviousLayout() {
+        ElkNode graph = createGraph();
+        layout(graph);
+
+        ElkNode edited = EcoreUtil.copy(graph);
+        ElkNode added = ElkGraphUtil.createNode(edited);
+        added.setIdentifier("added");
+        added.setDimensions(20, 20);
+        ElkGraphUtil.createSimpleEdge(edited.getChildren().get(LAYER_SIZE + 2), added);
+        ElkGraphUtil.createSimpleEdge(added, edited.getChildren().get(LAYER_SIZE * 5));
+        layout(edited);
+
+        assertSameLayers(graph, edited);
+        assertSameOrder(graph, edited);
+        assertValidLayering(edited);
+    }
+
+    /**
+     * Removing and reconnecting nodes must keep the remaining nodes in their layers as far as possible.
+     */
+    @Test
+    public void testRemovedNodeAndNewEdge() {
+        ElkNode graph = createGraph();
+        layout(graph);
+
+        ElkNode edited = EcoreUtil.copy(graph);
+        ElkNode removed = edited.getChildren().get(LAYER_SIZE * 3 + 1);
+        for (ElkEdge edge : Lists.newArrayList(ElkGraphUtil.allIncidentEdges(removed))) {
+            EcoreUtil.delete(edge, true);
+        }
+        EcoreUtil.delete(removed, true);
+        ElkGraphUtil.createSimpleEdge(edited.getChildren().get(0), edited.getChildren().get(LAYER_SIZE * 2));
+        layout(edited);
+
+        assertSameOrder(graph, edited);
+        assertValidLayering(edited);
+    }
+
+    /**
+     * Graphs that changed too much are laid out from scratch, which must yield the same result as a layout without
+     * a previous one.
+     */
+    @Test
+    public void testLargeEditIsLaidOutFromScratch() {
+        ElkNode graph = createGraph();
+        layout(graph);
+
+        ElkNode edited = EcoreUtil.copy(graph);
+        for (ElkNode child : edited.getChildren().subList(0, LAYER_SIZE * 2)) {
+            child.setIdentifier(child.getIdentifier() + "'");
+        }
+        ElkNode reference = EcoreUtil.copy(edited);
+        layout(edited);
+        cache.clear();
+        layout(reference);
+
+        assertSamePositions(reference, edited);
+    }
+
+    /**
+     * Graphs without identifier can't be told apart and are thus always laid out from scratch.
+     */
+    @Test
+    public void testGraphWithoutIdentifierIsLaidOutFromScratch() {
+        ElkNode graph = createGraph();
+        graph.setIdentifier(null);
+        layout(graph);
+
+        ElkNode edited = EcoreUtil.copy(graph);
+        ElkNode added = ElkGraphUtil.createNode(edited);
+        added.setIdentifier("added");
+        added.setDimensions(20, 20);
+        ElkGraphUtil.createSimpleEdge(edited.getChildren().get(LAYER_SIZE + 2), added);
+        ElkNode reference = EcoreUtil.copy(edited);
+        layout(edited);
+        cache.clear();
+        layout(reference);
+
+        assertSamePositions(reference, edited);
+    }
+
+    private static ElkNode createGraph() {
+        Random random = new Random(LAYERS);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setIdentifier("incremental");
+        graph.setProperty(LayeredOptions.INCREMENTAL_ENABLED, true);
+
+        List<ElkNode> previousLayer = new ArrayList<>();
+        for (int layer = 0; layer < LAYERS; layer++) {
+            List<ElkNode> currentLayer = new ArrayList<>();
+            for (int i = 0; i < LAYER_SIZE; i++) {
+                ElkNode node = ElkGraphUtil.createNode(graph);
+                node.setIdentifier("n" + layer + "_" + i);
+                node.setDimensions(20 + random.nextInt(20), 20 + random.nextInt(20));
+                if (!previousLayer.isEmpty()) {
+                    ElkGraphUtil.createSimpleEdge(previousLayer.get(random.nextInt(LAYER_SIZE)), node);
+                    ElkGraphUtil.createSimpleEdge(previousLayer.get(random.nextInt(LAYER_SIZE)), node);
+                }
+                currentLayer.add(node);
+            }
+            previousLayer = currentLayer;
+        }
+        return graph;
+    }
+
+    private void layout(final ElkNode graph) {
+        LayeredLayoutProvider provider = new LayeredLayoutProvider();
+        provider.setIncrementalLayoutCache(cache);
+        provider.layout(graph, new BasicProgressMonitor());
+    }
+
+    private static void assertSamePositions(final ElkNode expected, final ElkNode actual) {
+        for (int i = 0; i < actual.getChildren().size(); i++) {
+            assertEquals(expected.getChildren().get(i).getX(), actual.getChildren().get(i).getX(), 0);
+            assertEquals(expected.getChildren().get(i).getY(), actual.getChildren().get(i).getY(), 0);
+        }
+    }
+
+    private static void assertSameLayers(final ElkNode expected, final ElkNode actual) {
+        Map<String, Integer> layers = new HashMap<>();
+        for (ElkNode node : expected.getChildren()) {
+            layers.put(node.getIdentifier(), node.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+        }
+        for (ElkNode node : actual.getChildren()) {
+            if (layers.containsKey(node.getIdentifier())) {
+                assertEquals(layers.get(node.getIdentifier()), node.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+            }
+        }
+    }
+
+    /**
+     * Nodes that share a layer in both layouts must appear in the same order.
+     */
+    private static void assertSameOrder(final ElkNode expected, final ElkNode actual) {
+        Map<String, ElkNode> previous = new HashMap<>();
+        for (ElkNode node : expected.getChildren()) {
+            previous.put(node.getIdentifier(), node);
+        }
+        for (ElkNode n1 : actual.getChildren()) {
+            for (ElkNode n2 : actual.getChildren()) {
+                ElkNode p1 = previous.get(n1.getIdentifier());
+                ElkNode p2 = previous.get(n2.getIdentifier());
+                if (p1 != null && p2 != null && sameLayer(n1, n2) && sameLayer(p1, p2)) {
+                    assertEquals(Integer.signum(position(p1) - position(p2)),
+                            Integer.signum(position(n1) - position(n2)));
+                }
+            }
+        }
+    }
+
+    private static void assertValidLayering(final ElkNode graph) {
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            int sourceLayer = ElkGraphUtil.getSourceNode(edge).getProperty(LayeredOptions.LAYERING_LAYER_ID);
+            int targetLayer = ElkGraphUtil.getTargetNode(edge).getProperty(LayeredOptions.LAYERING_LAYER_ID);
+            assertTrue(sourceLayer >= 0 && targetLayer >= 0 && sourceLayer != targetLayer);
+        }
+    }
+
+    private static boolean sameLayer(final ElkNode n1, final ElkNode n2) {
+        return n1.getProperty(LayeredOptions.LAYERING_LAYER_ID) == n2.getProperty(LayeredOptions.LAYERING_LAYER_ID)
+                .intValue();
+    }
+
+    private static int position(final ElkNode node) {
+        return node.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID);
+    }
+
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.intermediate.LongEdgeSplitter;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.NodePlacementStrategy;
+import org.eclipse.elk.alg.layered.p2layers.NetworkSimplexLayerer;
+import org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.options.HierarchyHandling;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the metrics ELK Layered reports to {@link ILayeredMetricsListener}s.
+ */
+public class LayeredMetricsTest {
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Every processor must report its metrics, and the processors that count things must report their counters.
+     */
+    @Test
+    public void testProcessorMetrics() {
+        ElkNode graph = createGraph(ElkGraphUtil.createGraph());
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY, NodePlacementStrategy.NETWORK_SIMPLEX);
+        List<ProcessorMetrics> metrics = layout(graph);
+
+        assertFalse(metrics.isEmpty());
+        for (ProcessorMetrics processorMetrics : metrics) {
+            assertTrue(processorMetrics.getWallTime() >= 0);
+            assertTrue(processorMetrics.getCpuTime() >= -1);
+            assertTrue(processorMetrics.getAllocatedBytes() >= -1);
+        }
+
+        assertEquals(3, find(metrics, LongEdgeSplitter.class).getCounter(LayeredMetrics.DUMMY_NODES));
+        assertTrue(find(metrics, NetworkSimplexLayerer.class).getCounters()
+                .containsKey(LayeredMetrics.NETWORK_SIMPLEX_ITERATIONS));
+
+        ProcessorMetrics crossingMinimization = find(metrics, LayerSweepCrossingMinimizer.class);
+        assertTrue(crossingMinimization.getCounters().containsKey(LayeredMetrics.CROSSINGS_BEFORE));
+        assertTrue(crossingMinimization.getCounter(LayeredMetrics.CROSSINGS_AFTER)
+                <= crossingMinimization.getCounter(LayeredMetrics.CROSSINGS_BEFORE));
+    }
+
+    /**
+     * Nested graphs laid out along with their parents must report to the listener of the root graph.
+     */
+    @Test
+    public void testHierarchicalLayout() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.HIERARCHY_HANDLING, HierarchyHandling.INCLUDE_CHILDREN);
+        ElkNode compound = createGraph(ElkGraphUtil.createNode(graph));
+        ElkGraphUtil.createSimpleEdge(compound, ElkGraphUtil.createNode(graph));
+        List<ProcessorMetrics> metrics = layout(graph);
+
+        // The long edges in the compound node must be split in the nested graph
+        assertEquals(3, metrics.stream()
+                .filter(m -> m.getProcessor() instanceof LongEdgeSplitter)
+                .mapToLong(m -> m.getCounter(LayeredMetrics.DUMMY_NODES))
+                .sum());
+    }
+
+    /**
+     * Counting crossings for the metrics must leave the identifiers of nodes and ports as crossing minimization left
+     * them, since they may still be relied upon.
+     */
+    @Test
+    public void testCountingCrossingsKeepsIdentifiers() {
+        ElkNode graph = createRandomGraph();
+        assertEquals(identifiersAfterCrossingMinimization(EcoreUtil.copy(graph), false),
+                identifiersAfterCrossingMinimization(graph, true));
+    }
+
+    /**
+     * Creates a chain of four nodes in the given parent, along with edges that each skip one or two nodes.
+     */
+    private static ElkNode createGraph(final ElkNode parent) {
+        ElkNode[] nodes = new ElkNode[4];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = ElkGraphUtil.createNode(parent);
+            nodes[i].setDimensions(20, 20);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(nodes[i - 1], nodes[i]);
+            }
+        }
+        ElkGraphUtil.createSimpleEdge(nodes[0], nodes[2]);
+        ElkGraphUtil.createSimpleEdge(nodes[0], nodes[3]);
+        return parent;
+    }
+
+    private static ElkNode createRandomGraph() {
+        Random random = new Random(13);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        ElkNode[] nodes = new ElkNode[30];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = ElkGraphUtil.createNode(graph);
+            nodes[i].setDimensions(20, 20);
+        }
+        for (int i = 0; i < 2 * nodes.length; i++) {
+            int source = random.nextInt(nodes.length - 1);
+            int target = source + 1 + random.nextInt(nodes.length - source - 1);
+            ElkGraphUtil.createSimpleEdge(nodes[source], nodes[target]);
+        }
+        return graph;
+    }
+
+    /**
+     * Runs the layout up to and including crossing minimization and returns the identifiers of all nodes and ports in
+     * their final order.
+     */
+    private static List<Integer> identifiersAfterCrossingMinimization(final ElkNode graph, final boolean recording) {
+        LayeredLayoutProvider provider = new LayeredLayoutProvider();
+        ElkLayered.TestExecutionState state = provider.startLayoutTest(graph);
+        provider.getLayoutAlgorithm().runLayoutTestUntil(LayerSweepCrossingMinimizer.class, false, state);
+        LGraph lgraph = state.getGraphs().get(0);
+        ILayoutProcessor<LGraph> crossingMinimizer =
+                provider.getLayoutAlgorithm().getLayoutTestConfiguration(state).get(state.getStep());
+        if (recording) {
+            lgraph.setProperty(LayeredMetrics.LISTENER, (LGraph g, ProcessorMetrics m) -> { });
+            LayeredMetrics.processorStarted(lgraph, crossingMinimizer);
+        }
+        provider.getLayoutAlgorithm().runLayoutTestStep(state);
+
+        List<Integer> identifiers = new ArrayList<>();
+        for (Layer layer : lgraph) {
+            for (LNode node : layer) {
+                identifiers.add(node.id);
+                for (LPort port : node.getPorts()) {
+                    identifiers.add(port.id);
+                }
+            }
+        }
+        return identifiers;
+    }
+
+    private static List<ProcessorMetrics> layout(final ElkNode graph) {
+        List<ProcessorMetrics> metrics = new CopyOnWriteArrayList<>();
+        graph.setProperty(LayeredMetrics.LISTENER, (LGraph lgraph, ProcessorMetrics m) -> metrics.add(m));
+        new RecursiveGraphLayoutEngine().layout(graph, new BasicProgressMonitor());
+        return metrics;
+    }
+
+    private static ProcessorMetrics find(final List<ProcessorMetrics> metrics, final Class<?> processorClass) {
+        return metrics.stream()
+                .filter(m -> processorClass.isInstance(m.getProcessor()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No metrics for " + processorClass.getSimpleName()));
+    }
+
+}
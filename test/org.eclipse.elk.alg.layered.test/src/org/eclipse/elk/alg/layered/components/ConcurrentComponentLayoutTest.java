@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.components;
+
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.assertSameLayoutOnThreads;
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.layout;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests laying out connected components concurrently.
+ */
+public class ConcurrentComponentLayoutTest {
+
+    /** number of components in the test graph. */
+    private static final int COMPONENTS = 40;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * The concurrent layout must not depend on the number of threads or on how components are scheduled.
+     */
+    @Test
+    public void testConcurrentLayoutIsDeterministic() {
+        assertSameLayoutOnThreads(createGraph(), 2, 4, 4);
+    }
+
+    /**
+     * Components laid out concurrently must still be placed next to each other.
+     */
+    @Test
+    public void testComponentsDoNotOverlap() {
+        ElkNode graph = createGraph();
+        layout(graph, 4);
+
+        for (ElkNode n1 : graph.getChildren()) {
+            for (ElkNode n2 : graph.getChildren()) {
+                if (n1 != n2) {
+                    boolean overlap = n1.getX() < n2.getX() + n2.getWidth() && n2.getX() < n1.getX() + n1.getWidth()
+                            && n1.getY() < n2.getY() + n2.getHeight() && n2.getY() < n1.getY() + n1.getHeight();
+                    assertFalse(overlap);
+                }
+            }
+        }
+        assertTrue(graph.getWidth() > 0 && graph.getHeight() > 0);
+    }
+
+    /**
+     * Creates a graph with many components, each of which has a few crossings to be minimized.
+     */
+    private static ElkNode createGraph() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+
+        for (int c = 0; c < COMPONENTS; c++) {
+            ElkNode[] sources = new ElkNode[3];
+            ElkNode[] targets = new ElkNode[3];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = createNode(graph);
+                targets[i] = createNode(graph);
+            }
+            for (int i = 0; i < sources.length; i++) {
+                ElkGraphUtil.createSimpleEdge(sources[i], targets[sources.length - 1 - i]);
+                ElkGraphUtil.createSimpleEdge(sources[i], targets[(i + c) % targets.length]);
+            }
+        }
+
+        return graph;
+    }
+
+    private static ElkNode createNode(final ElkNode graph) {
+        ElkNode node = ElkGraphUtil.createNode(graph);
+        node.setDimensions(20, 20);
+        return node;
+    }
+
+}
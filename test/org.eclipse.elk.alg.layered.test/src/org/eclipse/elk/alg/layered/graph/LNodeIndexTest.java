@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.graph;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that {@link LNode#getIndex()} always reflects the node's position in its layer, no matter how the layer's
+ * list of nodes is modified.
+ */
+public class LNodeIndexTest {
+
+    private LGraph graph;
+    private Layer layer;
+
+    @Before
+    public void setUp() {
+        graph = new LGraph();
+        layer = new Layer(graph);
+        graph.getLayers().add(layer);
+        for (int i = 0; i < 10; i++) {
+            new LNode(graph).setLayer(layer);
+        }
+    }
+
+    @Test
+    public void testSetLayer() {
+        assertIndicesCorrect();
+
+        LNode node = new LNode(graph);
+        node.setLayer(3, layer);
+        assertIndicesCorrect();
+
+        Layer otherLayer = new Layer(graph);
+        graph.getLayers().add(otherLayer);
+        layer.getNodes().get(0).setLayer(otherLayer);
+        assertIndicesCorrect();
+        assertEquals(0, otherLayer.getNodes().get(0).getIndex());
+
+        node.setLayer(null);
+        assertEquals(-1, node.getIndex());
+        assertIndicesCorrect();
+    }
+
+    @Test
+    public void testDirectListModifications() {
+        List<LNode> nodes = layer.getNodes();
+        assertIndicesCorrect();
+
+        Collections.reverse(nodes);
+        assertIndicesCorrect();
+
+        Collections.swap(nodes, 2, 7);
+        assertIndicesCorrect();
+
+        nodes.remove(4);
+        assertIndicesCorrect();
+
+        ListIterator<LNode> iterator = nodes.listIterator();
+        LNode first = iterator.next();
+        LNode second = iterator.next();
+        iterator.set(first);
+        nodes.set(0, second);
+        assertIndicesCorrect();
+
+        nodes.subList(1, 4).clear();
+        assertIndicesCorrect();
+    }
+
+    @Test
+    public void testNodeNotInList() {
+        LNode node = layer.getNodes().get(5);
+        assertEquals(5, node.getIndex());
+
+        layer.getNodes().clear();
+        assertEquals(-1, node.getIndex());
+    }
+
+    private void assertIndicesCorrect() {
+        for (Layer l : graph.getLayers()) {
+            List<LNode> nodes = l.getNodes();
+            // Query in reverse order to make sure that out-of-date indices are noticed from any position
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                assertEquals(i, nodes.get(i).getIndex());
+            }
+        }
+    }
+
+}
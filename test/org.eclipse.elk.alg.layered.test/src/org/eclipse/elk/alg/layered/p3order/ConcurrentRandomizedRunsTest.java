@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p3order;
+
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.assertSameLayoutOnThreads;
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.createRandomLayeredGraph;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.OrderingStrategy;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.graph.ElkNode;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests executing the randomized runs of the layer sweep crossing minimization concurrently.
+ */
+public class ConcurrentRandomizedRunsTest {
+
+    /** number of layers of the test graph. */
+    private static final int LAYERS = 5;
+    /** number of nodes per layer of the test graph. */
+    private static final int NODES_PER_LAYER = 8;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * The result must not depend on the number of threads the runs are executed on.
+     */
+    @Test
+    public void testResultIndependentOfThreadCount() {
+        assertSameLayoutOnThreads(createGraph(), 2, 3, 8);
+    }
+
+    /**
+     * Runs that try to keep the model order must be deterministic as well.
+     */
+    @Test
+    public void testModelOrderResultIndependentOfThreadCount() {
+        ElkNode graph = createGraph();
+        graph.setProperty(LayeredOptions.CONSIDER_MODEL_ORDER_STRATEGY, OrderingStrategy.NODES_AND_EDGES);
+        graph.setProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE, 0.1);
+        assertSameLayoutOnThreads(graph, 2, 4);
+    }
+
+    /**
+     * Creates a connected graph with plenty of crossings and a fixed layering.
+     */
+    private static ElkNode createGraph() {
+        ElkNode graph = createRandomLayeredGraph(LAYERS, NODES_PER_LAYER, new Random(0));
+        graph.setProperty(LayeredOptions.THOROUGHNESS, 12);
+        graph.setProperty(LayeredOptions.RANDOM_SEED, 42);
+        return graph;
+    }
+
+}
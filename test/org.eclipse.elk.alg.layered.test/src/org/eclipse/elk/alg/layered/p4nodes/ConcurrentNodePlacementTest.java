@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p4nodes;
+
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.assertSameLayoutOnThreads;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.options.FixedAlignment;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.NodePlacementStrategy;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.EdgeRouting;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests computing the four layouts of Brandes &amp; Koepf node placement concurrently.
+ */
+public class ConcurrentNodePlacementTest {
+
+    /** number of layers of the test graph. */
+    private static final int LAYERS = 10;
+    /** number of nodes per layer of the test graph. */
+    private static final int NODES_PER_LAYER = 8;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * The balanced layout merged from the four concurrently computed layouts must equal the sequential one.
+     */
+    @Test
+    public void testBalancedSameAsSequential() {
+        assertSameLayoutOnThreads(createGraph(FixedAlignment.BALANCED), 1, 4);
+    }
+
+    /**
+     * Picking the smallest of the four concurrently computed layouts must yield the sequential result.
+     */
+    @Test
+    public void testSmallestSameAsSequential() {
+        ElkNode graph = createGraph(FixedAlignment.NONE);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_FAVOR_STRAIGHT_EDGES, true);
+        assertSameLayoutOnThreads(graph, 1, 4);
+    }
+
+    /**
+     * A single fixed alignment is not computed concurrently, but must not be affected by the number of threads.
+     */
+    @Test
+    public void testFixedAlignmentSameAsSequential() {
+        assertSameLayoutOnThreads(createGraph(FixedAlignment.RIGHTUP), 1, 4);
+    }
+
+    /**
+     * Creates a graph with many layers, nodes of different heights, and random edges between adjacent layers.
+     * Edges are routed as polylines and crossing minimization is kept sequential, so node placement is the only
+     * phase that is computed concurrently.
+     */
+    private static ElkNode createGraph(final FixedAlignment alignment) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY, NodePlacementStrategy.BRANDES_KOEPF);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_FIXED_ALIGNMENT, alignment);
+        graph.setProperty(LayeredOptions.EDGE_ROUTING, EdgeRouting.POLYLINE);
+        graph.setProperty(LayeredOptions.THOROUGHNESS, 1);
+
+        Random random = new Random(0);
+        ElkNode[][] nodes = new ElkNode[LAYERS][NODES_PER_LAYER];
+        for (int l = 0; l < LAYERS; l++) {
+            for (int n = 0; n < NODES_PER_LAYER; n++) {
+                nodes[l][n] = ElkGraphUtil.createNode(graph);
+                nodes[l][n].setDimensions(20, 10 + 10 * random.nextInt(4));
+            }
+        }
+        for (int l = 1; l < LAYERS; l++) {
+            for (int n = 0; n < NODES_PER_LAYER; n++) {
+                ElkGraphUtil.createSimpleEdge(nodes[l - 1][random.nextInt(NODES_PER_LAYER)], nodes[l][n]);
+                if (random.nextBoolean()) {
+                    // Long edges produce dummy nodes and thus type 1 conflicts
+                    ElkGraphUtil.createSimpleEdge(nodes[l - 1][n],
+                            nodes[Math.min(LAYERS - 1, l + 1 + random.nextInt(3))][random.nextInt(NODES_PER_LAYER)]);
+                }
+            }
+        }
+
+        return graph;
+    }
+
+}
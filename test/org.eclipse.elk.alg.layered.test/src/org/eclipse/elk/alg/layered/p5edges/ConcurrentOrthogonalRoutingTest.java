@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p5edges;
+
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.assertSameLayoutOnThreads;
+import static org.eclipse.elk.alg.layered.ConcurrentLayoutTestUtil.createRandomLayeredGraph;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.EdgeRouting;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests assigning the routing slots of orthogonal edge routing concurrently.
+ */
+public class ConcurrentOrthogonalRoutingTest {
+
+    /** number of layers of the test graph. */
+    private static final int LAYERS = 12;
+    /** number of nodes per layer of the test graph. */
+    private static final int NODES_PER_LAYER = 6;
+    /** number of layers of the random test graph. */
+    private static final int RANDOM_LAYERS = 8;
+    /** number of nodes per layer of the random test graph. */
+    private static final int RANDOM_NODES_PER_LAYER = 4;
+    /** seed of the random test graph, which has a cycle of dependencies between hyperedge segments. */
+    private static final long RANDOM_GRAPH_SEED = 9;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Cycles of dependencies between hyperedge segments are broken randomly in the order of the layer gaps, so the
+     * result must be the same as that of sequential routing, whatever the number of threads.
+     */
+    @Test
+    public void testResultIndependentOfThreadCount() {
+        ElkNode graph = createGraph(true);
+        assertSameLayoutOnThreads(graph, 1, 2, 8);
+        assertHasBendPoints(graph);
+    }
+
+    /**
+     * Without random edges, the result must be the same as that of sequential routing as well.
+     */
+    @Test
+    public void testSameResultAsSequential() {
+        ElkNode graph = createGraph(false);
+        assertSameLayoutOnThreads(graph, 1, 4);
+        assertHasBendPoints(graph);
+    }
+
+    /**
+     * Creates a connected graph. With random edges, there are plenty of crossings between layers; otherwise, the graph
+     * has many layers and each node is connected to two nodes of the next layer.
+     */
+    private static ElkNode createGraph(final boolean randomEdges) {
+        ElkNode graph;
+        if (randomEdges) {
+            graph = createRandomLayeredGraph(RANDOM_LAYERS, RANDOM_NODES_PER_LAYER, new Random(RANDOM_GRAPH_SEED));
+        } else {
+            graph = ElkGraphUtil.createGraph();
+            ElkNode[][] nodes = new ElkNode[LAYERS][NODES_PER_LAYER];
+            for (int l = 0; l < LAYERS; l++) {
+                for (int n = 0; n < NODES_PER_LAYER; n++) {
+                    nodes[l][n] = ElkGraphUtil.createNode(graph);
+                    nodes[l][n].setDimensions(20, 20 + 10 * (n % 3));
+                }
+                for (int n = 0; l > 0 && n < NODES_PER_LAYER; n++) {
+                    ElkGraphUtil.createSimpleEdge(nodes[l - 1][n], nodes[l][n]);
+                    ElkGraphUtil.createSimpleEdge(nodes[l - 1][n], nodes[l][(n + 1) % NODES_PER_LAYER]);
+                }
+            }
+        }
+        graph.setProperty(LayeredOptions.EDGE_ROUTING, EdgeRouting.ORTHOGONAL);
+        // Keep crossing minimization sequential
+        graph.setProperty(LayeredOptions.THOROUGHNESS, 1);
+        return graph;
+    }
+
+    /**
+     * Layouts without bend points would not tell anything about routing slots.
+     */
+    private static void assertHasBendPoints(final ElkNode graph) {
+        assertTrue(graph.getContainedEdges().stream()
+                .map(ElkEdge::getSections)
+                .anyMatch(sections -> !sections.isEmpty() && !sections.get(0).getBendPoints().isEmpty()));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p5edges.orthogonal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.direction.RoutingDirection;
+import org.junit.Test;
+
+/**
+ * Tests for the position counting and the dependency creation of the {@link OrthogonalRoutingGenerator}.
+ */
+public class OrthogonalRoutingGeneratorTest {
+
+    /**
+     * Crossings are positions within the critical area, including its bounds.
+     */
+    @Test
+    public void testCountCrossings() {
+        assertEquals(0, OrthogonalRoutingGenerator.countCrossings(Collections.emptyList(), 0, 10));
+        assertEquals(3, OrthogonalRoutingGenerator.countCrossings(Arrays.asList(0.0, 5.0, 10.0), 0, 10));
+        assertEquals(2, OrthogonalRoutingGenerator.countCrossings(Arrays.asList(-1.0, 2.0, 2.0, 11.0), 2, 10));
+        assertEquals(1, OrthogonalRoutingGenerator.countCrossings(Arrays.asList(1.0, 5.0, 9.0), 4.5, 5.5));
+        assertEquals(0, OrthogonalRoutingGenerator.countCrossings(Arrays.asList(1.0, 5.0, 9.0), 6, 8));
+        assertEquals(0, OrthogonalRoutingGenerator.countCrossings(Arrays.asList(1.0, 5.0, 9.0), 9.5, 20));
+        assertEquals(0, OrthogonalRoutingGenerator.countCrossings(Arrays.asList(1.0, 5.0, 9.0), 8, 2));
+    }
+
+    /**
+     * The sweep over the segments creates the same dependencies, in the same order, as comparing all pairs of segments
+     * in list order. Coordinates are drawn from a coarse grid, such that segments often start or end at the same
+     * coordinate and connections at equal coordinates lead to critical conflicts.
+     */
+    @Test
+    public void testCreateDependenciesSameAsPairwise() {
+        Random random = new Random(0);
+        for (int run = 0; run < 500; run++) {
+            int segmentCount = 1 + random.nextInt(30);
+            List<HyperEdgeSegment> sweepSegments = createRandomSegments(segmentCount, new Random(run));
+            List<HyperEdgeSegment> pairwiseSegments = createRandomSegments(segmentCount, new Random(run));
+            // an edge spacing of 10 makes the conflict threshold 5, which spans a few grid cells
+            OrthogonalRoutingGenerator generator =
+                    new OrthogonalRoutingGenerator(RoutingDirection.WEST_TO_EAST, 10, null);
+
+            // creating the dependencies with the sweep also sets the critical conflict threshold, which only depends
+            // on the coordinates and thus applies to both lists of segments
+            int sweepCriticalCount = generator.createDependencies(sweepSegments);
+            int pairwiseCriticalCount = 0;
+            for (int first = 0; first < segmentCount - 1; first++) {
+                for (int second = first + 1; second < segmentCount; second++) {
+                    pairwiseCriticalCount += generator.createDependencyIfNecessary(
+                            pairwiseSegments.get(first), pairwiseSegments.get(second));
+                }
+            }
+
+            assertEquals(pairwiseCriticalCount, sweepCriticalCount);
+            assertEquals(describeDependencies(pairwiseSegments), describeDependencies(sweepSegments));
+        }
+    }
+
+    /**
+     * Creates segments with up to three incoming and outgoing connections each, at coordinates between 0 and 40 on a
+     * grid of 2. Some segments are straight.
+     */
+    private static List<HyperEdgeSegment> createRandomSegments(final int count, final Random random) {
+        List<HyperEdgeSegment> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HyperEdgeSegment segment = new HyperEdgeSegment(null);
+            segment.mark = i;
+            if (random.nextInt(8) == 0) {
+                double coordinate = 2 * random.nextInt(21);
+                segment.getIncomingConnectionCoordinates().add(coordinate);
+                segment.getOutgoingConnectionCoordinates().add(coordinate);
+            } else {
+                segment.getIncomingConnectionCoordinates().addAll(randomCoordinates(random));
+                segment.getOutgoingConnectionCoordinates().addAll(randomCoordinates(random));
+            }
+            segment.recomputeExtent();
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    private static TreeSet<Double> randomCoordinates(final Random random) {
+        TreeSet<Double> coordinates = new TreeSet<>();
+        int count = 1 + random.nextInt(3);
+        while (coordinates.size() < count) {
+            coordinates.add(2.0 * random.nextInt(21));
+        }
+        return coordinates;
+    }
+
+    /**
+     * Describes the outgoing dependencies and the weights of each segment, referring to segments by their marks.
+     */
+    private static List<String> describeDependencies(final List<HyperEdgeSegment> segments) {
+        List<String> descriptions = new ArrayList<>();
+        for (HyperEdgeSegment segment : segments) {
+            StringBuilder description = new StringBuilder();
+            description.append(segment.getInWeight()).append('/').append(segment.getCriticalInWeight()).append(' ')
+                    .append(segment.getOutWeight()).append('/').append(segment.getCriticalOutWeight()).append(':');
+            for (HyperEdgeSegmentDependency dependency : segment.getOutgoingSegmentDependencies()) {
+                description.append(' ').append(dependency.getType()).append("->")
+                        .append(dependency.getTarget().mark).append('(')
+                        .append(dependency.getWeight()).append(')');
+            }
+            descriptions.add(description.toString());
+        }
+        return descriptions;
+    }
+
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 
+ *******************************************************************************/
+package org.eclipse.elk.alg.libavoid.test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A stand-in for the libavoid-server executable that speaks the same text protocol. Each edge of a request is routed
+ * as a horizontal line whose y-coordinate is the number of requests the process has received so far, which shows
+ * which request a response belongs to and whether requests went to the same process.
+ */
+public final class FakeLibavoidServer {
+
+    /** the mode in which requests are answered. */
+    public static final String ANSWER = "answer";
+    /** the mode in which the process terminates without answering the first request. */
+    public static final String CRASH = "crash";
+    /** the mode in which requests are read but never answered. */
+    public static final String HANG = "hang";
+
+    private FakeLibavoidServer() {
+    }
+
+    /**
+     * Returns the command that starts a fake server process.
+     * 
+     * @param mode
+     *            one of {@link #ANSWER}, {@link #CRASH}, and {@link #HANG}
+     * @return the command and its arguments
+     */
+    public static String[] command(final String mode) {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath;
+        try {
+            classPath = new File(FakeLibavoidServer.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .getPath();
+        } catch (URISyntaxException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return new String[] { java, "-cp", classPath, FakeLibavoidServer.class.getName(), mode };
+    }
+
+    /**
+     * Answers requests from the standard input until it is closed.
+     * 
+     * @param args
+     *            the mode
+     * @throws IOException
+     *             if reading the requests fails
+     */
+    public static void main(final String[] args) throws IOException {
+        String mode = args.length > 0 ? args[0] : ANSWER;
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        PrintStream out = System.out;
+        List<String> edges = new ArrayList<>();
+        int requests = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.startsWith("EDGE")) {
+                edges.add(line.split(" ")[1]);
+            } else if (line.equals("[CHUNK]")) {
+                requests++;
+                if (mode.equals(CRASH)) {
+                    System.exit(1);
+                } else if (mode.equals(ANSWER)) {
+                    out.println("LAYOUT");
+                    for (String edge : edges) {
+                        out.println("EDGE " + edge + "=0 " + requests + " 10 " + requests);
+                    }
+                    out.println("DONE");
+                    out.flush();
+                }
+                edges.clear();
+            }
+        }
+    }
+
+}
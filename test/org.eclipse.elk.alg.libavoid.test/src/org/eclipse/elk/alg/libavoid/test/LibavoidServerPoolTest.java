@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 
+ *******************************************************************************/
+package org.eclipse.elk.alg.libavoid.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.libavoid.LibavoidServerCommunicator;
+import org.eclipse.elk.alg.libavoid.server.LibavoidServer;
+import org.eclipse.elk.alg.libavoid.server.LibavoidServerException;
+import org.eclipse.elk.alg.libavoid.server.LibavoidServerPool;
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the {@link LibavoidServerPool} and the communication with pooled server processes against a
+ * {@link FakeLibavoidServer}.
+ */
+public class LibavoidServerPoolTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    private static final LibavoidServerPool POOL = LibavoidServerPool.INSTANCE;
+
+    /**
+     * Register the core layout options, whose defaults are read when layouts are applied.
+     */
+    @BeforeClass
+    public static void registerOptions() {
+        LayoutMetaDataService.getInstance();
+    }
+
+    /**
+     * Restore the bundled executable, which also stops the fake server processes.
+     */
+    @After
+    public void restoreServerCommand() {
+        POOL.setServerCommand((String[]) null);
+    }
+
+    /**
+     * A released server is handed out again and keeps its process, so its responses count all requests.
+     */
+    @Test
+    public void testReleasedServerIsReused() {
+        POOL.setServerCommand(FakeLibavoidServer.command(FakeLibavoidServer.ANSWER));
+
+        for (int request = 1; request <= 2; request++) {
+            LibavoidServer server = POOL.fetch();
+            try {
+                ElkNode graph = createGraph();
+                new LibavoidServerCommunicator().requestLayout(graph, new BasicProgressMonitor(), server);
+                assertRoutedByRequest(graph, request);
+            } finally {
+                POOL.release(server);
+            }
+        }
+    }
+
+    /**
+     * A server whose process terminates is not handed out again.
+     */
+    @Test
+    public void testFailedServerIsDiscarded() {
+        POOL.setServerCommand(FakeLibavoidServer.command(FakeLibavoidServer.CRASH));
+
+        LibavoidServer server = POOL.fetch();
+        try {
+            new LibavoidServerCommunicator().requestLayout(createGraph(), new BasicProgressMonitor(), server);
+            fail("The layout request must fail.");
+        } catch (LibavoidServerException exception) {
+            // expected
+        } finally {
+            POOL.release(server);
+        }
+        assertFalse(server.isHealthy());
+        assertNextServer(server, false);
+    }
+
+    /**
+     * A server started by a replaced command is not handed out again, even if it was in use while the command was
+     * replaced.
+     */
+    @Test
+    public void testServerOfReplacedCommandIsDiscarded() {
+        POOL.setServerCommand(FakeLibavoidServer.command(FakeLibavoidServer.ANSWER));
+
+        LibavoidServer server = POOL.fetch();
+        server.initialize();
+        POOL.setServerCommand(FakeLibavoidServer.command(FakeLibavoidServer.ANSWER));
+        assertTrue(server.isHealthy());
+        POOL.release(server);
+        assertNextServer(server, false);
+    }
+
+    /**
+     * Pipelined requests are answered in order by the same process.
+     */
+    @Test
+    public void testPipelinedRequests() {
+        POOL.setServerCommand(FakeLibavoidServer.command(FakeLibavoidServer.ANSWER));
+
+        List<ElkNode> graphs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            graphs.add(createGraph());
+        }
+        LibavoidServer server = POOL.fetch();
+        try {
+            new LibavoidServerCommunicator().requestLayouts(graphs, new BasicProgressMonitor(), server);
+            for (int i = 0; i < graphs.size(); i++) {
+                assertRoutedByRequest(graphs.get(i), i + 1);
+            }
+        } finally {
+            POOL.release(server);
+        }
+        assertNextServer(server, true);
+    }
+
+    /**
+     * The watchdog stops a process that doesn't answer pipelined requests, which makes the server unusable.
+     */
+    @Test
+    public void testWatchdogStopsUnresponsiveServer() {
+        POOL.setServerCommand(FakeLibavoidServer.command(FakeLibavoidServer.HANG));
+
+        List<ElkNode> graphs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            graphs.add(createGraph());
+        }
+        LibavoidServer server = POOL.fetch();
+        server.setProcessTimeout(500);
+        try {
+            new LibavoidServerCommunicator().requestLayouts(graphs, new BasicProgressMonitor(), server);
+            fail("The layout request must fail.");
+        } catch (LibavoidServerException exception) {
+            // expected
+        } finally {
+            POOL.release(server);
+        }
+        assertFalse(server.isHealthy());
+        assertNextServer(server, false);
+    }
+
+    /**
+     * Checks whether the next server handed out by the pool is the given one.
+     */
+    private static void assertNextServer(final LibavoidServer server, final boolean same) {
+        LibavoidServer next = POOL.fetch();
+        POOL.release(next);
+        if (same) {
+            assertSame(server, next);
+        } else {
+            assertNotSame(server, next);
+        }
+    }
+
+    private static ElkNode createGraph() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        ElkNode previous = null;
+        for (int i = 0; i < 3; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            node.setLocation(50 * i, 0);
+            if (previous != null) {
+                ElkGraphUtil.createSimpleEdge(previous, node);
+            }
+            previous = node;
+        }
+        return graph;
+    }
+
+    /**
+     * Checks that all edges of the graph were routed by the fake server as its response to the given request.
+     */
+    private static void assertRoutedByRequest(final ElkNode graph, final int request) {
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            ElkEdgeSection section = edge.getSections().get(0);
+            assertEquals(request, section.getStartY(), 0);
+            assertEquals(request, section.getEndY(), 0);
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.radial.intermediate.optimization.RadialCrossingCounter;
+import org.junit.Test;
+
+/**
+ * Tests the {@link RadialCrossingCounter}.
+ */
+public class RadialCrossingCounterTest {
+
+    /**
+     * Edges whose order at the sources differs from the one at the targets cross.
+     */
+    @Test
+    public void testSimpleCrossings() {
+        RadialCrossingCounter counter = new RadialCrossingCounter();
+        counter.reset(3);
+        counter.setEdge(0, 0, 0.2);
+        counter.setEdge(1, 0.1, 0.3);
+        counter.setEdge(2, 0.2, 0.4);
+        assertEquals(0, counter.countCrossings());
+
+        // the first edge now ends behind the other two
+        counter.setEdge(0, 0, 0.5);
+        assertEquals(2, counter.countCrossings());
+
+        // edges crossing the zero angle
+        counter.setEdge(0, -0.1, 0.1);
+        counter.setEdge(1, 0.1, -0.1);
+        counter.setEdge(2, Math.PI, Math.PI);
+        assertEquals(1, counter.countCrossings());
+
+        // edges sharing their source don't cross
+        counter.setEdge(0, 0, 0.1);
+        counter.setEdge(1, 0, -0.1);
+        assertEquals(0, counter.countCrossings());
+    }
+
+    /**
+     * Compares the count of random edges to testing every pair of edges for a crossing, also when the counter's
+     * buffers are reused for fewer edges.
+     */
+    @Test
+    public void testRandomEdges() {
+        Random random = new Random(0);
+        RadialCrossingCounter counter = new RadialCrossingCounter();
+        for (int run = 0; run < 100; run++) {
+            int count = random.nextInt(60);
+            double[] sources = new double[count];
+            double[] targets = new double[count];
+            counter.reset(count);
+            for (int i = 0; i < count; i++) {
+                // some edges share their source
+                sources[i] = random.nextInt(4) == 0 ? random.nextInt(4) : 20 * random.nextDouble() - 10;
+                targets[i] = sources[i] + 6 * random.nextDouble() - 3;
+                counter.setEdge(i, sources[i], targets[i]);
+            }
+            assertEquals(countPairwise(sources, targets), counter.countCrossings());
+        }
+    }
+
+    /**
+     * Tests every pair of edges for a crossing. Two edges cross if the angle between their sources, walked from the one
+     * with the greater source angle to the other one, changes its sign or by more than a full turn along the edges.
+     */
+    private static int countPairwise(final double[] sources, final double[] targets) {
+        int count = sources.length;
+        double[] normalizedSources = new double[count];
+        double[] unwrappedTargets = new double[count];
+        for (int i = 0; i < count; i++) {
+            normalizedSources[i] = normalize(sources[i]);
+            double turn = normalize(targets[i] - normalizedSources[i]);
+            unwrappedTargets[i] = normalizedSources[i] + (turn > Math.PI ? turn - 2 * Math.PI : turn);
+        }
+
+        int crossings = 0;
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                if (normalizedSources[i] == normalizedSources[j]) {
+                    continue;
+                }
+                int first = normalizedSources[i] > normalizedSources[j] ? i : j;
+                int second = first == i ? j : i;
+                double difference = unwrappedTargets[first] - unwrappedTargets[second];
+                if (difference < 0 || difference > 2 * Math.PI) {
+                    crossings++;
+                }
+            }
+        }
+        return crossings;
+    }
+
+    private static double normalize(final double angle) {
+        double normalized = angle % (2 * Math.PI);
+        if (normalized < 0) {
+            normalized += 2 * Math.PI;
+        }
+        return normalized >= 2 * Math.PI ? 0 : normalized;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.radial.intermediate.compaction.AbstractRadiusExtensionCompaction;
+import org.eclipse.elk.alg.radial.intermediate.compaction.RadiusStepSolver;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the {@link RadiusStepSolver} against moving the nodes of a radius one step at a time.
+ */
+public class RadiusStepSolverTest {
+
+    /**
+     * Extends random radii until their nodes don't overlap anymore.
+     */
+    @Test
+    public void testExtension() {
+        Random random = new Random(0);
+        for (int run = 0; run < 200; run++) {
+            AbstractRadiusExtensionCompaction compaction = createCompaction(random);
+            List<ElkNode> nodes = createRadius(random, compaction.getRoot(), 2 + random.nextInt(20), 50);
+
+            int loopSteps = 0;
+            List<ElkNode> copy = copy(nodes);
+            while (compaction.overlapLayer(copy) && loopSteps < 1000000) {
+                compaction.contractLayer(copy, false);
+                loopSteps++;
+            }
+
+            RadiusStepSolver solver = compaction.createStepSolver(nodes, false);
+            solver.addLayerOverlaps();
+            int steps = solver.firstStepWithoutOverlaps();
+            assertTrue(Math.abs(steps - loopSteps) <= 1);
+            solver.apply(steps);
+            assertFalse(compaction.overlapLayer(nodes));
+        }
+    }
+
+    /**
+     * Contracts random radii as far as possible without their nodes overlapping.
+     */
+    @Test
+    public void testContraction() {
+        Random random = new Random(1);
+        for (int run = 0; run < 200; run++) {
+            AbstractRadiusExtensionCompaction compaction = createCompaction(random);
+            List<ElkNode> nodes = createRadius(random, compaction.getRoot(), 2 + random.nextInt(8), 400);
+            if (compaction.overlapLayer(nodes)) {
+                continue;
+            }
+
+            RadiusStepSolver solver = compaction.createStepSolver(nodes, true);
+            solver.addLayerOverlaps();
+            int steps = solver.firstStepWithOverlaps() - 1;
+            assertTrue(steps >= 0);
+
+            solver.apply(steps);
+            assertFalse(compaction.overlapLayer(nodes));
+        }
+    }
+
+    private AbstractRadiusExtensionCompaction createCompaction(final Random random) {
+        ElkNode root = ElkGraphUtil.createNode(null);
+        root.setDimensions(10 + random.nextInt(30), 10 + random.nextInt(30));
+        AbstractRadiusExtensionCompaction compaction = new AbstractRadiusExtensionCompaction();
+        compaction.setRoot(root);
+        compaction.setSpacing(random.nextInt(20));
+        compaction.setCompactionStep(1 + random.nextInt(3));
+        return compaction;
+    }
+
+    /**
+     * Places nodes on a circle around the root, sorted by their polar angle.
+     */
+    private List<ElkNode> createRadius(final Random random, final ElkNode root, final int size, final double radius) {
+        List<ElkNode> nodes = Lists.newArrayList();
+        for (int i = 0; i < size; i++) {
+            ElkNode node = ElkGraphUtil.createNode(null);
+            node.setDimensions(5 + random.nextInt(40), 5 + random.nextInt(40));
+            double angle = 2 * Math.PI * random.nextDouble();
+            node.setLocation(root.getWidth() / 2 + radius * Math.cos(angle) - node.getWidth() / 2,
+                    root.getHeight() / 2 + radius * Math.sin(angle) - node.getHeight() / 2);
+            nodes.add(node);
+        }
+        nodes.sort((n1, n2) -> Double.compare(angle(n1, root), angle(n2, root)));
+        return nodes;
+    }
+
+    private double angle(final ElkNode node, final ElkNode root) {
+        return Math.atan2(node.getY() + node.getHeight() / 2 - root.getHeight() / 2,
+                node.getX() + node.getWidth() / 2 - root.getWidth() / 2);
+    }
+
+    private List<ElkNode> copy(final List<ElkNode> nodes) {
+        List<ElkNode> copy = Lists.newArrayList();
+        for (ElkNode node : nodes) {
+            ElkNode nodeCopy = ElkGraphUtil.createNode(null);
+            nodeCopy.setDimensions(node.getWidth(), node.getHeight());
+            nodeCopy.setLocation(node.getX(), node.getY());
+            copy.add(nodeCopy);
+        }
+        return copy;
+    }
+
+}
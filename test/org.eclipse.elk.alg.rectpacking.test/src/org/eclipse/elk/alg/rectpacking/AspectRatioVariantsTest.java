@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.rectpacking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
+import org.eclipse.elk.alg.rectpacking.options.OptimizationGoal;
+import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
+import org.eclipse.elk.alg.rectpacking.p1widthapproximation.AreaApproximation;
+import org.eclipse.elk.alg.rectpacking.p1widthapproximation.GreedyWidthApproximator;
+import org.eclipse.elk.alg.rectpacking.util.DrawingData;
+import org.eclipse.elk.alg.rectpacking.util.DrawingUtil;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.UnsupportedConfigurationException;
+import org.eclipse.elk.core.math.ElkPadding;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that approximating the width for aspect ratio variants picks the same drawing as evaluating the variants one
+ * after another, regardless of the number of threads.
+ */
+public class AspectRatioVariantsTest {
+
+    private static final double[] VARIANTS = { 0.5, 1, 2.5, 1.6 };
+    private static final String VARIANTS_OPTION = "0.5, 1 2.5,1.6";
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Compares the greedy width approximator with variants to a sequential evaluation of the variants.
+     */
+    @Test
+    public void testSameAsSequentialEvaluation() {
+        Random random = new Random(0);
+        for (int run = 0; run < 30; run++) {
+            ElkNode graph = createGraph(random);
+            graph.setProperty(RectPackingOptions.WIDTH_APPROXIMATION_ASPECT_RATIO_VARIANTS, VARIANTS_OPTION);
+
+            for (int threads : new int[] { 1, 4 }) {
+                graph.setProperty(RectPackingOptions.CONCURRENCY_THREADS, threads);
+                new GreedyWidthApproximator().process(graph, new BasicProgressMonitor());
+
+                List<ElkNode> rectangles = graph.getChildren();
+                double[][] coordinates = new double[rectangles.size()][];
+                for (int i = 0; i < rectangles.size(); i++) {
+                    coordinates[i] = new double[] { rectangles.get(i).getX(), rectangles.get(i).getY() };
+                }
+                double targetWidth = graph.getProperty(InternalProperties.TARGET_WIDTH);
+
+                double expectedWidth = approximateSequentially(graph);
+                assertEquals(expectedWidth, targetWidth, 0);
+                for (int i = 0; i < rectangles.size(); i++) {
+                    assertEquals(rectangles.get(i).getX(), coordinates[i][0], 0);
+                    assertEquals(rectangles.get(i).getY(), coordinates[i][1], 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that whole layouts with variants do not depend on the number of threads.
+     */
+    @Test
+    public void testIndependentOfThreads() {
+        Random random = new Random(1);
+        for (int run = 0; run < 20; run++) {
+            long seed = random.nextLong();
+            ElkNode sequential = layout(createGraph(new Random(seed)), 1);
+            ElkNode concurrent = layout(createGraph(new Random(seed)), 4);
+
+            assertEquals(sequential.getWidth(), concurrent.getWidth(), 0);
+            assertEquals(sequential.getHeight(), concurrent.getHeight(), 0);
+            for (int i = 0; i < sequential.getChildren().size(); i++) {
+                assertEquals(sequential.getChildren().get(i).getX(), concurrent.getChildren().get(i).getX(), 0);
+                assertEquals(sequential.getChildren().get(i).getY(), concurrent.getChildren().get(i).getY(), 0);
+            }
+        }
+    }
+
+    /**
+     * Checks that invalid variants are reported.
+     */
+    @Test(expected = UnsupportedConfigurationException.class)
+    public void testInvalidVariant() {
+        ElkNode graph = createGraph(new Random(2));
+        graph.setProperty(RectPackingOptions.WIDTH_APPROXIMATION_ASPECT_RATIO_VARIANTS, "1.5, -2");
+        new GreedyWidthApproximator().process(graph, new BasicProgressMonitor());
+    }
+
+    /**
+     * Approximates the width for the desired aspect ratio and every variant one after another, leaves the rectangles
+     * at the coordinates of the best drawing, and returns its width.
+     */
+    private double approximateSequentially(final ElkNode graph) {
+        double aspectRatio = graph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        ElkPadding padding = graph.getProperty(RectPackingOptions.PADDING);
+        OptimizationGoal goal = graph.getProperty(RectPackingOptions.WIDTH_APPROXIMATION_OPTIMIZATION_GOAL);
+        boolean lastPlaceShift = graph.getProperty(RectPackingOptions.WIDTH_APPROXIMATION_LAST_PLACE_SHIFT);
+        double spacing = graph.getProperty(RectPackingOptions.SPACING_NODE_NODE);
+
+        double[] aspectRatios = new double[VARIANTS.length + 1];
+        aspectRatios[0] = aspectRatio;
+        System.arraycopy(VARIANTS, 0, aspectRatios, 1, VARIANTS.length);
+
+        double bestRatio = Double.NaN;
+        double bestScaleMeasure = Double.NEGATIVE_INFINITY;
+        for (double ratio : aspectRatios) {
+            DrawingUtil.resetCoordinates(graph.getChildren());
+            DrawingData drawing = new AreaApproximation(ratio, goal, lastPlaceShift)
+                    .approxBoundingBox(graph.getChildren(), spacing, padding);
+            double scaleMeasure = DrawingUtil.computeScaleMeasure(drawing.getDrawingWidth() + padding.getHorizontal(),
+                    drawing.getDrawingHeight() + padding.getVertical(), aspectRatio);
+            if (scaleMeasure > bestScaleMeasure) {
+                bestRatio = ratio;
+                bestScaleMeasure = scaleMeasure;
+            }
+        }
+
+        DrawingUtil.resetCoordinates(graph.getChildren());
+        return new AreaApproximation(bestRatio, goal, lastPlaceShift)
+                .approxBoundingBox(graph.getChildren(), spacing, padding).getDrawingWidth();
+    }
+
+    private ElkNode layout(final ElkNode graph, final int threads) {
+        graph.setProperty(RectPackingOptions.WIDTH_APPROXIMATION_ASPECT_RATIO_VARIANTS, VARIANTS_OPTION);
+        graph.setProperty(RectPackingOptions.CONCURRENCY_THREADS, threads);
+        new RectPackingLayoutProvider().layout(graph, new BasicProgressMonitor());
+        return graph;
+    }
+
+    private ElkNode createGraph(final Random random) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.ALGORITHM, RectPackingOptions.ALGORITHM_ID);
+        graph.setProperty(RectPackingOptions.ASPECT_RATIO, 1 + random.nextInt(3) * 0.5);
+        graph.setProperty(CoreOptions.SPACING_NODE_NODE, (double) random.nextInt(3) * 5);
+        graph.setProperty(RectPackingOptions.WIDTH_APPROXIMATION_OPTIMIZATION_GOAL,
+                OptimizationGoal.values()[random.nextInt(OptimizationGoal.values().length)]);
+        int count = 2 + random.nextInt(40);
+        for (int i = 0; i < count; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(1 + random.nextInt(60), 1 + random.nextInt(60));
+        }
+        return graph;
+    }
+
+}
@@ -11,15 +11,24 @@ package org.eclipse.elk.alg.rectpacking;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Random;
+
+import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
 import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
 import org.eclipse.elk.alg.rectpacking.p1widthapproximation.WidthApproximationStrategy;
+import org.eclipse.elk.alg.rectpacking.p2packing.Compactor;
+import org.eclipse.elk.alg.rectpacking.p2packing.RowFillingAndCompaction;
+import org.eclipse.elk.alg.rectpacking.util.DrawingData;
 import org.eclipse.elk.alg.test.PlainJavaInitialization;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.options.CoreOptions;
 import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkGraphFactory;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -559,5 +568,159 @@ public class CompactionTest {
         assertEquals("", 105.0, n6.getX(), 1);
         assertEquals("", 0.0, n6.getY(), 1);   
     }
+    
+    /**
+     * Test that additional compaction iterations, which repack the rectangles with other target widths, leave the
+     * rectangles of the best packing without overlaps.
+     */
+    @Test
+    public void testCompactionIterations() {
+        ElkNode parent = ElkGraphUtil.createGraph();
+        for (int i = 0; i < 40; i++) {
+            ElkNode node = ElkGraphUtil.createNode(parent);
+            node.setDimensions(10 + (i * 7) % 30, 10 + (i * 13) % 40);
+        }
+        parent.setProperty(CoreOptions.ALGORITHM, RectPackingOptions.ALGORITHM_ID);
+        parent.setProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS, 5);
+        parent.setProperty(CoreOptions.SPACING_NODE_NODE, 5.0);
+        parent.setProperty(CoreOptions.PADDING, new ElkPadding(0.0));
+        
+        RectPackingLayoutProvider layoutProvider = new RectPackingLayoutProvider();
+        layoutProvider.layout(parent, new BasicProgressMonitor());
+        for (ElkNode n1 : parent.getChildren()) {
+            assertTrue(n1.getX() >= 0 && n1.getX() + n1.getWidth() <= parent.getWidth() + 0.1);
+            assertTrue(n1.getY() >= 0 && n1.getY() + n1.getHeight() <= parent.getHeight() + 0.1);
+            for (ElkNode n2 : parent.getChildren()) {
+                if (n1 != n2) {
+                    assertTrue(n1.getX() + n1.getWidth() <= n2.getX() || n2.getX() + n2.getWidth() <= n1.getX()
+                            || n1.getY() + n1.getHeight() <= n2.getY() || n2.getY() + n2.getHeight() <= n1.getY());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Test that the compaction iterations, which repack the rectangles in place and stop once a target width repeats,
+     * produce the same packing as repacking clones of the graph for every iteration, and that they are deterministic.
+     */
+    @Test
+    public void testCompactionIterationsSameAsOnClones() {
+        Random random = new Random(0);
+        for (int run = 0; run < 100; run++) {
+            ElkNode graph = createRandomCompactionGraph(random);
+            ElkNode inPlace = EcoreUtil.copy(graph);
+            ElkNode inPlaceAgain = EcoreUtil.copy(graph);
+            
+            new Compactor().process(inPlace, new BasicProgressMonitor());
+            new Compactor().process(inPlaceAgain, new BasicProgressMonitor());
+            compactOnClones(graph);
+            
+            assertSamePacking(graph, inPlace);
+            assertSamePacking(inPlace, inPlaceAgain);
+        }
+    }
+    
+    /**
+     * Creates a graph with random rectangles and all the properties the {@link Compactor} requires, with a target
+     * width somewhere around the width of a square packing.
+     */
+    private ElkNode createRandomCompactionGraph(final Random random) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        int count = 2 + random.nextInt(60);
+        double area = 0;
+        for (int i = 0; i < count; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(5 + random.nextInt(40), 5 + random.nextInt(40));
+            area += node.getWidth() * node.getHeight();
+        }
+        graph.setProperty(RectPackingOptions.ASPECT_RATIO, 0.5 + random.nextInt(4) * 0.5);
+        graph.setProperty(RectPackingOptions.SPACING_NODE_NODE, (double) random.nextInt(3) * 5);
+        graph.setProperty(RectPackingOptions.PADDING, new ElkPadding(random.nextInt(2) * 10));
+        graph.setProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS, 1 + random.nextInt(8));
+        graph.setProperty(InternalProperties.TARGET_WIDTH, Math.sqrt(area) * (0.5 + random.nextDouble()));
+        graph.setProperty(InternalProperties.MIN_WIDTH, 0.0);
+        graph.setProperty(InternalProperties.MIN_HEIGHT, 0.0);
+        return graph;
+    }
+    
+    /**
+     * Runs the compaction the way the {@link Compactor} did before it packed in place. Every further iteration packs a
+     * clone of the graph and copies its positions back if its packing is better.
+     */
+    private void compactOnClones(final ElkNode graph) {
+        double aspectRatio = graph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        double nodeNodeSpacing = graph.getProperty(RectPackingOptions.SPACING_NODE_NODE);
+        ElkPadding padding = graph.getProperty(RectPackingOptions.PADDING);
+        
+        RowFillingAndCompaction compaction = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
+        DrawingData drawing = compaction.start(graph.getChildren(), new BasicProgressMonitor(), graph, padding);
+        copyRowWidthChangeValues(graph, compaction);
+        
+        for (int iterations = graph.getProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS); iterations > 1;
+                iterations--) {
+            ElkNode clone = ElkGraphFactory.eINSTANCE.createElkNode();
+            clone.copyProperties(graph);
+            for (ElkNode child : graph.getChildren()) {
+                ElkNode newChild = ElkGraphUtil.createNode(clone);
+                newChild.setDimensions(child.getWidth(), child.getHeight());
+                newChild.setLocation(child.getX(), child.getY());
+            }
+            double oldSM = drawing.getScaleMeasure();
+            
+            double width = drawing.getDrawingWidth() + padding.getHorizontal();
+            double height = drawing.getDrawingHeight() + padding.getVertical();
+            double targetWidth = graph.getProperty(InternalProperties.TARGET_WIDTH);
+            if (graph.getProperty(InternalProperties.MIN_ROW_INCREASE) != Double.POSITIVE_INFINITY
+                    && width / height < aspectRatio) {
+                clone.setProperty(InternalProperties.TARGET_WIDTH,
+                        targetWidth + graph.getProperty(InternalProperties.MIN_ROW_INCREASE));
+            } else if (graph.getProperty(InternalProperties.MIN_ROW_DECREASE) != Double.POSITIVE_INFINITY
+                    && width / height > aspectRatio) {
+                clone.setProperty(InternalProperties.TARGET_WIDTH,
+                        Math.max(graph.getProperty(InternalProperties.MIN_WIDTH),
+                                targetWidth - graph.getProperty(InternalProperties.MIN_ROW_DECREASE)));
+            }
+            
+            compaction = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
+            DrawingData newDrawing = compaction.start(clone.getChildren(), new BasicProgressMonitor(), clone, padding);
+            double newSM = newDrawing.getScaleMeasure();
+            if (newSM >= oldSM && newSM == (double) newSM) {
+                for (int i = 0; i < clone.getChildren().size(); i++) {
+                    ElkNode child = clone.getChildren().get(i);
+                    graph.getChildren().get(i).setLocation(child.getX(), child.getY());
+                }
+                copyRowWidthChangeValues(graph, compaction);
+                drawing.setDrawingWidth(newDrawing.getDrawingWidth());
+                drawing.setDrawingHeight(newDrawing.getDrawingHeight());
+            }
+        }
+        
+        graph.setProperty(InternalProperties.DRAWING_HEIGHT, drawing.getDrawingHeight());
+        graph.setProperty(InternalProperties.DRAWING_WIDTH, drawing.getDrawingWidth());
+    }
+    
+    private void copyRowWidthChangeValues(final ElkNode graph, final RowFillingAndCompaction compaction) {
+        graph.setProperty(InternalProperties.MIN_ROW_INCREASE, compaction.potentialRowWidthIncreaseMin);
+        graph.setProperty(InternalProperties.MAX_ROW_INCREASE, compaction.potentialRowWidthIncreaseMax);
+        graph.setProperty(InternalProperties.MIN_ROW_DECREASE, compaction.potentialRowWidthDecreaseMin);
+        graph.setProperty(InternalProperties.MAX_ROW_DECREASE, compaction.potentialRowWidthDecreaseMax);
+    }
+    
+    private void assertSamePacking(final ElkNode expected, final ElkNode actual) {
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertEquals(expected.getChildren().get(i).getX(), actual.getChildren().get(i).getX(), 0);
+            assertEquals(expected.getChildren().get(i).getY(), actual.getChildren().get(i).getY(), 0);
+        }
+        assertEquals(expected.getProperty(InternalProperties.DRAWING_WIDTH),
+                actual.getProperty(InternalProperties.DRAWING_WIDTH), 0);
+        assertEquals(expected.getProperty(InternalProperties.DRAWING_HEIGHT),
+                actual.getProperty(InternalProperties.DRAWING_HEIGHT), 0);
+        assertEquals(expected.getProperty(InternalProperties.ADDITIONAL_HEIGHT),
+                actual.getProperty(InternalProperties.ADDITIONAL_HEIGHT), 0);
+        assertEquals(expected.getProperty(InternalProperties.MIN_ROW_INCREASE),
+                actual.getProperty(InternalProperties.MIN_ROW_INCREASE), 0);
+        assertEquals(expected.getProperty(InternalProperties.MIN_ROW_DECREASE),
+                actual.getProperty(InternalProperties.MIN_ROW_DECREASE), 0);
+    }
 
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.rectpacking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.rectpacking.p1widthapproximation.PlacedRectangles;
+import org.junit.Test;
+
+/**
+ * Tests the queries of {@link PlacedRectangles} against looking at every placed rectangle.
+ */
+public class PlacedRectanglesTest {
+
+    /**
+     * Places random rectangles and queries the borders after each one.
+     */
+    @Test
+    public void testRandomRectangles() {
+        Random random = new Random(0);
+        for (int run = 0; run < 50; run++) {
+            double spacing = random.nextInt(3) * 5;
+            PlacedRectangles placed = new PlacedRectangles(spacing);
+            int count = 1 + random.nextInt(200);
+            double[][] rects = new double[count][];
+            for (int i = 0; i < count; i++) {
+                // integral coordinates to produce rectangles sharing borders
+                rects[i] = new double[] { random.nextInt(100), random.nextInt(100), 1 + random.nextInt(30),
+                        1 + random.nextInt(30) };
+                placed.add(rects[i][0], rects[i][1], rects[i][2], rects[i][3]);
+
+                for (int query = 0; query < 10; query++) {
+                    double coordinate = random.nextInt(150);
+                    double lowestBottom = Double.NaN;
+                    double rightmostRight = Double.NaN;
+                    for (int j = 0; j <= i; j++) {
+                        double[] rect = rects[j];
+                        if (coordinate < rect[0] + rect[2] + spacing
+                                && !(rect[1] + rect[3] <= lowestBottom)) {
+                            lowestBottom = rect[1] + rect[3];
+                        }
+                        if (coordinate < rect[1] + rect[3] + spacing
+                                && !(rect[0] + rect[2] <= rightmostRight)) {
+                            rightmostRight = rect[0] + rect[2];
+                        }
+                    }
+                    assertEquals(lowestBottom, placed.lowestBottomBorderBeyond(coordinate), 0);
+                    assertEquals(rightmostRight, placed.rightmostRightBorderBelow(coordinate), 0);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.EdgeDetermination;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.GraphType;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.RandVal;
+import org.eclipse.elk.core.debug.grandom.generators.RandomGraphGenerator;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.json.ElkGraphJson;
+
+/**
+ * Creates the input graphs of the benchmarks. Random graphs are generated with a fixed seed, so every benchmark run
+ * lays out the same graphs.
+ */
+public final class BenchmarkGraphs {
+
+    /** prefix of the identifiers of ELK's layout algorithms. */
+    private static final String ALGORITHM_PREFIX = "org.eclipse.elk.";
+    /** seed of the random graph generator. */
+    private static final long SEED = 0x454c4bL;
+
+    private BenchmarkGraphs() {
+    }
+
+    /**
+     * Makes sure that all layout algorithms are registered. In a plain Java environment, this is done by loading the
+     * meta data providers registered as services in the algorithms' jar files.
+     */
+    public static void initialize() {
+        LayoutMetaDataService.getInstance();
+    }
+
+    /**
+     * Generates random graphs that suit the given layout algorithm. Tree layout algorithms are given trees, packing
+     * algorithms are given graphs without edges, and all other algorithms are given graphs with about 1.5 times as
+     * many edges as nodes.
+     *
+     * @param algorithm
+     *            the identifier of the layout algorithm, without the {@code org.eclipse.elk.} prefix.
+     * @param nodes
+     *            the number of nodes of each graph.
+     * @param count
+     *            the number of graphs to generate.
+     * @return the graphs, configured to be laid out with the given algorithm.
+     */
+    public static List<ElkNode> generate(final String algorithm, final int nodes, final int count) {
+        GeneratorOptions options = new GeneratorOptions();
+        options.setProperty(GeneratorOptions.NUMBER_OF_NODES, RandVal.exact(nodes));
+        options.setProperty(GeneratorOptions.NODE_WIDTH, RandVal.minMax(20, 80));
+        options.setProperty(GeneratorOptions.NODE_HEIGHT, RandVal.minMax(20, 60));
+
+        switch (algorithm) {
+        case "mrtree":
+        case "radial":
+            options.setProperty(GeneratorOptions.GRAPH_TYPE, GraphType.TREE);
+            break;
+        case "rectpacking":
+        case "topdownpacking":
+            options.setProperty(GeneratorOptions.EDGE_DETERMINATION, EdgeDetermination.ABSOLUTE);
+            options.setProperty(GeneratorOptions.EDGES_ABSOLUTE, RandVal.exact(0));
+            break;
+        default:
+            options.setProperty(GeneratorOptions.EDGE_DETERMINATION, EdgeDetermination.RELATIVE);
+            options.setProperty(GeneratorOptions.RELATIVE_EDGES, RandVal.exact(1.5));
+        }
+
+        // Each algorithm and size gets graphs of its own, but the same ones in every run
+        RandomGraphGenerator generator = new RandomGraphGenerator(new Random(SEED ^ algorithm.hashCode() ^ nodes));
+        List<ElkNode> graphs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ElkNode graph = generator.generate(options);
+            graph.setProperty(CoreOptions.ALGORITHM, ALGORITHM_PREFIX + algorithm);
+            graphs.add(graph);
+        }
+        return graphs;
+    }
+
+    /**
+     * Loads all graphs in the ELK JSON format from the given directory and its subdirectories.
+     *
+     * @param directory
+     *            the directory to search for {@code .json} files.
+     * @return the graphs, sorted by the paths of their files.
+     * @throws IOException
+     *             if the directory cannot be read.
+     */
+    public static List<ElkNode> load(final Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        collectJsonFiles(directory, files);
+        files.sort(null);
+
+        List<ElkNode> graphs = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                graphs.add(ElkGraphJson.forGraph(reader).toElk());
+            }
+        }
+        return graphs;
+    }
+
+    private static void collectJsonFiles(final Path directory, final List<Path> files) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    collectJsonFiles(path, files);
+                } else if (path.getFileName().toString().endsWith(".json")) {
+                    files.add(path);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.layered.LayeredMetrics;
+import org.eclipse.elk.alg.layered.ProcessorMetrics;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.util.NullElkProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the time ELK Layered takes is split among its phases. The metrics ELK Layered reports for its layout
+ * processors are summed up per phase and reported as secondary results: the nanoseconds spent in each phase and in
+ * intermediate processors, and the crossings and dummy nodes of the laid out graphs. All of them are sums over the
+ * {@link PhaseCounters#layouts layouts} of a measurement iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class LayeredPhaseBenchmark {
+
+    /** number of different graphs laid out in turn, to not optimize for a single graph. */
+    private static final int GRAPHS = 8;
+
+    /** the number of nodes of each graph. */
+    @Param({ "10", "100", "1000" })
+    public int nodes;
+
+    /** the graphs laid out in turn. */
+    private List<ElkNode> graphs;
+    /** the index of the graph to lay out next. */
+    private int next;
+    /** the copy laid out by the current invocation. */
+    private ElkNode graph;
+    /** the engine that executes the layout algorithm. */
+    private final RecursiveGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+
+    /**
+     * Generates the graphs.
+     */
+    @Setup(Level.Trial)
+    public void generateGraphs() {
+        BenchmarkGraphs.initialize();
+        graphs = BenchmarkGraphs.generate("layered", nodes, GRAPHS);
+    }
+
+    /**
+     * Copies the graph to be laid out next and installs the listener that collects the metrics.
+     *
+     * @param counters
+     *            the counters to add the metrics to.
+     */
+    @Setup(Level.Invocation)
+    public void copyGraph(final PhaseCounters counters) {
+        graph = EcoreUtil.copy(graphs.get(next));
+        graph.setProperty(LayeredMetrics.LISTENER, counters::add);
+        next = (next + 1) % graphs.size();
+    }
+
+    /**
+     * Lays out the graph.
+     *
+     * @param counters
+     *            the counters the metrics are added to.
+     * @return the laid out graph, to keep its layout from being optimized away.
+     */
+    @Benchmark
+    public ElkNode layout(final PhaseCounters counters) {
+        engine.layout(graph, new NullElkProgressMonitor());
+        counters.layouts++;
+        return graph;
+    }
+
+    /**
+     * The metrics of ELK Layered, summed up per phase. JMH reports each public field as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PhaseCounters {
+
+        /** the number of layouts. */
+        public long layouts;
+        /** nanoseconds spent in cycle breaking. */
+        public long p1Nanos;
+        /** nanoseconds spent in layer assignment. */
+        public long p2Nanos;
+        /** nanoseconds spent in crossing minimization. */
+        public long p3Nanos;
+        /** nanoseconds spent in node placement. */
+        public long p4Nanos;
+        /** nanoseconds spent in edge routing. */
+        public long p5Nanos;
+        /** nanoseconds spent in intermediate processors. */
+        public long intermediateNanos;
+        /** edge crossings after crossing minimization. */
+        public long crossings;
+        /** dummy nodes inserted for long edges. */
+        public long dummyNodes;
+
+        /**
+         * Resets the counters at the start of each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            layouts = 0;
+            p1Nanos = 0;
+            p2Nanos = 0;
+            p3Nanos = 0;
+            p4Nanos = 0;
+            p5Nanos = 0;
+            intermediateNanos = 0;
+            crossings = 0;
+            dummyNodes = 0;
+        }
+
+        private void add(final LGraph lgraph, final ProcessorMetrics metrics) {
+            // The phases are told apart by the packages their implementations live in
+            String name = metrics.getProcessor().getClass().getName();
+            long time = metrics.getWallTime();
+            if (name.contains(".p1cycles.")) {
+                p1Nanos += time;
+            } else if (name.contains(".p2layers.")) {
+                p2Nanos += time;
+            } else if (name.contains(".p3order.")) {
+                p3Nanos += time;
+            } else if (name.contains(".p4nodes.")) {
+                p4Nanos += time;
+            } else if (name.contains(".p5edges.")) {
+                p5Nanos += time;
+            } else {
+                intermediateNanos += time;
+            }
+            crossings += metrics.getCounter(LayeredMetrics.CROSSINGS_AFTER);
+            dummyNodes += metrics.getCounter(LayeredMetrics.DUMMY_NODES);
+        }
+
+    }
+
+}
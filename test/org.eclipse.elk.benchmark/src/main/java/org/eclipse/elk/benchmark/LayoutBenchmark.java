@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.util.NullElkProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long the layout algorithms take to lay out random graphs of increasing size, end to end. Each
+ * invocation lays out a fresh copy of one of a number of graphs generated for the algorithm and size; copying is not
+ * part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class LayoutBenchmark {
+
+    /** number of different graphs laid out in turn, to not optimize for a single graph. */
+    private static final int GRAPHS = 8;
+
+    /** the layout algorithm, without the {@code org.eclipse.elk.} prefix. */
+    @Param({ "layered", "mrtree", "radial", "force", "stress", "rectpacking", "disco", "sporeOverlap",
+            "sporeCompaction", "topdownpacking" })
+    public String algorithm;
+
+    /** the number of nodes of each graph. */
+    @Param({ "10", "100", "1000" })
+    public int nodes;
+
+    /** the graphs laid out in turn. */
+    private List<ElkNode> graphs;
+    /** the index of the graph to lay out next. */
+    private int next;
+    /** the copy laid out by the current invocation. */
+    private ElkNode graph;
+    /** the engine that executes the layout algorithms. */
+    private final RecursiveGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+
+    /**
+     * Generates the graphs.
+     */
+    @Setup(Level.Trial)
+    public void generateGraphs() {
+        BenchmarkGraphs.initialize();
+        graphs = BenchmarkGraphs.generate(algorithm, nodes, GRAPHS);
+    }
+
+    /**
+     * Copies the graph to be laid out next.
+     */
+    @Setup(Level.Invocation)
+    public void copyGraph() {
+        graph = EcoreUtil.copy(graphs.get(next));
+        next = (next + 1) % graphs.size();
+    }
+
+    /**
+     * Lays out the graph.
+     *
+     * @return the laid out graph, to keep its layout from being optimized away.
+     */
+    @Benchmark
+    public ElkNode layout() {
+        engine.layout(graph, new NullElkProgressMonitor());
+        return graph;
+    }
+
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.NullElkProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to lay out a collection of real-world graphs stored in the ELK JSON format, such as the
+ * graphs of the elk-models repository. Each invocation lays out fresh copies of all graphs found in the
+ * {@link #directory}; copying is not part of the measurement. The graphs are laid out with the algorithms configured
+ * in them unless an {@link #algorithm} is given.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class StoredGraphBenchmark {
+
+    /** the directory to load {@code .json} graphs from. Must be given on the command line. */
+    @Param("")
+    public String directory;
+
+    /** the layout algorithm to use for all graphs, without the {@code org.eclipse.elk.} prefix, or empty. */
+    @Param("")
+    public String algorithm;
+
+    /** the graphs to lay out. */
+    private List<ElkNode> graphs;
+    /** the copies laid out by the current invocation. */
+    private final List<ElkNode> copies = new ArrayList<>();
+    /** the engine that executes the layout algorithms. */
+    private final RecursiveGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+
+    /**
+     * Loads the graphs.
+     *
+     * @throws IOException
+     *             if the graphs cannot be read.
+     */
+    @Setup(Level.Trial)
+    public void loadGraphs() throws IOException {
+        if (directory.isEmpty()) {
+            throw new IllegalArgumentException("The directory to load graphs from must be given with -p directory=.");
+        }
+
+        BenchmarkGraphs.initialize();
+        graphs = BenchmarkGraphs.load(Paths.get(directory));
+        if (graphs.isEmpty()) {
+            throw new IllegalArgumentException("No .json graphs found in " + directory);
+        }
+        if (!algorithm.isEmpty()) {
+            for (ElkNode graph : graphs) {
+                graph.setProperty(CoreOptions.ALGORITHM, "org.eclipse.elk." + algorithm);
+            }
+        }
+    }
+
+    /**
+     * Copies the graphs.
+     */
+    @Setup(Level.Invocation)
+    public void copyGraphs() {
+        copies.clear();
+        for (ElkNode graph : graphs) {
+            copies.add(EcoreUtil.copy(graph));
+        }
+    }
+
+    /**
+     * Lays out all graphs.
+     *
+     * @return the laid out graphs, to keep their layouts from being optimized away.
+     */
+    @Benchmark
+    public List<ElkNode> layout() {
+        for (ElkNode graph : copies) {
+            engine.layout(graph, new NullElkProgressMonitor());
+        }
+        return copies;
+    }
+
+}
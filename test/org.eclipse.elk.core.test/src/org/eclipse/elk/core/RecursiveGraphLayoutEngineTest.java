@@ -11,6 +11,10 @@ package org.eclipse.elk.core;
 
 import static org.junit.Assert.*;
 
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.eclipse.elk.alg.test.PlainJavaInitialization;
 import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
 import org.eclipse.elk.core.UnsupportedConfigurationException;
@@ -20,6 +24,8 @@ import org.eclipse.elk.core.options.CoreOptions;
 import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -73,6 +79,63 @@ public class RecursiveGraphLayoutEngineTest {
         assertEquals("org.eclipse.elk.layered", graph.root.getProperty(CoreOptions.RESOLVED_ALGORITHM).getId());
     }
     
+    @Test
+    public void testConcurrentLayoutMatchesSequentialLayout() {
+        ElkNode sequentialGraph = createNestedGraph(3, 4);
+        ElkNode concurrentGraph = EcoreUtil.copy(sequentialGraph);
+        
+        new RecursiveGraphLayoutEngine().layout(sequentialGraph, new BasicProgressMonitor());
+        
+        // A single worker thread forces the calling thread to take part in the layout
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new RecursiveGraphLayoutEngine(executor).layout(concurrentGraph, new BasicProgressMonitor());
+        } finally {
+            executor.shutdown();
+        }
+        
+        Iterator<EObject> sequentialIt = sequentialGraph.eAllContents();
+        Iterator<EObject> concurrentIt = concurrentGraph.eAllContents();
+        while (sequentialIt.hasNext()) {
+            EObject sequential = sequentialIt.next();
+            EObject concurrent = concurrentIt.next();
+            if (sequential instanceof ElkNode) {
+                ElkNode sequentialNode = (ElkNode) sequential;
+                ElkNode concurrentNode = (ElkNode) concurrent;
+                assertEquals(sequentialNode.getX(), concurrentNode.getX(), 0);
+                assertEquals(sequentialNode.getY(), concurrentNode.getY(), 0);
+                assertEquals(sequentialNode.getWidth(), concurrentNode.getWidth(), 0);
+                assertEquals(sequentialNode.getHeight(), concurrentNode.getHeight(), 0);
+            }
+        }
+        assertFalse(concurrentIt.hasNext());
+    }
+    
+    /**
+     * Creates a graph whose nodes each contain {@code children} nodes, down to the given depth. The children of each
+     * node are connected in a chain.
+     */
+    private static ElkNode createNestedGraph(final int depth, final int children) {
+        ElkNode root = ElkGraphUtil.createGraph();
+        fillNestedGraph(root, depth, children);
+        return root;
+    }
+    
+    private static void fillNestedGraph(final ElkNode parent, final int depth, final int children) {
+        ElkNode previous = null;
+        for (int i = 0; i < children; i++) {
+            ElkNode node = ElkGraphUtil.createNode(parent);
+            node.setDimensions(10 + i, 10);
+            if (previous != null) {
+                ElkGraphUtil.createSimpleEdge(previous, node);
+            }
+            if (depth > 1) {
+                fillNestedGraph(node, depth - 1, children);
+            }
+            previous = node;
+        }
+    }
+    
     private class Graph {
         ElkNode root;
         private ElkNode n1;
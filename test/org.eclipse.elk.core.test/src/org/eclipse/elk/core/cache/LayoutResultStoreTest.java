@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+/**
+ * Tests for layout results and the stores they are kept in by the {@link RecursiveGraphLayoutEngine}.
+ */
+public class LayoutResultStoreTest {
+
+    /** number of equal blocks in the test graph. */
+    private static final int BLOCKS = 5;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Equal blocks must only be laid out once, and the result must be the same as without a store.
+     */
+    @Test
+    public void testEqualBlocksAreLaidOutOnce() {
+        ElkNode cached = createGraph();
+        ElkNode reference = EcoreUtil.copy(cached);
+
+        CountingStore store = new CountingStore(new MemoryLayoutResultStore(Long.MAX_VALUE));
+        new RecursiveGraphLayoutEngine().withResultStore(store).layout(cached, new BasicProgressMonitor());
+        new RecursiveGraphLayoutEngine().layout(reference, new BasicProgressMonitor());
+
+        // The blocks and the root are looked up; all blocks but the first one are found
+        assertEquals(BLOCKS + 1, store.gets.get());
+        assertEquals(BLOCKS - 1, store.hits.get());
+        assertSameLayout(reference, cached);
+    }
+
+    /**
+     * Structure, geometry, and layout options must be part of the key, identifiers and the parent's position not.
+     */
+    @Test
+    public void testKey() {
+        ElkNode block = createBlock(ElkGraphUtil.createGraph());
+        String key = LayoutResult.computeKey(block);
+
+        ElkNode copy = EcoreUtil.copy(block);
+        copy.setIdentifier("other");
+        copy.setLocation(100, 200);
+        copy.getChildren().get(0).setIdentifier("other");
+        assertEquals(key, LayoutResult.computeKey(copy));
+
+        copy.setProperty(CoreOptions.DIRECTION, Direction.DOWN);
+        assertNotEquals(key, LayoutResult.computeKey(copy));
+
+        copy = EcoreUtil.copy(block);
+        copy.getChildren().get(1).setWidth(20);
+        assertNotEquals(key, LayoutResult.computeKey(copy));
+
+        copy = EcoreUtil.copy(block);
+        ElkGraphUtil.createSimpleEdge(copy.getChildren().get(2), copy.getChildren().get(0));
+        assertNotEquals(key, LayoutResult.computeKey(copy));
+
+        // Edges leaving the subgraph decide on the sides of its ports
+        copy = createBlock(ElkGraphUtil.createGraph());
+        ElkGraphUtil.createSimpleEdge(copy.getPorts().get(0), ElkGraphUtil.createNode(copy.getParent()));
+        assertNotEquals(key, LayoutResult.computeKey(copy));
+    }
+
+    /**
+     * A result must reproduce the layout it was captured from, and must not be applied to other structures.
+     */
+    @Test
+    public void testCaptureAndApply() {
+        ElkNode block = createBlock(ElkGraphUtil.createGraph());
+        new RecursiveGraphLayoutEngine().layout(block, new BasicProgressMonitor());
+        LayoutResult captured = LayoutResult.capture(block);
+        LayoutResult result = LayoutResult.fromArrays(captured.toArray(), captured.optionsToArray());
+
+        ElkNode copy = createBlock(ElkGraphUtil.createGraph());
+        assertTrue(result.applyTo(copy));
+        assertSameLayout(block, copy);
+        assertEquals(block.getProperty(CoreOptions.PORT_CONSTRAINTS), copy.getProperty(CoreOptions.PORT_CONSTRAINTS));
+        assertEquals(block.getPorts().get(0).getProperty(CoreOptions.PORT_SIDE),
+                copy.getPorts().get(0).getProperty(CoreOptions.PORT_SIDE));
+
+        ElkNode other = createBlock(ElkGraphUtil.createGraph());
+        ElkGraphUtil.createNode(other);
+        double width = other.getWidth();
+        assertFalse(result.applyTo(other));
+        assertEquals(width, other.getWidth(), 0);
+    }
+
+    /**
+     * Results must survive in files, and the total size of the files must be bounded.
+     */
+    @Test
+    public void testFileStore() throws IOException {
+        Path directory = folder.newFolder().toPath();
+        ElkNode cached = createGraph();
+        new RecursiveGraphLayoutEngine().withResultStore(new FileLayoutResultStore(directory, 1 << 20))
+                .layout(cached, new BasicProgressMonitor());
+
+        // A new store on the same directory knows all results, so nothing needs to be laid out anymore
+        ElkNode again = createGraph();
+        CountingStore store = new CountingStore(new FileLayoutResultStore(directory, 1 << 20));
+        new RecursiveGraphLayoutEngine().withResultStore(store).layout(again, new BasicProgressMonitor());
+        assertEquals(store.gets.get(), store.hits.get());
+        assertSameLayout(cached, again);
+
+        // A tiny store keeps at most one result
+        FileLayoutResultStore tinyStore = new FileLayoutResultStore(directory, 1);
+        tinyStore.put("a", LayoutResult.capture(cached));
+        assertEquals(0, Files.list(directory).count());
+    }
+
+    /**
+     * Memory stores must forget the least recently used results, but find them again in their backing store.
+     */
+    @Test
+    public void testMemoryStore() {
+        LayoutResult result = LayoutResult.fromArrays(new double[] { 1, 2 }, new String[0]);
+        MemoryLayoutResultStore backingStore = new MemoryLayoutResultStore(Long.MAX_VALUE);
+        MemoryLayoutResultStore store = new MemoryLayoutResultStore(4, backingStore);
+
+        store.put("a", result);
+        store.put("b", result);
+        store.put("c", result);
+        backingStore.clear();
+
+        assertNull(store.get("a"));
+        assertNotNull(store.get("b"));
+        assertNotNull(store.get("c"));
+    }
+
+    /**
+     * Creates a graph with a node that is connected to a number of equal blocks.
+     */
+    private static ElkNode createGraph() {
+        ElkNode root = ElkGraphUtil.createGraph();
+        ElkNode source = ElkGraphUtil.createNode(root);
+        source.setDimensions(20, 20);
+        for (int i = 0; i < BLOCKS; i++) {
+            ElkNode block = createBlock(root);
+            block.setIdentifier("block" + i);
+            ElkGraphUtil.createSimpleEdge(source, block.getPorts().get(0));
+        }
+        return root;
+    }
+
+    /**
+     * Creates a node with a port and three children connected by edges, one of which has a label.
+     */
+    private static ElkNode createBlock(final ElkNode parent) {
+        ElkNode block = ElkGraphUtil.createNode(parent);
+        ElkPort port = ElkGraphUtil.createPort(block);
+        port.setDimensions(5, 5);
+        for (int i = 0; i < 3; i++) {
+            ElkNode child = ElkGraphUtil.createNode(block);
+            child.setIdentifier("child" + i);
+            child.setDimensions(10 + i, 10);
+        }
+        ElkEdge edge = ElkGraphUtil.createSimpleEdge(block.getChildren().get(0), block.getChildren().get(1));
+        ElkGraphUtil.createLabel("label", edge).setDimensions(20, 8);
+        ElkGraphUtil.createSimpleEdge(block.getChildren().get(1), block.getChildren().get(2));
+        ElkGraphUtil.createSimpleEdge(port, block.getChildren().get(0));
+        return block;
+    }
+
+    private static void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        List<EObject> expectedObjects = layoutObjects(expected);
+        List<EObject> actualObjects = layoutObjects(actual);
+        assertEquals(expectedObjects.size(), actualObjects.size());
+
+        for (int i = 0; i < expectedObjects.size(); i++) {
+            if (expectedObjects.get(i) instanceof ElkShape) {
+                ElkShape expectedShape = (ElkShape) expectedObjects.get(i);
+                ElkShape actualShape = (ElkShape) actualObjects.get(i);
+                assertEquals(expectedShape.getX(), actualShape.getX(), 0);
+                assertEquals(expectedShape.getY(), actualShape.getY(), 0);
+                assertEquals(expectedShape.getWidth(), actualShape.getWidth(), 0);
+                assertEquals(expectedShape.getHeight(), actualShape.getHeight(), 0);
+            } else {
+                ElkEdgeSection expectedSection = (ElkEdgeSection) expectedObjects.get(i);
+                ElkEdgeSection actualSection = (ElkEdgeSection) actualObjects.get(i);
+                assertEquals(expectedSection.getStartX(), actualSection.getStartX(), 0);
+                assertEquals(expectedSection.getStartY(), actualSection.getStartY(), 0);
+                assertEquals(expectedSection.getEndX(), actualSection.getEndX(), 0);
+                assertEquals(expectedSection.getEndY(), actualSection.getEndY(), 0);
+                assertEquals(expectedSection.getBendPoints().size(), actualSection.getBendPoints().size());
+            }
+        }
+    }
+
+    private static List<EObject> layoutObjects(final ElkNode graph) {
+        return Lists.newArrayList(Iterators.filter(graph.eAllContents(),
+                o -> o instanceof ElkShape || o instanceof ElkEdgeSection));
+    }
+
+    /**
+     * A store that counts lookups and successful lookups.
+     */
+    private static final class CountingStore implements ILayoutResultStore {
+        private final ILayoutResultStore store;
+        private final AtomicInteger gets = new AtomicInteger();
+        private final AtomicInteger hits = new AtomicInteger();
+
+        CountingStore(final ILayoutResultStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public LayoutResult get(final String key) {
+            LayoutResult result = store.get(key);
+            gets.incrementAndGet();
+            if (result != null) {
+                hits.incrementAndGet();
+            }
+            return result;
+        }
+
+        @Override
+        public void put(final String key, final LayoutResult result) {
+            store.put(key, result);
+        }
+    }
+
+}
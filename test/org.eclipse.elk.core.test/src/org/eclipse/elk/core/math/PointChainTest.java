@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.elk.core.util.ElkUtil;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkGraphFactory;
+import org.junit.Test;
+
+/**
+ * Tests the {@link PointChain} and its conversion from and to {@link KVectorChain}s and edge sections.
+ */
+public class PointChainTest {
+
+    /**
+     * Points added at both ends, also beyond the initial capacity, end up in order.
+     */
+    @Test
+    public void testAdd() {
+        PointChain chain = new PointChain(1);
+        for (int i = 0; i < 10; i++) {
+            chain.add(i, -i);
+            chain.addFirst(-i - 1, i + 1);
+        }
+
+        assertEquals(20, chain.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i - 10, chain.getX(i), 0);
+            assertEquals(10 - i, chain.getY(i), 0);
+        }
+        assertEquals(new KVector(-10, 10), chain.get(0));
+    }
+
+    /**
+     * Offsetting, scaling, and measuring give the same results as for vector chains.
+     */
+    @Test
+    public void testSameAsVectorChain() {
+        KVectorChain vectors = new KVectorChain();
+        vectors.parse("{(10,0),(10,20),(13.5,30),(-2,7)}");
+        PointChain points = PointChain.of(vectors);
+
+        vectors.offset(3, -1.5).scale(0.5, 2).offset(new KVector(1, 1)).scale(3);
+        points.offset(3, -1.5).scale(0.5, 2).offset(new KVector(1, 1)).scale(3);
+
+        assertEquals(vectors, points.toVectorChain());
+        assertEquals(vectors.toString(), points.toString());
+        assertEquals(vectors.totalLength(), points.totalLength(), 0);
+        assertFalse(points.hasNaN());
+        assertFalse(points.hasInfinite());
+
+        points.set(1, Double.NaN, Double.POSITIVE_INFINITY);
+        assertTrue(points.hasNaN());
+        assertTrue(points.hasInfinite());
+    }
+
+    /**
+     * Applying a point chain to an edge section reuses and removes bend points like applying a vector chain does.
+     */
+    @Test
+    public void testApplyToEdgeSection() {
+        ElkEdgeSection section = ElkGraphFactory.eINSTANCE.createElkEdgeSection();
+
+        PointChain chain = new PointChain();
+        chain.add(0, 0);
+        chain.add(5, 0);
+        chain.add(5, 5);
+        chain.add(10, 5);
+        ElkUtil.applyPointChain(chain, section);
+        assertEquals(ElkUtil.createVectorChain(section), chain.toVectorChain());
+
+        chain.addFirst(-5, 0);
+        ElkUtil.applyPointChain(chain, section);
+        assertEquals(3, section.getBendPoints().size());
+        assertEquals(ElkUtil.createVectorChain(section), chain.toVectorChain());
+
+        PointChain straight = new PointChain();
+        straight.add(1, 2);
+        straight.add(3, 4);
+        ElkUtil.applyPointChain(straight, section);
+        assertTrue(section.getBendPoints().isEmpty());
+        assertEquals(ElkUtil.createVectorChain(section), ElkUtil.createPointChain(section).toVectorChain());
+        assertEquals(straight.toString(), ElkUtil.createPointChain(section).toString());
+    }
+
+    /**
+     * Accessing a point beyond the chain's end fails.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        PointChain chain = new PointChain();
+        chain.add(1, 1);
+        chain.getX(1);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json.test;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.core.util.Maybe;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.json.ElkGraphJson;
+import org.eclipse.elk.graph.json.JsonImportException;
+import org.eclipse.elk.graph.json.JsonImporter;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for streamed imports and exports, which must produce the same results as imports and exports through json
+ * object trees.
+ */
+public class StreamingTest {
+
+    /** a graph whose edges are listed before the nodes they connect. */
+    private static final String GRAPH = "{"
+            + "  id: 'root',"
+            + "  layoutOptions: { 'elk.direction': 'DOWN' },"
+            + "  edges: ["
+            + "    { id: 'e1', sources: ['p1'], targets: ['n2'],"
+            + "      sections: [{ id: 's1', startPoint: { x: 1, y: 2 }, endPoint: { x: 3, y: 4 },"
+            + "                   bendPoints: [{ x: 5, y: 6 }] }],"
+            + "      labels: [{ text: 'edge label', width: 20 }] },"
+            + "    { id: 'e2', source: 'n1', sourcePort: 'p1', target: 'c1',"
+            + "      sourcePoint: { x: 7, y: 8 }, targetPoint: { x: 9, y: 10 } },"
+            + "    { id: 3, sources: ['c1'], targets: [4, 'n2'] }"
+            + "  ],"
+            + "  children: ["
+            + "    { id: 'n1', x: 10, y: 20, width: 30, height: 40,"
+            + "      labels: [{ id: 'l1', text: 'node label' }],"
+            + "      ports: [{ id: 'p1', width: 5, height: 5, properties: { 'elk.port.side': 'EAST' } }],"
+            + "      individualSpacings: { 'elk.spacing.nodeNode': 42 },"
+            + "      children: [{ id: 'c1' }] },"
+            + "    { id: 'n2', properties: { 'elk.direction': 'UP' }, layoutOptions: { 'elk.direction': 'LEFT' } },"
+            + "    { id: 4 }"
+            + "  ]"
+            + "}";
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Import
+
+    @Test
+    public void testImport() {
+        ElkNode root = ElkGraphJson.forGraph(new StringReader(GRAPH)).toElk();
+
+        assertEquals(Direction.DOWN, root.getProperty(CoreOptions.DIRECTION));
+        assertEquals(3, root.getChildren().size());
+        assertEquals(2, root.getContainedEdges().size());
+
+        ElkNode n1 = root.getChildren().get(0);
+        assertEquals("n1", n1.getIdentifier());
+        assertEquals(30, n1.getWidth(), 0);
+        assertEquals("node label", n1.getLabels().get(0).getText());
+        assertEquals(42, n1.getProperty(CoreOptions.SPACING_INDIVIDUAL).getProperty(CoreOptions.SPACING_NODE_NODE),
+                0);
+
+        // layout options take precedence over legacy properties
+        assertEquals(Direction.LEFT, root.getChildren().get(1).getProperty(CoreOptions.DIRECTION));
+
+        ElkEdge e1 = root.getContainedEdges().get(0);
+        assertSame(n1.getPorts().get(0), e1.getSources().get(0));
+        assertEquals(1, e1.getSections().get(0).getBendPoints().size());
+        assertSame(n1.getPorts().get(0), e1.getSections().get(0).getIncomingShape());
+
+        // the primitive edge's route is turned into a section, and the edge is moved to its proper container
+        ElkEdge e2 = n1.getContainedEdges().get(0);
+        assertEquals(9, e2.getSections().get(0).getEndX(), 0);
+
+        ElkEdge e3 = root.getContainedEdges().get(1);
+        assertEquals("3", e3.getIdentifier());
+        assertSame(root.getChildren().get(2), e3.getTargets().get(0));
+    }
+
+    @Test
+    public void testImportMatchesObjectTreeImport() {
+        ElkNode streamed = ElkGraphJson.forGraph(new StringReader(GRAPH)).toElk();
+        ElkNode parsed = ElkGraphJson.forGraph(GRAPH).toElk();
+
+        assertEquals(ElkGraphJson.forGraph(parsed).toJson(), ElkGraphJson.forGraph(streamed).toJson());
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testMissingId() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 'root', children: [{ width: 10 }] }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testWrongIdType() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 1.5 }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testUnknownShape() {
+        ElkGraphJson.forGraph(new StringReader(
+                "{ id: 'root', edges: [{ id: 'e', sources: ['n1'], targets: ['n2'] }], children: [{ id: 'n1' }] }"))
+                .toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testNoObject() {
+        ElkGraphJson.forGraph(new StringReader("[]")).toElk();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRememberImporter() {
+        ElkGraphJson.forGraph(new StringReader(GRAPH)).rememberImporter(new Maybe<JsonImporter>()).toElk();
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Export
+
+    @Test
+    public void testExportMatchesObjectTreeExport() {
+        ElkNode root = ElkGraphJson.forGraph(GRAPH).toElk();
+        root.getContainedEdges().get(0).setProperty(CoreOptions.JUNCTION_POINTS,
+                new KVectorChain(new KVector(1, 2)));
+
+        for (boolean flag : new boolean[] { true, false }) {
+            assertEquals(ElkGraphJson.forGraph(root).prettyPrint(flag).omitZeroPositions(flag).toJson(),
+                    streamedJson(ElkGraphJson.forGraph(root).prettyPrint(flag).omitZeroPositions(flag)));
+            assertEquals(ElkGraphJson.forGraph(root).omitLayout(flag).shortLayoutOptionKeys(flag).toJson(),
+                    streamedJson(ElkGraphJson.forGraph(root).omitLayout(flag).shortLayoutOptionKeys(flag)));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        // the first import completes edge sections, after which the graph does not change anymore
+        ElkNode root = ElkGraphJson.forGraph(new StringReader(GRAPH)).toElk();
+        ElkNode reimported = ElkGraphJson.forGraph(new StringReader(streamedJson(ElkGraphJson.forGraph(root))))
+                .toElk();
+        String json = streamedJson(ElkGraphJson.forGraph(reimported));
+
+        assertEquals(json, streamedJson(ElkGraphJson.forGraph(ElkGraphJson.forGraph(new StringReader(json)).toElk())));
+    }
+
+    private static String streamedJson(final ElkGraphJson.ExportBuilder builder) {
+        StringWriter writer = new StringWriter();
+        builder.toJson(writer);
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.properties;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.graph.util.ElkReflect;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link IndexedPropertyHolder} class.
+ */
+public class IndexedPropertyHolderTest {
+
+    private static final IProperty<Integer> INDEXED_INT = new Property<>("test.indexed.int", 7);
+    private static final IProperty<Double> INDEXED_DOUBLE = new Property<>("test.indexed.double", 1.5);
+    private static final IProperty<String> INDEXED_STRING = new Property<>("test.indexed.string");
+    private static final IProperty<String> UNINDEXED_STRING = new Property<>("test.unindexed.string", "default");
+
+    static {
+        IndexedPropertyHolder.registerIndexedProperties(INDEXED_INT, INDEXED_DOUBLE, INDEXED_STRING);
+        ElkReflect.register(ArrayList.class, () -> new ArrayList<>(), list -> ((ArrayList<?>) list).clone());
+    }
+
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Basic Access
+
+    @Test
+    public void testSetAndGet() {
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        assertFalse(holder.hasProperty(INDEXED_STRING));
+        assertNull(holder.getProperty(INDEXED_STRING));
+
+        holder.setProperty(INDEXED_STRING, "indexed");
+        holder.setProperty(UNINDEXED_STRING, "unindexed");
+        assertTrue(holder.hasProperty(INDEXED_STRING));
+        assertEquals("indexed", holder.getProperty(INDEXED_STRING));
+        assertEquals("unindexed", holder.getProperty(UNINDEXED_STRING));
+
+        holder.setProperty(INDEXED_STRING, null);
+        holder.setProperty(UNINDEXED_STRING, null);
+        assertFalse(holder.hasProperty(INDEXED_STRING));
+        assertFalse(holder.hasProperty(UNINDEXED_STRING));
+        assertEquals("default", holder.getProperty(UNINDEXED_STRING));
+    }
+
+    @Test
+    public void testPropertiesWithSameIdShareSlot() {
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        IProperty<Integer> sameId = new Property<>(INDEXED_INT, 42);
+
+        assertEquals(42, holder.getIntProperty(sameId));
+        holder.setIntProperty(INDEXED_INT, 3);
+        assertEquals(3, holder.getIntProperty(sameId));
+    }
+
+    @Test
+    public void testCloneableDefaultIsRemembered() {
+        IProperty<ArrayList<String>> listProperty = new Property<>("test.indexed.list", new ArrayList<String>());
+        IndexedPropertyHolder.registerIndexedProperties(listProperty);
+
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        holder.getProperty(listProperty).add("element");
+        assertEquals(1, holder.getProperty(listProperty).size());
+    }
+
+    @Test
+    public void testLateRegistration() {
+        IProperty<String> lateProperty = new Property<>("test.late.string");
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        holder.setProperty(lateProperty, "before");
+
+        IndexedPropertyHolder.registerIndexedProperties(lateProperty);
+        assertTrue(holder.hasProperty(lateProperty));
+        assertEquals("before", holder.getProperty(lateProperty));
+
+        holder.setProperty(lateProperty, "after");
+        assertEquals("after", holder.getProperty(lateProperty));
+        assertEquals(1, holder.getAllProperties().size());
+    }
+
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Primitive Access
+
+    @Test
+    public void testPrimitiveAccess() {
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        assertEquals(7, holder.getIntProperty(INDEXED_INT));
+        assertEquals(1.5, holder.getDoubleProperty(INDEXED_DOUBLE), 0);
+
+        holder.setIntProperty(INDEXED_INT, 5);
+        holder.setDoubleProperty(INDEXED_DOUBLE, 2.5);
+        assertEquals(5, holder.getIntProperty(INDEXED_INT));
+        assertEquals(Integer.valueOf(5), holder.getProperty(INDEXED_INT));
+        assertEquals(2.5, holder.getDoubleProperty(INDEXED_DOUBLE), 0);
+        assertEquals(Double.valueOf(2.5), holder.getProperty(INDEXED_DOUBLE));
+
+        holder.setProperty(INDEXED_INT, 6);
+        assertEquals(6, holder.getIntProperty(INDEXED_INT));
+
+        holder.setProperty(INDEXED_DOUBLE, null);
+        assertFalse(holder.hasProperty(INDEXED_DOUBLE));
+        assertEquals(1.5, holder.getDoubleProperty(INDEXED_DOUBLE), 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testPrimitiveAccessWithoutDefault() {
+        new IndexedPropertyHolder().getIntProperty(new Property<Integer>("test.indexed.nodefault"));
+    }
+
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Copying
+
+    @Test
+    public void testCopyProperties() {
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        holder.setIntProperty(INDEXED_INT, 1);
+        holder.setProperty(INDEXED_STRING, "indexed");
+        holder.setProperty(UNINDEXED_STRING, "unindexed");
+
+        IndexedPropertyHolder indexedCopy = new IndexedPropertyHolder().copyProperties(holder);
+        MapPropertyHolder mapCopy = new MapPropertyHolder().copyProperties(holder);
+        IndexedPropertyHolder copyOfMapCopy = new IndexedPropertyHolder().copyProperties(mapCopy);
+
+        for (IPropertyHolder copy : new IPropertyHolder[] { indexedCopy, mapCopy, copyOfMapCopy }) {
+            assertEquals(Integer.valueOf(1), copy.getProperty(INDEXED_INT));
+            assertEquals("indexed", copy.getProperty(INDEXED_STRING));
+            assertEquals("unindexed", copy.getProperty(UNINDEXED_STRING));
+            assertFalse(copy.hasProperty(INDEXED_DOUBLE));
+        }
+    }
+
+    @Test
+    public void testGetAllProperties() {
+        IndexedPropertyHolder holder = new IndexedPropertyHolder();
+        holder.setDoubleProperty(INDEXED_DOUBLE, 3.0);
+        holder.setProperty(UNINDEXED_STRING, "unindexed");
+
+        Map<IProperty<?>, Object> allProperties = holder.getAllProperties();
+        assertEquals(2, allProperties.size());
+        assertEquals(3.0, allProperties.get(INDEXED_DOUBLE));
+        assertEquals("unindexed", allProperties.get(UNINDEXED_STRING));
+
+        // The map is a copy
+        allProperties.clear();
+        assertTrue(holder.hasProperty(INDEXED_DOUBLE));
+
+        List<IProperty<?>> keys = new ArrayList<>(holder.getAllProperties().keySet());
+        assertTrue(keys.contains(INDEXED_DOUBLE));
+    }
+
+}